@@ -0,0 +1,48 @@
+package com.github.roookeee.datus.benchmarks;
+
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.benchmarks.model.ArityDTO;
+import com.github.roookeee.datus.benchmarks.model.Wide;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+Compares the immutable API with hand-written constructor calls for every supported constructor arity
+*/
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ArityBenchmark {
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12"})
+    public int arity;
+
+    private Mapper<Wide, ArityDTO> datusMapper;
+    private Mapper<Wide, ArityDTO> handwrittenMapper;
+    private Wide input;
+
+    @Setup(Level.Trial)
+    public void init() {
+        datusMapper = ArityMappers.datus(arity);
+        handwrittenMapper = ArityMappers.handwritten(arity);
+        input = new Wide();
+    }
+
+    @Benchmark
+    public ArityDTO datus() {
+        return datusMapper.convert(input);
+    }
+
+    @Benchmark
+    public ArityDTO baseline() {
+        return handwrittenMapper.convert(input);
+    }
+}
@@ -0,0 +1,182 @@
+package com.github.roookeee.datus.benchmarks;
+
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.benchmarks.model.ArityDTO;
+import com.github.roookeee.datus.benchmarks.model.Wide;
+import com.github.roookeee.datus.immutable.ConstructorParameter;
+
+/**
+ * Immutable mappers for every constructor arity (ConstructorBuilder1 to ConstructorBuilder12) and their hand-written
+ * counterparts.
+ */
+final class ArityMappers {
+
+    static Mapper<Wide, ArityDTO> datus(int arity) {
+        switch (arity) {
+            case 1:
+                return Datus.forTypes(Wide.class, ArityDTO.class)
+                        .immutable((String a) -> new ArityDTO(a))
+                        .from(Wide::getA).to(ConstructorParameter::bind)
+                        .build();
+            case 2:
+                return Datus.forTypes(Wide.class, ArityDTO.class)
+                        .immutable((String a, String b) -> new ArityDTO(a, b))
+                        .from(Wide::getA).to(ConstructorParameter::bind)
+                        .from(Wide::getB).to(ConstructorParameter::bind)
+                        .build();
+            case 3:
+                return Datus.forTypes(Wide.class, ArityDTO.class)
+                        .immutable((String a, String b, String c) -> new ArityDTO(a, b, c))
+                        .from(Wide::getA).to(ConstructorParameter::bind)
+                        .from(Wide::getB).to(ConstructorParameter::bind)
+                        .from(Wide::getC).to(ConstructorParameter::bind)
+                        .build();
+            case 4:
+                return Datus.forTypes(Wide.class, ArityDTO.class)
+                        .immutable((String a, String b, String c, String d) -> new ArityDTO(a, b, c, d))
+                        .from(Wide::getA).to(ConstructorParameter::bind)
+                        .from(Wide::getB).to(ConstructorParameter::bind)
+                        .from(Wide::getC).to(ConstructorParameter::bind)
+                        .from(Wide::getD).to(ConstructorParameter::bind)
+                        .build();
+            case 5:
+                return Datus.forTypes(Wide.class, ArityDTO.class)
+                        .immutable((String a, String b, String c, String d, String e) -> new ArityDTO(a, b, c, d, e))
+                        .from(Wide::getA).to(ConstructorParameter::bind)
+                        .from(Wide::getB).to(ConstructorParameter::bind)
+                        .from(Wide::getC).to(ConstructorParameter::bind)
+                        .from(Wide::getD).to(ConstructorParameter::bind)
+                        .from(Wide::getE).to(ConstructorParameter::bind)
+                        .build();
+            case 6:
+                return Datus.forTypes(Wide.class, ArityDTO.class)
+                        .immutable((String a, String b, String c, String d, String e, String f) -> new ArityDTO(a, b, c, d, e, f))
+                        .from(Wide::getA).to(ConstructorParameter::bind)
+                        .from(Wide::getB).to(ConstructorParameter::bind)
+                        .from(Wide::getC).to(ConstructorParameter::bind)
+                        .from(Wide::getD).to(ConstructorParameter::bind)
+                        .from(Wide::getE).to(ConstructorParameter::bind)
+                        .from(Wide::getF).to(ConstructorParameter::bind)
+                        .build();
+            case 7:
+                return Datus.forTypes(Wide.class, ArityDTO.class)
+                        .immutable((String a, String b, String c, String d, String e, String f, String g) -> new ArityDTO(a, b, c, d, e, f, g))
+                        .from(Wide::getA).to(ConstructorParameter::bind)
+                        .from(Wide::getB).to(ConstructorParameter::bind)
+                        .from(Wide::getC).to(ConstructorParameter::bind)
+                        .from(Wide::getD).to(ConstructorParameter::bind)
+                        .from(Wide::getE).to(ConstructorParameter::bind)
+                        .from(Wide::getF).to(ConstructorParameter::bind)
+                        .from(Wide::getG).to(ConstructorParameter::bind)
+                        .build();
+            case 8:
+                return Datus.forTypes(Wide.class, ArityDTO.class)
+                        .immutable((String a, String b, String c, String d, String e, String f, String g, String h) -> new ArityDTO(a, b, c, d, e, f, g, h))
+                        .from(Wide::getA).to(ConstructorParameter::bind)
+                        .from(Wide::getB).to(ConstructorParameter::bind)
+                        .from(Wide::getC).to(ConstructorParameter::bind)
+                        .from(Wide::getD).to(ConstructorParameter::bind)
+                        .from(Wide::getE).to(ConstructorParameter::bind)
+                        .from(Wide::getF).to(ConstructorParameter::bind)
+                        .from(Wide::getG).to(ConstructorParameter::bind)
+                        .from(Wide::getH).to(ConstructorParameter::bind)
+                        .build();
+            case 9:
+                return Datus.forTypes(Wide.class, ArityDTO.class)
+                        .immutable((String a, String b, String c, String d, String e, String f, String g, String h, String i) -> new ArityDTO(a, b, c, d, e, f, g, h, i))
+                        .from(Wide::getA).to(ConstructorParameter::bind)
+                        .from(Wide::getB).to(ConstructorParameter::bind)
+                        .from(Wide::getC).to(ConstructorParameter::bind)
+                        .from(Wide::getD).to(ConstructorParameter::bind)
+                        .from(Wide::getE).to(ConstructorParameter::bind)
+                        .from(Wide::getF).to(ConstructorParameter::bind)
+                        .from(Wide::getG).to(ConstructorParameter::bind)
+                        .from(Wide::getH).to(ConstructorParameter::bind)
+                        .from(Wide::getI).to(ConstructorParameter::bind)
+                        .build();
+            case 10:
+                return Datus.forTypes(Wide.class, ArityDTO.class)
+                        .immutable((String a, String b, String c, String d, String e, String f, String g, String h, String i, String j) -> new ArityDTO(a, b, c, d, e, f, g, h, i, j))
+                        .from(Wide::getA).to(ConstructorParameter::bind)
+                        .from(Wide::getB).to(ConstructorParameter::bind)
+                        .from(Wide::getC).to(ConstructorParameter::bind)
+                        .from(Wide::getD).to(ConstructorParameter::bind)
+                        .from(Wide::getE).to(ConstructorParameter::bind)
+                        .from(Wide::getF).to(ConstructorParameter::bind)
+                        .from(Wide::getG).to(ConstructorParameter::bind)
+                        .from(Wide::getH).to(ConstructorParameter::bind)
+                        .from(Wide::getI).to(ConstructorParameter::bind)
+                        .from(Wide::getJ).to(ConstructorParameter::bind)
+                        .build();
+            case 11:
+                return Datus.forTypes(Wide.class, ArityDTO.class)
+                        .immutable((String a, String b, String c, String d, String e, String f, String g, String h, String i, String j, String k) -> new ArityDTO(a, b, c, d, e, f, g, h, i, j, k))
+                        .from(Wide::getA).to(ConstructorParameter::bind)
+                        .from(Wide::getB).to(ConstructorParameter::bind)
+                        .from(Wide::getC).to(ConstructorParameter::bind)
+                        .from(Wide::getD).to(ConstructorParameter::bind)
+                        .from(Wide::getE).to(ConstructorParameter::bind)
+                        .from(Wide::getF).to(ConstructorParameter::bind)
+                        .from(Wide::getG).to(ConstructorParameter::bind)
+                        .from(Wide::getH).to(ConstructorParameter::bind)
+                        .from(Wide::getI).to(ConstructorParameter::bind)
+                        .from(Wide::getJ).to(ConstructorParameter::bind)
+                        .from(Wide::getK).to(ConstructorParameter::bind)
+                        .build();
+            case 12:
+                return Datus.forTypes(Wide.class, ArityDTO.class)
+                        .immutable((String a, String b, String c, String d, String e, String f, String g, String h, String i, String j, String k, String l) -> new ArityDTO(a, b, c, d, e, f, g, h, i, j, k, l))
+                        .from(Wide::getA).to(ConstructorParameter::bind)
+                        .from(Wide::getB).to(ConstructorParameter::bind)
+                        .from(Wide::getC).to(ConstructorParameter::bind)
+                        .from(Wide::getD).to(ConstructorParameter::bind)
+                        .from(Wide::getE).to(ConstructorParameter::bind)
+                        .from(Wide::getF).to(ConstructorParameter::bind)
+                        .from(Wide::getG).to(ConstructorParameter::bind)
+                        .from(Wide::getH).to(ConstructorParameter::bind)
+                        .from(Wide::getI).to(ConstructorParameter::bind)
+                        .from(Wide::getJ).to(ConstructorParameter::bind)
+                        .from(Wide::getK).to(ConstructorParameter::bind)
+                        .from(Wide::getL).to(ConstructorParameter::bind)
+                        .build();
+            default:
+                throw new IllegalArgumentException("Unsupported arity " + arity);
+        }
+    }
+
+    static Mapper<Wide, ArityDTO> handwritten(int arity) {
+        switch (arity) {
+            case 1:
+                return in -> new ArityDTO(in.getA());
+            case 2:
+                return in -> new ArityDTO(in.getA(), in.getB());
+            case 3:
+                return in -> new ArityDTO(in.getA(), in.getB(), in.getC());
+            case 4:
+                return in -> new ArityDTO(in.getA(), in.getB(), in.getC(), in.getD());
+            case 5:
+                return in -> new ArityDTO(in.getA(), in.getB(), in.getC(), in.getD(), in.getE());
+            case 6:
+                return in -> new ArityDTO(in.getA(), in.getB(), in.getC(), in.getD(), in.getE(), in.getF());
+            case 7:
+                return in -> new ArityDTO(in.getA(), in.getB(), in.getC(), in.getD(), in.getE(), in.getF(), in.getG());
+            case 8:
+                return in -> new ArityDTO(in.getA(), in.getB(), in.getC(), in.getD(), in.getE(), in.getF(), in.getG(), in.getH());
+            case 9:
+                return in -> new ArityDTO(in.getA(), in.getB(), in.getC(), in.getD(), in.getE(), in.getF(), in.getG(), in.getH(), in.getI());
+            case 10:
+                return in -> new ArityDTO(in.getA(), in.getB(), in.getC(), in.getD(), in.getE(), in.getF(), in.getG(), in.getH(), in.getI(), in.getJ());
+            case 11:
+                return in -> new ArityDTO(in.getA(), in.getB(), in.getC(), in.getD(), in.getE(), in.getF(), in.getG(), in.getH(), in.getI(), in.getJ(), in.getK());
+            case 12:
+                return in -> new ArityDTO(in.getA(), in.getB(), in.getC(), in.getD(), in.getE(), in.getF(), in.getG(), in.getH(), in.getI(), in.getJ(), in.getK(), in.getL());
+            default:
+                throw new IllegalArgumentException("Unsupported arity " + arity);
+        }
+    }
+
+    private ArityMappers() {
+
+    }
+}
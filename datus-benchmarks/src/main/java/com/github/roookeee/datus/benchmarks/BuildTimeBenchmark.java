@@ -0,0 +1,50 @@
+package com.github.roookeee.datus.benchmarks;
+
+import com.github.roookeee.datus.api.BuildStrategy;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.benchmarks.model.ImmutablePersonDTO;
+import com.github.roookeee.datus.benchmarks.model.Person;
+import com.github.roookeee.datus.benchmarks.model.PersonDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+Measures how long it takes to build mappers (steady state, equally shaped definitions reuse their optimized copies).
+The baseline instantiates the hand-written mappers.
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class BuildTimeBenchmark {
+
+    @Param({"CHAINED", "FLATTENED", "COMPILED", "METHOD_HANDLES"})
+    public BuildStrategy strategy;
+
+    @Benchmark
+    public Mapper<Person, PersonDTO> buildMutable() {
+        return PersonMappers.mutable(strategy);
+    }
+
+    @Benchmark
+    public Mapper<Person, ImmutablePersonDTO> buildImmutable() {
+        return PersonMappers.immutable(strategy);
+    }
+
+    @Benchmark
+    public Mapper<Person, PersonDTO> buildBaseline() {
+        return PersonMappers.handwrittenMutable();
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.roookeee.datus.benchmarks;
+
+import com.github.roookeee.datus.api.BuildStrategy;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.benchmarks.model.Person;
+import com.github.roookeee.datus.benchmarks.model.PersonDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+Compares converting collections of 1 to 1M persons via Mapper.convert(Collection) with a hand-written loop
+*/
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class CollectionSizeBenchmark {
+
+    @Param({"1", "100", "10000", "1000000"})
+    public int size;
+
+    private Mapper<Person, PersonDTO> datusMapper;
+    private Mapper<Person, PersonDTO> handwrittenMapper;
+    private List<Person> persons;
+
+    @Setup(Level.Trial)
+    public void init() {
+        datusMapper = PersonMappers.mutable(BuildStrategy.FLATTENED);
+        handwrittenMapper = PersonMappers.handwrittenMutable();
+        persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(Person.sample(i));
+        }
+    }
+
+    @Benchmark
+    public List<PersonDTO> datus() {
+        return datusMapper.convert(persons);
+    }
+
+    @Benchmark
+    public List<PersonDTO> baseline() {
+        List<PersonDTO> result = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            result.add(handwrittenMapper.convert(person));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.roookeee.datus.benchmarks;
+
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.benchmarks.model.Person;
+import com.github.roookeee.datus.benchmarks.model.PersonDTO;
+import com.github.roookeee.datus.conditional.BranchProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Objects;
+
+/*
+Compares given(...).orElse(...) with a hand-written conditional when always taking the given branch, always taking the
+orElse branch and alternating between both branches, with and without counting the taken branches via a BranchProfile
+*/
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ConditionalBenchmark {
+    private static final int PERSONS = 1024;
+
+    @Param({"given", "orElse", "mixed"})
+    public String branch;
+
+    private Mapper<Person, PersonDTO> datusMapper;
+    private Mapper<Person, PersonDTO> profiledMapper;
+    private Mapper<Person, PersonDTO> handwrittenMapper;
+    private Person[] persons;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void init() {
+        datusMapper = Datus.forTypes(Person.class, PersonDTO.class).mutable(PersonDTO::new)
+                .from(Person::getEmail).given(Objects::nonNull, String::trim).orElse("<missing>")
+                .into(PersonDTO::setEmail)
+                .build();
+        profiledMapper = Datus.forTypes(Person.class, PersonDTO.class).mutable(PersonDTO::new)
+                .from(Person::getEmail).given(Objects::nonNull, String::trim)
+                    .profiled(new BranchProfile("email")).orElse("<missing>")
+                .into(PersonDTO::setEmail)
+                .build();
+        handwrittenMapper = input -> {
+            PersonDTO result = new PersonDTO();
+            String email = input.getEmail();
+            result.setEmail(email != null ? email.trim() : "<missing>");
+            return result;
+        };
+        persons = new Person[PERSONS];
+        for (int i = 0; i < PERSONS; i++) {
+            boolean present = branch.equals("given") || (branch.equals("mixed") && i % 2 == 0);
+            String email = present ? " mail" + i + "@example.com " : null;
+            persons[i] = new Person("firstName" + i, "lastName" + i, email, null, true);
+        }
+    }
+
+    @Benchmark
+    public PersonDTO datus() {
+        return datusMapper.convert(next());
+    }
+
+    @Benchmark
+    public PersonDTO datusProfiled() {
+        return profiledMapper.convert(next());
+    }
+
+    @Benchmark
+    public PersonDTO baseline() {
+        return handwrittenMapper.convert(next());
+    }
+
+    private Person next() {
+        index = (index + 1) & (PERSONS - 1);
+        return persons[index];
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.roookeee.datus.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmark suites and writes their results to {@code jmh-result.json}. All JMH command line options are
+ * supported (e.g. a regex to select benchmarks or {@code -rff} to choose another result file), the allocation rate of
+ * every benchmark is measured via the GC profiler unless other profilers are given.
+ */
+public final class DatusBenchmarks {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result("jmh-result.json");
+        }
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        Options resolved = options.build();
+        new Runner(resolved).run();
+    }
+
+    private DatusBenchmarks() {
+
+    }
+}
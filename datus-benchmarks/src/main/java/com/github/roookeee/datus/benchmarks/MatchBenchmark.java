@@ -0,0 +1,154 @@
+package com.github.roookeee.datus.benchmarks;
+
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.benchmarks.model.Order;
+import com.github.roookeee.datus.benchmarks.model.OrderDTO;
+import com.github.roookeee.datus.benchmarks.model.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/*
+Compares mapping the 11 constants of an order status via match().when(...) with testing 11 predicates one after
+another (how chained given(...) steps evaluate) and a hand-written switch, for statuses that match the first case,
+the last case or any case
+*/
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MatchBenchmark {
+    private static final int ORDERS = 1024;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    @Param({"first", "last", "uniform"})
+    public String distribution;
+
+    private Mapper<Order, OrderDTO> matchMapper;
+    private Mapper<Order, OrderDTO> predicateMapper;
+    private Mapper<Order, OrderDTO> handwrittenMapper;
+    private Order[] orders;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void init() {
+        matchMapper = Datus.forTypes(Order.class, OrderDTO.class).mutable(OrderDTO::new)
+                .from(Order::getStatus)
+                    .match(String.class)
+                    .when(OrderStatus.CREATED, "created")
+                    .when(OrderStatus.PAYMENT_PENDING, "payment pending")
+                    .when(OrderStatus.PAID, "paid")
+                    .when(OrderStatus.PICKING, "picking")
+                    .when(OrderStatus.PACKED, "packed")
+                    .when(OrderStatus.SHIPPED, "shipped")
+                    .when(OrderStatus.DELIVERED, "delivered")
+                    .when(OrderStatus.RETURN_REQUESTED, "return requested")
+                    .when(OrderStatus.RETURNED, "returned")
+                    .when(OrderStatus.REFUNDED, "refunded")
+                    .when(OrderStatus.CANCELLED, "cancelled")
+                    .orElse("unknown")
+                    .into(OrderDTO::setStatus)
+                .build();
+        predicateMapper = Datus.forTypes(Order.class, OrderDTO.class).mutable(OrderDTO::new)
+                .from(Order::getStatus).map(predicateChain()).into(OrderDTO::setStatus)
+                .build();
+        handwrittenMapper = input -> {
+            OrderDTO result = new OrderDTO();
+            result.setStatus(label(input.getStatus()));
+            return result;
+        };
+
+        Random random = new Random(42);
+        orders = new Order[ORDERS];
+        for (int i = 0; i < ORDERS; i++) {
+            OrderStatus status;
+            if (distribution.equals("first")) {
+                status = STATUSES[0];
+            } else if (distribution.equals("last")) {
+                status = STATUSES[STATUSES.length - 1];
+            } else {
+                status = STATUSES[random.nextInt(STATUSES.length)];
+            }
+            orders[i] = new Order(status);
+        }
+    }
+
+    @Benchmark
+    public OrderDTO match() {
+        return matchMapper.convert(next());
+    }
+
+    @Benchmark
+    public OrderDTO predicates() {
+        return predicateMapper.convert(next());
+    }
+
+    @Benchmark
+    public OrderDTO baseline() {
+        return handwrittenMapper.convert(next());
+    }
+
+    private Order next() {
+        index = (index + 1) & (ORDERS - 1);
+        return orders[index];
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<OrderStatus, String> predicateChain() {
+        Predicate<OrderStatus>[] predicates = new Predicate[STATUSES.length];
+        String[] labels = new String[STATUSES.length];
+        for (int i = 0; i < STATUSES.length; i++) {
+            OrderStatus status = STATUSES[i];
+            predicates[i] = status::equals;
+            labels[i] = label(status);
+        }
+        return status -> {
+            for (int i = 0; i < predicates.length; i++) {
+                if (predicates[i].test(status)) {
+                    return labels[i];
+                }
+            }
+            return "unknown";
+        };
+    }
+
+    private static String label(OrderStatus status) {
+        switch (status) {
+            case CREATED:
+                return "created";
+            case PAYMENT_PENDING:
+                return "payment pending";
+            case PAID:
+                return "paid";
+            case PICKING:
+                return "picking";
+            case PACKED:
+                return "packed";
+            case SHIPPED:
+                return "shipped";
+            case DELIVERED:
+                return "delivered";
+            case RETURN_REQUESTED:
+                return "return requested";
+            case RETURNED:
+                return "returned";
+            case REFUNDED:
+                return "refunded";
+            case CANCELLED:
+                return "cancelled";
+            default:
+                return "unknown";
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.roookeee.datus.benchmarks;
+
+import com.github.roookeee.datus.api.BuildStrategy;
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.benchmarks.model.Wide;
+import com.github.roookeee.datus.benchmarks.model.WideDTO;
+import com.github.roookeee.datus.mutable.MutableMappingBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/*
+Guards the profile isolation of LambdaHelper: builds many differently shaped mappers, converts them in random order
+(warmup included) and measures the average latency per conversion with and without the runtime optimizations.
+Without isolation the call sites inside datus see every getter / setter of every mapper and become megamorphic, so the
+latency per conversion grows with the number of mappers. With isolation it should stay close to the single mapper case.
+
+Note: every isolated copy is compiled on its own. Copies of rarely used mappers may never reach the optimizing
+compiler, so compare the 500 / 1000 mapper results of both variants instead of only the single mapper case.
+Mappers with shared getter prefixes (e.g. two steps reading through Wide::getA) read a per-conversion frame instead of
+the input and thus need copies of their own as well, which is why SharedGetters only shares prefixes of three or more
+readers.
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MegamorphicBenchmark {
+    private static final String DISABLE_OPTIMIZATIONS = "-Dcom.github.roookeee.datus.optimization.disable=true";
+    private static final int SEQUENCE_LENGTH = 1 << 16;
+    private static final int MAX_STEPS = 8;
+
+    private static final List<Function<Wide, String>> GETTERS = Arrays.asList(
+            Wide::getA, Wide::getB, Wide::getC, Wide::getD, Wide::getE, Wide::getF,
+            Wide::getG, Wide::getH, Wide::getI, Wide::getJ, Wide::getK, Wide::getL
+    );
+
+    private static final List<BiConsumer<WideDTO, String>> SETTERS = Arrays.asList(
+            WideDTO::setA, WideDTO::setB, WideDTO::setC, WideDTO::setD, WideDTO::setE, WideDTO::setF,
+            WideDTO::setG, WideDTO::setH, WideDTO::setI, WideDTO::setJ, WideDTO::setK, WideDTO::setL
+    );
+
+    @Param({"1", "500", "1000"})
+    public int mapperCount;
+
+    @Param({"FLATTENED", "METHOD_HANDLES"})
+    public BuildStrategy strategy;
+
+    private Mapper<Wide, WideDTO>[] mappers;
+    private int[] sequence;
+    private int cursor;
+    private Wide input;
+
+    @Setup(Level.Trial)
+    public void init() {
+        //fixed seeds so every fork and every run converts the same mappers in the same order
+        Random random = new Random(42);
+        mappers = newMapperArray(mapperCount);
+        for (int i = 0; i < mapperCount; i++) {
+            mappers[i] = buildMapper(random, strategy);
+        }
+        sequence = new int[SEQUENCE_LENGTH];
+        for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+            sequence[i] = random.nextInt(mapperCount);
+        }
+        input = new Wide();
+    }
+
+    //an array instead of a list so the benchmark does not measure any list overhead
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Mapper<Wide, WideDTO>[] newMapperArray(int length) {
+        return new Mapper[length];
+    }
+
+    private static Mapper<Wide, WideDTO> buildMapper(Random random, BuildStrategy strategy) {
+        MutableMappingBuilder<Wide, WideDTO> builder = Datus.forTypes(Wide.class, WideDTO.class).mutable(WideDTO::new);
+        int steps = 1 + random.nextInt(MAX_STEPS);
+        for (int i = 0; i < steps; i++) {
+            Function<Wide, String> getter = GETTERS.get(random.nextInt(GETTERS.size()));
+            BiConsumer<WideDTO, String> setter = SETTERS.get(random.nextInt(SETTERS.size()));
+            switch (random.nextInt(4)) {
+                case 0:
+                    builder.from(getter).into(setter);
+                    break;
+                case 1:
+                    builder.from(getter).map(String::trim).into(setter);
+                    break;
+                case 2:
+                    builder.from(getter).nullsafe().map(String::toUpperCase).into(setter);
+                    break;
+                default:
+                    builder.from(getter).map(String::trim).map(String::toLowerCase).into(setter);
+                    break;
+            }
+        }
+        return builder.build(strategy);
+    }
+
+    @Benchmark
+    public WideDTO optimized() {
+        return next().convert(input);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = DISABLE_OPTIMIZATIONS)
+    public WideDTO unoptimized() {
+        return next().convert(input);
+    }
+
+    private Mapper<Wide, WideDTO> next() {
+        cursor = (cursor + 1) & (SEQUENCE_LENGTH - 1);
+        return mappers[sequence[cursor]];
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.roookeee.datus.benchmarks;
+
+import com.github.roookeee.datus.api.BuildStrategy;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.benchmarks.model.ImmutablePersonDTO;
+import com.github.roookeee.datus.benchmarks.model.Person;
+import com.github.roookeee.datus.benchmarks.model.PersonDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+Compares the mutable API with the immutable API (same getters, same output data) for every build strategy
+*/
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MutableVsImmutableBenchmark {
+
+    @Param({"CHAINED", "FLATTENED", "COMPILED", "METHOD_HANDLES"})
+    public BuildStrategy strategy;
+
+    private Mapper<Person, PersonDTO> mutableMapper;
+    private Mapper<Person, ImmutablePersonDTO> immutableMapper;
+    private Mapper<Person, PersonDTO> handwrittenMutableMapper;
+    private Mapper<Person, ImmutablePersonDTO> handwrittenImmutableMapper;
+    private Person person;
+
+    @Setup(Level.Trial)
+    public void init() {
+        mutableMapper = PersonMappers.mutable(strategy);
+        immutableMapper = PersonMappers.immutable(strategy);
+        handwrittenMutableMapper = PersonMappers.handwrittenMutable();
+        handwrittenImmutableMapper = PersonMappers.handwrittenImmutable();
+        person = Person.sample(1);
+    }
+
+    @Benchmark
+    public PersonDTO mutable() {
+        return mutableMapper.convert(person);
+    }
+
+    @Benchmark
+    public PersonDTO mutableBaseline() {
+        return handwrittenMutableMapper.convert(person);
+    }
+
+    @Benchmark
+    public ImmutablePersonDTO immutable() {
+        return immutableMapper.convert(person);
+    }
+
+    @Benchmark
+    public ImmutablePersonDTO immutableBaseline() {
+        return handwrittenImmutableMapper.convert(person);
+    }
+}
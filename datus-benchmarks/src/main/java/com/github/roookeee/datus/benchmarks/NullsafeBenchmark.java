@@ -0,0 +1,74 @@
+package com.github.roookeee.datus.benchmarks;
+
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.benchmarks.model.Address;
+import com.github.roookeee.datus.benchmarks.model.Person;
+import com.github.roookeee.datus.benchmarks.model.PersonDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+Compares a getter chain without null checks with a nullsafe() getter chain for present and missing addresses
+*/
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class NullsafeBenchmark {
+
+    private Mapper<Person, PersonDTO> plainMapper;
+    private Mapper<Person, PersonDTO> nullsafeMapper;
+    private Mapper<Person, PersonDTO> handwrittenMapper;
+    private Person withAddress;
+    private Person withoutAddress;
+
+    @Setup(Level.Trial)
+    public void init() {
+        plainMapper = Datus.forTypes(Person.class, PersonDTO.class).mutable(PersonDTO::new)
+                .from(Person::getAddress).map(Address::getCity).into(PersonDTO::setCity)
+                .build();
+        nullsafeMapper = Datus.forTypes(Person.class, PersonDTO.class).mutable(PersonDTO::new)
+                .from(Person::getAddress).nullsafe().map(Address::getCity).into(PersonDTO::setCity)
+                .build();
+        handwrittenMapper = input -> {
+            PersonDTO result = new PersonDTO();
+            Address address = input.getAddress();
+            result.setCity(address == null ? null : address.getCity());
+            return result;
+        };
+        withAddress = Person.sample(1);
+        withoutAddress = new Person("firstName", "lastName", "mail@example.com", null, true);
+    }
+
+    @Benchmark
+    public PersonDTO none() {
+        return plainMapper.convert(withAddress);
+    }
+
+    @Benchmark
+    public PersonDTO nullsafePresent() {
+        return nullsafeMapper.convert(withAddress);
+    }
+
+    @Benchmark
+    public PersonDTO nullsafeMissing() {
+        return nullsafeMapper.convert(withoutAddress);
+    }
+
+    @Benchmark
+    public PersonDTO baselinePresent() {
+        return handwrittenMapper.convert(withAddress);
+    }
+
+    @Benchmark
+    public PersonDTO baselineMissing() {
+        return handwrittenMapper.convert(withoutAddress);
+    }
+}
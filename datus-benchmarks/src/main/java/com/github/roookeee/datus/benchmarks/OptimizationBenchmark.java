@@ -0,0 +1,75 @@
+package com.github.roookeee.datus.benchmarks;
+
+import com.github.roookeee.datus.api.BuildStrategy;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.benchmarks.model.ImmutablePersonDTO;
+import com.github.roookeee.datus.benchmarks.model.Person;
+import com.github.roookeee.datus.benchmarks.model.PersonDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+Compares mappers with and without the runtime optimizations of datus (the LambdaHelper copies which can be disabled
+via com.github.roookeee.datus.optimization.disable). The property is read once per JVM so every variant runs in its
+own forks.
+*/
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class OptimizationBenchmark {
+    private static final String DISABLE_OPTIMIZATIONS = "-Dcom.github.roookeee.datus.optimization.disable=true";
+
+    private Mapper<Person, PersonDTO> mutableMapper;
+    private Mapper<Person, ImmutablePersonDTO> immutableMapper;
+    private Mapper<Person, PersonDTO> handwrittenMutableMapper;
+    private Mapper<Person, ImmutablePersonDTO> handwrittenImmutableMapper;
+    private Person person;
+
+    @Setup(Level.Trial)
+    public void init() {
+        mutableMapper = PersonMappers.mutable(BuildStrategy.FLATTENED);
+        immutableMapper = PersonMappers.immutable(BuildStrategy.FLATTENED);
+        handwrittenMutableMapper = PersonMappers.handwrittenMutable();
+        handwrittenImmutableMapper = PersonMappers.handwrittenImmutable();
+        person = Person.sample(1);
+    }
+
+    @Benchmark
+    public PersonDTO mutableOptimized() {
+        return mutableMapper.convert(person);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = DISABLE_OPTIMIZATIONS)
+    public PersonDTO mutableUnoptimized() {
+        return mutableMapper.convert(person);
+    }
+
+    @Benchmark
+    public PersonDTO mutableBaseline() {
+        return handwrittenMutableMapper.convert(person);
+    }
+
+    @Benchmark
+    public ImmutablePersonDTO immutableOptimized() {
+        return immutableMapper.convert(person);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = DISABLE_OPTIMIZATIONS)
+    public ImmutablePersonDTO immutableUnoptimized() {
+        return immutableMapper.convert(person);
+    }
+
+    @Benchmark
+    public ImmutablePersonDTO immutableBaseline() {
+        return handwrittenImmutableMapper.convert(person);
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.roookeee.datus.benchmarks;
+
+import com.github.roookeee.datus.api.BuildStrategy;
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.benchmarks.model.Address;
+import com.github.roookeee.datus.benchmarks.model.ImmutablePersonDTO;
+import com.github.roookeee.datus.benchmarks.model.Person;
+import com.github.roookeee.datus.benchmarks.model.PersonDTO;
+import com.github.roookeee.datus.immutable.ConstructorParameter;
+
+/**
+ * The person mappers shared by multiple benchmarks: every datus mapper has a hand-written counterpart which is the
+ * baseline of its benchmarks.
+ */
+final class PersonMappers {
+
+    static Mapper<Person, PersonDTO> mutable(BuildStrategy strategy) {
+        return Datus.forTypes(Person.class, PersonDTO.class).mutable(PersonDTO::new)
+                .from(Person::getFirstName).into(PersonDTO::setFirstName)
+                .from(Person::getLastName).into(PersonDTO::setLastName)
+                .from(Person::getEmail).into(PersonDTO::setEmail)
+                .from(Person::getAddress).nullsafe().map(Address::getCity).into(PersonDTO::setCity)
+                .from(Person::isActive).into(PersonDTO::setActive)
+                .build(strategy);
+    }
+
+    static Mapper<Person, ImmutablePersonDTO> immutable(BuildStrategy strategy) {
+        return Datus.forTypes(Person.class, ImmutablePersonDTO.class).immutable(ImmutablePersonDTO::new)
+                .from(Person::getFirstName).to(ConstructorParameter::bind)
+                .from(Person::getLastName).to(ConstructorParameter::bind)
+                .from(Person::getEmail).to(ConstructorParameter::bind)
+                .from(Person::getAddress).nullsafe().map(Address::getCity).to(ConstructorParameter::bind)
+                .from(Person::isActive).to(ConstructorParameter::bind)
+                .build(strategy);
+    }
+
+    static Mapper<Person, PersonDTO> handwrittenMutable() {
+        return new HandwrittenMutableMapper();
+    }
+
+    static Mapper<Person, ImmutablePersonDTO> handwrittenImmutable() {
+        return new HandwrittenImmutableMapper();
+    }
+
+    private static final class HandwrittenMutableMapper implements Mapper<Person, PersonDTO> {
+        @Override
+        public PersonDTO convert(Person input) {
+            PersonDTO result = new PersonDTO();
+            result.setFirstName(input.getFirstName());
+            result.setLastName(input.getLastName());
+            result.setEmail(input.getEmail());
+            Address address = input.getAddress();
+            result.setCity(address == null ? null : address.getCity());
+            result.setActive(input.isActive());
+            return result;
+        }
+    }
+
+    private static final class HandwrittenImmutableMapper implements Mapper<Person, ImmutablePersonDTO> {
+        @Override
+        public ImmutablePersonDTO convert(Person input) {
+            Address address = input.getAddress();
+            return new ImmutablePersonDTO(
+                    input.getFirstName(),
+                    input.getLastName(),
+                    input.getEmail(),
+                    address == null ? null : address.getCity(),
+                    input.isActive()
+            );
+        }
+    }
+
+    private PersonMappers() {
+
+    }
+}
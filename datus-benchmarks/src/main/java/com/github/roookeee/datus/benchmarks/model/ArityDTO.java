@@ -0,0 +1,179 @@
+package com.github.roookeee.datus.benchmarks.model;
+
+//offers a constructor for every arity supported by the immutable API
+public class ArityDTO {
+    private String a;
+    private String b;
+    private String c;
+    private String d;
+    private String e;
+    private String f;
+    private String g;
+    private String h;
+    private String i;
+    private String j;
+    private String k;
+    private String l;
+
+    public ArityDTO(String a) {
+        this.a = a;
+    }
+
+    public ArityDTO(String a, String b) {
+        this.a = a;
+        this.b = b;
+    }
+
+    public ArityDTO(String a, String b, String c) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+    }
+
+    public ArityDTO(String a, String b, String c, String d) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+    }
+
+    public ArityDTO(String a, String b, String c, String d, String e) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.e = e;
+    }
+
+    public ArityDTO(String a, String b, String c, String d, String e, String f) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.e = e;
+        this.f = f;
+    }
+
+    public ArityDTO(String a, String b, String c, String d, String e, String f, String g) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.e = e;
+        this.f = f;
+        this.g = g;
+    }
+
+    public ArityDTO(String a, String b, String c, String d, String e, String f, String g, String h) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.e = e;
+        this.f = f;
+        this.g = g;
+        this.h = h;
+    }
+
+    public ArityDTO(String a, String b, String c, String d, String e, String f, String g, String h, String i) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.e = e;
+        this.f = f;
+        this.g = g;
+        this.h = h;
+        this.i = i;
+    }
+
+    public ArityDTO(String a, String b, String c, String d, String e, String f, String g, String h, String i, String j) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.e = e;
+        this.f = f;
+        this.g = g;
+        this.h = h;
+        this.i = i;
+        this.j = j;
+    }
+
+    public ArityDTO(String a, String b, String c, String d, String e, String f, String g, String h, String i, String j, String k) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.e = e;
+        this.f = f;
+        this.g = g;
+        this.h = h;
+        this.i = i;
+        this.j = j;
+        this.k = k;
+    }
+
+    public ArityDTO(String a, String b, String c, String d, String e, String f, String g, String h, String i, String j, String k, String l) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.e = e;
+        this.f = f;
+        this.g = g;
+        this.h = h;
+        this.i = i;
+        this.j = j;
+        this.k = k;
+        this.l = l;
+    }
+
+    public String getA() {
+        return a;
+    }
+
+    public String getB() {
+        return b;
+    }
+
+    public String getC() {
+        return c;
+    }
+
+    public String getD() {
+        return d;
+    }
+
+    public String getE() {
+        return e;
+    }
+
+    public String getF() {
+        return f;
+    }
+
+    public String getG() {
+        return g;
+    }
+
+    public String getH() {
+        return h;
+    }
+
+    public String getI() {
+        return i;
+    }
+
+    public String getJ() {
+        return j;
+    }
+
+    public String getK() {
+        return k;
+    }
+
+    public String getL() {
+        return l;
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.roookeee.datus.benchmarks.model;
+
+public class ImmutablePersonDTO {
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final String city;
+    private final boolean active;
+
+    public ImmutablePersonDTO(String firstName, String lastName, String email, String city, boolean active) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.city = city;
+        this.active = active;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.roookeee.datus.benchmarks.model;
+
+public class Order {
+    private final OrderStatus status;
+
+    public Order(OrderStatus status) {
+        this.status = status;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+}
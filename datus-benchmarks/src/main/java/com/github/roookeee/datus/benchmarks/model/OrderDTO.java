@@ -0,0 +1,13 @@
+package com.github.roookeee.datus.benchmarks.model;
+
+public class OrderDTO {
+    private String status;
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.roookeee.datus.benchmarks.model;
+
+public enum OrderStatus {
+    CREATED,
+    PAYMENT_PENDING,
+    PAID,
+    PICKING,
+    PACKED,
+    SHIPPED,
+    DELIVERED,
+    RETURN_REQUESTED,
+    RETURNED,
+    REFUNDED,
+    CANCELLED
+}
@@ -0,0 +1,42 @@
+package com.github.roookeee.datus.benchmarks.model;
+
+public class Person {
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final Address address;
+    private final boolean active;
+
+    public Person(String firstName, String lastName, String email, Address address, boolean active) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.address = address;
+        this.active = active;
+    }
+
+    public static Person sample(int index) {
+        return new Person("firstName" + index, "lastName" + index, "mail" + index + "@example.com",
+                new Address("street" + index, "city" + index), index % 2 == 0);
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.roookeee.datus.benchmarks.model;
+
+public class Wide {
+    private final String a;
+    private final String b;
+    private final String c;
+    private final String d;
+    private final String e;
+    private final String f;
+    private final String g;
+    private final String h;
+    private final String i;
+    private final String j;
+    private final String k;
+    private final String l;
+
+    public Wide() {
+        this.a = "a";
+        this.b = "b";
+        this.c = "c";
+        this.d = "d";
+        this.e = "e";
+        this.f = "f";
+        this.g = "g";
+        this.h = "h";
+        this.i = "i";
+        this.j = "j";
+        this.k = "k";
+        this.l = "l";
+    }
+
+    public String getA() {
+        return a;
+    }
+
+    public String getB() {
+        return b;
+    }
+
+    public String getC() {
+        return c;
+    }
+
+    public String getD() {
+        return d;
+    }
+
+    public String getE() {
+        return e;
+    }
+
+    public String getF() {
+        return f;
+    }
+
+    public String getG() {
+        return g;
+    }
+
+    public String getH() {
+        return h;
+    }
+
+    public String getI() {
+        return i;
+    }
+
+    public String getJ() {
+        return j;
+    }
+
+    public String getK() {
+        return k;
+    }
+
+    public String getL() {
+        return l;
+    }
+}
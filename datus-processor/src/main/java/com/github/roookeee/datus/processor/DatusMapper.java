@@ -0,0 +1,35 @@
+package com.github.roookeee.datus.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface extending {@code Mapper<In, Out>} (or {@code MutableMapper<In, Out>}) whose implementation is
+ * generated at compile time. The generated class is named after the interface with an {@code Impl} suffix (nested
+ * interfaces are prefixed with their enclosing types separated by an underscore) and resides in the same package.
+ * <p>
+ * Every property of the output type is mapped from the equally named property of the input type unless a
+ * {@link DatusMapping} states otherwise: mutable output types are populated via their setters after calling their
+ * public no-args constructor, immutable output types are created via the public constructor with the most parameters
+ * whose parameter names are matched instead (compile the output type with {@code -parameters} if it is not part of
+ * the same compilation).
+ * <p>
+ * The generated implementation is plain Java code without any lambdas, reflection or runtime class generation.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface DatusMapper {
+
+    /**
+     * Mappers that are used to convert properties (or collections of properties) whose input type differs from its
+     * output type. Interfaces annotated with {@link DatusMapper} are instantiated via their generated implementation,
+     * all other mappers need a public no-args constructor.
+     *
+     * @return the mappers to use
+     */
+    Class<?>[] uses() default {};
+}
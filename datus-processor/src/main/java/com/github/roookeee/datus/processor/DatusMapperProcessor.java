@@ -0,0 +1,62 @@
+package com.github.roookeee.datus.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Generates the implementations of all interfaces annotated with {@link DatusMapper}.
+ * Invalid mapper definitions are reported as compilation errors on the offending interface.
+ */
+public final class DatusMapperProcessor extends AbstractProcessor {
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(DatusMapper.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(DatusMapper.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                processingEnv.getMessager().printMessage(
+                        Diagnostic.Kind.ERROR, "@DatusMapper can only be applied to interfaces", element
+                );
+                continue;
+            }
+            generate((TypeElement) element);
+        }
+        return true;
+    }
+
+    private void generate(TypeElement mapper) {
+        MapperGenerator generator = new MapperGenerator(processingEnv, mapper);
+        try {
+            String source = generator.generate();
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(generator.implementationName(), mapper);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (MapperGenerator.InvalidMapperException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), mapper);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR, "Could not write " + generator.implementationName() + ": " + e, mapper
+            );
+        }
+    }
+}
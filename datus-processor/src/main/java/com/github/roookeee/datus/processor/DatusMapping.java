@@ -0,0 +1,37 @@
+package com.github.roookeee.datus.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures how a single property of the output type of a {@link DatusMapper} is mapped.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+@Repeatable(DatusMappings.class)
+public @interface DatusMapping {
+
+    /**
+     * @return the name of the output property (setter or constructor parameter) this mapping applies to
+     */
+    String target();
+
+    /**
+     * The input property to map the target from. Nested properties are separated by dots (e.g. "address.city") and are
+     * accessed null-safe: the target receives null (or the default value of a primitive type) if an intermediate
+     * property is null.
+     *
+     * @return the path of the input property, defaults to the name of the target
+     */
+    String source() default "";
+
+    /**
+     * @return true if the target should not be populated at all (only possible for setters)
+     */
+    boolean ignore() default false;
+}
@@ -0,0 +1,21 @@
+package com.github.roookeee.datus.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The container of repeated {@link DatusMapping} annotations.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface DatusMappings {
+
+    /**
+     * @return the contained mappings
+     */
+    DatusMapping[] value();
+}
@@ -0,0 +1,581 @@
+package com.github.roookeee.datus.processor;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.MirroredTypesException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the source code of the implementation of a single {@link DatusMapper} interface.
+ * Every conversion is emitted as straight-line code: getter and setter (or constructor) calls, null checks for nested
+ * source paths and calls to the mappers the interface uses.
+ */
+final class MapperGenerator {
+    private static final String MAPPER = "com.github.roookeee.datus.api.Mapper";
+    private static final String MUTABLE_MAPPER = "com.github.roookeee.datus.api.MutableMapper";
+
+    private final Types types;
+    private final Elements elements;
+    private final Messager messager;
+    private final TypeElement mapper;
+    private final List<UsedMapper> usedMappers = new ArrayList<>();
+    private final Map<String, DatusMapping> mappings = new LinkedHashMap<>();
+    private final Set<String> mappedTargets = new HashSet<>();
+    private int locals;
+
+    MapperGenerator(ProcessingEnvironment env, TypeElement mapper) {
+        this.types = env.getTypeUtils();
+        this.elements = env.getElementUtils();
+        this.messager = env.getMessager();
+        this.mapper = mapper;
+    }
+
+    /**
+     * @return the qualified name of the generated implementation
+     */
+    String implementationName() {
+        return implementationName(mapper);
+    }
+
+    /**
+     * Generates the implementation of the mapper interface this generator was created for.
+     *
+     * @return the source code of the implementation
+     * @throws InvalidMapperException if the mapper interface cannot be implemented
+     */
+    String generate() {
+        TypeElement mapperType = elements.getTypeElement(MAPPER);
+        if (mapperType == null) {
+            throw new InvalidMapperException(MAPPER + " is not on the classpath");
+        }
+        if (!mapper.getTypeParameters().isEmpty()) {
+            throw new InvalidMapperException("@DatusMapper interfaces must not declare type parameters");
+        }
+        DeclaredType mapperSupertype = findSupertype(mapper.asType(), mapperType);
+        if (mapperSupertype == null || mapperSupertype.getTypeArguments().size() != 2) {
+            throw new InvalidMapperException(mapper.getSimpleName() + " has to extend " + MAPPER + "<In, Out>");
+        }
+        TypeMirror in = mapperSupertype.getTypeArguments().get(0);
+        TypeMirror out = mapperSupertype.getTypeArguments().get(1);
+        if (in.getKind() != TypeKind.DECLARED || out.getKind() != TypeKind.DECLARED) {
+            throw new InvalidMapperException("The input and output type of " + mapper.getSimpleName() + " have to be classes");
+        }
+        TypeElement mutableMapperType = elements.getTypeElement(MUTABLE_MAPPER);
+        boolean mutable = mutableMapperType != null && findSupertype(mapper.asType(), mutableMapperType) != null;
+
+        checkAbstractMethods();
+        readUsedMappers(mapperType);
+        readMappings();
+
+        StringBuilder source = new StringBuilder();
+        String packageName = elements.getPackageOf(mapper).getQualifiedName().toString();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        String implementationName = implementationName();
+        source.append("/**\n * Generated by datus-processor from {@link ").append(mapper.getQualifiedName())
+                .append("}, do not edit.\n */\n")
+                .append("public final class ").append(implementationName.substring(implementationName.lastIndexOf('.') + 1))
+                .append(" implements ").append(mapper.getQualifiedName()).append(" {\n");
+        for (UsedMapper used : usedMappers) {
+            source.append("    private final ").append(used.type).append(' ').append(used.field)
+                    .append(" = ").append(used.instantiation).append(";\n");
+        }
+        if (!usedMappers.isEmpty()) {
+            source.append('\n');
+        }
+        appendConversions(source, (DeclaredType) in, (DeclaredType) out, mutable);
+        source.append("}\n");
+
+        for (String target : mappings.keySet()) {
+            if (!mappedTargets.contains(target)) {
+                throw new InvalidMapperException("Unknown target property '" + target + "' of " + out);
+            }
+        }
+        return source.toString();
+    }
+
+    private void appendConversions(StringBuilder source, DeclaredType in, DeclaredType out, boolean mutable) {
+        TypeElement outElement = (TypeElement) out.asElement();
+        if (outElement.getKind() != ElementKind.CLASS || outElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new InvalidMapperException("The output type " + out + " has to be a concrete class");
+        }
+        List<ExecutableElement> constructors = publicConstructors(outElement);
+        ExecutableElement noArgsConstructor = null;
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty()) {
+                noArgsConstructor = constructor;
+            }
+        }
+
+        if (noArgsConstructor == null) {
+            if (mutable) {
+                throw new InvalidMapperException(
+                        "The output type " + out + " of a MutableMapper needs a public no-args constructor"
+                );
+            }
+            List<String> statements = new ArrayList<>();
+            String construction = constructorCall(in, out, widestConstructor(out, constructors), statements);
+            appendMethodStart(source, "public " + out + " convert(" + in + " input)");
+            appendStatements(source, statements);
+            source.append("        return ").append(construction).append(";\n    }\n");
+            return;
+        }
+
+        List<String> statements = setterCalls(in, out, outElement);
+        if (mutable) {
+            appendMethodStart(source, "public " + out + " convert(" + in + " input)");
+            source.append("        return convertInto(input, new ").append(out).append("());\n    }\n\n");
+            appendMethodStart(source, "public " + out + " convertInto(" + in + " input, " + out + " target)");
+        } else {
+            appendMethodStart(source, "public " + out + " convert(" + in + " input)");
+            source.append("        ").append(out).append(" target = new ").append(out).append("();\n");
+        }
+        appendStatements(source, statements);
+        source.append("        return target;\n    }\n");
+    }
+
+    private List<String> setterCalls(DeclaredType in, DeclaredType out, TypeElement outElement) {
+        List<String> statements = new ArrayList<>();
+        for (ExecutableElement setter : setters(outElement)) {
+            String setterName = setter.getSimpleName().toString();
+            String target = decapitalize(setterName.substring(3));
+            DatusMapping mapping = mappings.get(target);
+            if (mapping != null) {
+                mappedTargets.add(target);
+                if (mapping.ignore()) {
+                    continue;
+                }
+            }
+            String path = mapping == null || mapping.source().isEmpty() ? target : mapping.source();
+            if (mapping == null && getter(in, path) == null) {
+                messager.printMessage(
+                        Diagnostic.Kind.WARNING, "Unmapped target property '" + target + "' of " + out, mapper
+                );
+                continue;
+            }
+            TypeMirror targetType = ((ExecutableType) types.asMemberOf(out, setter)).getParameterTypes().get(0);
+            String value = convert(sourceValue(in, path, statements), targetType, target, statements);
+            statements.add("target." + setterName + "(" + value + ");");
+        }
+        return statements;
+    }
+
+    private String constructorCall(DeclaredType in, DeclaredType out, ExecutableElement constructor, List<String> statements) {
+        List<? extends TypeMirror> parameterTypes = ((ExecutableType) types.asMemberOf(out, constructor)).getParameterTypes();
+        if (hasSyntheticParameterNames(constructor)) {
+            throw new InvalidMapperException("The constructor parameter names of " + out + " are not available (found "
+                    + parameterNames(constructor) + "), compile it with -parameters");
+        }
+        List<String> arguments = new ArrayList<>();
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            String target = constructor.getParameters().get(i).getSimpleName().toString();
+            DatusMapping mapping = mappings.get(target);
+            if (mapping != null) {
+                mappedTargets.add(target);
+                if (mapping.ignore()) {
+                    throw new InvalidMapperException("The constructor parameter '" + target + "' of " + out + " cannot be ignored");
+                }
+            }
+            String path = mapping == null || mapping.source().isEmpty() ? target : mapping.source();
+            if (mapping == null && getter(in, path) == null) {
+                throw new InvalidMapperException(
+                        "Unmapped constructor parameter '" + target + "' of " + out + ", declare a @DatusMapping for it"
+                );
+            }
+            arguments.add(convert(sourceValue(in, path, statements), parameterTypes.get(i), target, statements));
+        }
+        return "new " + out + "(" + String.join(", ", arguments) + ")";
+    }
+
+    /*
+    classes compiled without -parameters only provide the names arg0..argN for the parameters of their constructors,
+    which would silently map the wrong (or no) source properties
+     */
+    private static String parameterNames(ExecutableElement constructor) {
+        List<String> names = new ArrayList<>();
+        for (VariableElement parameter : constructor.getParameters()) {
+            names.add(parameter.getSimpleName().toString());
+        }
+        return String.join(", ", names);
+    }
+
+    private static boolean hasSyntheticParameterNames(ExecutableElement constructor) {
+        List<? extends VariableElement> parameters = constructor.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (!parameters.get(i).getSimpleName().contentEquals("arg" + i)) {
+                return false;
+            }
+        }
+        return !parameters.isEmpty();
+    }
+
+    /*
+    resolves the given (dotted) source path by storing every intermediate property in a local variable so each getter
+    is only called once, nested properties are only accessed if their parent is not null
+     */
+    private Value sourceValue(DeclaredType in, String path, List<String> statements) {
+        String[] segments = path.split("\\.", -1);
+        String current = "input";
+        TypeMirror currentType = in;
+        boolean nullable = false;
+        for (int i = 0; ; i++) {
+            if (currentType.getKind() != TypeKind.DECLARED) {
+                throw new InvalidMapperException(
+                        "Cannot access '" + segments[i] + "' of " + currentType + " in source path '" + path + "'"
+                );
+            }
+            ExecutableElement getter = getter((DeclaredType) currentType, segments[i]);
+            if (getter == null) {
+                throw new InvalidMapperException(
+                        "No getter for '" + segments[i] + "' in " + currentType + " (source path '" + path + "')"
+                );
+            }
+            TypeMirror type = ((ExecutableType) types.asMemberOf((DeclaredType) currentType, getter)).getReturnType();
+            String call = current + "." + getter.getSimpleName() + "()";
+            String expression = nullable ? current + " == null ? " + defaultValue(type) + " : " + call : call;
+            if (i == segments.length - 1) {
+                return new Value(expression, type);
+            }
+            String local = segments[i] + locals++;
+            statements.add(type + " " + local + " = " + expression + ";");
+            current = local;
+            currentType = type;
+            nullable = true;
+        }
+    }
+
+    private String convert(Value value, TypeMirror targetType, String target, List<String> statements) {
+        if (types.isAssignable(value.type, targetType)) {
+            return value.expression;
+        }
+        for (UsedMapper used : usedMappers) {
+            if (types.isAssignable(value.type, used.in) && types.isAssignable(used.out, targetType)) {
+                return nullsafeConversion(value, used, target, statements);
+            }
+        }
+        TypeMirror elementType = collectionElementType(value.type);
+        if (elementType != null) {
+            TypeElement list = elements.getTypeElement(List.class.getName());
+            for (UsedMapper used : usedMappers) {
+                if (types.isAssignable(elementType, used.in)
+                        && types.isAssignable(types.getDeclaredType(list, used.out), targetType)) {
+                    return nullsafeConversion(value, used, target, statements);
+                }
+            }
+        }
+        throw new InvalidMapperException(
+                "Cannot map " + value.type + " to " + targetType + " for target property '" + target
+                        + "', declare a mapper for it via @DatusMapper(uses = ...)"
+        );
+    }
+
+    private String nullsafeConversion(Value value, UsedMapper used, String target, List<String> statements) {
+        if (value.type.getKind().isPrimitive()) {
+            return used.field + ".convert(" + value.expression + ")";
+        }
+        String local = target + locals++;
+        statements.add(value.type + " " + local + " = " + value.expression + ";");
+        return local + " == null ? null : " + used.field + ".convert(" + local + ")";
+    }
+
+    private TypeMirror collectionElementType(TypeMirror type) {
+        DeclaredType collection = findSupertype(type, elements.getTypeElement("java.util.Collection"));
+        if (collection == null || collection.getTypeArguments().size() != 1) {
+            return null;
+        }
+        TypeMirror elementType = collection.getTypeArguments().get(0);
+        if (elementType.getKind() == TypeKind.WILDCARD) {
+            return ((WildcardType) elementType).getExtendsBound();
+        }
+        return elementType;
+    }
+
+    private void checkAbstractMethods() {
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(mapper))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            int parameters = method.getParameters().size();
+            if (!(name.equals("convert") && parameters == 1) && !(name.equals("convertInto") && parameters == 2)) {
+                throw new InvalidMapperException("Cannot implement the abstract method " + method);
+            }
+        }
+    }
+
+    private void readUsedMappers(TypeElement mapperType) {
+        List<? extends TypeMirror> uses = Collections.emptyList();
+        try {
+            mapper.getAnnotation(DatusMapper.class).uses();
+        } catch (MirroredTypesException e) {
+            uses = e.getTypeMirrors();
+        }
+
+        Set<String> fields = new HashSet<>();
+        for (TypeMirror use : uses) {
+            DeclaredType usedMapper = findSupertype(use, mapperType);
+            if (usedMapper == null || usedMapper.getTypeArguments().size() != 2) {
+                throw new InvalidMapperException(use + " is not a " + MAPPER + "<In, Out>");
+            }
+            TypeElement element = (TypeElement) ((DeclaredType) use).asElement();
+            String simpleName = element.getSimpleName().toString();
+            String field = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+            while (!fields.add(field)) {
+                field = field + "_";
+            }
+            usedMappers.add(new UsedMapper(
+                    use.toString(), field, instantiation(element),
+                    usedMapper.getTypeArguments().get(0), usedMapper.getTypeArguments().get(1)
+            ));
+        }
+    }
+
+    private String instantiation(TypeElement usedMapper) {
+        if (usedMapper.getKind() == ElementKind.INTERFACE) {
+            if (usedMapper.getAnnotation(DatusMapper.class) == null) {
+                throw new InvalidMapperException(
+                        "The used interface " + usedMapper.getQualifiedName() + " is not annotated with @DatusMapper"
+                );
+            }
+            return "new " + implementationName(usedMapper) + "()";
+        }
+        if (!usedMapper.getModifiers().contains(Modifier.ABSTRACT)) {
+            for (ExecutableElement constructor : publicConstructors(usedMapper)) {
+                if (constructor.getParameters().isEmpty()) {
+                    return "new " + usedMapper.getQualifiedName() + "()";
+                }
+            }
+        }
+        throw new InvalidMapperException(
+                "The used mapper " + usedMapper.getQualifiedName() + " needs a public no-args constructor"
+        );
+    }
+
+    private void readMappings() {
+        for (DatusMapping mapping : mapper.getAnnotationsByType(DatusMapping.class)) {
+            if (mappings.put(mapping.target(), mapping) != null) {
+                throw new InvalidMapperException("Duplicate @DatusMapping for target property '" + mapping.target() + "'");
+            }
+        }
+    }
+
+    private ExecutableElement widestConstructor(DeclaredType out, List<ExecutableElement> constructors) {
+        ExecutableElement widest = null;
+        boolean ambiguous = false;
+        for (ExecutableElement constructor : constructors) {
+            int parameters = constructor.getParameters().size();
+            if (widest == null || parameters > widest.getParameters().size()) {
+                widest = constructor;
+                ambiguous = false;
+            } else if (parameters == widest.getParameters().size()) {
+                ambiguous = true;
+            }
+        }
+        if (widest == null) {
+            throw new InvalidMapperException("The output type " + out + " has no public constructor");
+        }
+        if (ambiguous) {
+            throw new InvalidMapperException("The output type " + out + " has multiple public constructors with "
+                    + widest.getParameters().size() + " parameters");
+        }
+        return widest;
+    }
+
+    private ExecutableElement getter(DeclaredType type, String property) {
+        if (property.isEmpty()) {
+            return null;
+        }
+        String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        ExecutableElement getter = null;
+        ExecutableElement booleanGetter = null;
+        ExecutableElement accessor = null;
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers((TypeElement) type.asElement()))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)
+                    || !method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            if (name.equals("get" + capitalized)) {
+                getter = method;
+            } else if (name.equals("is" + capitalized) && isBoolean(method.getReturnType())) {
+                booleanGetter = method;
+            } else if (name.equals(property)) {
+                accessor = method;
+            }
+        }
+        if (getter != null) {
+            return getter;
+        }
+        return booleanGetter != null ? booleanGetter : accessor;
+    }
+
+    //setters of the given type and its superclasses, ordered from the topmost superclass to the given type
+    private List<ExecutableElement> setters(TypeElement type) {
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            hierarchy.push(current);
+        }
+        Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+        for (TypeElement current : hierarchy) {
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                String name = method.getSimpleName().toString();
+                Set<Modifier> modifiers = method.getModifiers();
+                if (name.startsWith("set") && name.length() > 3 && method.getParameters().size() == 1
+                        && modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC)) {
+                    setters.put(name, method);
+                }
+            }
+        }
+        return new ArrayList<>(setters.values());
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals(Object.class.getName()) ? null : element;
+    }
+
+    private DeclaredType findSupertype(TypeMirror type, TypeElement supertype) {
+        TypeMirror erasure = types.erasure(supertype.asType());
+        Deque<TypeMirror> pending = new ArrayDeque<>();
+        pending.add(type);
+        while (!pending.isEmpty()) {
+            TypeMirror current = pending.poll();
+            if (current.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            if (types.isSameType(types.erasure(current), erasure)) {
+                return (DeclaredType) current;
+            }
+            pending.addAll(types.directSupertypes(current));
+        }
+        return null;
+    }
+
+    private boolean isBoolean(TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN || type.toString().equals(Boolean.class.getName());
+    }
+
+    private static List<ExecutableElement> publicConstructors(TypeElement type) {
+        List<ExecutableElement> constructors = new ArrayList<>();
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                constructors.add(constructor);
+            }
+        }
+        return constructors;
+    }
+
+    private static String defaultValue(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "false";
+            case LONG:
+                return "0L";
+            case FLOAT:
+                return "0f";
+            case DOUBLE:
+                return "0d";
+            case BYTE:
+            case SHORT:
+            case CHAR:
+                return "(" + type + ") 0";
+            case INT:
+                return "0";
+            default:
+                return "null";
+        }
+    }
+
+    private static void appendMethodStart(StringBuilder source, String signature) {
+        source.append("    @Override\n    ").append(signature).append(" {\n");
+    }
+
+    private static void appendStatements(StringBuilder source, List<String> statements) {
+        for (String statement : statements) {
+            source.append("        ").append(statement).append('\n');
+        }
+    }
+
+    private static String implementationName(TypeElement mapper) {
+        StringBuilder name = new StringBuilder(mapper.getSimpleName()).append("Impl");
+        Element enclosing = mapper.getEnclosingElement();
+        while (enclosing.getKind() != ElementKind.PACKAGE) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        String packageName = ((PackageElement) enclosing).getQualifiedName().toString();
+        return packageName.isEmpty() ? name.toString() : packageName + "." + name;
+    }
+
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static final class Value {
+        private final String expression;
+        private final TypeMirror type;
+
+        private Value(String expression, TypeMirror type) {
+            this.expression = expression;
+            this.type = type;
+        }
+    }
+
+    private static final class UsedMapper {
+        private final String type;
+        private final String field;
+        private final String instantiation;
+        private final TypeMirror in;
+        private final TypeMirror out;
+
+        private UsedMapper(String type, String field, String instantiation, TypeMirror in, TypeMirror out) {
+            this.type = type;
+            this.field = field;
+            this.instantiation = instantiation;
+            this.in = in;
+            this.out = out;
+        }
+    }
+
+    /**
+     * Signals a mapper definition that cannot be implemented, its message is reported as a compilation error.
+     */
+    static final class InvalidMapperException extends RuntimeException {
+        InvalidMapperException(String message) {
+            super(message);
+        }
+    }
+}
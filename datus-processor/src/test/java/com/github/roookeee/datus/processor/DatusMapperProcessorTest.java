@@ -0,0 +1,353 @@
+package com.github.roookeee.datus.processor;
+
+import com.github.roookeee.datus.api.Mapper;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatusMapperProcessorTest {
+
+    private static final JavaFileObject ADDRESS = source("sample.Address",
+            "package sample;",
+            "public class Address {",
+            "    private final String city;",
+            "    public Address(String city) { this.city = city; }",
+            "    public String getCity() { return city; }",
+            "}");
+    private static final JavaFileObject PERSON = source("sample.Person",
+            "package sample;",
+            "public class Person {",
+            "    private final String firstName;",
+            "    private final int age;",
+            "    private final boolean active;",
+            "    private final Address address;",
+            "    private final java.util.List<Address> previousAddresses;",
+            "    public Person(String firstName, int age, boolean active, Address address, java.util.List<Address> previous) {",
+            "        this.firstName = firstName; this.age = age; this.active = active;",
+            "        this.address = address; this.previousAddresses = previous;",
+            "    }",
+            "    public String getFirstName() { return firstName; }",
+            "    public int getAge() { return age; }",
+            "    public boolean isActive() { return active; }",
+            "    public Address getAddress() { return address; }",
+            "    public java.util.List<Address> getPreviousAddresses() { return previousAddresses; }",
+            "}");
+    private static final JavaFileObject PERSON_DTO = source("sample.PersonDTO",
+            "package sample;",
+            "public class PersonDTO {",
+            "    private String name; private int age; private boolean active; private String city; private String note;",
+            "    public void setName(String name) { this.name = name; }",
+            "    public void setAge(int age) { this.age = age; }",
+            "    public void setActive(boolean active) { this.active = active; }",
+            "    public void setCity(String city) { this.city = city; }",
+            "    public void setNote(String note) { this.note = note; }",
+            "    public String toString() { return name + \",\" + age + \",\" + active + \",\" + city + \",\" + note; }",
+            "}");
+
+    //compiled separately so the processor reads its constructor from a class file
+    private static final JavaFileObject COMPILED_ADDRESS_DTO = source("sample.CompiledAddressDTO",
+            "package sample;",
+            "public final class CompiledAddressDTO {",
+            "    private final String city;",
+            "    public CompiledAddressDTO(String city) { this.city = city; }",
+            "    public String toString() { return city; }",
+            "}");
+    private static final JavaFileObject COMPILED_ADDRESS_MAPPER = source("sample.CompiledAddressMapper",
+            "package sample;",
+            "@com.github.roookeee.datus.processor.DatusMapper",
+            "public interface CompiledAddressMapper extends com.github.roookeee.datus.api.Mapper<Address, CompiledAddressDTO> {}");
+
+    @Test
+    public void shouldGenerateSetterBasedMappers() throws Exception {
+        //given
+        JavaFileObject mapper = source("sample.PersonMapper",
+                "package sample;",
+                "import com.github.roookeee.datus.processor.*;",
+                "@DatusMapper",
+                "@DatusMapping(target = \"name\", source = \"firstName\")",
+                "@DatusMapping(target = \"city\", source = \"address.city\")",
+                "@DatusMapping(target = \"note\", ignore = true)",
+                "public interface PersonMapper extends com.github.roookeee.datus.api.Mapper<Person, PersonDTO> {}");
+        JavaFileObject scenario = scenario(
+                "PersonMapper mapper = new PersonMapperImpl();",
+                "return mapper.convert(new Person(\"Peter\", 42, true, new Address(\"Berlin\"), null)) + \"|\"",
+                "        + mapper.convert(new Person(\"Anna\", 7, false, null, null));");
+
+        //when
+        Compilation compilation = compile(ADDRESS, PERSON, PERSON_DTO, mapper, scenario);
+
+        //then
+        assertThat(compilation.errors()).isEmpty();
+        assertThat(compilation.run()).isEqualTo("Peter,42,true,Berlin,null|Anna,7,false,null,null");
+        assertThat(compilation.generatedSource("sample/PersonMapperImpl.java"))
+                .doesNotContain("->")
+                .contains("target.setName(input.getFirstName());");
+    }
+
+    @Test
+    public void shouldGenerateConstructorBasedMappersWithNestedMappers() throws Exception {
+        //given
+        JavaFileObject addressDto = source("sample.AddressDTO",
+                "package sample;",
+                "public final class AddressDTO {",
+                "    private final String city;",
+                "    public AddressDTO(String city) { this.city = city; }",
+                "    public String toString() { return city; }",
+                "}");
+        JavaFileObject personDto = source("sample.ImmutablePersonDTO",
+                "package sample;",
+                "public final class ImmutablePersonDTO {",
+                "    private final String firstName; private final AddressDTO address;",
+                "    private final java.util.List<AddressDTO> previous;",
+                "    public ImmutablePersonDTO(String firstName) { this(firstName, null, null); }",
+                "    public ImmutablePersonDTO(String firstName, AddressDTO address, java.util.List<AddressDTO> previous) {",
+                "        this.firstName = firstName; this.address = address; this.previous = previous;",
+                "    }",
+                "    public String toString() { return firstName + \",\" + address + \",\" + previous; }",
+                "}");
+        JavaFileObject mappers = source("sample.Mappers",
+                "package sample;",
+                "import com.github.roookeee.datus.api.Mapper;",
+                "import com.github.roookeee.datus.processor.*;",
+                "public final class Mappers {",
+                "    @DatusMapper",
+                "    public interface AddressMapper extends Mapper<Address, AddressDTO> {}",
+                "    @DatusMapper(uses = AddressMapper.class)",
+                "    @DatusMapping(target = \"previous\", source = \"previousAddresses\")",
+                "    public interface PersonMapper extends Mapper<Person, ImmutablePersonDTO> {}",
+                "}");
+        JavaFileObject scenario = scenario(
+                "Mappers.PersonMapper mapper = new Mappers_PersonMapperImpl();",
+                "java.util.List<Address> previous = java.util.Arrays.asList(new Address(\"Rome\"), new Address(\"Oslo\"));",
+                "return mapper.convert(new Person(\"Peter\", 42, true, new Address(\"Berlin\"), previous)) + \"|\"",
+                "        + mapper.convert(new Person(\"Anna\", 7, false, null, null));");
+
+        //when
+        Compilation compilation = compile(ADDRESS, PERSON, addressDto, personDto, mappers, scenario);
+
+        //then
+        assertThat(compilation.errors()).isEmpty();
+        assertThat(compilation.run()).isEqualTo("Peter,Berlin,[Rome, Oslo]|Anna,null,null");
+    }
+
+    @Test
+    public void shouldGenerateConvertIntoForMutableMappers() throws Exception {
+        //given
+        JavaFileObject mapper = source("sample.PersonMapper",
+                "package sample;",
+                "import com.github.roookeee.datus.processor.*;",
+                "@DatusMapper",
+                "@DatusMapping(target = \"name\", source = \"firstName\")",
+                "@DatusMapping(target = \"city\", ignore = true)",
+                "public interface PersonMapper extends com.github.roookeee.datus.api.MutableMapper<Person, PersonDTO> {}");
+        JavaFileObject scenario = scenario(
+                "PersonDTO target = new PersonDTO();",
+                "target.setCity(\"Paris\");",
+                "PersonDTO result = new PersonMapperImpl().convertInto(new Person(\"Peter\", 42, true, null, null), target);",
+                "return (result == target) + \"|\" + result;");
+
+        //when
+        Compilation compilation = compile(ADDRESS, PERSON, PERSON_DTO, mapper, scenario);
+
+        //then
+        assertThat(compilation.errors()).isEmpty();
+        assertThat(compilation.warnings()).containsExactly("Unmapped target property 'note' of sample.PersonDTO");
+        assertThat(compilation.run()).isEqualTo("true|Peter,42,true,Paris,null");
+    }
+
+    @Test
+    public void invalidMappersShouldBeReportedAsCompilationErrors() throws Exception {
+        //given
+        JavaFileObject mapper = source("sample.PersonMapper",
+                "package sample;",
+                "import com.github.roookeee.datus.processor.*;",
+                "@DatusMapper",
+                "@DatusMapping(target = \"name\", source = \"address.street\")",
+                "public interface PersonMapper extends com.github.roookeee.datus.api.Mapper<Person, PersonDTO> {}");
+        JavaFileObject notAMapper = source("sample.NotAMapper",
+                "package sample;",
+                "@com.github.roookeee.datus.processor.DatusMapper",
+                "public interface NotAMapper {}");
+
+        //when
+        Compilation compilation = compile(ADDRESS, PERSON, PERSON_DTO, mapper, notAMapper);
+
+        //then
+        assertThat(compilation.errors()).containsExactlyInAnyOrder(
+                "No getter for 'street' in sample.Address (source path 'address.street')",
+                "NotAMapper has to extend com.github.roookeee.datus.api.Mapper<In, Out>"
+        );
+    }
+
+    @Test
+    public void constructorsWithoutParameterNamesShouldBeReportedAsCompilationErrors() throws Exception {
+        //given
+        Path classpath = compileWithoutProcessor(Collections.singletonList("-g:none"), COMPILED_ADDRESS_DTO);
+
+        //when
+        Compilation compilation = compile(Collections.singletonList(classpath), ADDRESS, COMPILED_ADDRESS_MAPPER);
+
+        //then
+        assertThat(compilation.errors()).containsExactly(
+                "The constructor parameter names of sample.CompiledAddressDTO are not available (found arg0),"
+                        + " compile it with -parameters"
+        );
+    }
+
+    @Test
+    public void constructorsCompiledWithParameterNamesShouldBeMapped() throws Exception {
+        //given
+        Path classpath = compileWithoutProcessor(Arrays.asList("-g:none", "-parameters"), COMPILED_ADDRESS_DTO);
+        JavaFileObject scenario = scenario(
+                "return new CompiledAddressMapperImpl().convert(java.util.Arrays.asList(new Address(\"Rome\"), new Address(\"Oslo\"))).toString();");
+
+        //when
+        Compilation compilation = compile(Collections.singletonList(classpath), ADDRESS, COMPILED_ADDRESS_MAPPER, scenario);
+
+        //then
+        assertThat(compilation.errors()).isEmpty();
+        assertThat(compilation.run()).isEqualTo("[Rome, Oslo]");
+    }
+
+    private static JavaFileObject scenario(String... body) {
+        List<String> lines = new ArrayList<>(Arrays.asList(
+                "package sample;",
+                "public final class Scenario implements java.util.concurrent.Callable<String> {",
+                "    public String call() {"
+        ));
+        lines.addAll(Arrays.asList(body));
+        lines.add("    }");
+        lines.add("}");
+        return source("sample.Scenario", lines.toArray(new String[0]));
+    }
+
+    private static JavaFileObject source(String className, String... lines) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        String content = String.join("\n", lines);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+    private static Compilation compile(JavaFileObject... sources) throws Exception {
+        return compile(Collections.emptyList(), sources);
+    }
+
+    //compiles the given sources against the processor and the datus jar (plus the given classpath entries)
+    private static Compilation compile(List<Path> classpath, JavaFileObject... sources) throws Exception {
+        Path classes = Files.createTempDirectory("datus-processor-classes");
+        Path generated = Files.createTempDirectory("datus-processor-sources");
+        List<String> entries = new ArrayList<>(Arrays.asList(location(DatusMapper.class), location(Mapper.class)));
+        for (Path entry : classpath) {
+            entries.add(entry.toString());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                    null, fileManager, diagnostics,
+                    Arrays.asList(
+                            "-classpath", String.join(File.pathSeparator, entries),
+                            "-d", classes.toString(),
+                            "-s", generated.toString()
+                    ),
+                    null, Arrays.asList(sources)
+            );
+            task.setProcessors(Collections.singletonList(new DatusMapperProcessor()));
+            task.call();
+        }
+        return new Compilation(classes, generated, classpath, diagnostics.getDiagnostics());
+    }
+
+    //compiles the given sources without running the processor, e.g. to provide types that are read from class files
+    private static Path compileWithoutProcessor(List<String> options, JavaFileObject... sources) throws Exception {
+        Path classes = Files.createTempDirectory("datus-processor-classpath");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> arguments = new ArrayList<>(options);
+        arguments.addAll(Arrays.asList("-proc:none", "-d", classes.toString()));
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            assertThat(compiler.getTask(null, fileManager, null, arguments, null, Arrays.asList(sources)).call()).isTrue();
+        }
+        return classes;
+    }
+
+    private static String location(Class<?> type) throws Exception {
+        return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+    }
+
+    private static final class Compilation {
+        private final Path classes;
+        private final Path generated;
+        private final List<Path> classpath;
+        private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+
+        private Compilation(
+                Path classes,
+                Path generated,
+                List<Path> classpath,
+                List<Diagnostic<? extends JavaFileObject>> diagnostics
+        ) {
+            this.classes = classes;
+            this.generated = generated;
+            this.classpath = classpath;
+            this.diagnostics = diagnostics;
+        }
+
+        private List<String> errors() {
+            return messages(Diagnostic.Kind.ERROR);
+        }
+
+        private List<String> warnings() {
+            return messages(Diagnostic.Kind.WARNING);
+        }
+
+        private List<String> messages(Diagnostic.Kind kind) {
+            return diagnostics.stream()
+                    .filter(diagnostic -> diagnostic.getKind() == kind)
+                    .map(diagnostic -> diagnostic.getMessage(null))
+                    .collect(Collectors.toList());
+        }
+
+        private String generatedSource(String path) throws Exception {
+            return new String(Files.readAllBytes(generated.resolve(path)), StandardCharsets.UTF_8);
+        }
+
+        @SuppressWarnings("unchecked")
+        private String run() throws Exception {
+            List<URL> urls = new ArrayList<>();
+            urls.add(classes.toUri().toURL());
+            for (Path entry : classpath) {
+                urls.add(entry.toUri().toURL());
+            }
+            //the datus jar is provided by the class loader of this test
+            try (URLClassLoader loader = new URLClassLoader(urls.toArray(new URL[0]))) {
+                Class<?> scenario = loader.loadClass("sample.Scenario");
+                return ((java.util.concurrent.Callable<String>) scenario.getConstructor().newInstance()).call();
+            }
+        }
+    }
+}
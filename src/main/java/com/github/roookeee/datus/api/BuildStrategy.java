@@ -0,0 +1,37 @@
+package com.github.roookeee.datus.api;
+
+/**
+ * A BuildStrategy configures how the steps of a mapping definition are turned into an executable {@link Mapper}.
+ * All strategies produce mappers with identical behaviour, they only differ in their runtime characteristics.
+ */
+public enum BuildStrategy {
+    /**
+     * Every step is combined with its predecessor which results in a nested chain of functions.
+     */
+    CHAINED,
+    /**
+     * (default) All steps are collected and executed by one function that is specialized for the number of steps,
+     * e.g. a constructor with twelve parameters is called directly after evaluating its twelve getters in sequence
+     * instead of passing through twelve nested functions. Mutable mappings with more than eight steps are executed by
+     * a balanced tree of such functions.
+     */
+    FLATTENED,
+    /**
+     * All steps are compiled into one generated class whose convert method calls every getter and setter in a
+     * straight line. This allows the JIT to inline the whole mapping process like hand-written code at the cost of
+     * defining one additional class per built mapper.
+     * <p>
+     * Falls back to {@link #FLATTENED} when classes cannot be defined at runtime (e.g. in a GraalVM native image).
+     * The immutable API does not support this strategy yet and uses {@link #FLATTENED} instead.
+     */
+    COMPILED,
+    /**
+     * All steps are combined into one tree of bound {@link java.lang.invoke.MethodHandle}s which is held as a constant
+     * by one generated class per built mapper. The JIT inlines the tree like a constant expression, so the steps of a
+     * mapper are optimized together without sharing any call site with other mappers.
+     * <p>
+     * Falls back to {@link #FLATTENED} when classes cannot be defined at runtime (e.g. in a GraalVM native image).
+     * The immutable API does not support this strategy yet and uses {@link #FLATTENED} instead.
+     */
+    METHOD_HANDLES
+}
@@ -0,0 +1,119 @@
+package com.github.roookeee.datus.api;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Configures the cache of a {@link CachedMapper}: its maximum size, which entries are evicted once it is full,
+ * whether entries expire and how keys are compared. Policies are immutable, every modifying function returns
+ * a new policy.
+ * <p>
+ * Example: {@code mapper.cached(Currency::getCode, CachePolicy.lru(1_000).expireAfterWrite(Duration.ofMinutes(10)))}
+ *
+ * @see Mapper#cached(CachePolicy)
+ * @see Mapper#cached(java.util.function.Function, CachePolicy)
+ */
+public final class CachePolicy {
+    enum Eviction {
+        LEAST_RECENTLY_USED,
+        LEAST_FREQUENTLY_USED
+    }
+
+    private final Eviction eviction;
+    private final int maximumSize;
+    //0 if entries never expire
+    private final long expireAfterWriteNanos;
+    private final boolean weakKeys;
+    private final LongSupplier ticker;
+
+    private CachePolicy(Eviction eviction, int maximumSize, long expireAfterWriteNanos, boolean weakKeys, LongSupplier ticker) {
+        this.eviction = eviction;
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.weakKeys = weakKeys;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Creates a policy that evicts the least recently used entries once the cache holds more than the given amount
+     * of entries.
+     *
+     * @param maximumSize the maximum number of cached entries
+     * @return said policy
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public static CachePolicy lru(int maximumSize) {
+        return create(Eviction.LEAST_RECENTLY_USED, maximumSize);
+    }
+
+    /**
+     * Creates a policy that evicts the least frequently used entries (the least recently used ones among equally
+     * frequently used entries) once the cache holds more than the given amount of entries. This suits reference data
+     * that is dominated by a few hot entries (e.g. the currencies of most orders) better than {@link #lru(int)}.
+     *
+     * @param maximumSize the maximum number of cached entries
+     * @return said policy
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public static CachePolicy lfu(int maximumSize) {
+        return create(Eviction.LEAST_FREQUENTLY_USED, maximumSize);
+    }
+
+    private static CachePolicy create(Eviction eviction, int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum cache size has to be positive but was " + maximumSize);
+        }
+        return new CachePolicy(eviction, maximumSize, 0, false, System::nanoTime);
+    }
+
+    /**
+     * Creates a policy whose entries expire once the given duration has passed since they were cached. Expired
+     * entries are converted again when they are looked up.
+     *
+     * @param duration the duration after which cached entries expire
+     * @return a new policy including the expiration
+     * @throws IllegalArgumentException if the duration is not positive
+     */
+    public CachePolicy expireAfterWrite(Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("The expiration has to be positive but was " + duration);
+        }
+        return new CachePolicy(eviction, maximumSize, duration.toNanos(), weakKeys, ticker);
+    }
+
+    /**
+     * Creates a policy that compares keys by identity and only holds them weakly: entries are dropped once their key
+     * is garbage collected. This suits caching by input instances whose lifecycle is managed elsewhere (e.g. entities
+     * of a persistence context), keys that are created per lookup (e.g. by a key function) are never found again.
+     *
+     * @return a new policy holding keys weakly
+     */
+    public CachePolicy weakKeys() {
+        return new CachePolicy(eviction, maximumSize, expireAfterWriteNanos, true, ticker);
+    }
+
+    //allows tests to control the time instead of waiting for entries to expire
+    CachePolicy ticker(LongSupplier ticker) {
+        return new CachePolicy(eviction, maximumSize, expireAfterWriteNanos, weakKeys, ticker);
+    }
+
+    Eviction eviction() {
+        return eviction;
+    }
+
+    int maximumSize() {
+        return maximumSize;
+    }
+
+    long expireAfterWriteNanos() {
+        return expireAfterWriteNanos;
+    }
+
+    boolean hasWeakKeys() {
+        return weakKeys;
+    }
+
+    LongSupplier ticker() {
+        return ticker;
+    }
+}
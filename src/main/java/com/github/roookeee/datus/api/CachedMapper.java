@@ -0,0 +1,403 @@
+package com.github.roookeee.datus.api;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link Mapper} that remembers the output instances of converted input instances: converting an input instance
+ * whose key (the input instance itself or the result of a key function) was already converted returns the previously
+ * converted output instance instead of converting it again. This is useful for reference data (e.g. currencies,
+ * countries or product categories) that is converted over and over again.
+ * <p>
+ * The cache is bounded and evicts entries according to its {@link CachePolicy}. It is split into independently locked
+ * segments so a cached mapper can be used concurrently, every segment evicts its own entries which approximates the
+ * eviction order of one big cache. Input instances are converted outside of any lock: concurrent conversions of the
+ * same key may convert it more than once but all of them return the output instance that was cached first.
+ * <p>
+ * Cached output instances are shared by all conversions of the same key and thus must not be modified, which makes
+ * cached mappers a natural fit for immutable output types. Input instances whose key is null are never cached.
+ *
+ * @param <In>  the type of the input object(s)
+ * @param <Out> the type of the output object(s)
+ * @see Mapper#cached(CachePolicy)
+ */
+public final class CachedMapper<In, Out> implements Mapper<In, Out> {
+    //the minimum capacity of a segment, smaller caches use less segments
+    private static final int MINIMUM_SEGMENT_CAPACITY = 64;
+    private static final int MAXIMUM_SEGMENTS = 16;
+
+    private final Mapper<In, Out> mapper;
+    private final Function<? super In, ?> keyFunction;
+    private final boolean weakKeys;
+    private final boolean expiring;
+    private final LongSupplier ticker;
+    private final Segment[] segments;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    CachedMapper(Mapper<In, Out> mapper, Function<? super In, ?> keyFunction, CachePolicy policy) {
+        this.mapper = mapper;
+        this.keyFunction = keyFunction;
+        this.weakKeys = policy.hasWeakKeys();
+        this.expiring = policy.expireAfterWriteNanos() > 0;
+        this.ticker = policy.ticker();
+
+        int maximumSize = policy.maximumSize();
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAXIMUM_SEGMENTS, maximumSize / MINIMUM_SEGMENT_CAPACITY)));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            //the remainder is spread over the first segments so the total capacity is exactly the maximum size
+            int capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            segments[i] = policy.eviction() == CachePolicy.Eviction.LEAST_FREQUENTLY_USED
+                    ? new LfuSegment(capacity, policy.expireAfterWriteNanos(), evictions)
+                    : new LruSegment(capacity, policy.expireAfterWriteNanos(), evictions);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Out convert(In input) {
+        Object key = input == null ? null : keyFunction.apply(input);
+        if (key == null) {
+            return mapper.convert(input);
+        }
+
+        Segment segment = segmentFor(key);
+        long now = expiring ? ticker.getAsLong() : 0;
+        Entry cached = segment.get(weakKeys ? new LookupKey(key) : key, now);
+        if (cached != null) {
+            hits.increment();
+            return (Out) cached.value;
+        }
+
+        misses.increment();
+        Out output = mapper.convert(input);
+        Object storedKey = weakKeys ? new WeakKey(key, segment.collectedKeys) : key;
+        return (Out) segment.putIfAbsent(storedKey, output, now).value;
+    }
+
+    /**
+     * @return the number of conversions that returned a cached output instance
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of conversions that had to convert their input instance (excluding input instances whose key
+     * is null)
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entries that were dropped because the cache was full, they expired or their (weakly held)
+     * key was garbage collected
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of currently cached entries, which may include expired entries that were not looked up since
+     * they expired
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Drops all cached entries, e.g. after the reference data the cached output instances were converted from changed.
+     * Dropped entries are not counted as evictions.
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CachedMapper{size=" + size() + ", hits=" + hits() + ", misses=" + misses()
+                + ", evictions=" + evictions() + "}";
+    }
+
+    private Segment segmentFor(Object key) {
+        int hash = weakKeys ? System.identityHashCode(key) : key.hashCode();
+        //spread the higher bits as only the lower ones select the segment
+        hash ^= hash >>> 16;
+        return segments[hash & (segments.length - 1)];
+    }
+
+    private static final class Entry {
+        private final Object key;
+        private final Object value;
+        private final long writtenAt;
+        //only used by LfuSegment
+        private long frequency = 1;
+
+        private Entry(Object key, Object value, long writtenAt) {
+            this.key = key;
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    private abstract static class Segment {
+        private final int capacity;
+        private final long expireAfterWriteNanos;
+        private final LongAdder evictions;
+        //weakly held keys are enqueued here once they are garbage collected
+        private final ReferenceQueue<Object> collectedKeys = new ReferenceQueue<>();
+
+        private Segment(int capacity, long expireAfterWriteNanos, LongAdder evictions) {
+            this.capacity = capacity;
+            this.expireAfterWriteNanos = expireAfterWriteNanos;
+            this.evictions = evictions;
+        }
+
+        synchronized Entry get(Object key, long now) {
+            expungeCollectedKeys();
+            Entry entry = find(key);
+            if (entry == null) {
+                return null;
+            }
+            if (isExpired(entry, now)) {
+                evict(entry);
+                return null;
+            }
+            accessed(entry);
+            return entry;
+        }
+
+        synchronized Entry putIfAbsent(Object key, Object value, long now) {
+            expungeCollectedKeys();
+            Entry existing = find(key);
+            if (existing != null) {
+                if (!isExpired(existing, now)) {
+                    accessed(existing);
+                    return existing;
+                }
+                evict(existing);
+            }
+
+            //makes room before adding the new entry which would otherwise be the least frequently used one
+            while (size() >= capacity) {
+                evict(eldest());
+            }
+            Entry entry = new Entry(key, value, now);
+            add(entry);
+            return entry;
+        }
+
+        private boolean isExpired(Entry entry, long now) {
+            return expireAfterWriteNanos > 0 && now - entry.writtenAt >= expireAfterWriteNanos;
+        }
+
+        private void evict(Entry entry) {
+            remove(entry);
+            evictions.increment();
+        }
+
+        private void expungeCollectedKeys() {
+            Reference<?> collected;
+            while ((collected = collectedKeys.poll()) != null) {
+                Entry entry = find(collected);
+                if (entry != null) {
+                    evict(entry);
+                }
+            }
+        }
+
+        //finds the entry of the given key, which may count as an access as found entries are either accessed or evicted
+        abstract Entry find(Object key);
+
+        abstract void accessed(Entry entry);
+
+        abstract void add(Entry entry);
+
+        abstract void remove(Entry entry);
+
+        //the entry to evict next
+        abstract Entry eldest();
+
+        abstract int size();
+
+        abstract void clear();
+    }
+
+    private static final class LruSegment extends Segment {
+        //iterates in least recently used order
+        private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        private LruSegment(int capacity, long expireAfterWriteNanos, LongAdder evictions) {
+            super(capacity, expireAfterWriteNanos, evictions);
+        }
+
+        @Override
+        Entry find(Object key) {
+            //already moves the entry to the most recently used position
+            return entries.get(key);
+        }
+
+        @Override
+        void accessed(Entry entry) {
+
+        }
+
+        @Override
+        void add(Entry entry) {
+            entries.put(entry.key, entry);
+        }
+
+        @Override
+        void remove(Entry entry) {
+            entries.remove(entry.key);
+        }
+
+        @Override
+        Entry eldest() {
+            return entries.values().iterator().next();
+        }
+
+        @Override
+        synchronized int size() {
+            return entries.size();
+        }
+
+        @Override
+        synchronized void clear() {
+            entries.clear();
+        }
+    }
+
+    private static final class LfuSegment extends Segment {
+        private final HashMap<Object, Entry> entries = new HashMap<>();
+        //the entries of every frequency in least recently used order
+        private final TreeMap<Long, LinkedHashSet<Entry>> frequencies = new TreeMap<>();
+
+        private LfuSegment(int capacity, long expireAfterWriteNanos, LongAdder evictions) {
+            super(capacity, expireAfterWriteNanos, evictions);
+        }
+
+        @Override
+        Entry find(Object key) {
+            return entries.get(key);
+        }
+
+        @Override
+        void accessed(Entry entry) {
+            unlink(entry);
+            entry.frequency++;
+            link(entry);
+        }
+
+        @Override
+        void add(Entry entry) {
+            entries.put(entry.key, entry);
+            link(entry);
+        }
+
+        @Override
+        void remove(Entry entry) {
+            entries.remove(entry.key);
+            unlink(entry);
+        }
+
+        @Override
+        Entry eldest() {
+            return frequencies.firstEntry().getValue().iterator().next();
+        }
+
+        @Override
+        synchronized int size() {
+            return entries.size();
+        }
+
+        @Override
+        synchronized void clear() {
+            entries.clear();
+            frequencies.clear();
+        }
+
+        private void link(Entry entry) {
+            frequencies.computeIfAbsent(entry.frequency, frequency -> new LinkedHashSet<>()).add(entry);
+        }
+
+        private void unlink(Entry entry) {
+            LinkedHashSet<Entry> sameFrequency = frequencies.get(entry.frequency);
+            sameFrequency.remove(entry);
+            if (sameFrequency.isEmpty()) {
+                frequencies.remove(entry.frequency);
+            }
+        }
+    }
+
+    //a weakly held key which is compared by identity
+    private static final class WeakKey extends WeakReference<Object> {
+        private final int hash;
+
+        private WeakKey(Object key, ReferenceQueue<Object> queue) {
+            super(key, queue);
+            this.hash = System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            Object key = get();
+            return key != null && key == referent(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    //looks up weakly held keys without allocating a WeakReference per lookup
+    private static final class LookupKey {
+        private final Object key;
+
+        private LookupKey(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return key == referent(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(key);
+        }
+    }
+
+    private static Object referent(Object key) {
+        if (key instanceof WeakKey) {
+            return ((WeakKey) key).get();
+        }
+        if (key instanceof LookupKey) {
+            return ((LookupKey) key).key;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.roookeee.datus.api;
+
+/**
+ * Emits a flight recorder event per conversion of a recorded mapper (see {@link Mapper#recorded}).
+ * <p>
+ * The flight recorder is only available on Java 11+: this class never emits any events, the multi-release jar of
+ * datus replaces it with an implementation based on {@code jdk.jfr} on Java 11+.
+ */
+final class ConversionEvents {
+
+    /**
+     * Starts timing a conversion.
+     *
+     * @return the started event or null if no event is recorded
+     */
+    static Object begin() {
+        return null;
+    }
+
+    /**
+     * Ends timing a conversion and emits its event if the conversion took longer than the configured threshold.
+     *
+     * @param event      the event returned by {@link #begin()}
+     * @param inputType  the input type of the conversion
+     * @param outputType the output type of the conversion
+     * @param elements   the number of converted input instances
+     */
+    static void commit(Object event, Class<?> inputType, Class<?> outputType, int elements) {
+
+    }
+
+    private ConversionEvents() {
+
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.roookeee.datus.api;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator that converts the elements of an input iterator when they are requested (see
+ * {@link Mapper#convertLazily(Iterator)}). Only the current input instance is referenced, so arbitrarily large or unbounded
+ * inputs can be converted.
+ *
+ * @param <In>  the input type
+ * @param <Out> the output type
+ */
+final class ConversionIterator<In, Out> implements Iterator<Out> {
+    private final Mapper<In, Out> mapper;
+    private final Iterator<? extends In> input;
+
+    ConversionIterator(Mapper<In, Out> mapper, Iterator<? extends In> input) {
+        this.mapper = mapper;
+        this.input = input;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return input.hasNext();
+    }
+
+    @Override
+    public Out next() {
+        return mapper.convert(input.next());
+    }
+
+    /**
+     * An iterator that converts batches of (at most) batchSize consecutive input instances via
+     * {@link Mapper#convert(java.util.Collection)} when they are requested (see {@link Mapper#convertBatched(Iterator, int)}).
+     * The input instances of a batch are gathered in a buffer that is reused for every batch, every returned batch is
+     * a new list.
+     *
+     * @param <In>  the input type
+     * @param <Out> the output type
+     */
+    static final class Batched<In, Out> implements Iterator<List<Out>> {
+        private final Mapper<In, Out> mapper;
+        private final Iterator<? extends In> input;
+        private final int batchSize;
+        //lazily created to not allocate a (possibly large) buffer for empty inputs
+        private List<In> buffer;
+
+        Batched(Mapper<In, Out> mapper, Iterator<? extends In> input, int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("The batch size has to be positive but was " + batchSize);
+            }
+            this.mapper = mapper;
+            this.input = input;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return input.hasNext();
+        }
+
+        @Override
+        public List<Out> next() {
+            if (!input.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (buffer == null) {
+                buffer = new ArrayList<>(batchSize);
+            }
+            try {
+                while (buffer.size() < batchSize && input.hasNext()) {
+                    buffer.add(input.next());
+                }
+                return mapper.convert(buffer);
+            } finally {
+                //don't retain any input instances of this batch
+                buffer.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.roookeee.datus.api;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * An unmodifiable list that converts the elements of an input list on access (see {@link Mapper#lazyView(List)}).
+ * Memoizing views store every converted element in an {@link AtomicReferenceArray} that is sized once the view is
+ * created, so converted elements are safely published to concurrent readers.
+ *
+ * @param <In>  the input type
+ * @param <Out> the output type
+ */
+final class ConversionView<In, Out> extends AbstractList<Out> implements RandomAccess {
+    //stands in for converted null elements as null marks unconverted indices
+    private static final Object NULL = new Object();
+
+    private final Mapper<In, Out> mapper;
+    private final List<? extends In> input;
+    //null if memoization is disabled
+    private final AtomicReferenceArray<Object> converted;
+
+    ConversionView(Mapper<In, Out> mapper, List<? extends In> input, boolean memoize) {
+        this.mapper = mapper;
+        this.input = input;
+        converted = memoize ? new AtomicReferenceArray<>(input.size()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Out get(int index) {
+        if (converted == null) {
+            return mapper.convert(input.get(index));
+        }
+
+        Object value = converted.get(index);
+        if (value == null) {
+            Out output = mapper.convert(input.get(index));
+            value = output == null ? NULL : output;
+            if (!converted.compareAndSet(index, null, value)) {
+                //another thread converted the same index first, every reader has to see the same instance
+                value = converted.get(index);
+            }
+        }
+        return value == NULL ? null : (Out) value;
+    }
+
+    @Override
+    public int size() {
+        return converted == null ? input.size() : converted.length();
+    }
+
+    @Override
+    public Spliterator<Out> spliterator() {
+        return new ConversionSpliterator<>(this, 0, size());
+    }
+
+    /*
+    splits its index range in halves so parallel streams get evenly sized work items without copying any elements
+    (the default spliterator of lists copies batches of growing sizes into arrays)
+     */
+    private static final class ConversionSpliterator<Out> implements Spliterator<Out> {
+        private final List<Out> view;
+        private int index;
+        private final int fence;
+
+        private ConversionSpliterator(List<Out> view, int index, int fence) {
+            this.view = view;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Out> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(view.get(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Out> action) {
+            for (int i = index; i < fence; i++) {
+                action.accept(view.get(i));
+            }
+            index = fence;
+        }
+
+        @Override
+        public Spliterator<Out> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            Spliterator<Out> prefix = new ConversionSpliterator<>(view, index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.roookeee.datus.api;
+
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Converts every element of a collection via a mapper and collects the converted elements into a target collection
+ * which is created with the size of the input collection (see {@link Mapper#each}). Pass it to {@code .mapEach(...)} of
+ * the immutable / mutable API to map nested collections.
+ * <p>
+ * Each mappers can optionally convert large collections in parallel (see {@link #parallelAbove(int)}) and finish
+ * their target collections (e.g. wrap them into unmodifiable collections, see {@link #finish}).
+ *
+ * @param <Source> the type of the input collections
+ * @param <Result> the type of the output collections
+ */
+public final class EachMapper<Source extends Collection<?>, Result> implements Function<Source, Result> {
+    private final Mapper<Object, Object> mapper;
+    private final IntFunction<?> factory;
+    private final BiConsumer<Object, Object> adder;
+    //null if the target collection is the result
+    private final Function<Object, ? extends Result> finisher;
+    private final int parallelThreshold;
+    //null if input collections are never converted in parallel
+    private final Executor executor;
+
+    @SuppressWarnings("unchecked")
+    <In, Out, C> EachMapper(Mapper<In, Out> mapper, IntFunction<? extends C> factory, BiConsumer<? super C, ? super Out> adder) {
+        this((Mapper<Object, Object>) mapper, factory, (BiConsumer<Object, Object>) adder, null, Integer.MAX_VALUE, null);
+    }
+
+    private EachMapper(
+            Mapper<Object, Object> mapper,
+            IntFunction<?> factory,
+            BiConsumer<Object, Object> adder,
+            Function<Object, ? extends Result> finisher,
+            int parallelThreshold,
+            Executor executor
+    ) {
+        this.mapper = mapper;
+        this.factory = factory;
+        this.adder = adder;
+        this.finisher = finisher;
+        this.parallelThreshold = parallelThreshold;
+        this.executor = executor;
+    }
+
+    /**
+     * Converts every element of the given input collection (retains order).
+     *
+     * @param input the collection to convert
+     * @return the (finished) target collection containing the converted elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Result apply(Source input) {
+        int size = input.size();
+        Object target = factory.apply(size);
+        if (size >= parallelThreshold) {
+            int chunkSize = Math.max(1, size / (4 * Runtime.getRuntime().availableProcessors()));
+            for (Object out : ParallelConversion.convert(mapper, input, executor, chunkSize)) {
+                adder.accept(target, out);
+            }
+        } else {
+            for (Object in : input) {
+                adder.accept(target, mapper.convert(in));
+            }
+        }
+        return finisher == null ? (Result) target : finisher.apply(target);
+    }
+
+    /**
+     * Creates an each mapper that converts input collections with at least the given number of elements in parallel
+     * via the common {@link ForkJoinPool} (see {@link #parallelAbove(int, Executor)}).
+     *
+     * @param threshold the minimum size of input collections which are converted in parallel
+     * @return a new each mapper that converts large input collections in parallel
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public EachMapper<Source, Result> parallelAbove(int threshold) {
+        return parallelAbove(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an each mapper that converts input collections with at least the given number of elements in parallel
+     * (see {@link Mapper#convertParallel}), target collections are still populated in the order of the input
+     * collections by the calling thread. Smaller input collections are converted sequentially as parallelizing their
+     * conversion costs more than it saves. The underlying mapper has to be thread-safe. Identity-aware mappers do not
+     * share converted instances across the chunks of a parallel conversion (see {@link MappingContext}).
+     *
+     * @param threshold the minimum size of input collections which are converted in parallel
+     * @param executor  the executor to convert chunks of large input collections with
+     * @return a new each mapper that converts large input collections in parallel
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public EachMapper<Source, Result> parallelAbove(int threshold, Executor executor) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The parallel threshold has to be positive but was " + threshold);
+        }
+        return new EachMapper<>(mapper, factory, adder, finisher, threshold, executor);
+    }
+
+    /**
+     * Creates an each mapper that applies the given function to every populated target collection, e.g.
+     * {@code finish(Collections::unmodifiableList)} to output unmodifiable collections.
+     *
+     * @param finisher      the function to apply to populated target collections
+     * @param <FinalResult> the type of the finished output collections
+     * @return a new each mapper based on the given function
+     */
+    @SuppressWarnings("unchecked")
+    public <FinalResult> EachMapper<Source, FinalResult> finish(Function<? super Result, ? extends FinalResult> finisher) {
+        Function<Object, ? extends Result> current = this.finisher;
+        Function<Object, ? extends FinalResult> next = current == null
+                ? target -> finisher.apply((Result) target)
+                : target -> finisher.apply(current.apply(target));
+        return new EachMapper<>(mapper, factory, adder, next, parallelThreshold, executor);
+    }
+}
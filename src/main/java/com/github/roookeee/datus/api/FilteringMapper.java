@@ -0,0 +1,101 @@
+package com.github.roookeee.datus.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A mapper that only converts input instances which satisfy an input predicate and only outputs converted instances
+ * which satisfy an output predicate (see {@link Mapper#filter}). Its {@link #convert} expresses the optionality of
+ * an output instance via {@link Optional} whereas {@link #convertOrNull}, {@link #convertFiltered} and
+ * {@link #filteredStream} skip filtered instances without allocating an {@link Optional} per input instance.
+ *
+ * @param <In>  the type of the input object(s)
+ * @param <Out> the type of the output object(s) of the filtered mapper
+ */
+public final class FilteringMapper<In, Out> implements Mapper<In, Optional<Out>> {
+    //marks filtered instances so null outputs of the filtered mapper can be told apart
+    private static final Object FILTERED = new Object();
+
+    private final Mapper<In, Out> mapper;
+    //null if there is no predicate to consider
+    private final Predicate<? super In> inputPredicate;
+    private final Predicate<? super Out> outputPredicate;
+
+    FilteringMapper(Mapper<In, Out> mapper, Predicate<? super In> inputPredicate, Predicate<? super Out> outputPredicate) {
+        this.mapper = mapper;
+        this.inputPredicate = inputPredicate;
+        this.outputPredicate = outputPredicate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Out> convert(In input) {
+        Object output = convertOrFiltered(input);
+        if (output == FILTERED) {
+            return Optional.empty();
+        }
+        return Optional.of((Out) output);
+    }
+
+    /**
+     * Converts the given input instance if it satisfies this mappers predicates.
+     * <p>
+     * Note: null is also returned if the filtered mapper converts the given input instance to null.
+     *
+     * @param input the input instance to convert
+     * @return the converted output instance or null if it was filtered
+     */
+    @SuppressWarnings("unchecked")
+    public Out convertOrNull(In input) {
+        Object output = convertOrFiltered(input);
+        return output == FILTERED ? null : (Out) output;
+    }
+
+    /**
+     * Converts all input instances of the given collection which satisfy this mappers predicates (retains order).
+     *
+     * @param input the collection of input instances to convert
+     * @return a list containing the converted output instances that were not filtered
+     */
+    @SuppressWarnings("unchecked")
+    public List<Out> convertFiltered(Collection<? extends In> input) {
+        List<Out> result = new ArrayList<>();
+        for (In in : input) {
+            Object output = convertOrFiltered(in);
+            if (output != FILTERED) {
+                result.add((Out) output);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a stream of the converted output instances of all input instances of the given collection which satisfy
+     * this mappers predicates.
+     *
+     * @param input the collection of input instances to convert
+     * @return a (lazy) stream of the converted output instances that were not filtered
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<Out> filteredStream(Collection<? extends In> input) {
+        return input.stream()
+                .map(this::convertOrFiltered)
+                .filter(output -> output != FILTERED)
+                .map(output -> (Out) output);
+    }
+
+    private Object convertOrFiltered(In input) {
+        if (inputPredicate != null && !inputPredicate.test(input)) {
+            return FILTERED;
+        }
+        Out output = mapper.convert(input);
+        if (outputPredicate != null && !outputPredicate.test(output)) {
+            return FILTERED;
+        }
+        return output;
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.roookeee.datus.api;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A mapper that converts every input instance of an object graph only once (see {@link Mapper#identityAware()}).
+ *
+ * @param <In>  the input type
+ * @param <Out> the output type
+ */
+final class IdentityAwareMapper<In, Out> implements Mapper<In, Out> {
+    private final Mapper<In, Out> mapper;
+    //null if output instances are not remembered before being populated
+    private final Supplier<? extends Out> outputFactory;
+
+    IdentityAwareMapper(Mapper<In, Out> mapper, Supplier<? extends Out> outputFactory) {
+        this.mapper = mapper;
+        this.outputFactory = outputFactory;
+    }
+
+    @Override
+    public Out convert(In input) {
+        MappingContext context = MappingContext.current();
+        if (context == null) {
+            return new MappingContext().convert(mapper, input, outputFactory);
+        }
+        return context.convertWithin(mapper, input, outputFactory);
+    }
+
+    @Override
+    public Out convert(In input, MappingContext context) {
+        return context.convert(mapper, input, outputFactory);
+    }
+
+    @Override
+    public List<Out> convert(Collection<? extends In> input) {
+        //all elements of the collection share one context
+        return context().within(() -> Mapper.super.convert(input));
+    }
+
+    @Override
+    public LinkedHashMap<In, Out> convertToMap(Collection<? extends In> input) {
+        return context().within(() -> Mapper.super.convertToMap(input));
+    }
+
+    @Override
+    public <KeyType> LinkedHashMap<KeyType, Out> convertToMap(
+            Collection<? extends In> input,
+            Function<? super In, ? extends KeyType> keyFunction
+    ) {
+        return context().within(() -> Mapper.super.convertToMap(input, keyFunction));
+    }
+
+    @Override
+    public Stream<Out> conversionStream(Collection<? extends In> input) {
+        //the elements are converted lazily, so the context has to be passed along explicitly
+        MappingContext context = context();
+        return input.stream().map(in -> context.convert(mapper, in, outputFactory));
+    }
+
+    @Override
+    public Mapper<In, Out> identityAware() {
+        return this;
+    }
+
+    private static MappingContext context() {
+        MappingContext context = MappingContext.current();
+        return context == null ? new MappingContext() : context;
+    }
+}
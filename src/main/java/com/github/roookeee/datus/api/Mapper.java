@@ -2,12 +2,18 @@ package com.github.roookeee.datus.api;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Defines a mapping process for a given input type to a given output type.
@@ -25,6 +31,78 @@ public interface Mapper<In, Out> {
      */
     Out convert(In input);
 
+    /**
+     * Converts a given input instance within the given context: the input instance is only converted if the context
+     * does not already hold its output instance (see {@link MappingContext}). Identity-aware mappers that are used while
+     * converting the input instance share the given context.
+     *
+     * @param input   the input instance to convert
+     * @param context the context to use
+     * @return the converted output object
+     * @throws IllegalStateException if the input instance references itself (transitively)
+     */
+    default Out convert(In input, MappingContext context) {
+        return context.convert(this, input, null);
+    }
+
+    /**
+     * Creates a mapper that converts every input instance of an object graph only once: input instances which are
+     * referenced multiple times in the object graph that is currently converted (e.g. a product that is ordered by many
+     * line items) are converted to a single output instance. Only nested mappers which are identity-aware as well
+     * share the context of the outermost identity-aware mapper (e.g. {@code .map(identityAwareProductMapper::convert)}).
+     * All elements of a collection converted by the returned mapper (e.g. via {@link #convert(Collection)}) share one
+     * context, while every chunk of a parallel conversion has a context of its own (see {@link MappingContext}).
+     * <p>
+     * Cyclic object graphs cannot be converted by the returned mapper, see {@link MutableMapper#identityAware(java.util.function.Supplier)}.
+     *
+     * @return an identity-aware mapper based on this mapper
+     * @see MappingContext
+     */
+    default Mapper<In, Out> identityAware() {
+        return new IdentityAwareMapper<>(this, null);
+    }
+
+    /**
+     * Creates a mapper that emits a {@code com.github.roookeee.datus.DatusConversion} flight recorder event per
+     * conversion carrying the given types, the number of converted input instances and the duration. Converting a
+     * collection via {@link #convert(Collection)} emits a single event for the whole collection.
+     * <p>
+     * Events are only emitted on Java 11+ while a flight recording which enables them is running. Their threshold is
+     * configured via the recording settings like the threshold of any built-in event.
+     *
+     * @param inputType  the input type to record
+     * @param outputType the output type to record
+     * @return a recorded mapper based on this mapper
+     */
+    default Mapper<In, Out> recorded(Class<?> inputType, Class<?> outputType) {
+        return new RecordedMapper<>(this, inputType, outputType);
+    }
+
+    /**
+     * Creates a mapper that caches the output instance of every converted input instance according to the given policy
+     * (see {@link CachedMapper}), e.g. to convert reference data only once. Input instances are used as cache keys,
+     * see {@link #cached(Function, CachePolicy)} to cache by a derived key.
+     *
+     * @param policy the policy of the cache
+     * @return a caching mapper based on this mapper
+     */
+    default CachedMapper<In, Out> cached(CachePolicy policy) {
+        return new CachedMapper<>(this, Function.identity(), policy);
+    }
+
+    /**
+     * Creates a mapper that caches the output instance of every converted input instance by the key the given function
+     * extracts from it according to the given policy (see {@link CachedMapper}), e.g. {@code cached(Currency::getCode,
+     * CachePolicy.lru(500))}. Input instances with equal keys are converted to the same output instance.
+     *
+     * @param keyFunction the function to extract the cache key of an input instance with
+     * @param policy      the policy of the cache
+     * @return a caching mapper based on this mapper
+     */
+    default CachedMapper<In, Out> cached(Function<? super In, ?> keyFunction, CachePolicy policy) {
+        return new CachedMapper<>(this, keyFunction, policy);
+    }
+
     /**
      * Converts a given collection of input instances to a list of output instances
      * (retains order).
@@ -40,6 +118,133 @@ public interface Mapper<In, Out> {
         return result;
     }
 
+    /**
+     * Creates an iterator that converts the instances of the given input iterator when they are requested (retains
+     * order). Only the current input instance is referenced, so sources that cannot be sized or held in memory
+     * (e.g. database cursors, paged remote APIs or file readers) can be converted with a constant memory footprint.
+     * <p>
+     * The returned iterator does not support {@link Iterator#remove()}.
+     *
+     * @param input the iterator of input instances to convert
+     * @return a (lazy) iterator of the converted output instances
+     */
+    default Iterator<Out> convertLazily(Iterator<? extends In> input) {
+        return new ConversionIterator<>(this, input);
+    }
+
+    /**
+     * Creates an iterator that converts the instances of the given iterable when they are requested (see
+     * {@link #convertLazily(Iterator)}).
+     *
+     * @param input the iterable of input instances to convert
+     * @return a (lazy) iterator of the converted output instances
+     */
+    default Iterator<Out> convertLazily(Iterable<? extends In> input) {
+        return convertLazily(input.iterator());
+    }
+
+    /**
+     * Creates an iterator that converts batches of (at most) batchSize consecutive instances of the given input iterator
+     * via {@link #convert(Collection)} when they are requested (retains order), e.g. to insert the converted instances
+     * of a database cursor in batches. Only the input instances of the current batch are referenced, the memory
+     * footprint thus only depends on the batch size as long as the consumer does not keep previous batches.
+     * <p>
+     * Every batch but the last one contains exactly batchSize output instances.
+     *
+     * @param input     the iterator of input instances to convert
+     * @param batchSize the maximum amount of output instances per batch
+     * @return a (lazy) iterator of batches of the converted output instances
+     * @throws IllegalArgumentException if the batch size is not positive
+     */
+    default Iterator<List<Out>> convertBatched(Iterator<? extends In> input, int batchSize) {
+        return new ConversionIterator.Batched<>(this, input, batchSize);
+    }
+
+    /**
+     * Creates an iterator that converts batches of (at most) batchSize consecutive instances of the given iterable when
+     * they are requested (see {@link #convertBatched(Iterator, int)}).
+     *
+     * @param input     the iterable of input instances to convert
+     * @param batchSize the maximum amount of output instances per batch
+     * @return a (lazy) iterator of batches of the converted output instances
+     * @throws IllegalArgumentException if the batch size is not positive
+     */
+    default Iterator<List<Out>> convertBatched(Iterable<? extends In> input, int batchSize) {
+        return convertBatched(input.iterator(), batchSize);
+    }
+
+    /**
+     * Creates an each mapper which converts collections of input instances to presized {@link ArrayList}s
+     * (see {@link #each(IntFunction, BiConsumer)}).
+     *
+     * @return an each mapper based on this mapper
+     */
+    default EachMapper<Collection<? extends In>, List<Out>> each() {
+        return new EachMapper<>(this, ArrayList<Out>::new, List::add);
+    }
+
+    /**
+     * Creates an each mapper which converts collections of input instances to collections created by the given factory
+     * (see {@link #each(IntFunction, BiConsumer)}), e.g. {@code each(HashSet::new)} or {@code each(ArrayDeque::new)}.
+     *
+     * @param collectionFactory the factory to create target collections with (receives the size of the input collection)
+     * @param <C>               the type of the target collections
+     * @return an each mapper based on this mapper
+     */
+    default <C extends Collection<? super Out>> EachMapper<Collection<? extends In>, C> each(IntFunction<? extends C> collectionFactory) {
+        return new EachMapper<>(this, collectionFactory, Collection::add);
+    }
+
+    /**
+     * Creates an each mapper which converts every element of collections of input instances via this mapper and adds
+     * them to a target created by the given factory. The factory receives the size of the input collection so targets
+     * can be presized. Targets do not have to be collections: any container that can be appended to (e.g. primitive
+     * collections of other libraries via {@code each(IntArrayList::new, IntArrayList::add)}) is supported.
+     * <p>
+     * Pass each mappers to {@code .mapEach(...)} of the immutable / mutable API to map nested collections.
+     *
+     * @param factory the factory to create targets with (receives the size of the input collection)
+     * @param adder   the function to add a converted element to a target
+     * @param <C>     the type of the targets
+     * @return an each mapper based on this mapper
+     */
+    default <C> EachMapper<Collection<? extends In>, C> each(IntFunction<? extends C> factory, BiConsumer<? super C, ? super Out> adder) {
+        return new EachMapper<>(this, factory, adder);
+    }
+
+    /**
+     * Converts a given collection of input instances to a list of output instances by converting chunks of the input
+     * in parallel (retains order).
+     * <p>
+     * The input is split into chunks of (at most) chunkSize consecutive instances which are converted by the given
+     * executor (e.g. a {@link java.util.concurrent.ForkJoinPool}) and by the calling thread. This function blocks
+     * until all chunks are converted. This mapper has to be thread-safe (which all mappers built by datus are as long
+     * as their mapping functions are).
+     * <p>
+     * This function may be called by a thread of the given executor (e.g. from within a parallel conversion of an
+     * outer collection): the calling thread converts all chunks that no task of the executor has started yet and only
+     * waits for chunks which other threads are converting, so a bounded executor without free threads does not
+     * deadlock (its tasks are run later and find no chunk left). Chunks of tasks rejected by the executor are
+     * converted by the calling thread as well.
+     * <p>
+     * The returned list is backed by an array of the inputs size and thus cannot be resized.
+     * Any exception thrown while converting an input instance is rethrown and the conversion of chunks that have not
+     * been started yet is skipped.
+     * <p>
+     * Identity-aware mappers (see {@link #identityAware()}) convert every chunk within a new {@link MappingContext}:
+     * input instances that occur in multiple chunks are converted once per chunk and cyclic references cannot be
+     * resolved across a parallel conversion.
+     *
+     * @param input     the collection of input instances to convert
+     * @param executor  the executor to convert the chunks with
+     * @param chunkSize the maximum amount of input instances converted by one task
+     * @return a fixed-size list containing the converted output instances
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    default List<Out> convertParallel(Collection<? extends In> input, Executor executor, int chunkSize) {
+        return ParallelConversion.convert(this, input, executor, chunkSize);
+    }
+
     /**
      * Converts a given collection of input instances to a map relating every input instance
      * to the converted output instance.
@@ -89,23 +294,54 @@ public interface Mapper<In, Out> {
      * @return a (lazy) stream of the converted output instances
      */
     default Stream<Out> conversionStream(Collection<? extends In> input) {
+        if (input instanceof List && input instanceof RandomAccess) {
+            return StreamSupport.stream(lazyView((List<? extends In>) input).spliterator(), false);
+        }
         return input.stream().map(this::convert);
     }
 
+    /**
+     * Creates an unmodifiable list view of the given input list whose elements are converted when they are accessed
+     * (e.g. only the first 50 of 10.000 input instances are converted when only the first 50 elements are read).
+     * <p>
+     * Every access converts the corresponding input instance again, see {@link #lazyView(List, boolean)} for a view
+     * that memoizes converted elements. The view reflects changes of the given list, which should support fast random
+     * access (e.g. {@link java.util.ArrayList}). Its spliterator is sized and splits evenly, so parallel streams of the
+     * view distribute the conversions equally.
+     *
+     * @param input the list of input instances to convert
+     * @return a lazily converting view of the given list
+     */
+    default List<Out> lazyView(List<? extends In> input) {
+        return lazyView(input, false);
+    }
+
+    /**
+     * Creates an unmodifiable list view of the given input list whose elements are converted when they are accessed.
+     * <p>
+     * A memoizing view returns the same output instance on every access of an index. It is sized once upon creation
+     * and thus does not support structural modifications of the given list. Memoizing views are thread-safe: concurrent
+     * first accesses of the same index may convert the corresponding input instance more than once, but only one of the
+     * output instances is kept and returned to every reader, which sees it fully populated.
+     *
+     * @param input   the list of input instances to convert
+     * @param memoize whether converted elements should be remembered
+     * @return a lazily converting view of the given list
+     * @see #lazyView(List)
+     */
+    default List<Out> lazyView(List<? extends In> input, boolean memoize) {
+        return new ConversionView<>(this, input, memoize);
+    }
+
     /**
      * Creates a new mapper that considers a given predicate before applying the conversion process of this mapper.
      *
      * @param predicate the predicate to consider when converting input instances
      * @return a new mapper that expresses the optionality of an output instance because of the given predicate
+     * @see #filterInput(Predicate)
      */
     default Mapper<In, Optional<Out>> predicateInput(Predicate<? super In> predicate) {
-        Mapper<In, Out> mapper = this;
-        return input -> {
-            if (!predicate.test(input)) {
-                return Optional.empty();
-            }
-            return Optional.of(mapper.convert(input));
-        };
+        return filterInput(predicate);
     }
 
     /**
@@ -113,16 +349,10 @@ public interface Mapper<In, Out> {
      *
      * @param predicate the predicate to consider after converting input instances
      * @return a new mapper that expresses the optionality of an output instance because of the given predicate
+     * @see #filterOutput(Predicate)
      */
     default Mapper<In, Optional<Out>> predicateOutput(Predicate<? super Out> predicate) {
-        Mapper<In, Out> mapper = this;
-        return input -> {
-            Out output = mapper.convert(input);
-            if (!predicate.test(output)) {
-                return Optional.empty();
-            }
-            return Optional.of(output);
-        };
+        return filterOutput(predicate);
     }
 
     /**
@@ -131,18 +361,44 @@ public interface Mapper<In, Out> {
      * @param inputPredicate  the predicate to consider before converting input instances
      * @param outputPredicate the predicate to consider after converting input instances
      * @return a new mapper that expresses the optionality of an output instance because of the given predicates
+     * @see #filter(Predicate, Predicate)
      */
     default Mapper<In, Optional<Out>> predicate(Predicate<? super In> inputPredicate, Predicate<? super Out> outputPredicate) {
-        Mapper<In, Out> mapper = this;
-        return input -> {
-            if (!inputPredicate.test(input)) {
-                return Optional.empty();
-            }
-            Out output = mapper.convert(input);
-            if (!outputPredicate.test(output)) {
-                return Optional.empty();
-            }
-            return Optional.of(output);
-        };
+        return filter(inputPredicate, outputPredicate);
+    }
+
+    /**
+     * Creates a filtering mapper that considers a given predicate before applying the conversion process of this mapper
+     * (see {@link #predicateInput(Predicate)}). Unlike plain mappers a filtering mapper can also skip filtered instances
+     * without wrapping every result into an {@link Optional}.
+     *
+     * @param predicate the predicate to consider when converting input instances
+     * @return a new filtering mapper based on this mapper and the given predicate
+     */
+    default FilteringMapper<In, Out> filterInput(Predicate<? super In> predicate) {
+        return new FilteringMapper<>(this, predicate, null);
+    }
+
+    /**
+     * Creates a filtering mapper that considers a given predicate after applying the conversion process of this mapper
+     * (see {@link #predicateOutput(Predicate)} and {@link #filterInput(Predicate)}).
+     *
+     * @param predicate the predicate to consider after converting input instances
+     * @return a new filtering mapper based on this mapper and the given predicate
+     */
+    default FilteringMapper<In, Out> filterOutput(Predicate<? super Out> predicate) {
+        return new FilteringMapper<>(this, null, predicate);
+    }
+
+    /**
+     * Creates a filtering mapper that considers the given predicates before and after applying the conversion process
+     * of this mapper (see {@link #predicate(Predicate, Predicate)} and {@link #filterInput(Predicate)}).
+     *
+     * @param inputPredicate  the predicate to consider before converting input instances
+     * @param outputPredicate the predicate to consider after converting input instances
+     * @return a new filtering mapper based on this mapper and the given predicates
+     */
+    default FilteringMapper<In, Out> filter(Predicate<? super In> inputPredicate, Predicate<? super Out> outputPredicate) {
+        return new FilteringMapper<>(this, inputPredicate, outputPredicate);
     }
 }
\ No newline at end of file
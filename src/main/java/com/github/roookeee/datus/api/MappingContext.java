@@ -0,0 +1,134 @@
+package com.github.roookeee.datus.api;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the output instances of identity-aware conversions (see {@link Mapper#identityAware()}) so every input
+ * instance of an object graph is only converted once per mapper: input instances that are referenced multiple times
+ * result in the same (shared) output instance. Input instances are compared by identity, not by equals.
+ * <p>
+ * A context is made available to all identity-aware mappers which are (transitively) used while converting an input
+ * instance via {@link Mapper#convert(Object, MappingContext)} or via an identity-aware mapper. Identity-aware mappers
+ * that are used outside of a conversion create a new context per (top-level) conversion, which covers all elements of
+ * a collection converted via {@link Mapper#convert(java.util.Collection)}, {@link Mapper#convertToMap} or
+ * {@link Mapper#conversionStream}.
+ * <p>
+ * A context is not thread-safe and must only be used by one thread at a time: it is only available to the thread
+ * that uses it for a conversion. Parallel conversions ({@link Mapper#convertParallel} and
+ * {@link EachMapper#parallelAbove}) thus convert every chunk within a new context of its own, so input instances
+ * that are referenced by multiple chunks (or by the object graph outside of the parallel conversion) are converted
+ * once per chunk and cyclic references that span a parallel conversion are not resolved. Streams created by
+ * {@link Mapper#conversionStream} of identity-aware mappers must not be processed in parallel.
+ */
+public final class MappingContext {
+    private static final ThreadLocal<MappingContext> CURRENT = new ThreadLocal<>();
+    //marks input instances whose conversion has not finished yet (which detects cyclic references)
+    private static final Object IN_PROGRESS = new Object();
+
+    private final Map<Mapper<?, ?>, Map<Object, Object>> outputs = new IdentityHashMap<>();
+    private Mapper<?, ?> lastMapper;
+    private Map<Object, Object> lastOutputs;
+
+    /**
+     * @return the number of output instances that are remembered by this context (across all mappers)
+     */
+    public int size() {
+        int size = 0;
+        for (Map<Object, Object> mapperOutputs : outputs.values()) {
+            size += mapperOutputs.size();
+        }
+        return size;
+    }
+
+    static MappingContext current() {
+        return CURRENT.get();
+    }
+
+    /*
+    makes this context the current one while running the given action
+     */
+    <T> T within(Supplier<T> action) {
+        MappingContext previous = CURRENT.get();
+        if (previous == this) {
+            return action.get();
+        }
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /*
+    makes this context the current one while converting the given input instance so nested identity-aware mappers
+    can share it (see convertWithin)
+     */
+    <In, Out> Out convert(Mapper<In, Out> mapper, In input, Supplier<? extends Out> outputFactory) {
+        MappingContext previous = CURRENT.get();
+        if (previous == this) {
+            return convertWithin(mapper, input, outputFactory);
+        }
+        CURRENT.set(this);
+        try {
+            return convertWithin(mapper, input, outputFactory);
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /*
+    converts the given input instance if it was not converted by the given mapper yet, the output instance is remembered
+    before being populated if an output factory is given: input instances that reference themselves (transitively) are
+    thus converted to output instances that do so as well
+    this context has to be the current one
+     */
+    @SuppressWarnings("unchecked")
+    <In, Out> Out convertWithin(Mapper<In, Out> mapper, In input, Supplier<? extends Out> outputFactory) {
+        if (input == null) {
+            return mapper.convert(input);
+        }
+
+        Map<Object, Object> mapperOutputs = outputsOf(mapper);
+        Object output = mapperOutputs.get(input);
+        if (output == IN_PROGRESS) {
+            throw new IllegalStateException(
+                    "Cyclic reference detected while converting " + input + ", use MutableMapper.identityAware(Supplier) to convert cyclic object graphs"
+            );
+        }
+        if (output != null || mapperOutputs.containsKey(input)) {
+            return (Out) output;
+        }
+
+        mapperOutputs.put(input, outputFactory == null ? IN_PROGRESS : outputFactory.get());
+        try {
+            output = outputFactory == null
+                    ? mapper.convert(input)
+                    : ((MutableMapper<In, Out>) mapper).convertInto(input, (Out) mapperOutputs.get(input));
+        } catch (RuntimeException | Error e) {
+            mapperOutputs.remove(input);
+            throw e;
+        }
+        mapperOutputs.put(input, output);
+        return (Out) output;
+    }
+
+    //object graphs mostly consist of long runs of the same type (e.g. collections), so the last lookup is cached
+    private Map<Object, Object> outputsOf(Mapper<?, ?> mapper) {
+        if (mapper != lastMapper) {
+            lastOutputs = outputs.computeIfAbsent(mapper, key -> new IdentityHashMap<>());
+            lastMapper = mapper;
+        }
+        return lastOutputs;
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.roookeee.datus.api;
+
+/**
+ * Receives measurements of the steps of instrumented mappers
+ * (see {@link com.github.roookeee.datus.mutable.MutableMappingBuilder#buildInstrumented} and
+ * {@link com.github.roookeee.datus.immutable.ConstructorBuilder#buildInstrumented}).
+ * Implement this interface to publish the measurements to a metrics library or use {@link MappingStatistics}.
+ * <p>
+ * Building an instrumented mapper with {@link #NONE} returns an uninstrumented mapper, so instrumentation can be
+ * toggled by configuration without any cost when it is disabled.
+ * <p>
+ * A conditional step ({@code given(...)} / {@code match()}) is measured as a whole, which of its branches was taken
+ * is not passed to the metrics: use {@link com.github.roookeee.datus.conditional.BranchProfile} to count those.
+ */
+public interface MappingMetrics {
+
+    /**
+     * Disables instrumentation: every step is passed to {@link StepRecorder#NONE}. Builders recognize this instance and
+     * build an uninstrumented mapper instead.
+     */
+    MappingMetrics NONE = (step, kind) -> StepRecorder.NONE;
+
+    /**
+     * Called once per step of a mapper when it is built with instrumentation.
+     *
+     * @param step the index of the step in declaration order
+     * @param kind the kind of the step
+     * @return the recorder to pass every execution of the step to (has to be thread-safe if the mapper is used concurrently)
+     */
+    StepRecorder step(int step, StepKind kind);
+
+    /**
+     * The kinds of steps which are recorded.
+     */
+    enum StepKind {
+        /**
+         * A getter whose (mapped) value is passed to a setter, see {@code from(...).into(...)}
+         */
+        SETTER,
+        /**
+         * A function that may replace the output object, see {@code to(...)}, {@code process(...)} and {@code spy(...)}
+         */
+        PROCESSOR,
+        /**
+         * A getter whose (mapped) value is passed to a constructor, see {@code from(...).to(ConstructorParameter::bind)}
+         */
+        CONSTRUCTOR_PARAMETER
+    }
+
+    /**
+     * Receives every execution of a single step.
+     */
+    @FunctionalInterface
+    interface StepRecorder {
+
+        /**
+         * Discards every execution.
+         */
+        StepRecorder NONE = (nanos, nullValue) -> {
+        };
+
+        /**
+         * Records a single execution of a step.
+         *
+         * @param nanos     the duration of the execution in nanoseconds
+         * @param nullValue true if the value of a setter or constructor parameter was null
+         */
+        void record(long nanos, boolean nullValue);
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.roookeee.datus.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MappingMetrics} implementation that sums up the invocations, durations and null values of every step of
+ * one instrumented mapper. Its statistics can be read at any time (e.g. to periodically publish them).
+ * <p>
+ * Building the same mapping definition multiple times with one instance (e.g. when rebuilding a mapper) records
+ * every step once: all mappers built from the definition share the statistics of their steps.
+ */
+public final class MappingStatistics implements MappingMetrics {
+    private final ConcurrentMap<Integer, Step> steps = new ConcurrentSkipListMap<>();
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if a step of another kind was already recorded for the given index, which means
+     *                               this instance is used by mappers of different mapping definitions
+     */
+    @Override
+    public StepRecorder step(int step, StepKind kind) {
+        Step recorder = steps.computeIfAbsent(step, index -> new Step(index, kind));
+        if (recorder.kind != kind) {
+            throw new IllegalStateException("The step " + step + " was already recorded as a " + recorder.kind + " step");
+        }
+        return recorder;
+    }
+
+    /**
+     * @return the statistics of all steps of the instrumented mapper in declaration order
+     */
+    public List<Step> steps() {
+        return Collections.unmodifiableList(new ArrayList<>(steps.values()));
+    }
+
+    /**
+     * The statistics of a single step.
+     */
+    public static final class Step implements StepRecorder {
+        private final int index;
+        private final StepKind kind;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder nullValues = new LongAdder();
+
+        private Step(int index, StepKind kind) {
+            this.index = index;
+            this.kind = kind;
+        }
+
+        @Override
+        public void record(long nanos, boolean nullValue) {
+            invocations.increment();
+            this.nanos.add(nanos);
+            if (nullValue) {
+                nullValues.increment();
+            }
+        }
+
+        /**
+         * @return the index of the step in declaration order
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * @return the kind of the step
+         */
+        public StepKind kind() {
+            return kind;
+        }
+
+        /**
+         * @return the number of executions of the step
+         */
+        public long invocations() {
+            return invocations.sum();
+        }
+
+        /**
+         * @return the cumulative duration of all executions of the step in nanoseconds
+         */
+        public long nanos() {
+            return nanos.sum();
+        }
+
+        /**
+         * @return the number of executions which passed null to a setter or constructor parameter
+         */
+        public long nullValues() {
+            return nullValues.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "Step{index=" + index + ", kind=" + kind + ", invocations=" + invocations()
+                    + ", nanos=" + nanos() + ", nullValues=" + nullValues() + "}";
+        }
+    }
+}
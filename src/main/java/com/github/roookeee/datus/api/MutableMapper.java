@@ -0,0 +1,56 @@
+package com.github.roookeee.datus.api;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Mapper} whose output instances are populated by setters (see {@link Datus#forTypes} and its mutable API)
+ * and which can thus apply its mapping process to already existing output instances.
+ *
+ * @param <In>  the type of the input object(s)
+ * @param <Out> the type of the output object(s)
+ */
+public interface MutableMapper<In, Out> extends Mapper<In, Out> {
+
+    /**
+     * Applies the mapping process of this mapper to the given output instance instead of a newly created one.
+     * <p>
+     * Note: processing steps of the mapping process may replace the output instance, the returned instance is thus not
+     * guaranteed to be the given target.
+     *
+     * @param input  the input instance to convert
+     * @param target the output instance to populate
+     * @return the populated output instance
+     */
+    Out convertInto(In input, Out target);
+
+    /**
+     * Creates a mapper that reuses output instances which were handed back via {@link PooledMapper#release(Object)}
+     * instead of creating a new output instance per conversion.
+     * <p>
+     * Released output instances are reset by the given function before they are pooled so they do not retain any state
+     * of their previous conversion (e.g. fields that are only set by some conversions).
+     *
+     * @param capacity the maximum number of pooled output instances
+     * @param reset    the function to reset released output instances with
+     * @return a pooling mapper based on this mapper
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    default PooledMapper<In, Out> pooled(int capacity, Consumer<? super Out> reset) {
+        return new PooledMapper<>(this, capacity, reset);
+    }
+
+    /**
+     * Creates an identity-aware mapper (see {@link Mapper#identityAware()}) that remembers the output instance of an
+     * input instance before populating it via {@link #convertInto}: input instances that reference themselves
+     * (transitively) are thus converted to output instances that reference themselves as well instead of failing.
+     * <p>
+     * Note: the given factory should create the same output instances as this mapper does.
+     *
+     * @param outputFactory the factory to create unpopulated output instances with
+     * @return an identity-aware mapper based on this mapper which supports cyclic object graphs
+     */
+    default Mapper<In, Out> identityAware(Supplier<? extends Out> outputFactory) {
+        return new IdentityAwareMapper<>(this, outputFactory);
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.roookeee.datus.api;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implements {@link Mapper#convertParallel(Collection, Executor, int)}: the input is split into chunks of consecutive
+ * elements which are converted by the given executor while every chunk writes its results directly into its own
+ * range of one presized array (thus retaining the order without any merging).
+ * <p>
+ * Chunks are not assigned to tasks up front: every task (and the calling thread) claims the next unconverted chunk
+ * until none is left. The calling thread thus only waits for chunks that other threads are already converting and
+ * never for a task that is still queued in the executor, which would deadlock if the calling thread is the only
+ * (or last free) thread of a bounded executor.
+ */
+final class ParallelConversion {
+
+    static <In, Out> List<Out> convert(
+            Mapper<In, Out> mapper,
+            Collection<? extends In> input,
+            Executor executor,
+            int chunkSize
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size has to be positive but was " + chunkSize);
+        }
+
+        Object[] inputs = input.toArray();
+        Object[] outputs = new Object[inputs.length];
+        Chunks<In, Out> chunks = new Chunks<>(mapper, inputs, outputs, chunkSize);
+
+        //the calling thread would idle otherwise, so it converts chunks as well
+        for (int task = 1; task < chunks.count; task++) {
+            try {
+                executor.execute(chunks::convertRemaining);
+            } catch (RejectedExecutionException ex) {
+                //the calling thread converts the chunks of rejected tasks itself
+                break;
+            }
+        }
+        chunks.convertRemaining();
+
+        try {
+            chunks.done.join();
+        } catch (RuntimeException | Error ex) {
+            throw unwrap(ex);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Out> result = (List<Out>) Arrays.asList(outputs);
+        return result;
+    }
+
+    private static final class Chunks<In, Out> {
+        private final Mapper<In, Out> mapper;
+        private final Object[] inputs;
+        private final Object[] outputs;
+        private final int chunkSize;
+        private final int count;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Chunks(Mapper<In, Out> mapper, Object[] inputs, Object[] outputs, int chunkSize) {
+            this.mapper = mapper;
+            this.inputs = inputs;
+            this.outputs = outputs;
+            this.chunkSize = chunkSize;
+            this.count = (inputs.length + chunkSize - 1) / chunkSize;
+            this.remaining = new AtomicInteger(count);
+            if (count == 0) {
+                done.complete(null);
+            }
+        }
+
+        private void convertRemaining() {
+            for (int chunk = next.getAndIncrement(); chunk < count; chunk = next.getAndIncrement()) {
+                int from = chunk * chunkSize;
+                try {
+                    convertRange(mapper, inputs, outputs, from, Math.min(from + chunkSize, inputs.length));
+                } catch (Throwable ex) {
+                    //chunks which have not been claimed yet are skipped
+                    next.set(count);
+                    done.completeExceptionally(ex);
+                    return;
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    done.complete(null);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <In, Out> void convertRange(Mapper<In, Out> mapper, Object[] inputs, Object[] outputs, int from, int to) {
+        //a context cannot be shared across threads, so every chunk of identity-aware conversions gets its own one
+        new MappingContext().within(() -> {
+            for (int i = from; i < to; i++) {
+                outputs[i] = mapper.convert((In) inputs[i]);
+            }
+            return null;
+        });
+    }
+
+    //rethrow the exception of the mapper instead of the CompletionException wrapping it
+    private static RuntimeException unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new CompletionException(cause);
+    }
+
+    private ParallelConversion() {
+
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.roookeee.datus.api;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Mapper} that recycles output instances: every conversion reuses a previously released output instance
+ * (if there is any) instead of creating a new one. This is useful for pipelines that drop every output instance
+ * right after consuming it (e.g. serializing it) and want to avoid allocating a new output instance per input.
+ * <p>
+ * Output instances must only be released once they are not used anymore. A pooled mapper can be used concurrently,
+ * its pool neither allocates nor locks. Pooled output instances are looked up by scanning the pool from its start, so
+ * its capacity should be close to the number of output instances that are in use at the same time.
+ *
+ * @param <In>  the type of the input object(s)
+ * @param <Out> the type of the output object(s)
+ * @see MutableMapper#pooled(int, Consumer)
+ */
+public final class PooledMapper<In, Out> implements Mapper<In, Out> {
+    private final MutableMapper<In, Out> mapper;
+    private final Consumer<? super Out> reset;
+    //empty slots are null
+    private final AtomicReferenceArray<Out> pool;
+
+    PooledMapper(MutableMapper<In, Out> mapper, int capacity, Consumer<? super Out> reset) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The pool capacity has to be positive but was " + capacity);
+        }
+        this.mapper = mapper;
+        this.reset = reset;
+        this.pool = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public Out convert(In input) {
+        for (int i = 0; i < pool.length(); i++) {
+            Out target = pool.get(i);
+            if (target != null && pool.compareAndSet(i, target, null)) {
+                return mapper.convertInto(input, target);
+            }
+        }
+        return mapper.convert(input);
+    }
+
+    /**
+     * Resets the given output instance and hands it back to this mapper for further conversions.
+     * The output instance is dropped if the pool is already full.
+     *
+     * @param output the output instance that is not used anymore
+     */
+    public void release(Out output) {
+        reset.accept(output);
+        for (int i = 0; i < pool.length(); i++) {
+            if (pool.get(i) == null && pool.compareAndSet(i, null, output)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the number of currently pooled output instances
+     */
+    public int pooledOutputs() {
+        int pooled = 0;
+        for (int i = 0; i < pool.length(); i++) {
+            if (pool.get(i) != null) {
+                pooled++;
+            }
+        }
+        return pooled;
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.roookeee.datus.api;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A mapper that emits a flight recorder event per conversion (see {@link Mapper#recorded}).
+ *
+ * @param <In>  the input type
+ * @param <Out> the output type
+ */
+final class RecordedMapper<In, Out> implements Mapper<In, Out> {
+    private final Mapper<In, Out> mapper;
+    private final Class<?> inputType;
+    private final Class<?> outputType;
+
+    RecordedMapper(Mapper<In, Out> mapper, Class<?> inputType, Class<?> outputType) {
+        this.mapper = mapper;
+        this.inputType = inputType;
+        this.outputType = outputType;
+    }
+
+    @Override
+    public Out convert(In input) {
+        Object event = ConversionEvents.begin();
+        Out result = mapper.convert(input);
+        ConversionEvents.commit(event, inputType, outputType, 1);
+        return result;
+    }
+
+    @Override
+    public List<Out> convert(Collection<? extends In> input) {
+        //a single event for the whole collection instead of one event per element
+        Object event = ConversionEvents.begin();
+        List<Out> result = mapper.convert(input);
+        ConversionEvents.commit(event, inputType, outputType, input.size());
+        return result;
+    }
+}
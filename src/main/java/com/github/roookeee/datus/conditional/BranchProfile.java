@@ -0,0 +1,125 @@
+package com.github.roookeee.datus.conditional;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how often the branches of one conditional step were taken: how often its cases matched (the predicate of a
+ * {@link ConditionalEnd} or every case of a {@link MatchCases} in declaration order), how often the value fell through
+ * to orElse and how often a null value bypassed a nullsafe step. The counts can be read at any time (e.g. to find hot
+ * default branches or to order predicates by frequency).
+ * <p>
+ * A profile belongs to exactly one step (see {@link ConditionalEnd#profiled(BranchProfile)} and
+ * {@link MatchCases#profiled(BranchProfile)}), use a name to tell the profiles of a mapper apart. Building the same
+ * step again (e.g. building a mapping definition twice) reuses the profile, so all mappers built from it share their
+ * counts. Counting is cheap (see {@link LongAdder}) but not free, steps without a profile are not counted at all.
+ * <p>
+ * Branch profiles are independent of instrumented builds (see {@link com.github.roookeee.datus.api.MappingMetrics}):
+ * the latter only measure the duration of a whole conditional step, not which of its branches was taken.
+ */
+public final class BranchProfile {
+    private final String name;
+    private final LongAdder fellThrough = new LongAdder();
+    private final LongAdder nullValues = new LongAdder();
+    private volatile LongAdder[] cases;
+    private Object step;
+
+    /**
+     * Creates an empty profile.
+     *
+     * @param name the name of the profiled step (e.g. "order.status")
+     */
+    public BranchProfile(String name) {
+        this.name = name;
+    }
+
+    synchronized void attach(Object step, int caseCount) {
+        if (this.step != null) {
+            //building the same step again keeps counting into the existing cases
+            if (this.step == step && cases.length == caseCount) {
+                return;
+            }
+            throw new IllegalStateException("The branch profile " + name + " is already used by another step");
+        }
+        this.step = step;
+        LongAdder[] cases = new LongAdder[caseCount];
+        for (int i = 0; i < caseCount; i++) {
+            cases[i] = new LongAdder();
+        }
+        this.cases = cases;
+    }
+
+    void recordMatch(int caseIndex) {
+        cases[caseIndex].increment();
+    }
+
+    void recordFallThrough() {
+        fellThrough.increment();
+    }
+
+    void recordNullValue() {
+        nullValues.increment();
+    }
+
+    /**
+     * @return the name of the profiled step
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return the number of cases of the profiled step (0 until the step is built)
+     */
+    public int cases() {
+        LongAdder[] cases = this.cases;
+        return cases == null ? 0 : cases.length;
+    }
+
+    /**
+     * @param caseIndex the index of the case in declaration order (always 0 for a {@link ConditionalEnd})
+     * @return the number of values the given case matched
+     * @throws IndexOutOfBoundsException if the profiled step has no such case
+     */
+    public long matched(int caseIndex) {
+        LongAdder[] cases = this.cases;
+        if (cases == null || caseIndex < 0 || caseIndex >= cases.length) {
+            throw new IndexOutOfBoundsException("The branch profile " + name + " has no case " + caseIndex);
+        }
+        return cases[caseIndex].sum();
+    }
+
+    /**
+     * @return the number of values any case matched
+     */
+    public long matched() {
+        long matched = 0;
+        for (int i = 0; i < cases(); i++) {
+            matched += matched(i);
+        }
+        return matched;
+    }
+
+    /**
+     * @return the number of values no case matched which thus were handled by orElse
+     */
+    public long fellThrough() {
+        return fellThrough.sum();
+    }
+
+    /**
+     * @return the number of null values which bypassed the profiled step as it is nullsafe
+     */
+    public long nullValues() {
+        return nullValues.sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("BranchProfile{name=").append(name).append(", matched=[");
+        for (int i = 0; i < cases(); i++) {
+            result.append(i == 0 ? "" : ", ").append(matched(i));
+        }
+        return result.append("], fellThrough=").append(fellThrough())
+                .append(", nullValues=").append(nullValues()).append("}").toString();
+    }
+}
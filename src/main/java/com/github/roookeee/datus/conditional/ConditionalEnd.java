@@ -21,6 +21,8 @@ public class ConditionalEnd<In, AffectedType, IntermediateType, ConstructionStep
     private final Function<Function<? super In, ? extends IntermediateType>, ConstructionStep> nextStepProvider;
     private final BiFunction<? super In, ? super AffectedType, ? extends IntermediateType> matchingHandler;
     private final SafetyMode safetyMode;
+    //null if the branches are not profiled
+    private final BranchProfile profile;
 
     /**
      * ***NOTE***: Do not use this constructor directly as it is only intended for datus fluent API
@@ -44,12 +46,36 @@ public class ConditionalEnd<In, AffectedType, IntermediateType, ConstructionStep
             Function<Function<? super In, ? extends IntermediateType>, ConstructionStep> nextStepProvider,
             BiFunction<? super In, ? super AffectedType, ? extends IntermediateType> matchingHandler,
             SafetyMode safetyMode
+    ) {
+        this(getter, predicate, nextStepProvider, matchingHandler, safetyMode, null);
+    }
+
+    private ConditionalEnd(
+            Function<? super In, ? extends AffectedType> getter,
+            Predicate<? super AffectedType> predicate,
+            Function<Function<? super In, ? extends IntermediateType>, ConstructionStep> nextStepProvider,
+            BiFunction<? super In, ? super AffectedType, ? extends IntermediateType> matchingHandler,
+            SafetyMode safetyMode,
+            BranchProfile profile
     ) {
         this.getter = getter;
         this.predicate = predicate;
         this.nextStepProvider = nextStepProvider;
         this.matchingHandler = matchingHandler;
         this.safetyMode = safetyMode;
+        this.profile = profile;
+    }
+
+    /**
+     * Counts how often the predicate of this conditional handling process matched and how often it fell through to
+     * orElse in the given profile (see {@link BranchProfile}).
+     *
+     * @param profile the profile to count the taken branches in, which must not be used by any other step
+     *                (building this step multiple times shares the profile)
+     * @return a new instance counting the taken branches
+     */
+    public ConditionalEnd<In, AffectedType, IntermediateType, ConstructionStep> profiled(BranchProfile profile) {
+        return new ConditionalEnd<>(getter, predicate, nextStepProvider, matchingHandler, safetyMode, profile);
     }
     /**
      * Finish the conditional handling process by using null as a value when the predicate the current handling is
@@ -119,6 +145,10 @@ public class ConditionalEnd<In, AffectedType, IntermediateType, ConstructionStep
             BiFunction<? super In, ? super AffectedType, ? extends IntermediateType> matching,
             BiFunction<? super In, ? super AffectedType, ? extends IntermediateType> orElse
     ) {
+        if (profile != null) {
+            profile.attach(this, 1);
+            return weaveProfiled(getter, predicate, matching, orElse, profile);
+        }
         if (safetyMode == SafetyMode.NULL_SAFE) {
             return weaveNullsafe(getter, predicate, matching, orElse);
         }
@@ -148,4 +178,27 @@ public class ConditionalEnd<In, AffectedType, IntermediateType, ConstructionStep
             return orElse.apply(in, value);
         };
     }
+
+    private Function<In, IntermediateType> weaveProfiled(
+            Function<? super In, ? extends AffectedType> getter,
+            Predicate<? super AffectedType> predicate,
+            BiFunction<? super In, ? super AffectedType, ? extends IntermediateType> matching,
+            BiFunction<? super In, ? super AffectedType, ? extends IntermediateType> orElse,
+            BranchProfile profile
+    ) {
+        boolean nullsafe = safetyMode == SafetyMode.NULL_SAFE;
+        return in -> {
+            AffectedType value = getter.apply(in);
+            if (nullsafe && value == null) {
+                profile.recordNullValue();
+                return null;
+            }
+            if (predicate.test(value)) {
+                profile.recordMatch(0);
+                return matching.apply(in, value);
+            }
+            profile.recordFallThrough();
+            return orElse.apply(in, value);
+        };
+    }
 }
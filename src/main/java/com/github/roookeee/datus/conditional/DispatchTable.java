@@ -0,0 +1,163 @@
+package com.github.roookeee.datus.conditional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Looks up the result of a value among the cases of a {@link MatchCases}: enum constants are dispatched via their
+ * ordinal, densely packed integers via their offset to the smallest key and any other key via a hash lookup.
+ */
+abstract class DispatchTable {
+    //returned by lookup if no case matches (results themselves may be null)
+    static final Object NO_MATCH = new Object();
+
+    //integer keys are dispatched via an array if it is at most this many times larger than the number of keys
+    private static final int MAXIMUM_INT_TABLE_SPARSENESS = 4;
+    //small integer tables are always dense enough
+    private static final int MINIMUM_INT_TABLE_SIZE = 64;
+
+    abstract Object lookup(Object value);
+
+    static DispatchTable of(List<?> keys, List<?> results) {
+        Object nullResult = NO_MATCH;
+        Map<Object, Object> cases = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (keys.get(i) == null) {
+                nullResult = results.get(i);
+            } else {
+                cases.put(keys.get(i), results.get(i));
+            }
+        }
+
+        Class<?> enumType = commonEnumType(cases);
+        if (enumType != null) {
+            return new EnumTable(enumType, cases, nullResult);
+        }
+        if (!cases.isEmpty() && allIntegers(cases)) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (Object key : cases.keySet()) {
+                min = Math.min(min, (Integer) key);
+                max = Math.max(max, (Integer) key);
+            }
+            long span = (long) max - min + 1;
+            if (span <= Math.max(MINIMUM_INT_TABLE_SIZE, (long) cases.size() * MAXIMUM_INT_TABLE_SPARSENESS)) {
+                return new IntTable(min, (int) span, cases, nullResult);
+            }
+        }
+        return new HashTable(cases, nullResult);
+    }
+
+    private static Class<?> commonEnumType(Map<Object, Object> cases) {
+        Class<?> enumType = null;
+        for (Object key : cases.keySet()) {
+            if (!(key instanceof Enum)) {
+                return null;
+            }
+            Class<?> keyType = ((Enum<?>) key).getDeclaringClass();
+            if (enumType != null && enumType != keyType) {
+                return null;
+            }
+            enumType = keyType;
+        }
+        return enumType;
+    }
+
+    private static boolean allIntegers(Map<Object, Object> cases) {
+        for (Object key : cases.keySet()) {
+            if (!(key instanceof Integer)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object[] noMatches(int size) {
+        Object[] results = new Object[size];
+        for (int i = 0; i < size; i++) {
+            results[i] = NO_MATCH;
+        }
+        return results;
+    }
+
+    private static final class EnumTable extends DispatchTable {
+        private final Object[] constants;
+        private final Object[] results;
+        private final Object nullResult;
+
+        private EnumTable(Class<?> enumType, Map<Object, Object> cases, Object nullResult) {
+            this.constants = enumType.getEnumConstants();
+            this.results = noMatches(constants.length);
+            for (Map.Entry<Object, Object> entry : cases.entrySet()) {
+                results[((Enum<?>) entry.getKey()).ordinal()] = entry.getValue();
+            }
+            this.nullResult = nullResult;
+        }
+
+        @Override
+        Object lookup(Object value) {
+            if (value == null) {
+                return nullResult;
+            }
+            if (!(value instanceof Enum)) {
+                return NO_MATCH;
+            }
+            int ordinal = ((Enum<?>) value).ordinal();
+            //the identity check rejects constants of other enums which share the ordinal
+            if (ordinal < constants.length && constants[ordinal] == value) {
+                return results[ordinal];
+            }
+            return NO_MATCH;
+        }
+    }
+
+    private static final class IntTable extends DispatchTable {
+        private final int min;
+        private final Object[] results;
+        private final Object nullResult;
+
+        private IntTable(int min, int span, Map<Object, Object> cases, Object nullResult) {
+            this.min = min;
+            this.results = noMatches(span);
+            for (Map.Entry<Object, Object> entry : cases.entrySet()) {
+                results[(Integer) entry.getKey() - min] = entry.getValue();
+            }
+            this.nullResult = nullResult;
+        }
+
+        @Override
+        Object lookup(Object value) {
+            if (value == null) {
+                return nullResult;
+            }
+            if (!(value instanceof Integer)) {
+                return NO_MATCH;
+            }
+            //computed as a long so values far below min cannot overflow into the valid range
+            long index = (long) (Integer) value - min;
+            if (index < 0 || index >= results.length) {
+                return NO_MATCH;
+            }
+            return results[(int) index];
+        }
+    }
+
+    private static final class HashTable extends DispatchTable {
+        private final Map<Object, Object> cases;
+        private final Object nullResult;
+
+        private HashTable(Map<Object, Object> cases, Object nullResult) {
+            this.cases = cases;
+            this.nullResult = nullResult;
+        }
+
+        @Override
+        Object lookup(Object value) {
+            if (value == null) {
+                return nullResult;
+            }
+            return cases.getOrDefault(value, NO_MATCH);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.github.roookeee.datus.conditional;
+
+import com.github.roookeee.datus.shared.SafetyMode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An intermediate class that collects the cases of a constructions .match()-step: every case relates a value of the
+ * affected type to a result and the handling process is finished by defining the result of values that match no case.
+ * <p>
+ * Unlike chained .given()-steps, which test every predicate one after another, the cases are looked up in a table:
+ * enum constants are looked up by their ordinal, integers that are densely packed by their offset and any other value
+ * via {@link Object#hashCode()} / {@link Object#equals(Object)}.
+ *
+ * @param <In>               the input type of the given mapping process (needed for more complex handling)
+ * @param <AffectedType>     the type of the values that are matched against the cases
+ * @param <IntermediateType> the type of the results
+ * @param <ConstructionStep> the construction step this instance has originated from (needed for further chaining)
+ */
+public final class MatchCases<In, AffectedType, IntermediateType, ConstructionStep> {
+
+    private final Function<? super In, ? extends AffectedType> getter;
+    private final Function<Function<? super In, ? extends IntermediateType>, ConstructionStep> nextStepProvider;
+    private final SafetyMode safetyMode;
+    private final List<AffectedType> keys;
+    private final List<IntermediateType> results;
+    //null if the cases are not profiled
+    private final BranchProfile profile;
+
+    /**
+     * ***NOTE***: Do not use this constructor directly as it is only intended for datus fluent API
+     */
+    public MatchCases(
+            Function<? super In, ? extends AffectedType> getter,
+            Function<Function<? super In, ? extends IntermediateType>, ConstructionStep> nextStepProvider,
+            SafetyMode safetyMode
+    ) {
+        this(getter, nextStepProvider, safetyMode, Collections.emptyList(), Collections.emptyList(), null);
+    }
+
+    private MatchCases(
+            Function<? super In, ? extends AffectedType> getter,
+            Function<Function<? super In, ? extends IntermediateType>, ConstructionStep> nextStepProvider,
+            SafetyMode safetyMode,
+            List<AffectedType> keys,
+            List<IntermediateType> results,
+            BranchProfile profile
+    ) {
+        this.getter = getter;
+        this.nextStepProvider = nextStepProvider;
+        this.safetyMode = safetyMode;
+        this.keys = keys;
+        this.results = results;
+        this.profile = profile;
+    }
+
+    /**
+     * Adds a case which uses the given result for values that are equal to the given value.
+     *
+     * @param value  the value to match
+     * @param result the result to use when the value matches
+     * @return a new instance including the given case
+     * @throws IllegalArgumentException if there already is a case for the given value
+     */
+    public MatchCases<In, AffectedType, IntermediateType, ConstructionStep> when(AffectedType value, IntermediateType result) {
+        for (AffectedType key : keys) {
+            if (Objects.equals(key, value)) {
+                throw new IllegalArgumentException("There already is a case for " + value);
+            }
+        }
+        List<AffectedType> keys = new ArrayList<>(this.keys);
+        keys.add(value);
+        List<IntermediateType> results = new ArrayList<>(this.results);
+        results.add(result);
+        return new MatchCases<>(getter, nextStepProvider, safetyMode, keys, results, profile);
+    }
+
+    /**
+     * Counts how often every case of this matching process matched and how often no case matched in the given profile
+     * (see {@link BranchProfile}). Cases are counted in declaration order.
+     *
+     * @param profile the profile to count the matched cases in, which must not be used by any other step
+     *                (building this step multiple times shares the profile)
+     * @return a new instance counting the matched cases
+     */
+    public MatchCases<In, AffectedType, IntermediateType, ConstructionStep> profiled(BranchProfile profile) {
+        return new MatchCases<>(getter, nextStepProvider, safetyMode, keys, results, profile);
+    }
+
+    /**
+     * Finish the matching process by using null as a value when no case matched.
+     *
+     * This is a utility function as orElse(null) would be ambiguous for the java compilers overload resolution.
+     *
+     * @return the construction step this instance has originated from
+     */
+    public ConstructionStep orElseNull() {
+        return orElse((in, v) -> null);
+    }
+
+    /**
+     * Finish the matching process by using the passed value when no case matched.
+     *
+     * @param value the value to use
+     * @return the construction step this instance has originated from
+     */
+    public ConstructionStep orElse(IntermediateType value) {
+        return orElse((in, v) -> value);
+    }
+
+    /**
+     * Finish the matching process by using the passed supplier to determine a new value when no case matched.
+     *
+     * @param supplier the supplier to use
+     * @return the construction step this instance has originated from
+     */
+    public ConstructionStep orElse(Supplier<? extends IntermediateType> supplier) {
+        return orElse((in, v) -> supplier.get());
+    }
+
+    /**
+     * Finish the matching process by using the passed function to determine a new value when no case matched.
+     *
+     * @param function the function to use
+     * @return the construction step this instance has originated from
+     */
+    public ConstructionStep orElse(Function<? super AffectedType, ? extends IntermediateType> function) {
+        return orElse((in, v) -> function.apply(v));
+    }
+
+    /**
+     * Finish the matching process by using the passed function to determine a new value when no case matched.
+     *
+     * Note: Only use this method if you know what you are doing as there is no guarantee about the state of the input
+     * objects.
+     *
+     * @param function the function to use
+     * @return the construction step this instance has originated from
+     */
+    public ConstructionStep orElse(BiFunction<? super In, ? super AffectedType, ? extends IntermediateType> function) {
+        if (profile != null) {
+            profile.attach(this, keys.size());
+            return nextStepProvider.apply(weaveProfiled(getter, function, profile));
+        }
+        return nextStepProvider.apply(weave(getter, DispatchTable.of(keys, results), function));
+    }
+
+    private Function<In, IntermediateType> weave(
+            Function<? super In, ? extends AffectedType> getter,
+            DispatchTable table,
+            BiFunction<? super In, ? super AffectedType, ? extends IntermediateType> orElse
+    ) {
+        if (safetyMode == SafetyMode.NULL_SAFE) {
+            return weaveNullsafe(getter, table, orElse);
+        }
+        return in -> {
+            AffectedType value = getter.apply(in);
+            Object result = table.lookup(value);
+            if (result != DispatchTable.NO_MATCH) {
+                return cast(result);
+            }
+            return orElse.apply(in, value);
+        };
+    }
+
+    private Function<In, IntermediateType> weaveNullsafe(
+            Function<? super In, ? extends AffectedType> getter,
+            DispatchTable table,
+            BiFunction<? super In, ? super AffectedType, ? extends IntermediateType> orElse
+    ) {
+        return in -> {
+            AffectedType value = getter.apply(in);
+            if (value == null) {
+                return null;
+            }
+            Object result = table.lookup(value);
+            if (result != DispatchTable.NO_MATCH) {
+                return cast(result);
+            }
+            return orElse.apply(in, value);
+        };
+    }
+
+    private Function<In, IntermediateType> weaveProfiled(
+            Function<? super In, ? extends AffectedType> getter,
+            BiFunction<? super In, ? super AffectedType, ? extends IntermediateType> orElse,
+            BranchProfile profile
+    ) {
+        //looks up the index of the matching case instead of its result so it can be counted
+        List<Integer> indices = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            indices.add(i);
+        }
+        DispatchTable table = DispatchTable.of(keys, indices);
+        List<IntermediateType> results = this.results;
+        boolean nullsafe = safetyMode == SafetyMode.NULL_SAFE;
+        return in -> {
+            AffectedType value = getter.apply(in);
+            if (nullsafe && value == null) {
+                profile.recordNullValue();
+                return null;
+            }
+            Object index = table.lookup(value);
+            if (index != DispatchTable.NO_MATCH) {
+                int caseIndex = (Integer) index;
+                profile.recordMatch(caseIndex);
+                return results.get(caseIndex);
+            }
+            profile.recordFallThrough();
+            return orElse.apply(in, value);
+        };
+    }
+
+    //results are only ever added via when(...) which guarantees their type
+    @SuppressWarnings("unchecked")
+    private static <IntermediateType> IntermediateType cast(Object result) {
+        return (IntermediateType) result;
+    }
+}
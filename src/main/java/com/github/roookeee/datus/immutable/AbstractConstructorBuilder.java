@@ -1,5 +1,6 @@
 package com.github.roookeee.datus.immutable;
 
+import com.github.roookeee.datus.shared.GetterChain;
 import com.github.roookeee.datus.shared.SafetyMode;
 
 import java.util.function.Function;
@@ -23,7 +24,7 @@ abstract class AbstractConstructorBuilder<In, T extends AbstractConstructorBuild
     public <IntermediateType> ConstructorParameterBinding<In, IntermediateType, T> from(
             Function<? super In, ? extends IntermediateType> getter
     ) {
-        return new ConstructorParameterBinding<>(getSelf(), getter, SafetyMode.NONE);
+        return new ConstructorParameterBinding<>(getSelf(), GetterChain.of(getter), SafetyMode.NONE);
     }
 
 }
@@ -1,17 +1,42 @@
 package com.github.roookeee.datus.immutable;
 
+import com.github.roookeee.datus.api.BuildStrategy;
 import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.api.MappingMetrics;
 import com.github.roookeee.datus.functions.Fn1;
 import com.github.roookeee.datus.mutable.MutableMappingBuilder;
+import com.github.roookeee.datus.shared.StepInstrumentation;
 
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public final class ConstructorBuilder<In, Out> {
     private final Fn1<In, Out> constructor;
+    //only generated when a flattened mapper is built, so other strategies don't define its (isolated) classes
+    private final Supplier<Fn1<In, Out>> flattenedConstructor;
+    private final Function<MappingMetrics, Fn1<In, Out>> instrumentedConstructor;
+    private final int stepCount;
 
     ConstructorBuilder(Fn1<In, Out> constructor) {
+        this(constructor, () -> constructor, metrics -> constructor, 0);
+    }
+
+    ConstructorBuilder(Fn1<In, Out> constructor, ParameterBindings<In, Out> bindings) {
+        this(constructor, bindings::flatten, bindings::instrument, bindings.boundCount());
+    }
+
+    private ConstructorBuilder(
+            Fn1<In, Out> constructor,
+            Supplier<Fn1<In, Out>> flattenedConstructor,
+            Function<MappingMetrics, Fn1<In, Out>> instrumentedConstructor,
+            int stepCount
+    ) {
         this.constructor = constructor;
+        this.flattenedConstructor = flattenedConstructor;
+        this.instrumentedConstructor = instrumentedConstructor;
+        this.stepCount = stepCount;
     }
 
     /**
@@ -25,7 +50,14 @@ public final class ConstructorBuilder<In, Out> {
      */
     public ConstructorBuilder<In, Out> process(BiFunction<? super In, ? super Out, ? extends Out> processor) {
         return new ConstructorBuilder<>(
-                in -> processor.apply(in, constructor.apply(in))
+                withProcessor(constructor, processor),
+                () -> withProcessor(flattenedConstructor.get(), processor),
+                metrics -> {
+                    Fn1<In, Out> instrumented = instrumentedConstructor.apply(metrics);
+                    MappingMetrics.StepRecorder recorder = metrics.step(stepCount, MappingMetrics.StepKind.PROCESSOR);
+                    return withProcessor(instrumented, StepInstrumentation.processor(processor, recorder));
+                },
+                stepCount + 1
         );
     }
 
@@ -40,11 +72,17 @@ public final class ConstructorBuilder<In, Out> {
      */
     public ConstructorBuilder<In, Out> spy(BiConsumer<? super In, ? super Out> consumer) {
         return new ConstructorBuilder<>(
-                in -> {
-                    Out result = constructor.apply(in);
-                    consumer.accept(in, result);
-                    return result;
-                }
+                withSpy(constructor, consumer),
+                () -> withSpy(flattenedConstructor.get(), consumer),
+                metrics -> {
+                    Fn1<In, Out> instrumented = instrumentedConstructor.apply(metrics);
+                    MappingMetrics.StepRecorder recorder = metrics.step(stepCount, MappingMetrics.StepKind.PROCESSOR);
+                    return withProcessor(instrumented, StepInstrumentation.processor((in, out) -> {
+                        consumer.accept(in, out);
+                        return out;
+                    }, recorder));
+                },
+                stepCount + 1
         );
     }
 
@@ -54,6 +92,59 @@ public final class ConstructorBuilder<In, Out> {
      * @return said mapper
      */
     public Mapper<In, Out> build() {
-        return constructor::apply;
+        return build(BuildStrategy.FLATTENED);
+    }
+
+    /**
+     * Constructs a mapper out of this constructor builder by using the given build strategy.
+     * <p>
+     * Note: {@link BuildStrategy#COMPILED} and {@link BuildStrategy#METHOD_HANDLES} are not supported by the immutable
+     * API yet and behave like {@link BuildStrategy#FLATTENED}.
+     * <p>
+     * Only the construction process of the given strategy is generated: the flattened constructor function is created
+     * by this call while the getter chains of a {@link BuildStrategy#CHAINED} mapper are combined on their first
+     * evaluation.
+     *
+     * @param strategy the strategy which determines how the construction process is executed
+     * @return said mapper
+     */
+    public Mapper<In, Out> build(BuildStrategy strategy) {
+        if (strategy == BuildStrategy.CHAINED) {
+            return constructor::apply;
+        }
+        return flattenedConstructor.get()::apply;
+    }
+
+    /**
+     * Constructs a mapper out of this constructor builder which passes the duration of every constructor parameter and
+     * processing step to the given metrics (see {@link MappingMetrics}). Constructor parameters are recorded
+     * in their binding order, followed by the processing steps.
+     * <p>
+     * Note: instrumented mappers are always flattened and do not share the evaluation of common getter prefixes
+     * (see {@link BuildStrategy#FLATTENED}) so every step can be measured on its own.
+     *
+     * @param metrics the metrics to record the steps with, {@link MappingMetrics#NONE} builds an uninstrumented mapper
+     * @return said mapper
+     */
+    public Mapper<In, Out> buildInstrumented(MappingMetrics metrics) {
+        if (metrics == MappingMetrics.NONE) {
+            return build();
+        }
+        return instrumentedConstructor.apply(metrics)::apply;
+    }
+
+    private static <In, Out> Fn1<In, Out> withProcessor(
+            Fn1<In, Out> constructor,
+            BiFunction<? super In, ? super Out, ? extends Out> processor
+    ) {
+        return in -> processor.apply(in, constructor.apply(in));
+    }
+
+    private static <In, Out> Fn1<In, Out> withSpy(Fn1<In, Out> constructor, BiConsumer<? super In, ? super Out> consumer) {
+        return in -> {
+            Out result = constructor.apply(in);
+            consumer.accept(in, result);
+            return result;
+        };
     }
 }
@@ -10,6 +10,7 @@ public final class ConstructorBuilder1<In, A, Out>
         extends AbstractConstructorBuilder<In, ConstructorBuilder1<In, A, Out>>
         implements ConstructorParameter<In, A, ConstructorBuilder<In, Out>> {
     private final Fn2<In, A, Out> constructor;
+    private final ParameterBindings<In, Out> bindings;
 
     /**
      * ***NOTE***: It is encouraged to use the {@link Datus} class instead of directly
@@ -19,11 +20,12 @@ public final class ConstructorBuilder1<In, A, Out>
      * @param constructor the constructor to generate a builder for
      */
     public ConstructorBuilder1(Fn1<A, Out> constructor) {
-        this((in, a) -> constructor.apply(a));
+        this((in, a) -> constructor.apply(a), ParameterBindings.of(constructor, 1));
     }
 
-    ConstructorBuilder1(Fn2<In, A, Out> constructor) {
+    ConstructorBuilder1(Fn2<In, A, Out> constructor, ParameterBindings<In, Out> bindings) {
         this.constructor = constructor;
+        this.bindings = bindings;
     }
 
     /**
@@ -31,7 +33,7 @@ public final class ConstructorBuilder1<In, A, Out>
      */
     @Override
     public ConstructorBuilder<In, Out> bind(Function<? super In, ? extends A> getter) {
-        return new ConstructorBuilder<>(applyGetter(getter));
+        return new ConstructorBuilder<>(applyGetter(getter), bindings.bind(getter));
     }
 
     @Override
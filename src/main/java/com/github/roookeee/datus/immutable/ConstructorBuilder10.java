@@ -10,6 +10,7 @@ public final class ConstructorBuilder10<In, A, B, C, D, E, F, G, H, I, J, Out>
         extends AbstractConstructorBuilder<In, ConstructorBuilder10<In, A, B, C, D, E, F, G, H, I, J, Out>>
         implements ConstructorParameter<In, A, ConstructorBuilder9<In, B, C, D, E, F, G, H, I, J, Out>> {
     private final Fn11<In, A, B, C, D, E, F, G, H, I, J, Out> constructor;
+    private final ParameterBindings<In, Out> bindings;
 
     /**
      * ***NOTE***: It is encouraged to use the {@link Datus} class instead of directly
@@ -19,11 +20,12 @@ public final class ConstructorBuilder10<In, A, B, C, D, E, F, G, H, I, J, Out>
      * @param constructor the constructor to generate a builder for
      */
     public ConstructorBuilder10(Fn10<A, B, C, D, E, F, G, H, I, J, Out> constructor) {
-        this((in, a, b, c, d, e, f, g, h, i, j) -> constructor.apply(a, b, c, d, e, f, g, h, i, j));
+        this((in, a, b, c, d, e, f, g, h, i, j) -> constructor.apply(a, b, c, d, e, f, g, h, i, j), ParameterBindings.of(constructor, 10));
     }
 
-    ConstructorBuilder10(Fn11<In, A, B, C, D, E, F, G, H, I, J, Out> constructor) {
+    ConstructorBuilder10(Fn11<In, A, B, C, D, E, F, G, H, I, J, Out> constructor, ParameterBindings<In, Out> bindings) {
         this.constructor = constructor;
+        this.bindings = bindings;
     }
 
     /**
@@ -31,7 +33,7 @@ public final class ConstructorBuilder10<In, A, B, C, D, E, F, G, H, I, J, Out>
      */
     @Override
     public ConstructorBuilder9<In, B, C, D, E, F, G, H, I, J, Out> bind(Function<? super In, ? extends A> getter) {
-        return new ConstructorBuilder9<>(applyGetter(getter));
+        return new ConstructorBuilder9<>(applyGetter(getter), bindings.bind(getter));
     }
 
     @Override
@@ -10,6 +10,7 @@ public final class ConstructorBuilder11<In, A, B, C, D, E, F, G, H, I, J, K, Out
         extends AbstractConstructorBuilder<In, ConstructorBuilder11<In, A, B, C, D, E, F, G, H, I, J, K, Out>>
         implements ConstructorParameter<In, A, ConstructorBuilder10<In, B, C, D, E, F, G, H, I, J, K, Out>> {
     private final Fn12<In, A, B, C, D, E, F, G, H, I, J, K, Out> constructor;
+    private final ParameterBindings<In, Out> bindings;
 
     /**
      * ***NOTE***: It is encouraged to use the {@link Datus} class instead of directly
@@ -19,11 +20,12 @@ public final class ConstructorBuilder11<In, A, B, C, D, E, F, G, H, I, J, K, Out
      * @param constructor the constructor to generate a builder for
      */
     public ConstructorBuilder11(Fn11<A, B, C, D, E, F, G, H, I, J, K, Out> constructor) {
-        this((in, a, b, c, d, e, f, g, h, i, j, k) -> constructor.apply(a, b, c, d, e, f, g, h, i, j, k));
+        this((in, a, b, c, d, e, f, g, h, i, j, k) -> constructor.apply(a, b, c, d, e, f, g, h, i, j, k), ParameterBindings.of(constructor, 11));
     }
 
-    ConstructorBuilder11(Fn12<In, A, B, C, D, E, F, G, H, I, J, K, Out> constructor) {
+    ConstructorBuilder11(Fn12<In, A, B, C, D, E, F, G, H, I, J, K, Out> constructor, ParameterBindings<In, Out> bindings) {
         this.constructor = constructor;
+        this.bindings = bindings;
     }
 
     /**
@@ -31,7 +33,7 @@ public final class ConstructorBuilder11<In, A, B, C, D, E, F, G, H, I, J, K, Out
      */
     @Override
     public ConstructorBuilder10<In, B, C, D, E, F, G, H, I, J, K, Out> bind(Function<? super In, ? extends A> getter) {
-        return new ConstructorBuilder10<>(applyGetter(getter));
+        return new ConstructorBuilder10<>(applyGetter(getter), bindings.bind(getter));
     }
 
     @Override
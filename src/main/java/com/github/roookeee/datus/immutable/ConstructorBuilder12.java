@@ -10,6 +10,7 @@ public final class ConstructorBuilder12<In, A, B, C, D, E, F, G, H, I, J, K, L,
         extends AbstractConstructorBuilder<In, ConstructorBuilder12<In, A, B, C, D, E, F, G, H, I, J, K, L, Out>>
         implements ConstructorParameter<In, A, ConstructorBuilder11<In, B, C, D, E, F, G, H, I, J, K, L, Out>> {
     private final Fn13<In, A, B, C, D, E, F, G, H, I, J, K, L, Out> constructor;
+    private final ParameterBindings<In, Out> bindings;
 
     /**
      * ***NOTE***: It is encouraged to use the {@link Datus} class instead of directly
@@ -19,11 +20,12 @@ public final class ConstructorBuilder12<In, A, B, C, D, E, F, G, H, I, J, K, L,
      * @param constructor the constructor to generate a builder for
      */
     public ConstructorBuilder12(Fn12<A, B, C, D, E, F, G, H, I, J, K, L, Out> constructor) {
-        this((in, a, b, c, d, e, f, g, h, i, j, k, l) -> constructor.apply(a, b, c, d, e, f, g, h, i, j, k, l));
+        this((in, a, b, c, d, e, f, g, h, i, j, k, l) -> constructor.apply(a, b, c, d, e, f, g, h, i, j, k, l), ParameterBindings.of(constructor, 12));
     }
 
-    ConstructorBuilder12(Fn13<In, A, B, C, D, E, F, G, H, I, J, K, L, Out> constructor) {
+    ConstructorBuilder12(Fn13<In, A, B, C, D, E, F, G, H, I, J, K, L, Out> constructor, ParameterBindings<In, Out> bindings) {
         this.constructor = constructor;
+        this.bindings = bindings;
     }
 
     /**
@@ -31,7 +33,7 @@ public final class ConstructorBuilder12<In, A, B, C, D, E, F, G, H, I, J, K, L,
      */
     @Override
     public ConstructorBuilder11<In, B, C, D, E, F, G, H, I, J, K, L, Out> bind(Function<? super In, ? extends A> getter) {
-        return new ConstructorBuilder11<>(applyGetter(getter));
+        return new ConstructorBuilder11<>(applyGetter(getter), bindings.bind(getter));
     }
 
     @Override
@@ -10,6 +10,7 @@ public final class ConstructorBuilder2<In, A, B, Out>
         extends AbstractConstructorBuilder<In, ConstructorBuilder2<In, A, B, Out>>
         implements ConstructorParameter<In, A, ConstructorBuilder1<In, B, Out>> {
     private final Fn3<In, A, B, Out> constructor;
+    private final ParameterBindings<In, Out> bindings;
 
     /**
      * ***NOTE***: It is encouraged to use the {@link Datus} class instead of directly
@@ -19,11 +20,12 @@ public final class ConstructorBuilder2<In, A, B, Out>
      * @param constructor the constructor to generate a builder for
      */
     public ConstructorBuilder2(Fn2<A, B, Out> constructor) {
-        this((in, a, b) -> constructor.apply(a, b));
+        this((in, a, b) -> constructor.apply(a, b), ParameterBindings.of(constructor, 2));
     }
 
-    ConstructorBuilder2(Fn3<In, A, B, Out> constructor) {
+    ConstructorBuilder2(Fn3<In, A, B, Out> constructor, ParameterBindings<In, Out> bindings) {
         this.constructor = constructor;
+        this.bindings = bindings;
     }
 
     /**
@@ -31,7 +33,7 @@ public final class ConstructorBuilder2<In, A, B, Out>
      */
     @Override
     public ConstructorBuilder1<In, B, Out> bind(Function<? super In, ? extends A> getter) {
-        return new ConstructorBuilder1<>(applyGetter(getter));
+        return new ConstructorBuilder1<>(applyGetter(getter), bindings.bind(getter));
     }
 
     @Override
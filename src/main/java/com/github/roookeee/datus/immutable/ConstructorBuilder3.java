@@ -10,6 +10,7 @@ public final class ConstructorBuilder3<In, A, B, C, Out>
     extends AbstractConstructorBuilder<In, ConstructorBuilder3<In, A, B,C, Out>>
         implements ConstructorParameter<In, A, ConstructorBuilder2<In, B, C, Out>> {
     private final Fn4<In, A, B, C, Out> constructor;
+    private final ParameterBindings<In, Out> bindings;
 
     /**
      * ***NOTE***: It is encouraged to use the {@link Datus} class instead of directly
@@ -19,11 +20,12 @@ public final class ConstructorBuilder3<In, A, B, C, Out>
      * @param constructor the constructor to generate a builder for
      */
     public ConstructorBuilder3(Fn3<A, B, C, Out> constructor) {
-        this((in, a, b, c) -> constructor.apply(a, b, c));
+        this((in, a, b, c) -> constructor.apply(a, b, c), ParameterBindings.of(constructor, 3));
     }
 
-    ConstructorBuilder3(Fn4<In, A, B, C, Out> constructor) {
+    ConstructorBuilder3(Fn4<In, A, B, C, Out> constructor, ParameterBindings<In, Out> bindings) {
         this.constructor = constructor;
+        this.bindings = bindings;
     }
 
     /**
@@ -31,7 +33,7 @@ public final class ConstructorBuilder3<In, A, B, C, Out>
      */
     @Override
     public ConstructorBuilder2<In, B, C, Out> bind(Function<? super In, ? extends A> getter) {
-        return new ConstructorBuilder2<>(applyGetter(getter));
+        return new ConstructorBuilder2<>(applyGetter(getter), bindings.bind(getter));
     }
 
     @Override
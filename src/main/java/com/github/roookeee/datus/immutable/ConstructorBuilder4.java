@@ -10,6 +10,7 @@ public final class ConstructorBuilder4<In, A, B, C, D, Out>
         extends AbstractConstructorBuilder<In, ConstructorBuilder4<In, A, B, C, D, Out>>
         implements ConstructorParameter<In, A, ConstructorBuilder3<In, B, C, D, Out>> {
     private final Fn5<In, A, B, C, D, Out> constructor;
+    private final ParameterBindings<In, Out> bindings;
 
     /**
      * ***NOTE***: It is encouraged to use the {@link Datus} class instead of directly
@@ -19,11 +20,12 @@ public final class ConstructorBuilder4<In, A, B, C, D, Out>
      * @param constructor the constructor to generate a builder for
      */
     public ConstructorBuilder4(Fn4<A, B, C, D, Out> constructor) {
-        this((in, a, b, c, d) -> constructor.apply(a, b, c, d));
+        this((in, a, b, c, d) -> constructor.apply(a, b, c, d), ParameterBindings.of(constructor, 4));
     }
 
-    ConstructorBuilder4(Fn5<In, A, B, C, D, Out> constructor) {
+    ConstructorBuilder4(Fn5<In, A, B, C, D, Out> constructor, ParameterBindings<In, Out> bindings) {
         this.constructor = constructor;
+        this.bindings = bindings;
     }
 
 
@@ -32,7 +34,7 @@ public final class ConstructorBuilder4<In, A, B, C, D, Out>
      */
     @Override
     public ConstructorBuilder3<In, B, C, D, Out> bind(Function<? super In, ? extends A> getter) {
-        return new ConstructorBuilder3<>(applyGetter(getter));
+        return new ConstructorBuilder3<>(applyGetter(getter), bindings.bind(getter));
     }
 
     @Override
@@ -10,6 +10,7 @@ public final class ConstructorBuilder5<In, A, B, C, D, E, Out>
         extends AbstractConstructorBuilder<In, ConstructorBuilder5<In, A, B, C, D, E, Out>>
         implements ConstructorParameter<In, A, ConstructorBuilder4<In, B, C, D, E, Out>> {
     private final Fn6<In, A, B, C, D, E, Out> constructor;
+    private final ParameterBindings<In, Out> bindings;
 
     /**
      * ***NOTE***: It is encouraged to use the {@link Datus} class instead of directly
@@ -19,11 +20,12 @@ public final class ConstructorBuilder5<In, A, B, C, D, E, Out>
      * @param constructor the constructor to generate a builder for
      */
     public ConstructorBuilder5(Fn5<A, B, C, D, E, Out> constructor) {
-        this((in, a, b, c, d, e) -> constructor.apply(a, b, c, d, e));
+        this((in, a, b, c, d, e) -> constructor.apply(a, b, c, d, e), ParameterBindings.of(constructor, 5));
     }
 
-    ConstructorBuilder5(Fn6<In, A, B, C, D, E, Out> constructor) {
+    ConstructorBuilder5(Fn6<In, A, B, C, D, E, Out> constructor, ParameterBindings<In, Out> bindings) {
         this.constructor = constructor;
+        this.bindings = bindings;
     }
 
     /**
@@ -31,7 +33,7 @@ public final class ConstructorBuilder5<In, A, B, C, D, E, Out>
      */
     @Override
     public ConstructorBuilder4<In, B, C, D, E, Out> bind(Function<? super In, ? extends A> getter) {
-        return new ConstructorBuilder4<>(applyGetter(getter));
+        return new ConstructorBuilder4<>(applyGetter(getter), bindings.bind(getter));
     }
 
     @Override
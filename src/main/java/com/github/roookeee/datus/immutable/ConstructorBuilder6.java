@@ -10,6 +10,7 @@ public final class ConstructorBuilder6<In, A, B, C, D, E, F, Out>
         extends AbstractConstructorBuilder<In, ConstructorBuilder6<In, A, B, C, D, E, F, Out>>
         implements ConstructorParameter<In, A, ConstructorBuilder5<In, B, C, D, E, F, Out>> {
     private final Fn7<In, A, B, C, D, E, F, Out> constructor;
+    private final ParameterBindings<In, Out> bindings;
 
     /**
      * ***NOTE***: It is encouraged to use the {@link Datus} class instead of directly
@@ -19,11 +20,12 @@ public final class ConstructorBuilder6<In, A, B, C, D, E, F, Out>
      * @param constructor the constructor to generate a builder for
      */
     public ConstructorBuilder6(Fn6<A, B, C, D, E, F, Out> constructor) {
-        this((in, a, b, c, d, e, f) -> constructor.apply(a, b, c, d, e, f));
+        this((in, a, b, c, d, e, f) -> constructor.apply(a, b, c, d, e, f), ParameterBindings.of(constructor, 6));
     }
 
-    ConstructorBuilder6(Fn7<In, A, B, C, D, E, F, Out> constructor) {
+    ConstructorBuilder6(Fn7<In, A, B, C, D, E, F, Out> constructor, ParameterBindings<In, Out> bindings) {
         this.constructor = constructor;
+        this.bindings = bindings;
     }
 
     /**
@@ -31,7 +33,7 @@ public final class ConstructorBuilder6<In, A, B, C, D, E, F, Out>
      */
     @Override
     public ConstructorBuilder5<In, B, C, D, E, F, Out> bind(Function<? super In, ? extends A> getter) {
-        return new ConstructorBuilder5<>(applyGetter(getter));
+        return new ConstructorBuilder5<>(applyGetter(getter), bindings.bind(getter));
     }
 
     @Override
@@ -10,6 +10,7 @@ public final class ConstructorBuilder7<In, A, B, C, D, E, F, G, Out>
         extends AbstractConstructorBuilder<In, ConstructorBuilder7<In, A, B, C, D, E, F, G, Out>>
         implements ConstructorParameter<In, A, ConstructorBuilder6<In, B, C, D, E, F, G, Out>> {
     private final Fn8<In, A, B, C, D, E, F, G, Out> constructor;
+    private final ParameterBindings<In, Out> bindings;
 
     /**
      * ***NOTE***: It is encouraged to use the {@link Datus} class instead of directly
@@ -19,11 +20,12 @@ public final class ConstructorBuilder7<In, A, B, C, D, E, F, G, Out>
      * @param constructor the constructor to generate a builder for
      */
     public ConstructorBuilder7(Fn7<A, B, C, D, E, F, G, Out> constructor) {
-        this((in, a, b, c, d, e, f, g) -> constructor.apply(a, b, c, d, e, f, g));
+        this((in, a, b, c, d, e, f, g) -> constructor.apply(a, b, c, d, e, f, g), ParameterBindings.of(constructor, 7));
     }
 
-    ConstructorBuilder7(Fn8<In, A, B, C, D, E, F, G, Out> constructor) {
+    ConstructorBuilder7(Fn8<In, A, B, C, D, E, F, G, Out> constructor, ParameterBindings<In, Out> bindings) {
         this.constructor = constructor;
+        this.bindings = bindings;
     }
 
     /**
@@ -31,7 +33,7 @@ public final class ConstructorBuilder7<In, A, B, C, D, E, F, G, Out>
      */
     @Override
     public ConstructorBuilder6<In, B, C, D, E, F, G, Out> bind(Function<? super In, ? extends A> getter) {
-        return new ConstructorBuilder6<>(applyGetter(getter));
+        return new ConstructorBuilder6<>(applyGetter(getter), bindings.bind(getter));
     }
 
     @Override
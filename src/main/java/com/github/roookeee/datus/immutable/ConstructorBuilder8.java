@@ -10,6 +10,7 @@ public final class ConstructorBuilder8<In, A, B, C, D, E, F, G, H, Out>
         extends AbstractConstructorBuilder<In, ConstructorBuilder8<In, A, B, C, D, E, F, G, H, Out>>
         implements ConstructorParameter<In, A, ConstructorBuilder7<In, B, C, D, E, F, G, H, Out>> {
     private final Fn9<In, A, B, C, D, E, F, G, H, Out> constructor;
+    private final ParameterBindings<In, Out> bindings;
 
     /**
      * ***NOTE***: It is encouraged to use the {@link Datus} class instead of directly
@@ -19,11 +20,12 @@ public final class ConstructorBuilder8<In, A, B, C, D, E, F, G, H, Out>
      * @param constructor the constructor to generate a builder for
      */
     public ConstructorBuilder8(Fn8<A, B, C, D, E, F, G, H, Out> constructor) {
-        this((in, a, b, c, d, e, f, g, h) -> constructor.apply(a, b, c, d, e, f, g, h));
+        this((in, a, b, c, d, e, f, g, h) -> constructor.apply(a, b, c, d, e, f, g, h), ParameterBindings.of(constructor, 8));
     }
 
-    ConstructorBuilder8(Fn9<In, A, B, C, D, E, F, G, H, Out> constructor) {
+    ConstructorBuilder8(Fn9<In, A, B, C, D, E, F, G, H, Out> constructor, ParameterBindings<In, Out> bindings) {
         this.constructor = constructor;
+        this.bindings = bindings;
     }
 
     /**
@@ -31,7 +33,7 @@ public final class ConstructorBuilder8<In, A, B, C, D, E, F, G, H, Out>
      */
     @Override
     public ConstructorBuilder7<In, B, C, D, E, F, G, H, Out> bind(Function<? super In, ? extends A> getter) {
-        return new ConstructorBuilder7<>(applyGetter(getter));
+        return new ConstructorBuilder7<>(applyGetter(getter), bindings.bind(getter));
     }
 
     @Override
@@ -10,6 +10,7 @@ public final class ConstructorBuilder9<In, A, B, C, D, E, F, G, H, I, Out>
         extends AbstractConstructorBuilder<In, ConstructorBuilder9<In, A, B, C, D, E, F, G, H, I, Out>>
         implements ConstructorParameter<In, A, ConstructorBuilder8<In, B, C, D, E, F, G, H, I, Out>> {
     private final Fn10<In, A, B, C, D, E, F, G, H, I, Out> constructor;
+    private final ParameterBindings<In, Out> bindings;
 
     /**
      * ***NOTE***: It is encouraged to use the {@link Datus} class instead of directly
@@ -19,11 +20,12 @@ public final class ConstructorBuilder9<In, A, B, C, D, E, F, G, H, I, Out>
      * @param constructor the constructor to generate a builder for
      */
     public ConstructorBuilder9(Fn9<A, B, C, D, E, F, G, H, I, Out> constructor) {
-        this((in, a, b, c, d, e, f, g, h, i) -> constructor.apply(a, b, c, d, e, f, g, h, i));
+        this((in, a, b, c, d, e, f, g, h, i) -> constructor.apply(a, b, c, d, e, f, g, h, i), ParameterBindings.of(constructor, 9));
     }
 
-    ConstructorBuilder9(Fn10<In, A, B, C, D, E, F, G, H, I, Out> constructor) {
+    ConstructorBuilder9(Fn10<In, A, B, C, D, E, F, G, H, I, Out> constructor, ParameterBindings<In, Out> bindings) {
         this.constructor = constructor;
+        this.bindings = bindings;
     }
 
     /**
@@ -31,7 +33,7 @@ public final class ConstructorBuilder9<In, A, B, C, D, E, F, G, H, I, Out>
      */
     @Override
     public ConstructorBuilder8<In, B, C, D, E, F, G, H, I, Out> bind(Function<? super In, ? extends A> getter) {
-        return new ConstructorBuilder8<>(applyGetter(getter));
+        return new ConstructorBuilder8<>(applyGetter(getter), bindings.bind(getter));
     }
 
     @Override
@@ -1,6 +1,9 @@
 package com.github.roookeee.datus.immutable;
 
+import com.github.roookeee.datus.api.EachMapper;
 import com.github.roookeee.datus.conditional.ConditionalEnd;
+import com.github.roookeee.datus.conditional.MatchCases;
+import com.github.roookeee.datus.shared.GetterChain;
 import com.github.roookeee.datus.shared.LambdaHelper;
 import com.github.roookeee.datus.shared.SafetyMode;
 
@@ -21,11 +24,13 @@ import java.util.function.Supplier;
  * @param <Ctor>        the current constructors type which will receive the finalized binding
  */
 public final class ConstructorParameterBinding<In, CurrentType, Ctor> {
+    private static final LambdaHelper.Access LAMBDA_HELPER_ACCESS = LambdaHelper.access();
+
     private final Ctor ctor;
-    private final Function<? super In, ? extends CurrentType> getter;
+    private final GetterChain<In, CurrentType> getter;
     private final SafetyMode safetyMode;
 
-    ConstructorParameterBinding(Ctor ctor, Function<? super In, ? extends CurrentType> getter, SafetyMode safetyMode) {
+    ConstructorParameterBinding(Ctor ctor, GetterChain<In, CurrentType> getter, SafetyMode safetyMode) {
         this.ctor = ctor;
         this.getter = getter;
         this.safetyMode = safetyMode;
@@ -53,11 +58,24 @@ public final class ConstructorParameterBinding<In, CurrentType, Ctor> {
     public <IntermediateType> ConstructorParameterBinding<In, IntermediateType, Ctor> map(Function<? super CurrentType, ? extends IntermediateType> mapper) {
         return new ConstructorParameterBinding<>(
                 ctor,
-                LambdaHelper.andThen(getter, handleSafetyMode(mapper)),
+                getter.map(mapper, safetyMode),
                 safetyMode
         );
     }
 
+    /**
+     * Maps the current collection by converting each of its elements via the given each mapper (see
+     * {@link com.github.roookeee.datus.api.Mapper#each}) which controls the type of the resulting collection and whether
+     * large collections are converted in parallel.
+     *
+     * @param eachMapper the each mapper to apply
+     * @param <NextType> the type of the collections the given each mapper outputs
+     * @return a new parameter binding based on the converted collection
+     */
+    public <NextType> ConstructorParameterBinding<In, NextType, Ctor> mapEach(EachMapper<? super CurrentType, ? extends NextType> eachMapper) {
+        return map(eachMapper);
+    }
+
 
     /**
      * Binds a parameter binding to its destination, should always be a {@link ConstructorParameter#bind} reference.
@@ -128,18 +146,43 @@ public final class ConstructorParameterBinding<In, CurrentType, Ctor> {
             BiFunction<? super In, ? super CurrentType, ? extends IntermediateType> mapper
     ) {
         return new ConditionalEnd<>(
-                getter,
+                getter.compose(LAMBDA_HELPER_ACCESS),
                 predicate,
-                newGetter -> new ConstructorParameterBinding<>(ctor, newGetter, safetyMode),
+                newGetter -> new ConstructorParameterBinding<>(ctor, GetterChain.of(newGetter), safetyMode),
                 mapper,
                 safetyMode
         );
     }
 
-    private <T,U> Function<T,U> handleSafetyMode(Function<T,U> mapper) {
-        if (safetyMode == SafetyMode.NONE) {
-            return mapper;
-        }
-        return LambdaHelper.nullsafe(mapper);
+    /**
+     * Starts a matching process which relates values of the current type to results via
+     * {@link MatchCases#when}, e.g. to map the constants of an enum. Unlike chained {@link #given} steps the
+     * cases are looked up in a table instead of being tested one after another.
+     * <p>
+     * The type of the results has to be specified explicitly (e.g. {@code .<String>match()}), see
+     * {@link #match(Class)} for a shorthand.
+     *
+     * @param <IntermediateType> the resulting type of the matching process
+     * @return a builder to configure the cases of the matching process
+     */
+    public <IntermediateType> MatchCases<In, CurrentType, IntermediateType, ConstructorParameterBinding<In, IntermediateType, Ctor>> match() {
+        return new MatchCases<>(
+                getter.compose(LAMBDA_HELPER_ACCESS),
+                newGetter -> new ConstructorParameterBinding<>(ctor, GetterChain.of(newGetter), safetyMode),
+                safetyMode
+        );
+    }
+
+    /**
+     * Starts a matching process whose results are of the given type (see {@link #match()}).
+     *
+     * @param resultType         the type of the results
+     * @param <IntermediateType> the resulting type of the matching process
+     * @return a builder to configure the cases of the matching process
+     */
+    public <IntermediateType> MatchCases<In, CurrentType, IntermediateType, ConstructorParameterBinding<In, IntermediateType, Ctor>> match(
+            Class<IntermediateType> resultType
+    ) {
+        return match();
     }
 }
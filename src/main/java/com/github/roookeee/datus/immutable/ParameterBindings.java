@@ -0,0 +1,321 @@
+package com.github.roookeee.datus.immutable;
+
+import com.github.roookeee.datus.api.MappingMetrics;
+import com.github.roookeee.datus.functions.Fn1;
+import com.github.roookeee.datus.functions.Fn10;
+import com.github.roookeee.datus.functions.Fn11;
+import com.github.roookeee.datus.functions.Fn12;
+import com.github.roookeee.datus.functions.Fn2;
+import com.github.roookeee.datus.functions.Fn3;
+import com.github.roookeee.datus.functions.Fn4;
+import com.github.roookeee.datus.functions.Fn5;
+import com.github.roookeee.datus.functions.Fn6;
+import com.github.roookeee.datus.functions.Fn7;
+import com.github.roookeee.datus.functions.Fn8;
+import com.github.roookeee.datus.functions.Fn9;
+import com.github.roookeee.datus.shared.GetterChain;
+import com.github.roookeee.datus.shared.LambdaHelper;
+import com.github.roookeee.datus.shared.SharedGetters;
+import com.github.roookeee.datus.shared.StepInstrumentation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Collects the getters bound to the parameters of a constructor so a finished binding process can be turned into
+ * one function which evaluates all getters in sequence before calling the original constructor directly.
+ * <p>
+ * Instances are immutable: binding a getter returns a new instance which references its predecessor, so any builder
+ * of a binding process can be safely reused.
+ *
+ * @param <In>  the input type
+ * @param <Out> the output type
+ */
+final class ParameterBindings<In, Out> {
+    private static final LambdaHelper.Access LAMBDA_HELPER_ACCESS = LambdaHelper.access();
+
+    private final Object constructor;
+    private final int arity;
+    private final ParameterBindings<In, Out> previous;
+    private final Function<? super In, ?> getter;
+    private final int boundCount;
+
+    private ParameterBindings(
+            Object constructor,
+            int arity,
+            ParameterBindings<In, Out> previous,
+            Function<? super In, ?> getter,
+            int boundCount
+    ) {
+        this.constructor = constructor;
+        this.arity = arity;
+        this.previous = previous;
+        this.getter = getter;
+        this.boundCount = boundCount;
+    }
+
+    /**
+     * Starts collecting the getters for the given constructor.
+     *
+     * @param constructor the constructor of the output type (any of {@link Fn1} to {@link Fn12})
+     * @param arity       the number of parameters of the given constructor
+     * @return the (empty) bindings of the given constructor
+     */
+    static <In, Out> ParameterBindings<In, Out> of(Object constructor, int arity) {
+        return new ParameterBindings<>(constructor, arity, null, null, 0);
+    }
+
+    /**
+     * Binds the next constructor parameter to the given getter.
+     *
+     * @param getter the getter to bind
+     * @return the bindings including the given getter
+     */
+    ParameterBindings<In, Out> bind(Function<? super In, ?> getter) {
+        return new ParameterBindings<>(constructor, arity, this, getter, boundCount + 1);
+    }
+
+    /**
+     * Generates a function that evaluates all bound getters in their binding order and passes their results to the
+     * constructor.
+     *
+     * @return the flattened constructor function
+     */
+    @SuppressWarnings("unchecked")
+    Fn1<In, Out> flatten() {
+        /*
+            [perf]: binding a getter in the chained approach wraps the previous constructor function in a new lambda
+            which passes the input and all remaining arguments along, so a constructor with n parameters is only reached
+            after n nested calls. Specialize every supported arity instead so the constructor is called directly.
+         */
+        if (boundCount != arity) {
+            throw new IllegalStateException("Only " + boundCount + " of " + arity + " constructor parameters are bound");
+        }
+        List<Function<? super In, ?>> getters = getters();
+        Optional<SharedGetters<In>> sharedGetters = SharedGetters.of(LAMBDA_HELPER_ACCESS, getters);
+        if (sharedGetters.isPresent()) {
+            SharedGetters<In> shared = sharedGetters.get();
+            Fn1<Object[], Out> flattened = flatten(constructor, arity, shared.getters());
+            return in -> flattened.apply(shared.frame(in));
+        }
+
+        List<Function<? super In, ?>> composedGetters = new ArrayList<>(getters.size());
+        for (Function<? super In, ?> getter : getters) {
+            composedGetters.add(GetterChain.compose(LAMBDA_HELPER_ACCESS, getter));
+        }
+        return flatten(constructor, arity, composedGetters);
+    }
+
+    /**
+     * Generates a flattened constructor function (see {@link #flatten()}) which passes every evaluation of a bound
+     * getter to the given metrics.
+     *
+     * @param metrics the metrics to record the constructor parameters with
+     * @return the instrumented constructor function
+     */
+    Fn1<In, Out> instrument(MappingMetrics metrics) {
+        if (boundCount != arity) {
+            throw new IllegalStateException("Only " + boundCount + " of " + arity + " constructor parameters are bound");
+        }
+        List<Function<? super In, ?>> getters = getters();
+        List<Function<? super In, ?>> instrumentedGetters = new ArrayList<>(getters.size());
+        for (int i = 0; i < getters.size(); i++) {
+            MappingMetrics.StepRecorder recorder = metrics.step(i, MappingMetrics.StepKind.CONSTRUCTOR_PARAMETER);
+            instrumentedGetters.add(StepInstrumentation.getter(GetterChain.compose(LAMBDA_HELPER_ACCESS, getters.get(i)), recorder));
+        }
+        return flatten(constructor, arity, instrumentedGetters);
+    }
+
+    /**
+     * @return the number of bound constructor parameters
+     */
+    int boundCount() {
+        return boundCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <I, Out> Fn1<I, Out> flatten(
+            Object constructor,
+            int arity,
+            List<? extends Function<? super I, ?>> getters
+    ) {
+        switch (arity) {
+            case 1:
+                return flatten1((Fn1<Object, Out>) constructor, getters);
+            case 2:
+                return flatten2((Fn2<Object, Object, Out>) constructor, getters);
+            case 3:
+                return flatten3((Fn3<Object, Object, Object, Out>) constructor, getters);
+            case 4:
+                return flatten4((Fn4<Object, Object, Object, Object, Out>) constructor, getters);
+            case 5:
+                return flatten5((Fn5<Object, Object, Object, Object, Object, Out>) constructor, getters);
+            case 6:
+                return flatten6((Fn6<Object, Object, Object, Object, Object, Object, Out>) constructor, getters);
+            case 7:
+                return flatten7((Fn7<Object, Object, Object, Object, Object, Object, Object, Out>) constructor, getters);
+            case 8:
+                return flatten8((Fn8<Object, Object, Object, Object, Object, Object, Object, Object, Out>) constructor, getters);
+            case 9:
+                return flatten9((Fn9<Object, Object, Object, Object, Object, Object, Object, Object, Object, Out>) constructor, getters);
+            case 10:
+                return flatten10((Fn10<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Out>) constructor, getters);
+            case 11:
+                return flatten11((Fn11<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Out>) constructor, getters);
+            case 12:
+                return flatten12((Fn12<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Out>) constructor, getters);
+            default:
+                throw new IllegalStateException("Unsupported constructor arity: " + arity);
+        }
+    }
+
+    private List<Function<? super In, ?>> getters() {
+        List<Function<? super In, ?>> getters = new ArrayList<>(boundCount);
+        for (ParameterBindings<In, Out> current = this; current.previous != null; current = current.previous) {
+            getters.add(current.getter);
+        }
+        Collections.reverse(getters);
+        return getters;
+    }
+
+    private static <In, Out> Fn1<In, Out> flatten1(Fn1<Object, Out> constructor, List<? extends Function<? super In, ?>> getters) {
+        Function<? super In, ?> a = getters.get(0);
+
+        return in -> constructor.apply(a.apply(in));
+    }
+
+    private static <In, Out> Fn1<In, Out> flatten2(Fn2<Object, Object, Out> constructor, List<? extends Function<? super In, ?>> getters) {
+        Function<? super In, ?> a = getters.get(0);
+        Function<? super In, ?> b = getters.get(1);
+
+        return in -> constructor.apply(a.apply(in), b.apply(in));
+    }
+
+    private static <In, Out> Fn1<In, Out> flatten3(Fn3<Object, Object, Object, Out> constructor, List<? extends Function<? super In, ?>> getters) {
+        Function<? super In, ?> a = getters.get(0);
+        Function<? super In, ?> b = getters.get(1);
+        Function<? super In, ?> c = getters.get(2);
+
+        return in -> constructor.apply(a.apply(in), b.apply(in), c.apply(in));
+    }
+
+    private static <In, Out> Fn1<In, Out> flatten4(Fn4<Object, Object, Object, Object, Out> constructor, List<? extends Function<? super In, ?>> getters) {
+        Function<? super In, ?> a = getters.get(0);
+        Function<? super In, ?> b = getters.get(1);
+        Function<? super In, ?> c = getters.get(2);
+        Function<? super In, ?> d = getters.get(3);
+
+        return in -> constructor.apply(a.apply(in), b.apply(in), c.apply(in), d.apply(in));
+    }
+
+    private static <In, Out> Fn1<In, Out> flatten5(Fn5<Object, Object, Object, Object, Object, Out> constructor, List<? extends Function<? super In, ?>> getters) {
+        Function<? super In, ?> a = getters.get(0);
+        Function<? super In, ?> b = getters.get(1);
+        Function<? super In, ?> c = getters.get(2);
+        Function<? super In, ?> d = getters.get(3);
+        Function<? super In, ?> e = getters.get(4);
+
+        return in -> constructor.apply(a.apply(in), b.apply(in), c.apply(in), d.apply(in), e.apply(in));
+    }
+
+    private static <In, Out> Fn1<In, Out> flatten6(Fn6<Object, Object, Object, Object, Object, Object, Out> constructor, List<? extends Function<? super In, ?>> getters) {
+        Function<? super In, ?> a = getters.get(0);
+        Function<? super In, ?> b = getters.get(1);
+        Function<? super In, ?> c = getters.get(2);
+        Function<? super In, ?> d = getters.get(3);
+        Function<? super In, ?> e = getters.get(4);
+        Function<? super In, ?> f = getters.get(5);
+
+        return in -> constructor.apply(a.apply(in), b.apply(in), c.apply(in), d.apply(in), e.apply(in), f.apply(in));
+    }
+
+    private static <In, Out> Fn1<In, Out> flatten7(Fn7<Object, Object, Object, Object, Object, Object, Object, Out> constructor, List<? extends Function<? super In, ?>> getters) {
+        Function<? super In, ?> a = getters.get(0);
+        Function<? super In, ?> b = getters.get(1);
+        Function<? super In, ?> c = getters.get(2);
+        Function<? super In, ?> d = getters.get(3);
+        Function<? super In, ?> e = getters.get(4);
+        Function<? super In, ?> f = getters.get(5);
+        Function<? super In, ?> g = getters.get(6);
+
+        return in -> constructor.apply(a.apply(in), b.apply(in), c.apply(in), d.apply(in), e.apply(in), f.apply(in), g.apply(in));
+    }
+
+    private static <In, Out> Fn1<In, Out> flatten8(Fn8<Object, Object, Object, Object, Object, Object, Object, Object, Out> constructor, List<? extends Function<? super In, ?>> getters) {
+        Function<? super In, ?> a = getters.get(0);
+        Function<? super In, ?> b = getters.get(1);
+        Function<? super In, ?> c = getters.get(2);
+        Function<? super In, ?> d = getters.get(3);
+        Function<? super In, ?> e = getters.get(4);
+        Function<? super In, ?> f = getters.get(5);
+        Function<? super In, ?> g = getters.get(6);
+        Function<? super In, ?> h = getters.get(7);
+
+        return in -> constructor.apply(a.apply(in), b.apply(in), c.apply(in), d.apply(in), e.apply(in), f.apply(in), g.apply(in), h.apply(in));
+    }
+
+    private static <In, Out> Fn1<In, Out> flatten9(Fn9<Object, Object, Object, Object, Object, Object, Object, Object, Object, Out> constructor, List<? extends Function<? super In, ?>> getters) {
+        Function<? super In, ?> a = getters.get(0);
+        Function<? super In, ?> b = getters.get(1);
+        Function<? super In, ?> c = getters.get(2);
+        Function<? super In, ?> d = getters.get(3);
+        Function<? super In, ?> e = getters.get(4);
+        Function<? super In, ?> f = getters.get(5);
+        Function<? super In, ?> g = getters.get(6);
+        Function<? super In, ?> h = getters.get(7);
+        Function<? super In, ?> i = getters.get(8);
+
+        return in -> constructor.apply(a.apply(in), b.apply(in), c.apply(in), d.apply(in), e.apply(in), f.apply(in), g.apply(in), h.apply(in), i.apply(in));
+    }
+
+    private static <In, Out> Fn1<In, Out> flatten10(Fn10<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Out> constructor, List<? extends Function<? super In, ?>> getters) {
+        Function<? super In, ?> a = getters.get(0);
+        Function<? super In, ?> b = getters.get(1);
+        Function<? super In, ?> c = getters.get(2);
+        Function<? super In, ?> d = getters.get(3);
+        Function<? super In, ?> e = getters.get(4);
+        Function<? super In, ?> f = getters.get(5);
+        Function<? super In, ?> g = getters.get(6);
+        Function<? super In, ?> h = getters.get(7);
+        Function<? super In, ?> i = getters.get(8);
+        Function<? super In, ?> j = getters.get(9);
+
+        return in -> constructor.apply(a.apply(in), b.apply(in), c.apply(in), d.apply(in), e.apply(in), f.apply(in), g.apply(in), h.apply(in), i.apply(in), j.apply(in));
+    }
+
+    private static <In, Out> Fn1<In, Out> flatten11(Fn11<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Out> constructor, List<? extends Function<? super In, ?>> getters) {
+        Function<? super In, ?> a = getters.get(0);
+        Function<? super In, ?> b = getters.get(1);
+        Function<? super In, ?> c = getters.get(2);
+        Function<? super In, ?> d = getters.get(3);
+        Function<? super In, ?> e = getters.get(4);
+        Function<? super In, ?> f = getters.get(5);
+        Function<? super In, ?> g = getters.get(6);
+        Function<? super In, ?> h = getters.get(7);
+        Function<? super In, ?> i = getters.get(8);
+        Function<? super In, ?> j = getters.get(9);
+        Function<? super In, ?> k = getters.get(10);
+
+        return in -> constructor.apply(a.apply(in), b.apply(in), c.apply(in), d.apply(in), e.apply(in), f.apply(in), g.apply(in), h.apply(in), i.apply(in), j.apply(in), k.apply(in));
+    }
+
+    private static <In, Out> Fn1<In, Out> flatten12(Fn12<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Out> constructor, List<? extends Function<? super In, ?>> getters) {
+        Function<? super In, ?> a = getters.get(0);
+        Function<? super In, ?> b = getters.get(1);
+        Function<? super In, ?> c = getters.get(2);
+        Function<? super In, ?> d = getters.get(3);
+        Function<? super In, ?> e = getters.get(4);
+        Function<? super In, ?> f = getters.get(5);
+        Function<? super In, ?> g = getters.get(6);
+        Function<? super In, ?> h = getters.get(7);
+        Function<? super In, ?> i = getters.get(8);
+        Function<? super In, ?> j = getters.get(9);
+        Function<? super In, ?> k = getters.get(10);
+        Function<? super In, ?> l = getters.get(11);
+
+        return in -> constructor.apply(a.apply(in), b.apply(in), c.apply(in), d.apply(in), e.apply(in), f.apply(in), g.apply(in), h.apply(in), i.apply(in), j.apply(in), k.apply(in), l.apply(in));
+    }
+}
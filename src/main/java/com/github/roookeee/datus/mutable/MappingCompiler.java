@@ -0,0 +1,571 @@
+package com.github.roookeee.datus.mutable;
+
+import com.github.roookeee.datus.api.MutableMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Compiles the recorded steps of a {@link MutableMappingBuilder} into a generated {@link MutableMapper} class whose
+ * methods are equivalent to the following hand-written code:
+ * <pre>
+ * public Object convert(Object in) {
+ *     return convertInto(in, generator.get());
+ * }
+ *
+ * public Object convertInto(Object in, Object out) {
+ *     setter0.accept(out, getter0.apply(in));
+ *     out = processor1.apply(in, out);
+ *     //...
+ *     return out;
+ * }
+ * </pre>
+ * Every compiled mapper gets its own class (and class loader) so every call site inside convert only ever sees
+ * the getters and setters of one mapping definition, which enables the JIT to inline them.
+ * <p>
+ * Mappers built by the {@link MethodHandleEngine} get a generated class as well which only holds their method handle
+ * tree in a static final field.
+ */
+final class MappingCompiler {
+
+    /*
+        [perf]: the generated convert method must not exceed the maximum method size of 64kb, every step takes at most
+        20 bytes of bytecode so this limit leaves a generous safety margin
+     */
+    static final int MAX_COMPILABLE_STEPS = 2048;
+
+    private static final boolean SUPPORTED = System.getProperty("org.graalvm.nativeimage.imagecode") == null;
+    private static final AtomicLong CLASS_COUNTER = new AtomicLong();
+    private static final String GENERATED_CLASS_PREFIX = "com/github/roookeee/datus/generated/CompiledMapper$";
+    private static final String METHOD_HANDLE_CLASS_PREFIX = "com/github/roookeee/datus/generated/MethodHandleMapper$";
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String CONVERT_DESCRIPTOR = "(Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final String CONVERT_INTO_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final String MUTABLE_MAPPER = MutableMapper.class.getName().replace('.', '/');
+    private static final String SUPPLIER = "java/util/function/Supplier";
+    private static final String FUNCTION = "java/util/function/Function";
+    private static final String BI_CONSUMER = "java/util/function/BiConsumer";
+    private static final String BI_FUNCTION = "java/util/function/BiFunction";
+    private static final String METHOD_HANDLE = "java/lang/invoke/MethodHandle";
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int LDC_W = 0x13;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int ASTORE_2 = 0x4d;
+    private static final int AALOAD = 0x32;
+    private static final int ASTORE_0 = 0x4b;
+    private static final int ICONST_0 = 0x03;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETSTATIC = 0xb2;
+    private static final int PUTSTATIC = 0xb3;
+    private static final int GETFIELD = 0xb4;
+    private static final int PUTFIELD = 0xb5;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKEINTERFACE = 0xb9;
+    private static final int CHECKCAST = 0xc0;
+
+    /**
+     * Compiles the given steps into a mapper instance.
+     *
+     * @param generator the generator of the output type
+     * @param steps     the steps to compile
+     * @return the compiled mapper or an empty optional if the current runtime cannot define classes at runtime
+     */
+    static <In, Out> Optional<MutableMapper<In, Out>> compile(Supplier<? extends Out> generator, List<MappingStep<In, Out>> steps) {
+        if (!SUPPORTED || steps.size() > MAX_COMPILABLE_STEPS) {
+            return Optional.empty();
+        }
+
+        String className = GENERATED_CLASS_PREFIX + CLASS_COUNTER.incrementAndGet();
+        List<Object> fieldValues = new ArrayList<>();
+        List<String> fieldTypes = new ArrayList<>();
+        fieldValues.add(generator);
+        fieldTypes.add(SUPPLIER);
+        for (MappingStep<In, Out> step : steps) {
+            if (step.isSetter()) {
+                fieldValues.add(step.getter());
+                fieldTypes.add(FUNCTION);
+                fieldValues.add(step.setter());
+                fieldTypes.add(BI_CONSUMER);
+            } else {
+                fieldValues.add(step.processor());
+                fieldTypes.add(BI_FUNCTION);
+            }
+        }
+
+        byte[] classFile = generateClassFile(className, fieldTypes, steps);
+        try {
+            Class<?> compiledClass = new CompiledMapperClassLoader(MappingCompiler.class.getClassLoader())
+                    .define(className.replace('/', '.'), classFile);
+            @SuppressWarnings("unchecked")
+            MutableMapper<In, Out> mapper = (MutableMapper<In, Out>) compiledClass.getConstructor(Object[].class)
+                    .newInstance((Object) fieldValues.toArray());
+            return Optional.of(mapper);
+        } catch (ReflectiveOperationException ex) {
+            //the generated class always has the expected constructor, anything else is an implementation error
+            throw new IllegalStateException(ex);
+        } catch (LinkageError | SecurityException | UnsupportedOperationException ex) {
+            //the current runtime does not allow defining classes at runtime
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Generates a mapper class which holds the given process in a static final field and executes it via
+     * {@link MethodHandle#invokeExact}: the JIT treats the process as a constant and can inline the whole method handle
+     * tree into the generated convert methods (see {@link MethodHandleEngine}).
+     *
+     * @param generator the generator of the output type
+     * @param process   the mapping process of type {@code (Object in, Object out)Object}
+     * @return the compiled mapper or an empty optional if the current runtime cannot define classes at runtime
+     */
+    static <In, Out> Optional<MutableMapper<In, Out>> compile(Supplier<? extends Out> generator, MethodHandle process) {
+        if (!SUPPORTED) {
+            return Optional.empty();
+        }
+
+        String className = METHOD_HANDLE_CLASS_PREFIX + CLASS_COUNTER.incrementAndGet();
+        byte[] classFile = generateMethodHandleClassFile(className);
+        try {
+            Class<?> compiledClass = new ConstantsClassLoader(MappingCompiler.class.getClassLoader(), process, generator)
+                    .define(className.replace('/', '.'), classFile);
+            @SuppressWarnings("unchecked")
+            MutableMapper<In, Out> mapper = (MutableMapper<In, Out>) compiledClass.getConstructor().newInstance();
+            return Optional.of(mapper);
+        } catch (ReflectiveOperationException ex) {
+            //the generated class always has the expected constructor, anything else is an implementation error
+            throw new IllegalStateException(ex);
+        } catch (LinkageError | SecurityException | UnsupportedOperationException ex) {
+            //the current runtime does not allow defining classes at runtime
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] generateMethodHandleClassFile(String className) {
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(className);
+        int superClass = pool.classRef(OBJECT);
+        int mapperInterface = pool.classRef(MUTABLE_MAPPER);
+        int processField = pool.fieldRef(className, "PROCESS", "L" + METHOD_HANDLE + ";");
+        int generatorField = pool.fieldRef(className, "GENERATOR", "L" + SUPPLIER + ";");
+        int supplierGet = pool.interfaceMethodRef(SUPPLIER, "get", "()Ljava/lang/Object;");
+        int invokeExact = pool.methodRef(METHOD_HANDLE, "invokeExact", CONVERT_INTO_DESCRIPTOR);
+
+        //PROCESS = constants[0], GENERATOR = constants[1] with constants being provided by the defining class loader
+        ByteArrayOutputStream staticInitializer = new ByteArrayOutputStream();
+        writeIndexed(staticInitializer, LDC_W, thisClass);
+        writeIndexed(staticInitializer, INVOKEVIRTUAL, pool.methodRef("java/lang/Class", "getClassLoader", "()Ljava/lang/ClassLoader;"));
+        writeIndexed(staticInitializer, CHECKCAST, pool.classRef(SUPPLIER));
+        writeInterfaceCall(staticInitializer, supplierGet, 1);
+        writeIndexed(staticInitializer, CHECKCAST, pool.classRef("[Ljava/lang/Object;"));
+        staticInitializer.write(ASTORE_0);
+        staticInitializer.write(ALOAD_0);
+        pushInt(staticInitializer, 0);
+        staticInitializer.write(AALOAD);
+        writeIndexed(staticInitializer, CHECKCAST, pool.classRef(METHOD_HANDLE));
+        writeIndexed(staticInitializer, PUTSTATIC, processField);
+        staticInitializer.write(ALOAD_0);
+        pushInt(staticInitializer, 1);
+        staticInitializer.write(AALOAD);
+        writeIndexed(staticInitializer, CHECKCAST, pool.classRef(SUPPLIER));
+        writeIndexed(staticInitializer, PUTSTATIC, generatorField);
+        staticInitializer.write(RETURN);
+
+        ByteArrayOutputStream constructor = new ByteArrayOutputStream();
+        constructor.write(ALOAD_0);
+        writeIndexed(constructor, INVOKESPECIAL, pool.methodRef(OBJECT, "<init>", "()V"));
+        constructor.write(RETURN);
+
+        //return PROCESS.invokeExact(in, GENERATOR.get())
+        ByteArrayOutputStream convert = new ByteArrayOutputStream();
+        writeIndexed(convert, GETSTATIC, processField);
+        convert.write(ALOAD_1);
+        writeIndexed(convert, GETSTATIC, generatorField);
+        writeInterfaceCall(convert, supplierGet, 1);
+        writeIndexed(convert, INVOKEVIRTUAL, invokeExact);
+        convert.write(ARETURN);
+
+        //return PROCESS.invokeExact(in, out)
+        ByteArrayOutputStream convertInto = new ByteArrayOutputStream();
+        writeIndexed(convertInto, GETSTATIC, processField);
+        convertInto.write(ALOAD_1);
+        convertInto.write(ALOAD_2);
+        writeIndexed(convertInto, INVOKEVIRTUAL, invokeExact);
+        convertInto.write(ARETURN);
+
+        int codeAttribute = pool.utf8("Code");
+        int staticInitializerName = pool.utf8("<clinit>");
+        int constructorName = pool.utf8("<init>");
+        int noArgsDescriptor = pool.utf8("()V");
+        int convertName = pool.utf8("convert");
+        int convertDescriptor = pool.utf8(CONVERT_DESCRIPTOR);
+        int convertIntoName = pool.utf8("convertInto");
+        int convertIntoDescriptor = pool.utf8(CONVERT_INTO_DESCRIPTOR);
+        int processName = pool.utf8("PROCESS");
+        int processDescriptor = pool.utf8("L" + METHOD_HANDLE + ";");
+        int generatorName = pool.utf8("GENERATOR");
+        int generatorDescriptor = pool.utf8("L" + SUPPLIER + ";");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            //Java 8 class file version, straight-line code does not need any stack map frames
+            out.writeShort(52);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(mapperInterface);
+
+            out.writeShort(2);
+            out.writeShort(ACC_PRIVATE | ACC_STATIC | ACC_FINAL);
+            out.writeShort(processName);
+            out.writeShort(processDescriptor);
+            out.writeShort(0);
+            out.writeShort(ACC_PRIVATE | ACC_STATIC | ACC_FINAL);
+            out.writeShort(generatorName);
+            out.writeShort(generatorDescriptor);
+            out.writeShort(0);
+
+            out.writeShort(4);
+            writeMethod(out, ACC_STATIC, staticInitializerName, noArgsDescriptor, codeAttribute, 2, 1, staticInitializer.toByteArray());
+            writeMethod(out, constructorName, noArgsDescriptor, codeAttribute, 1, 1, constructor.toByteArray());
+            writeMethod(out, convertName, convertDescriptor, codeAttribute, 3, 2, convert.toByteArray());
+            writeMethod(out, convertIntoName, convertIntoDescriptor, codeAttribute, 3, 3, convertInto.toByteArray());
+            out.writeShort(0);
+        } catch (IOException ex) {
+            //cannot happen when writing to a byte array
+            throw new IllegalStateException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <In, Out> byte[] generateClassFile(String className, List<String> fieldTypes, List<MappingStep<In, Out>> steps) {
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(className);
+        int superClass = pool.classRef(OBJECT);
+        int mapperInterface = pool.classRef(MUTABLE_MAPPER);
+
+        int[] fieldRefs = new int[fieldTypes.size()];
+        int[] fieldNames = new int[fieldTypes.size()];
+        int[] fieldDescriptors = new int[fieldTypes.size()];
+        for (int i = 0; i < fieldTypes.size(); i++) {
+            String name = "f" + i;
+            String descriptor = "L" + fieldTypes.get(i) + ";";
+            fieldRefs[i] = pool.fieldRef(className, name, descriptor);
+            fieldNames[i] = pool.utf8(name);
+            fieldDescriptors[i] = pool.utf8(descriptor);
+        }
+
+        byte[] constructorCode = generateConstructor(pool, fieldTypes, fieldRefs);
+        byte[] convertCode = generateConvert(pool, className, fieldRefs);
+        byte[] convertIntoCode = generateConvertInto(pool, fieldRefs, steps);
+
+        int codeAttribute = pool.utf8("Code");
+        int constructorName = pool.utf8("<init>");
+        int constructorDescriptor = pool.utf8("([Ljava/lang/Object;)V");
+        int convertName = pool.utf8("convert");
+        int convertDescriptor = pool.utf8(CONVERT_DESCRIPTOR);
+        int convertIntoName = pool.utf8("convertInto");
+        int convertIntoDescriptor = pool.utf8(CONVERT_INTO_DESCRIPTOR);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            //Java 8 class file version, straight-line code does not need any stack map frames
+            out.writeShort(52);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(mapperInterface);
+
+            out.writeShort(fieldTypes.size());
+            for (int i = 0; i < fieldTypes.size(); i++) {
+                out.writeShort(ACC_PRIVATE | ACC_FINAL);
+                out.writeShort(fieldNames[i]);
+                out.writeShort(fieldDescriptors[i]);
+                out.writeShort(0);
+            }
+
+            out.writeShort(3);
+            writeMethod(out, constructorName, constructorDescriptor, codeAttribute, 3, 2, constructorCode);
+            writeMethod(out, convertName, convertDescriptor, codeAttribute, 3, 2, convertCode);
+            writeMethod(out, convertIntoName, convertIntoDescriptor, codeAttribute, 4, 3, convertIntoCode);
+            out.writeShort(0);
+        } catch (IOException ex) {
+            //cannot happen when writing to a byte array
+            throw new IllegalStateException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] generateConstructor(ConstantPool pool, List<String> fieldTypes, int[] fieldRefs) {
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        code.write(ALOAD_0);
+        writeIndexed(code, INVOKESPECIAL, pool.methodRef(OBJECT, "<init>", "()V"));
+        for (int i = 0; i < fieldTypes.size(); i++) {
+            code.write(ALOAD_0);
+            code.write(ALOAD_1);
+            pushInt(code, i);
+            code.write(AALOAD);
+            writeIndexed(code, CHECKCAST, pool.classRef(fieldTypes.get(i)));
+            writeIndexed(code, PUTFIELD, fieldRefs[i]);
+        }
+        code.write(RETURN);
+        return code.toByteArray();
+    }
+
+    private static byte[] generateConvert(ConstantPool pool, String className, int[] fieldRefs) {
+        int supplierGet = pool.interfaceMethodRef(SUPPLIER, "get", "()Ljava/lang/Object;");
+        int convertInto = pool.methodRef(className, "convertInto", CONVERT_INTO_DESCRIPTOR);
+
+        //return this.convertInto(in, generator.get())
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        code.write(ALOAD_0);
+        code.write(ALOAD_1);
+        code.write(ALOAD_0);
+        writeIndexed(code, GETFIELD, fieldRefs[0]);
+        writeInterfaceCall(code, supplierGet, 1);
+        writeIndexed(code, INVOKEVIRTUAL, convertInto);
+        code.write(ARETURN);
+        return code.toByteArray();
+    }
+
+    private static <In, Out> byte[] generateConvertInto(ConstantPool pool, int[] fieldRefs, List<MappingStep<In, Out>> steps) {
+        int functionApply = pool.interfaceMethodRef(FUNCTION, "apply", "(Ljava/lang/Object;)Ljava/lang/Object;");
+        int biConsumerAccept = pool.interfaceMethodRef(BI_CONSUMER, "accept", "(Ljava/lang/Object;Ljava/lang/Object;)V");
+        int biFunctionApply = pool.interfaceMethodRef(BI_FUNCTION, "apply", "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;");
+
+        //local variables: 0 = this, 1 = in, 2 = out
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        int field = 1;
+        for (MappingStep<In, Out> step : steps) {
+            if (step.isSetter()) {
+                //setter.accept(out, getter.apply(in))
+                code.write(ALOAD_0);
+                writeIndexed(code, GETFIELD, fieldRefs[field + 1]);
+                code.write(ALOAD_2);
+                code.write(ALOAD_0);
+                writeIndexed(code, GETFIELD, fieldRefs[field]);
+                code.write(ALOAD_1);
+                writeInterfaceCall(code, functionApply, 2);
+                writeInterfaceCall(code, biConsumerAccept, 3);
+                field += 2;
+            } else {
+                //out = processor.apply(in, out)
+                code.write(ALOAD_0);
+                writeIndexed(code, GETFIELD, fieldRefs[field]);
+                code.write(ALOAD_1);
+                code.write(ALOAD_2);
+                writeInterfaceCall(code, biFunctionApply, 3);
+                code.write(ASTORE_2);
+                field += 1;
+            }
+        }
+
+        code.write(ALOAD_2);
+        code.write(ARETURN);
+        return code.toByteArray();
+    }
+
+    private static void writeMethod(
+            DataOutputStream out,
+            int name,
+            int descriptor,
+            int codeAttribute,
+            int maxStack,
+            int maxLocals,
+            byte[] code
+    ) throws IOException {
+        writeMethod(out, ACC_PUBLIC, name, descriptor, codeAttribute, maxStack, maxLocals, code);
+    }
+
+    private static void writeMethod(
+            DataOutputStream out,
+            int accessFlags,
+            int name,
+            int descriptor,
+            int codeAttribute,
+            int maxStack,
+            int maxLocals,
+            byte[] code
+    ) throws IOException {
+        out.writeShort(accessFlags);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1);
+        out.writeShort(codeAttribute);
+        //max_stack + max_locals + code_length + code + exception_table_length + attributes_count
+        out.writeInt(2 + 2 + 4 + code.length + 2 + 2);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+
+    private static void pushInt(ByteArrayOutputStream code, int value) {
+        if (value <= 5) {
+            code.write(ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            code.write(BIPUSH);
+            code.write(value);
+        } else {
+            writeIndexed(code, SIPUSH, value);
+        }
+    }
+
+    private static void writeIndexed(ByteArrayOutputStream code, int opcode, int index) {
+        code.write(opcode);
+        code.write(index >>> 8);
+        code.write(index);
+    }
+
+    private static void writeInterfaceCall(ByteArrayOutputStream code, int methodRef, int argumentSlots) {
+        writeIndexed(code, INVOKEINTERFACE, methodRef);
+        code.write(argumentSlots);
+        code.write(0);
+    }
+
+    private static final class ConstantPool {
+        private static final int CONSTANT_UTF8 = 1;
+        private static final int CONSTANT_CLASS = 7;
+        private static final int CONSTANT_FIELDREF = 9;
+        private static final int CONSTANT_METHODREF = 10;
+        private static final int CONSTANT_INTERFACE_METHODREF = 11;
+        private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(entries);
+        private int nextIndex = 1;
+
+        int utf8(String value) {
+            return indexOf("utf8:" + value, () -> {
+                out.writeByte(CONSTANT_UTF8);
+                out.writeUTF(value);
+            });
+        }
+
+        int classRef(String internalName) {
+            int name = utf8(internalName);
+            return indexOf("class:" + internalName, () -> {
+                out.writeByte(CONSTANT_CLASS);
+                out.writeShort(name);
+            });
+        }
+
+        int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(CONSTANT_FIELDREF, owner, name, descriptor);
+        }
+
+        int methodRef(String owner, String name, String descriptor) {
+            return memberRef(CONSTANT_METHODREF, owner, name, descriptor);
+        }
+
+        int interfaceMethodRef(String owner, String name, String descriptor) {
+            return memberRef(CONSTANT_INTERFACE_METHODREF, owner, name, descriptor);
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            target.writeShort(nextIndex);
+            entries.writeTo(target);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            int ownerIndex = classRef(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = indexOf("nat:" + name + ":" + descriptor, () -> {
+                out.writeByte(CONSTANT_NAME_AND_TYPE);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+            return indexOf(tag + ":" + owner + "." + name + ":" + descriptor, () -> {
+                out.writeByte(tag);
+                out.writeShort(ownerIndex);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        private int indexOf(String key, EntryWriter writer) {
+            Integer existing = indices.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            try {
+                writer.write();
+            } catch (IOException ex) {
+                //cannot happen when writing to a byte array
+                throw new IllegalStateException(ex);
+            }
+            int index = nextIndex++;
+            indices.put(key, index);
+            return index;
+        }
+
+        private interface EntryWriter {
+            void write() throws IOException;
+        }
+    }
+
+    private static final class CompiledMapperClassLoader extends ClassLoader {
+        CompiledMapperClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] classFile) {
+            return defineClass(name, classFile, 0, classFile.length);
+        }
+    }
+
+    //hands the constants of a method handle mapper to the static initializer of the generated class
+    private static final class ConstantsClassLoader extends ClassLoader implements Supplier<Object[]> {
+        private final Object[] constants;
+
+        ConstantsClassLoader(ClassLoader parent, MethodHandle process, Supplier<?> generator) {
+            super(parent);
+            this.constants = new Object[]{process, generator};
+        }
+
+        Class<?> define(String name, byte[] classFile) {
+            return defineClass(name, classFile, 0, classFile.length);
+        }
+
+        @Override
+        public Object[] get() {
+            return constants;
+        }
+    }
+
+    private MappingCompiler() {
+
+    }
+}
@@ -1,11 +1,15 @@
 package com.github.roookeee.datus.mutable;
 
+import com.github.roookeee.datus.shared.LambdaHelper;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
 
 class MappingOptimizer {
 
+    private static final LambdaHelper.Access LAMBDA_HELPER_ACCESS = LambdaHelper.access();
+
     private static final int LAST_CASE_MAPPING_COUNT = 8;
 
     static <In, Out> BiFunction<? super In, ? super Out, ? extends Out> flattenAndOptimizeMappings(
@@ -16,111 +20,40 @@ class MappingOptimizer {
             function calls. Especially simple mappers are affected by this additional indirection (cost of function-
             calling) by as much as a 50% performance-hit.
 
-            Special-case 1..8 functions into specialised wrapper functions which only add 1 more indirection.
-            Any list containing more than 8 functions is split into sublists which follow the same optimization procedure
-            while getting chained thereafter.
+            Special-case 1..8 functions into specialised wrapper functions which only add 1 more indirection. The wrappers
+            are created by LambdaHelper so every wrapper instance has its own (monomorphic) call sites just like the
+            functions created by LambdaHelper.andThen.
+            Any list containing more than 8 functions is split into 8 sublists of (nearly) equal size which follow the
+            same optimization procedure and are combined by the 8 functions wrapper thereafter. This results in a
+            balanced tree whose depth only grows logarithmically with the number of functions (e.g. 64 functions are
+            reached through 2 levels of wrappers instead of 8 levels of right-leaning recursion).
          */
         switch (mappings.size()) {
+            case 0:
+                return (in, out) -> out;
             case 1:
                 return mappings.get(0);
             case 2:
-                return optimize2Mappings(mappings);
             case 3:
-                return optimize3Mappings(mappings);
             case 4:
-                return optimize4Mappings(mappings);
             case 5:
-                return optimize5Mappings(mappings);
             case 6:
-                return optimize6Mappings(mappings);
             case 7:
-                return optimize7Mappings(mappings);
             case LAST_CASE_MAPPING_COUNT:
-                return optimize8Mappings(mappings);
+                return LambdaHelper.sequence(LAMBDA_HELPER_ACCESS, mappings);
             default:
-                BiFunction<? super In, ? super Out, ? extends Out> firstEightMappings = optimize8Mappings(mappings);
-                BiFunction<? super In, ? super Out, ? extends Out> remainingMappings = flattenAndOptimizeMappings(
-                        mappings.subList(LAST_CASE_MAPPING_COUNT, mappings.size())
-                );
-
-                List<BiFunction<? super In, ? super Out, ? extends Out>> toOptimize = new ArrayList<>();
-                toOptimize.add(firstEightMappings);
-                toOptimize.add(remainingMappings);
-
-                return optimize2Mappings(toOptimize);
+                int size = mappings.size();
+                List<BiFunction<? super In, ? super Out, ? extends Out>> subtrees = new ArrayList<>(LAST_CASE_MAPPING_COUNT);
+                for (int i = 0; i < LAST_CASE_MAPPING_COUNT; i++) {
+                    int fromIndex = size * i / LAST_CASE_MAPPING_COUNT;
+                    int toIndex = size * (i + 1) / LAST_CASE_MAPPING_COUNT;
+                    subtrees.add(flattenAndOptimizeMappings(mappings.subList(fromIndex, toIndex)));
+                }
+
+                return LambdaHelper.sequence(LAMBDA_HELPER_ACCESS, subtrees);
         }
     }
 
-    private static <In, Out> BiFunction<? super In, ? super Out, ? extends Out> optimize2Mappings(List<BiFunction<? super In, ? super Out, ? extends Out>> remaining) {
-        BiFunction<? super In, ? super Out, ? extends Out> a = remaining.get(0);
-        BiFunction<? super In, ? super Out, ? extends Out> b = remaining.get(1);
-
-        return (in, out) -> b.apply(in, a.apply(in, out));
-    }
-
-    private static <In, Out> BiFunction<? super In, ? super Out, ? extends Out> optimize3Mappings(List<BiFunction<? super In, ? super Out, ? extends Out>> remaining) {
-        BiFunction<? super In, ? super Out, ? extends Out> a = remaining.get(0);
-        BiFunction<? super In, ? super Out, ? extends Out> b = remaining.get(1);
-        BiFunction<? super In, ? super Out, ? extends Out> c = remaining.get(2);
-
-        return (in, out) -> c.apply(in, b.apply(in, a.apply(in, out)));
-    }
-
-    private static <In, Out> BiFunction<? super In, ? super Out, ? extends Out> optimize4Mappings(List<BiFunction<? super In, ? super Out, ? extends Out>> remaining) {
-        BiFunction<? super In, ? super Out, ? extends Out> a = remaining.get(0);
-        BiFunction<? super In, ? super Out, ? extends Out> b = remaining.get(1);
-        BiFunction<? super In, ? super Out, ? extends Out> c = remaining.get(2);
-        BiFunction<? super In, ? super Out, ? extends Out> d = remaining.get(3);
-
-        return (in, out) -> d.apply(in, c.apply(in, b.apply(in, a.apply(in, out))));
-    }
-
-    private static <In, Out> BiFunction<? super In, ? super Out, ? extends Out> optimize5Mappings(List<BiFunction<? super In, ? super Out, ? extends Out>> remaining) {
-        BiFunction<? super In, ? super Out, ? extends Out> a = remaining.get(0);
-        BiFunction<? super In, ? super Out, ? extends Out> b = remaining.get(1);
-        BiFunction<? super In, ? super Out, ? extends Out> c = remaining.get(2);
-        BiFunction<? super In, ? super Out, ? extends Out> d = remaining.get(3);
-        BiFunction<? super In, ? super Out, ? extends Out> e = remaining.get(4);
-
-        return (in, out) -> e.apply(in, d.apply(in, c.apply(in, b.apply(in, a.apply(in, out)))));
-    }
-
-    private static <In, Out> BiFunction<? super In, ? super Out, ? extends Out> optimize6Mappings(List<BiFunction<? super In, ? super Out, ? extends Out>> remaining) {
-        BiFunction<? super In, ? super Out, ? extends Out> a = remaining.get(0);
-        BiFunction<? super In, ? super Out, ? extends Out> b = remaining.get(1);
-        BiFunction<? super In, ? super Out, ? extends Out> c = remaining.get(2);
-        BiFunction<? super In, ? super Out, ? extends Out> d = remaining.get(3);
-        BiFunction<? super In, ? super Out, ? extends Out> e = remaining.get(4);
-        BiFunction<? super In, ? super Out, ? extends Out> f = remaining.get(5);
-
-        return (in, out) -> f.apply(in, e.apply(in, d.apply(in, c.apply(in, b.apply(in, a.apply(in, out))))));
-    }
-
-    private static <In, Out> BiFunction<? super In, ? super Out, ? extends Out> optimize7Mappings(List<BiFunction<? super In, ? super Out, ? extends Out>> remaining) {
-        BiFunction<? super In, ? super Out, ? extends Out> a = remaining.get(0);
-        BiFunction<? super In, ? super Out, ? extends Out> b = remaining.get(1);
-        BiFunction<? super In, ? super Out, ? extends Out> c = remaining.get(2);
-        BiFunction<? super In, ? super Out, ? extends Out> d = remaining.get(3);
-        BiFunction<? super In, ? super Out, ? extends Out> e = remaining.get(4);
-        BiFunction<? super In, ? super Out, ? extends Out> f = remaining.get(5);
-        BiFunction<? super In, ? super Out, ? extends Out> g = remaining.get(6);
-
-        return (in, out) -> g.apply(in, f.apply(in, e.apply(in, d.apply(in, c.apply(in, b.apply(in, a.apply(in, out)))))));
-    }
-
-    private static <In, Out> BiFunction<? super In, ? super Out, ? extends Out> optimize8Mappings(List<BiFunction<? super In, ? super Out, ? extends Out>> remaining) {
-        BiFunction<? super In, ? super Out, ? extends Out> a = remaining.get(0);
-        BiFunction<? super In, ? super Out, ? extends Out> b = remaining.get(1);
-        BiFunction<? super In, ? super Out, ? extends Out> c = remaining.get(2);
-        BiFunction<? super In, ? super Out, ? extends Out> d = remaining.get(3);
-        BiFunction<? super In, ? super Out, ? extends Out> e = remaining.get(4);
-        BiFunction<? super In, ? super Out, ? extends Out> f = remaining.get(5);
-        BiFunction<? super In, ? super Out, ? extends Out> g = remaining.get(6);
-        BiFunction<? super In, ? super Out, ? extends Out> h = remaining.get(7);
-
-        return (in, out) -> h.apply(in, g.apply(in, f.apply(in, e.apply(in, d.apply(in, c.apply(in, b.apply(in, a.apply(in, out))))))));
-    }
-
     private MappingOptimizer() {
 
     }
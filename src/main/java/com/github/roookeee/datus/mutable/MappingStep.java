@@ -0,0 +1,64 @@
+package com.github.roookeee.datus.mutable;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A recorded step of a {@link MutableMappingBuilder}: either a plain getter -&gt; setter pair or an arbitrary
+ * processing function that may replace the output object.
+ * <p>
+ * Keeping getter / setter pairs apart until the mapper is built allows the build process to choose how to execute
+ * them (see {@link com.github.roookeee.datus.api.BuildStrategy}).
+ *
+ * @param <In>  the input type
+ * @param <Out> the output type
+ */
+final class MappingStep<In, Out> {
+    private final Function<? super In, Object> getter;
+    private final BiConsumer<? super Out, Object> setter;
+    private final BiFunction<? super In, ? super Out, ? extends Out> processor;
+
+    private MappingStep(
+            Function<? super In, Object> getter,
+            BiConsumer<? super Out, Object> setter,
+            BiFunction<? super In, ? super Out, ? extends Out> processor
+    ) {
+        this.getter = getter;
+        this.setter = setter;
+        this.processor = processor;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <In, T, Out> MappingStep<In, Out> ofSetter(
+            Function<? super In, ? extends T> getter,
+            BiConsumer<? super Out, ? super T> setter
+    ) {
+        //the getters return type always matches the setters parameter type, both are only ever used as a pair
+        return new MappingStep<>(
+                (Function<? super In, Object>) getter,
+                (BiConsumer<? super Out, Object>) setter,
+                null
+        );
+    }
+
+    static <In, Out> MappingStep<In, Out> ofProcessor(BiFunction<? super In, ? super Out, ? extends Out> processor) {
+        return new MappingStep<>(null, null, processor);
+    }
+
+    boolean isSetter() {
+        return processor == null;
+    }
+
+    Function<? super In, Object> getter() {
+        return getter;
+    }
+
+    BiConsumer<? super Out, Object> setter() {
+        return setter;
+    }
+
+    BiFunction<? super In, ? super Out, ? extends Out> processor() {
+        return processor;
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.roookeee.datus.mutable;
+
+import com.github.roookeee.datus.api.MutableMapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Combines the recorded steps of a {@link MutableMappingBuilder} into one {@link MethodHandle} tree of type
+ * {@code (Object in, Object out)Object} which is held as a constant by a generated class
+ * (see {@link MappingCompiler#compile(Supplier, MethodHandle)}). Every getter, setter and processor is bound into the
+ * tree so the JIT can inline across all steps of one mapper without sharing any call site with other mappers.
+ * <p>
+ * Steps are combined into a balanced tree so the nesting depth of the method handles only grows logarithmically with
+ * the number of steps.
+ */
+final class MethodHandleEngine {
+    private static final MethodType PROCESS_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+    private static final MethodType STEP_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType FOLDED_TYPE = MethodType.methodType(Object.class, Object.class, Object.class, Object.class);
+
+    private static final MethodHandle FUNCTION_APPLY;
+    private static final MethodHandle BI_CONSUMER_ACCEPT;
+    private static final MethodHandle BI_FUNCTION_APPLY;
+    //(in, out) -> out
+    private static final MethodHandle RETURN_OUT;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            FUNCTION_APPLY = lookup.findVirtual(Function.class, "apply",
+                    MethodType.methodType(Object.class, Object.class));
+            BI_CONSUMER_ACCEPT = lookup.findVirtual(BiConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, Object.class));
+            BI_FUNCTION_APPLY = lookup.findVirtual(BiFunction.class, "apply",
+                    MethodType.methodType(Object.class, Object.class, Object.class));
+        } catch (ReflectiveOperationException ex) {
+            //all methods are public interface methods of the JDK, anything else is a broken JVM
+            throw new IllegalStateException(ex);
+        }
+        RETURN_OUT = MethodHandles.dropArguments(MethodHandles.identity(Object.class), 0, Object.class);
+    }
+
+    /**
+     * Compiles the given steps into a mapper instance.
+     *
+     * @param generator the generator of the output type
+     * @param steps     the steps to compile
+     * @return the compiled mapper or an empty optional if the current runtime cannot define classes at runtime
+     */
+    static <In, Out> Optional<MutableMapper<In, Out>> compile(Supplier<? extends Out> generator, List<MappingStep<In, Out>> steps) {
+        List<MethodHandle> handles = new ArrayList<>(steps.size());
+        for (MappingStep<In, Out> step : steps) {
+            handles.add(toMethodHandle(step));
+        }
+        MethodHandle process = handles.isEmpty() ? RETURN_OUT : sequence(handles, 0, handles.size());
+        return MappingCompiler.compile(generator, process);
+    }
+
+    private static <In, Out> MethodHandle toMethodHandle(MappingStep<In, Out> step) {
+        if (step.isSetter()) {
+            //(out, value) -> void  =>  (out, in) -> void  =>  (in, out) -> void
+            MethodHandle setter = BI_CONSUMER_ACCEPT.bindTo(step.setter());
+            MethodHandle getter = FUNCTION_APPLY.bindTo(step.getter());
+            MethodHandle apply = MethodHandles.permuteArguments(
+                    MethodHandles.filterArguments(setter, 1, getter), STEP_TYPE, 1, 0
+            );
+            //apply the setter and return out
+            return MethodHandles.foldArguments(RETURN_OUT, apply);
+        }
+        return BI_FUNCTION_APPLY.bindTo(step.processor());
+    }
+
+    //combines the given (in, out) -> out handles into one that passes the result of each handle to the next one
+    private static MethodHandle sequence(List<MethodHandle> handles, int from, int to) {
+        if (to - from == 1) {
+            return handles.get(from);
+        }
+        int middle = (from + to) >>> 1;
+        MethodHandle first = sequence(handles, from, middle);
+        MethodHandle second = sequence(handles, middle, to);
+        //(result, in, out) -> second(in, result)
+        MethodHandle continuation = MethodHandles.permuteArguments(second, FOLDED_TYPE, 1, 0);
+        return MethodHandles.foldArguments(continuation, first).asType(PROCESS_TYPE);
+    }
+
+    private MethodHandleEngine() {
+
+    }
+}
@@ -1,6 +1,9 @@
 package com.github.roookeee.datus.mutable;
 
+import com.github.roookeee.datus.api.EachMapper;
 import com.github.roookeee.datus.conditional.ConditionalEnd;
+import com.github.roookeee.datus.conditional.MatchCases;
+import com.github.roookeee.datus.shared.GetterChain;
 import com.github.roookeee.datus.shared.LambdaHelper;
 import com.github.roookeee.datus.shared.SafetyMode;
 
@@ -22,12 +25,13 @@ import java.util.function.Supplier;
  * @param <Out>         the output type
  */
 public final class MutableConstructionStep<In, CurrentType, Out> {
+    private static final LambdaHelper.Access LAMBDA_HELPER_ACCESS = LambdaHelper.access();
 
     private final MutableMappingBuilder<In, Out> builder;
-    private final Function<? super In, ? extends CurrentType> getter;
+    private final GetterChain<In, CurrentType> getter;
     private final SafetyMode safetyMode;
 
-    MutableConstructionStep(MutableMappingBuilder<In, Out> builder, Function<? super In, ? extends CurrentType> getter, SafetyMode safetyMode) {
+    MutableConstructionStep(MutableMappingBuilder<In, Out> builder, GetterChain<In, CurrentType> getter, SafetyMode safetyMode) {
         this.builder = builder;
         this.getter = getter;
         this.safetyMode = safetyMode;
@@ -55,11 +59,24 @@ public final class MutableConstructionStep<In, CurrentType, Out> {
     public <NextType> MutableConstructionStep<In, NextType, Out> map(Function<? super CurrentType, ? extends NextType> mapper) {
         return new MutableConstructionStep<>(
                 builder,
-                LambdaHelper.andThen(getter, handleSafetyMode(mapper)),
+                getter.map(mapper, safetyMode),
                 safetyMode
         );
     }
 
+    /**
+     * Maps the current collection by converting each of its elements via the given each mapper (see
+     * {@link com.github.roookeee.datus.api.Mapper#each}) which controls the type of the resulting collection and whether
+     * large collections are converted in parallel.
+     *
+     * @param eachMapper the each mapper to apply
+     * @param <NextType> the type of the collections the given each mapper outputs
+     * @return a new construction step based on the converted collection
+     */
+    public <NextType> MutableConstructionStep<In, NextType, Out> mapEach(EachMapper<? super CurrentType, ? extends NextType> eachMapper) {
+        return map(eachMapper);
+    }
+
     /**
      * Finishes the current construction step by generating a function that applies the given setter on the Out object.
      *
@@ -67,7 +84,7 @@ public final class MutableConstructionStep<In, CurrentType, Out> {
      * @return the builder this step originated from
      */
     public MutableMappingBuilder<In, Out> into(BiConsumer<? super Out, ? super CurrentType> setter) {
-        builder.addMapper(LambdaHelper.toBiFunction(getter, setter));
+        builder.addStep(MappingStep.ofSetter(getter, setter));
         return builder;
     }
 
@@ -82,7 +99,8 @@ public final class MutableConstructionStep<In, CurrentType, Out> {
      * @return the builder this step originated from
      */
     public MutableMappingBuilder<In, Out> to(BiFunction<? super Out, ? super CurrentType, ? extends Out> setter) {
-        builder.addMapper((in, out) -> setter.apply(out, getter.apply(in)));
+        Function<In, CurrentType> getter = this.getter.compose(LAMBDA_HELPER_ACCESS);
+        builder.addStep(MappingStep.ofProcessor((in, out) -> setter.apply(out, getter.apply(in))));
         return builder;
     }
 
@@ -144,18 +162,43 @@ public final class MutableConstructionStep<In, CurrentType, Out> {
             BiFunction<? super In, ? super CurrentType, ? extends IntermediateType> mapper
     ) {
         return new ConditionalEnd<>(
-                getter,
+                getter.compose(LAMBDA_HELPER_ACCESS),
                 predicate,
-                newGetter -> new MutableConstructionStep<>(builder, newGetter, safetyMode),
+                newGetter -> new MutableConstructionStep<>(builder, GetterChain.of(newGetter), safetyMode),
                 mapper,
                 safetyMode
         );
     }
 
-    private <T,U> Function<T,U> handleSafetyMode(Function<T,U> mapper) {
-        if (safetyMode == SafetyMode.NONE) {
-            return mapper;
-        }
-        return LambdaHelper.nullsafe(mapper);
+    /**
+     * Starts a matching process which relates values of the current type to results via
+     * {@link MatchCases#when}, e.g. to map the constants of an enum. Unlike chained {@link #given} steps the
+     * cases are looked up in a table instead of being tested one after another.
+     * <p>
+     * The type of the results has to be specified explicitly (e.g. {@code .<String>match()}), see
+     * {@link #match(Class)} for a shorthand.
+     *
+     * @param <IntermediateType> the resulting type of the matching process
+     * @return a builder to configure the cases of the matching process
+     */
+    public <IntermediateType> MatchCases<In, CurrentType, IntermediateType, MutableConstructionStep<In, IntermediateType, Out>> match() {
+        return new MatchCases<>(
+                getter.compose(LAMBDA_HELPER_ACCESS),
+                newGetter -> new MutableConstructionStep<>(builder, GetterChain.of(newGetter), safetyMode),
+                safetyMode
+        );
+    }
+
+    /**
+     * Starts a matching process whose results are of the given type (see {@link #match()}).
+     *
+     * @param resultType         the type of the results
+     * @param <IntermediateType> the resulting type of the matching process
+     * @return a builder to configure the cases of the matching process
+     */
+    public <IntermediateType> MatchCases<In, CurrentType, IntermediateType, MutableConstructionStep<In, IntermediateType, Out>> match(
+            Class<IntermediateType> resultType
+    ) {
+        return match();
     }
-}
\ No newline at end of file
+}
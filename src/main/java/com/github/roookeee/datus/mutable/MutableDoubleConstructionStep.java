@@ -0,0 +1,66 @@
+package com.github.roookeee.datus.mutable;
+
+import com.github.roookeee.datus.shared.GetterChain;
+import com.github.roookeee.datus.shared.LambdaHelper;
+import com.github.roookeee.datus.shared.SafetyMode;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Represents a construction step from a given input to an output type whose current value is a double: unlike a
+ * {@link MutableConstructionStep} of {@link Double} the value is never boxed while converting an input.
+ *
+ * @param <In>  the input type
+ * @param <Out> the output type
+ */
+public final class MutableDoubleConstructionStep<In, Out> {
+    private static final LambdaHelper.Access LAMBDA_HELPER_ACCESS = LambdaHelper.access();
+
+    private final MutableMappingBuilder<In, Out> builder;
+    private final ToDoubleFunction<? super In> getter;
+
+    MutableDoubleConstructionStep(MutableMappingBuilder<In, Out> builder, ToDoubleFunction<? super In> getter) {
+        this.builder = builder;
+        this.getter = getter;
+    }
+
+    /**
+     * Maps the current value to another double value (similar to {@link java.util.stream.DoubleStream#map}).
+     *
+     * @param mapper the function to apply
+     * @return a new construction step based on the mapped value
+     */
+    public MutableDoubleConstructionStep<In, Out> map(DoubleUnaryOperator mapper) {
+        return new MutableDoubleConstructionStep<>(builder, LambdaHelper.andThenDouble(LAMBDA_HELPER_ACCESS, getter, mapper));
+    }
+
+    /**
+     * Maps the current value to an object (similar to {@link java.util.stream.DoubleStream#mapToObj}).
+     *
+     * @param mapper     the function to apply
+     * @param <NextType> the return type of the given function
+     * @return a new construction step based on the new type
+     */
+    public <NextType> MutableConstructionStep<In, NextType, Out> mapToObj(DoubleFunction<? extends NextType> mapper) {
+        ToDoubleFunction<? super In> getter = this.getter;
+        return new MutableConstructionStep<>(
+                builder,
+                GetterChain.of((In in) -> mapper.apply(getter.applyAsDouble(in))),
+                SafetyMode.NONE
+        );
+    }
+
+    /**
+     * Finishes the current construction step by generating a function that applies the given setter on the Out object.
+     *
+     * @param setter the setter to apply
+     * @return the builder this step originated from
+     */
+    public MutableMappingBuilder<In, Out> into(ObjDoubleConsumer<? super Out> setter) {
+        builder.addStep(MappingStep.ofProcessor(LambdaHelper.toDoubleBiFunction(LAMBDA_HELPER_ACCESS, getter, setter)));
+        return builder;
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.roookeee.datus.mutable;
+
+import com.github.roookeee.datus.shared.GetterChain;
+import com.github.roookeee.datus.shared.LambdaHelper;
+import com.github.roookeee.datus.shared.SafetyMode;
+
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Represents a construction step from a given input to an output type whose current value is an int: unlike a
+ * {@link MutableConstructionStep} of {@link Integer} the value is never boxed while converting an input.
+ *
+ * @param <In>  the input type
+ * @param <Out> the output type
+ */
+public final class MutableIntConstructionStep<In, Out> {
+    private static final LambdaHelper.Access LAMBDA_HELPER_ACCESS = LambdaHelper.access();
+
+    private final MutableMappingBuilder<In, Out> builder;
+    private final ToIntFunction<? super In> getter;
+
+    MutableIntConstructionStep(MutableMappingBuilder<In, Out> builder, ToIntFunction<? super In> getter) {
+        this.builder = builder;
+        this.getter = getter;
+    }
+
+    /**
+     * Maps the current value to another int value (similar to {@link java.util.stream.IntStream#map}).
+     *
+     * @param mapper the function to apply
+     * @return a new construction step based on the mapped value
+     */
+    public MutableIntConstructionStep<In, Out> map(IntUnaryOperator mapper) {
+        return new MutableIntConstructionStep<>(builder, LambdaHelper.andThenInt(LAMBDA_HELPER_ACCESS, getter, mapper));
+    }
+
+    /**
+     * Maps the current value to an object (similar to {@link java.util.stream.IntStream#mapToObj}).
+     *
+     * @param mapper     the function to apply
+     * @param <NextType> the return type of the given function
+     * @return a new construction step based on the new type
+     */
+    public <NextType> MutableConstructionStep<In, NextType, Out> mapToObj(IntFunction<? extends NextType> mapper) {
+        ToIntFunction<? super In> getter = this.getter;
+        return new MutableConstructionStep<>(
+                builder,
+                GetterChain.of((In in) -> mapper.apply(getter.applyAsInt(in))),
+                SafetyMode.NONE
+        );
+    }
+
+    /**
+     * Finishes the current construction step by generating a function that applies the given setter on the Out object.
+     *
+     * @param setter the setter to apply
+     * @return the builder this step originated from
+     */
+    public MutableMappingBuilder<In, Out> into(ObjIntConsumer<? super Out> setter) {
+        builder.addStep(MappingStep.ofProcessor(LambdaHelper.toIntBiFunction(LAMBDA_HELPER_ACCESS, getter, setter)));
+        return builder;
+    }
+}
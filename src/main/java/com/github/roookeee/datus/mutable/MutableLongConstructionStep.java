@@ -0,0 +1,66 @@
+package com.github.roookeee.datus.mutable;
+
+import com.github.roookeee.datus.shared.GetterChain;
+import com.github.roookeee.datus.shared.LambdaHelper;
+import com.github.roookeee.datus.shared.SafetyMode;
+
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Represents a construction step from a given input to an output type whose current value is a long: unlike a
+ * {@link MutableConstructionStep} of {@link Long} the value is never boxed while converting an input.
+ *
+ * @param <In>  the input type
+ * @param <Out> the output type
+ */
+public final class MutableLongConstructionStep<In, Out> {
+    private static final LambdaHelper.Access LAMBDA_HELPER_ACCESS = LambdaHelper.access();
+
+    private final MutableMappingBuilder<In, Out> builder;
+    private final ToLongFunction<? super In> getter;
+
+    MutableLongConstructionStep(MutableMappingBuilder<In, Out> builder, ToLongFunction<? super In> getter) {
+        this.builder = builder;
+        this.getter = getter;
+    }
+
+    /**
+     * Maps the current value to another long value (similar to {@link java.util.stream.LongStream#map}).
+     *
+     * @param mapper the function to apply
+     * @return a new construction step based on the mapped value
+     */
+    public MutableLongConstructionStep<In, Out> map(LongUnaryOperator mapper) {
+        return new MutableLongConstructionStep<>(builder, LambdaHelper.andThenLong(LAMBDA_HELPER_ACCESS, getter, mapper));
+    }
+
+    /**
+     * Maps the current value to an object (similar to {@link java.util.stream.LongStream#mapToObj}).
+     *
+     * @param mapper     the function to apply
+     * @param <NextType> the return type of the given function
+     * @return a new construction step based on the new type
+     */
+    public <NextType> MutableConstructionStep<In, NextType, Out> mapToObj(LongFunction<? extends NextType> mapper) {
+        ToLongFunction<? super In> getter = this.getter;
+        return new MutableConstructionStep<>(
+                builder,
+                GetterChain.of((In in) -> mapper.apply(getter.applyAsLong(in))),
+                SafetyMode.NONE
+        );
+    }
+
+    /**
+     * Finishes the current construction step by generating a function that applies the given setter on the Out object.
+     *
+     * @param setter the setter to apply
+     * @return the builder this step originated from
+     */
+    public MutableMappingBuilder<In, Out> into(ObjLongConsumer<? super Out> setter) {
+        builder.addStep(MappingStep.ofProcessor(LambdaHelper.toLongBiFunction(LAMBDA_HELPER_ACCESS, getter, setter)));
+        return builder;
+    }
+}
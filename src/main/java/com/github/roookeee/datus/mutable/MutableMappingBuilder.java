@@ -1,15 +1,26 @@
 package com.github.roookeee.datus.mutable;
 
+import com.github.roookeee.datus.api.BuildStrategy;
 import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.api.MappingMetrics;
+import com.github.roookeee.datus.api.MutableMapper;
+import com.github.roookeee.datus.shared.GetterChain;
 import com.github.roookeee.datus.shared.LambdaHelper;
 import com.github.roookeee.datus.shared.SafetyMode;
+import com.github.roookeee.datus.shared.SharedGetters;
+import com.github.roookeee.datus.shared.StepInstrumentation;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * The base class for defining a mutable mapping process from a given input type to a given output type
@@ -21,7 +32,9 @@ import java.util.function.Supplier;
  * @param <Out> the output type
  */
 public final class MutableMappingBuilder<In, Out> {
-    private final List<BiFunction<? super In, ? super Out, ? extends Out>> mappers = new ArrayList<>();
+    private static final LambdaHelper.Access LAMBDA_HELPER_ACCESS = LambdaHelper.access();
+
+    private final List<MappingStep<In, Out>> steps = new ArrayList<>();
     private final Supplier<? extends Out> generator;
 
     /**
@@ -43,7 +56,40 @@ public final class MutableMappingBuilder<In, Out> {
      * @return the construction step to further configure
      */
     public <A> MutableConstructionStep<In, A, Out> from(Function<? super In, ? extends A> getter) {
-        return new MutableConstructionStep<>(this, getter, SafetyMode.NONE);
+        return new MutableConstructionStep<>(this, GetterChain.of(getter), SafetyMode.NONE);
+    }
+
+    /**
+     * Starts a construction step based on the passed int getter. Unlike {@link #from} the value is never boxed when
+     * it is passed to a setter accepting a int (see {@link MutableIntConstructionStep}).
+     *
+     * @param getter the getter to base the construction step on
+     * @return the construction step to further configure
+     */
+    public MutableIntConstructionStep<In, Out> fromInt(ToIntFunction<? super In> getter) {
+        return new MutableIntConstructionStep<>(this, getter);
+    }
+
+    /**
+     * Starts a construction step based on the passed long getter. Unlike {@link #from} the value is never boxed when
+     * it is passed to a setter accepting a long (see {@link MutableLongConstructionStep}).
+     *
+     * @param getter the getter to base the construction step on
+     * @return the construction step to further configure
+     */
+    public MutableLongConstructionStep<In, Out> fromLong(ToLongFunction<? super In> getter) {
+        return new MutableLongConstructionStep<>(this, getter);
+    }
+
+    /**
+     * Starts a construction step based on the passed double getter. Unlike {@link #from} the value is never boxed when
+     * it is passed to a setter accepting a double (see {@link MutableDoubleConstructionStep}).
+     *
+     * @param getter the getter to base the construction step on
+     * @return the construction step to further configure
+     */
+    public MutableDoubleConstructionStep<In, Out> fromDouble(ToDoubleFunction<? super In> getter) {
+        return new MutableDoubleConstructionStep<>(this, getter);
     }
 
     /**
@@ -56,7 +102,7 @@ public final class MutableMappingBuilder<In, Out> {
      * @return the builder instance for chaining
      */
     public MutableMappingBuilder<In, Out> process(BiFunction<? super In, ? super Out, ? extends Out> processor) {
-        mappers.add(processor);
+        steps.add(MappingStep.ofProcessor(processor));
         return this;
     }
 
@@ -81,22 +127,207 @@ public final class MutableMappingBuilder<In, Out> {
      * Generates a {@link Mapper} out of the construction process defined in this builder instance.
      *
      * @return a mapper instance representing the defined construction process
+     * @see #buildMutable()
      */
     public Mapper<In, Out> build() {
-        BiFunction<? super In, ? super Out, ? extends Out> mappingProcess = null;
-        for (BiFunction<? super In, ? super Out, ? extends Out> mapper : mappers) {
+        return buildMutable();
+    }
+
+    /**
+     * Generates a {@link Mapper} out of the construction process defined in this builder instance by using the
+     * given build strategy.
+     *
+     * @param strategy the strategy which determines how the construction process is executed
+     * @return a mapper instance representing the defined construction process
+     * @see #buildMutable(BuildStrategy)
+     */
+    public Mapper<In, Out> build(BuildStrategy strategy) {
+        return buildMutable(strategy);
+    }
+
+    /**
+     * Generates a {@link MutableMapper} out of the construction process defined in this builder instance, which can
+     * additionally populate existing output instances (see {@link MutableMapper#convertInto}).
+     *
+     * @return a mapper instance representing the defined construction process
+     */
+    public MutableMapper<In, Out> buildMutable() {
+        return buildMutable(BuildStrategy.FLATTENED);
+    }
+
+    /**
+     * Generates a {@link MutableMapper} out of the construction process defined in this builder instance by using the
+     * given build strategy (see {@link #buildMutable()}).
+     *
+     * @param strategy the strategy which determines how the construction process is executed
+     * @return a mapper instance representing the defined construction process
+     */
+    public MutableMapper<In, Out> buildMutable(BuildStrategy strategy) {
+        List<Function<? super In, Object>> getters = new ArrayList<>();
+        int[] segments = new int[steps.size()];
+        int segment = 0;
+        for (MappingStep<In, Out> step : steps) {
+            if (step.isSetter()) {
+                segments[getters.size()] = segment;
+                getters.add(step.getter());
+            } else {
+                //a processor may modify the input, so getters after it must not reuse the values of prior getters
+                segment++;
+            }
+        }
+
+        Optional<SharedGetters<In>> sharedGetters = SharedGetters.of(LAMBDA_HELPER_ACCESS, getters, segments);
+        if (sharedGetters.isPresent()) {
+            SharedGetters<In> shared = sharedGetters.get();
+            MutableMapper<Object[], Out> mapper = build(generator, withSharedGetters(shared), strategy);
+            return new SharedGettersMapper<>(shared, mapper);
+        }
+        return build(generator, withComposedGetters(), strategy);
+    }
+
+    /**
+     * Generates a {@link Mapper} out of the construction process defined in this builder instance which passes
+     * the duration of every step to the given metrics (see {@link MappingMetrics}). Steps are recorded in the order
+     * they were specified.
+     * <p>
+     * Note: instrumented mappers are always flattened and do not share the evaluation of common getter prefixes
+     * (see {@link BuildStrategy#FLATTENED}) so every step can be measured on its own.
+     *
+     * @param metrics the metrics to record the steps with, {@link MappingMetrics#NONE} builds an uninstrumented mapper
+     * @return a mapper instance representing the defined construction process
+     */
+    public Mapper<In, Out> buildInstrumented(MappingMetrics metrics) {
+        if (metrics == MappingMetrics.NONE) {
+            return build();
+        }
+        List<BiFunction<? super In, ? super Out, ? extends Out>> mappers = new ArrayList<>(steps.size());
+        for (int i = 0; i < steps.size(); i++) {
+            MappingStep<In, Out> step = steps.get(i);
+            if (step.isSetter()) {
+                MappingMetrics.StepRecorder recorder = metrics.step(i, MappingMetrics.StepKind.SETTER);
+                mappers.add(StepInstrumentation.setter(GetterChain.compose(LAMBDA_HELPER_ACCESS, step.getter()), step.setter(), recorder));
+            } else {
+                MappingMetrics.StepRecorder recorder = metrics.step(i, MappingMetrics.StepKind.PROCESSOR);
+                mappers.add(StepInstrumentation.processor(step.processor(), recorder));
+            }
+        }
+        return new ProcessMapper<>(generator, MappingOptimizer.flattenAndOptimizeMappings(mappers));
+    }
+
+    private List<MappingStep<In, Out>> withComposedGetters() {
+        List<MappingStep<In, Out>> result = new ArrayList<>(steps.size());
+        for (MappingStep<In, Out> step : steps) {
+            result.add(step.isSetter() ? MappingStep.ofSetter(GetterChain.compose(LAMBDA_HELPER_ACCESS, step.getter()), step.setter()) : step);
+        }
+        return result;
+    }
+
+    private List<MappingStep<Object[], Out>> withSharedGetters(SharedGetters<In> shared) {
+        List<MappingStep<Object[], Out>> result = new ArrayList<>(steps.size());
+        Iterator<Function<Object[], Object>> getters = shared.getters().iterator();
+        for (MappingStep<In, Out> step : steps) {
+            if (step.isSetter()) {
+                result.add(MappingStep.ofSetter(getters.next(), step.setter()));
+            } else {
+                BiFunction<? super In, ? super Out, ? extends Out> processor = step.processor();
+                result.add(MappingStep.ofProcessor((frame, out) -> processor.apply(SharedGetters.input(frame), out)));
+            }
+        }
+        return result;
+    }
+
+    private static <I, Out> MutableMapper<I, Out> build(
+            Supplier<? extends Out> generator,
+            List<MappingStep<I, Out>> steps,
+            BuildStrategy strategy
+    ) {
+        if (strategy == BuildStrategy.COMPILED) {
+            Optional<MutableMapper<I, Out>> compiled = MappingCompiler.compile(generator, steps);
+            if (compiled.isPresent()) {
+                return compiled.get();
+            }
+        }
+        if (strategy == BuildStrategy.METHOD_HANDLES) {
+            Optional<MutableMapper<I, Out>> compiled = MethodHandleEngine.compile(generator, steps);
+            if (compiled.isPresent()) {
+                return compiled.get();
+            }
+        }
+        if (strategy == BuildStrategy.CHAINED && !steps.isEmpty()) {
+            return buildChained(generator, steps);
+        }
+        return buildFlattened(generator, steps);
+    }
+
+    private static <I, Out> MutableMapper<I, Out> buildFlattened(Supplier<? extends Out> generator, List<MappingStep<I, Out>> steps) {
+        List<BiFunction<? super I, ? super Out, ? extends Out>> mappers = new ArrayList<>(steps.size());
+        for (MappingStep<I, Out> step : steps) {
+            mappers.add(toBiFunction(step));
+        }
+        return new ProcessMapper<>(generator, MappingOptimizer.flattenAndOptimizeMappings(mappers));
+    }
+
+    private static <I, Out> MutableMapper<I, Out> buildChained(Supplier<? extends Out> generator, List<MappingStep<I, Out>> steps) {
+        BiFunction<? super I, ? super Out, ? extends Out> mappingProcess = null;
+        for (MappingStep<I, Out> step : steps) {
+            BiFunction<? super I, ? super Out, ? extends Out> mapper = toBiFunction(step);
             if(mappingProcess == null) {
                 mappingProcess = mapper;
                 continue;
             }
-            mappingProcess = LambdaHelper.andThen(mappingProcess, mapper);
+            mappingProcess = LambdaHelper.andThen(LAMBDA_HELPER_ACCESS, mappingProcess, mapper);
+        }
+        return new ProcessMapper<>(generator, mappingProcess);
+    }
+
+    private static <I, Out> BiFunction<? super I, ? super Out, ? extends Out> toBiFunction(MappingStep<I, Out> step) {
+        if (step.isSetter()) {
+            return LambdaHelper.toBiFunction(LAMBDA_HELPER_ACCESS, step.getter(), step.setter());
         }
-        BiFunction<? super In, ? super Out, ? extends Out> result = mappingProcess;
-        Supplier<? extends Out> generator = this.generator;
-        return input -> result.apply(input, generator.get());
+        return step.processor();
+    }
+
+    void addStep(MappingStep<In, Out> step) {
+        steps.add(step);
     }
 
-    void addMapper(BiFunction<? super In, ? super Out, ? extends Out> mapper) {
-        mappers.add(mapper);
+    private static final class ProcessMapper<I, Out> implements MutableMapper<I, Out> {
+        private final Supplier<? extends Out> generator;
+        private final BiFunction<? super I, ? super Out, ? extends Out> process;
+
+        private ProcessMapper(Supplier<? extends Out> generator, BiFunction<? super I, ? super Out, ? extends Out> process) {
+            this.generator = generator;
+            this.process = process;
+        }
+
+        @Override
+        public Out convert(I input) {
+            return process.apply(input, generator.get());
+        }
+
+        @Override
+        public Out convertInto(I input, Out target) {
+            return process.apply(input, target);
+        }
+    }
+
+    private static final class SharedGettersMapper<In, Out> implements MutableMapper<In, Out> {
+        private final SharedGetters<In> shared;
+        private final MutableMapper<Object[], Out> mapper;
+
+        private SharedGettersMapper(SharedGetters<In> shared, MutableMapper<Object[], Out> mapper) {
+            this.shared = shared;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public Out convert(In input) {
+            return mapper.convert(shared.frame(input));
+        }
+
+        @Override
+        public Out convertInto(In input, Out target) {
+            return mapper.convertInto(shared.frame(input), target);
+        }
     }
 }
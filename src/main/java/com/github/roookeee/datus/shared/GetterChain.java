@@ -0,0 +1,179 @@
+package com.github.roookeee.datus.shared;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A GetterChain represents a getter of an input type and all of its subsequent mapping functions
+ * (e.g. {@code from(Order::getCustomer).map(Customer::getName)}). Every hop is kept separately instead of eagerly
+ * combining them so identical prefixes of multiple chains can be detected when a mapper is built
+ * (see {@link SharedGetters}).
+ * <p>
+ * Composing a chain defines isolated classes via the {@link LambdaHelper} and thus requires its access token.
+ * This is an internal class and thus should not be used directly.
+ *
+ * @param <In> the input type
+ * @param <T>  the type of the chains last hop
+ */
+public final class GetterChain<In, T> implements Function<In, T> {
+    private static final LambdaHelper.Access LAMBDA_HELPER_ACCESS = LambdaHelper.access();
+    //the longest path LambdaHelper#nullsafePath can combine
+    private static final int MAX_PATH_LENGTH = 8;
+
+    private final GetterChain<In, ?> parent;
+    private final Function<Object, Object> hop;
+    private final SafetyMode safetyMode;
+    //lazily initialized, racy initialization is fine as composing the same chain twice yields equivalent functions
+    private Function<In, T> composed;
+
+    private GetterChain(GetterChain<In, ?> parent, Function<Object, Object> hop, SafetyMode safetyMode) {
+        this.parent = parent;
+        this.hop = hop;
+        this.safetyMode = safetyMode;
+    }
+
+    /**
+     * Starts a getter chain with the given getter.
+     *
+     * @param getter the getter to start with
+     * @param <In>   the input type
+     * @param <T>    the getters return type
+     * @return the getter chain
+     */
+    @SuppressWarnings("unchecked")
+    public static <In, T> GetterChain<In, T> of(Function<? super In, ? extends T> getter) {
+        if (getter instanceof GetterChain) {
+            return (GetterChain<In, T>) getter;
+        }
+        return new GetterChain<>(null, (Function<Object, Object>) getter, SafetyMode.NONE);
+    }
+
+    /**
+     * Combines the given function into an equivalent function that does not use any intermediate getter chain objects.
+     * Only datus classes that are allowed to use the {@link LambdaHelper} may do so (see {@link LambdaHelper#access()}).
+     *
+     * @param access the access token of the {@link LambdaHelper}
+     * @param getter the getter to compose (may or may not be a getter chain)
+     * @param <In>   the input type
+     * @param <T>    the getters return type
+     * @return a function equivalent to the given getter
+     */
+    @SuppressWarnings("unchecked")
+    public static <In, T> Function<In, T> compose(LambdaHelper.Access access, Function<? super In, ? extends T> getter) {
+        LambdaHelper.checkAccess(access);
+        if (getter instanceof GetterChain) {
+            return ((GetterChain<In, T>) getter).compose();
+        }
+        return (Function<In, T>) getter;
+    }
+
+    /**
+     * Appends the given function to this getter chain.
+     *
+     * @param mapper     the function to apply to the current value of the chain
+     * @param safetyMode the safety mode to apply to the given function
+     * @param <R>        the return type of the given function
+     * @return a new getter chain ending in the given function
+     */
+    @SuppressWarnings("unchecked")
+    public <R> GetterChain<In, R> map(Function<? super T, ? extends R> mapper, SafetyMode safetyMode) {
+        return new GetterChain<>(this, (Function<Object, Object>) mapper, safetyMode);
+    }
+
+    /**
+     * Combines all hops of this chain into one function (see {@link #compose(LambdaHelper.Access, Function)}).
+     *
+     * @param access the access token of the {@link LambdaHelper}
+     * @return a function equivalent to this chain
+     */
+    public Function<In, T> compose(LambdaHelper.Access access) {
+        LambdaHelper.checkAccess(access);
+        return compose();
+    }
+
+    @SuppressWarnings("unchecked")
+    Function<In, T> compose() {
+        Function<In, T> result = composed;
+        if (result == null) {
+            if (parent == null) {
+                result = (Function<In, T>) hop;
+            } else if (safetyMode == SafetyMode.NONE) {
+                result = (Function<In, T>) LambdaHelper.andThen(LAMBDA_HELPER_ACCESS, parent.compose(), hop);
+            } else {
+                //fuse the trailing run of nullsafe hops into flat paths instead of nesting one wrapper per hop
+                List<Function<Object, Object>> hops = new ArrayList<>();
+                List<SafetyMode> safetyModes = new ArrayList<>();
+                GetterChain<In, ?> base = this;
+                for (; base.parent != null && base.safetyMode != SafetyMode.NONE; base = base.parent) {
+                    hops.add(base.hop);
+                    safetyModes.add(base.safetyMode);
+                }
+                Collections.reverse(hops);
+                Collections.reverse(safetyModes);
+                result = (Function<In, T>) andThen(base.compose(), hops, safetyModes);
+            }
+            composed = result;
+        }
+        return result;
+    }
+
+    @Override
+    public T apply(In in) {
+        return compose().apply(in);
+    }
+
+    /*
+    appends the given hops to the given base function, consecutive nullsafe hops are combined into flat paths that
+    return null as soon as any hop returns null (see LambdaHelper#nullsafePath)
+     */
+    @SuppressWarnings("unchecked")
+    static <In> Function<In, Object> andThen(
+            Function<In, ?> base,
+            List<Function<Object, Object>> hops,
+            List<SafetyMode> safetyModes
+    ) {
+        Function<In, Object> result = (Function<In, Object>) base;
+        List<Function<?, ?>> path = new ArrayList<>();
+        for (int i = 0; i < hops.size(); i++) {
+            if (safetyModes.get(i) == SafetyMode.NONE) {
+                result = LambdaHelper.andThen(LAMBDA_HELPER_ACCESS, result, hops.get(i));
+                continue;
+            }
+            path.add(result);
+            for (; i < hops.size() && safetyModes.get(i) != SafetyMode.NONE; i++) {
+                if (path.size() == MAX_PATH_LENGTH) {
+                    result = LambdaHelper.nullsafePath(LAMBDA_HELPER_ACCESS, path);
+                    path.clear();
+                    path.add(result);
+                }
+                path.add(hops.get(i));
+            }
+            i--;
+            result = LambdaHelper.nullsafePath(LAMBDA_HELPER_ACCESS, path);
+            path.clear();
+        }
+        return result;
+    }
+
+    /**
+     * @return all chain elements from the root getter up to (and including) this chain element
+     */
+    List<GetterChain<In, ?>> elements() {
+        List<GetterChain<In, ?>> elements = new ArrayList<>();
+        for (GetterChain<In, ?> current = this; current != null; current = current.parent) {
+            elements.add(current);
+        }
+        Collections.reverse(elements);
+        return elements;
+    }
+
+    Function<Object, Object> hop() {
+        return hop;
+    }
+
+    SafetyMode safetyMode() {
+        return safetyMode;
+    }
+}
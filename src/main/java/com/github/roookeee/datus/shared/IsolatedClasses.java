@@ -0,0 +1,272 @@
+package com.github.roookeee.datus.shared;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides the isolated copies of the helper classes used by {@link LambdaHelper}: every copy is a class of its own
+ * so the call sites of its methods are profiled separately from all other copies.
+ * <p>
+ * On Java 15+ the copies are hidden classes (see {@code MethodHandles.Lookup#defineHiddenClass}) which are cheap to
+ * define, can be unloaded as soon as they are no longer referenced and have fields the JIT trusts to be final. Older
+ * runtimes load every copy by its own classloader instead.
+ * <p>
+ * Copies are reused for constructor arguments of exactly the same classes: the call sites of such a copy keep seeing
+ * the same receiver classes and thus stay monomorphic while rebuilding a mapping definition (or building equally
+ * shaped ones) does not define any additional classes. The number of reused copies is bounded by the system property
+ * {@code com.github.roookeee.datus.optimization.cache.size} (default 4096, 0 disables the reuse) and the least recently
+ * used copies are evicted first. The classes of the constructor arguments (usually lambdas and method references of
+ * the mapping definitions) are only weakly referenced so the reuse never prevents their classloaders from being
+ * unloaded (e.g. when an application is redeployed while datus is loaded by a parent classloader).
+ */
+final class IsolatedClasses {
+    private static final int DEFAULT_CACHE_SIZE = 4096;
+
+    //the class files are read once instead of once per copy
+    private static final Map<String, byte[]> CLASS_FILES = new ConcurrentHashMap<>();
+
+    //(byte[] classFile, boolean initialize)Lookup defining hidden classes in this package, null before Java 15
+    private static final MethodHandle DEFINE_HIDDEN_CLASS = defineHiddenClassHandle();
+
+    static final IsolatedClasses INSTANCE = new IsolatedClasses(
+            Integer.getInteger("com.github.roookeee.datus.optimization.cache.size", DEFAULT_CACHE_SIZE),
+            hiddenClassesSupported()
+    );
+
+    private final int cacheSize;
+    private final boolean hiddenClasses;
+    //guarded by itself, iterates in least recently used order
+    private final Map<Key, Constructor<?>> constructors = new LinkedHashMap<>(16, 0.75f, true);
+    //receives the argument types of cached copies once they were garbage collected, guarded by constructors
+    private final ReferenceQueue<Class<?>> collectedTypes = new ReferenceQueue<>();
+
+    /**
+     * @param cacheSize     the maximum number of reused copies, 0 disables the reuse
+     * @param hiddenClasses whether copies are defined as hidden classes (see {@link #hiddenClassesSupported()})
+     */
+    IsolatedClasses(int cacheSize, boolean hiddenClasses) {
+        if (hiddenClasses && !hiddenClassesSupported()) {
+            throw new IllegalArgumentException("Hidden classes are not supported by this runtime");
+        }
+        this.cacheSize = cacheSize;
+        this.hiddenClasses = hiddenClasses;
+    }
+
+    /**
+     * @return true if the current runtime supports hidden classes (Java 15+)
+     */
+    static boolean hiddenClassesSupported() {
+        return DEFINE_HIDDEN_CLASS != null;
+    }
+
+    /**
+     * Returns the constructor of an isolated copy of the given class which is suitable for the given arguments.
+     *
+     * @param clazz          the class to copy
+     * @param interfaceType  the interface implemented by the given class
+     * @param parameterTypes the constructors parameter types
+     * @param ctorArgs       the arguments the constructor will be called with
+     * @param <T>            the interface type
+     * @return the (accessible) constructor of the isolated copy
+     * @throws ReflectiveOperationException if the isolated copy cannot be loaded
+     */
+    @SuppressWarnings("unchecked")
+    <T> Constructor<? extends T> constructor(
+            Class<? extends T> clazz,
+            Class<T> interfaceType,
+            Class<?>[] parameterTypes,
+            Object[] ctorArgs
+    ) throws ReflectiveOperationException {
+        if (cacheSize <= 0) {
+            return load(clazz, interfaceType, parameterTypes);
+        }
+
+        Key key = new Key(clazz, ctorArgs, collectedTypes);
+        synchronized (constructors) {
+            Constructor<?> cached = constructors.get(key);
+            if (cached != null) {
+                return (Constructor<? extends T>) cached;
+            }
+        }
+
+        Constructor<? extends T> ctor = load(clazz, interfaceType, parameterTypes);
+        synchronized (constructors) {
+            removeCollected();
+            constructors.put(key, ctor);
+            Iterator<Key> leastRecentlyUsed = constructors.keySet().iterator();
+            while (constructors.size() > cacheSize) {
+                leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+            }
+        }
+        return ctor;
+    }
+
+    int cachedCopies() {
+        synchronized (constructors) {
+            removeCollected();
+            return constructors.size();
+        }
+    }
+
+    //has to be called while holding the lock of constructors
+    private void removeCollected() {
+        for (Reference<? extends Class<?>> type; (type = collectedTypes.poll()) != null; ) {
+            constructors.remove(((ArgumentType) type).key);
+        }
+    }
+
+    private <T> Constructor<? extends T> load(
+            Class<? extends T> clazz,
+            Class<T> interfaceType,
+            Class<?>[] parameterTypes
+    ) throws ReflectiveOperationException {
+        Class<?> copy = hiddenClasses ? defineHiddenClass(clazz) : new IsolatedClassLoader().loadClass(clazz.getName());
+        Constructor<? extends T> ctor = copy
+                .asSubclass(interfaceType)
+                .getConstructor(parameterTypes);
+        /*
+        as the static helper classes passed to this function are package private we have to make their constructors
+        explicitly visible to make them callable
+         */
+        ctor.setAccessible(true);
+        return ctor;
+    }
+
+    private static Class<?> defineHiddenClass(Class<?> clazz) throws ReflectiveOperationException {
+        byte[] classFile = CLASS_FILES.computeIfAbsent(clazz.getName(), IsolatedClasses::readClassFile);
+        if (classFile == null) {
+            throw new ClassNotFoundException(clazz.getName());
+        }
+        try {
+            MethodHandles.Lookup hiddenClass = (MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invokeExact(classFile, false);
+            return hiddenClass.lookupClass();
+        } catch (ReflectiveOperationException | RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static MethodHandle defineHiddenClassHandle() {
+        try {
+            //looked up reflectively as datus is compiled against Java 8, copies are neither nestmates nor strongly held
+            Class<?> classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            Object noOptions = Array.newInstance(classOption, 0);
+            MethodHandle defineHiddenClass = MethodHandles.publicLookup().findVirtual(
+                    MethodHandles.Lookup.class,
+                    "defineHiddenClass",
+                    MethodType.methodType(MethodHandles.Lookup.class, byte[].class, boolean.class, noOptions.getClass())
+            );
+            return MethodHandles.insertArguments(defineHiddenClass, 3, noOptions).bindTo(MethodHandles.lookup());
+        } catch (ReflectiveOperationException ex) {
+            return null;
+        }
+    }
+
+    private static byte[] readClassFile(String className) {
+        String resourceName = className.replace('.', '/') + ".class";
+        try (InputStream input = IsolatedClasses.class.getClassLoader().getResourceAsStream(resourceName)) {
+            if (input == null) {
+                return null;
+            }
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+            return output.toByteArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    //only delegates to the bootstrap classloader so any datus class is loaded (and thus profiled) separately
+    private static final class IsolatedClassLoader extends ClassLoader {
+        private IsolatedClassLoader() {
+            super(null);
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] classFile = CLASS_FILES.computeIfAbsent(name, IsolatedClasses::readClassFile);
+            if (classFile == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, classFile, 0, classFile.length);
+        }
+    }
+
+    /*
+    identifies a copy by the copied class and the argument types it was created for, the argument types are weakly
+    referenced and compared by identity: keys whose argument types were collected only equal themselves
+     */
+    private static final class Key {
+        private final Class<?> clazz;
+        private final ArgumentType[] argumentTypes;
+        private final int hashCode;
+
+        private Key(Class<?> clazz, Object[] ctorArgs, ReferenceQueue<Class<?>> collectedTypes) {
+            this.clazz = clazz;
+            this.argumentTypes = new ArgumentType[ctorArgs.length];
+            int hashCode = clazz.hashCode();
+            for (int i = 0; i < ctorArgs.length; i++) {
+                Class<?> argumentType = ctorArgs[i].getClass();
+                argumentTypes[i] = new ArgumentType(argumentType, this, collectedTypes);
+                hashCode = 31 * hashCode + System.identityHashCode(argumentType);
+            }
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            if (clazz != other.clazz || hashCode != other.hashCode || argumentTypes.length != other.argumentTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < argumentTypes.length; i++) {
+                Class<?> argumentType = argumentTypes[i].get();
+                if (argumentType == null || argumentType != other.argumentTypes[i].get()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class ArgumentType extends WeakReference<Class<?>> {
+        //the key to remove once the argument type was collected
+        private final Key key;
+
+        private ArgumentType(Class<?> argumentType, Key key, ReferenceQueue<Class<?>> collectedTypes) {
+            super(argumentType, collectedTypes);
+            this.key = key;
+        }
+    }
+}
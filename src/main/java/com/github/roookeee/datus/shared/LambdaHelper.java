@@ -2,20 +2,30 @@ package com.github.roookeee.datus.shared;
 
 import com.github.roookeee.datus.immutable.ConstructorParameterBinding;
 import com.github.roookeee.datus.mutable.MutableConstructionStep;
+import com.github.roookeee.datus.mutable.MutableDoubleConstructionStep;
+import com.github.roookeee.datus.mutable.MutableIntConstructionStep;
+import com.github.roookeee.datus.mutable.MutableLongConstructionStep;
 import com.github.roookeee.datus.mutable.MutableMappingBuilder;
 
-import java.io.IOException;
 import java.lang.reflect.Constructor;
-import java.net.URL;
-import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 public final class LambdaHelper {
@@ -23,12 +33,23 @@ public final class LambdaHelper {
     static final Set<String> WHITELISTED_CALLEES = new HashSet<>(
             Arrays.asList(
                     OptimizationInitializer.class.getName(),
+                    MutableMappingBuilder.class.getName(),
                     MutableConstructionStep.class.getName(),
+                    MutableIntConstructionStep.class.getName(),
+                    MutableLongConstructionStep.class.getName(),
+                    MutableDoubleConstructionStep.class.getName(),
                     ConstructorParameterBinding.class.getName(),
-                    MutableMappingBuilder.class.getName()
+                    //package private and thus not referencable as a class literal
+                    "com.github.roookeee.datus.mutable.MappingOptimizer",
+                    "com.github.roookeee.datus.immutable.ParameterBindings",
+                    GetterChain.class.getName(),
+                    SharedGetters.class.getName()
             )
     );
 
+    //has to be initialized before the optimization initializer runs
+    private static final Access ACCESS = new Access();
+
     static boolean OPTIMIZE;
 
     static {
@@ -40,11 +61,24 @@ public final class LambdaHelper {
         }
     }
 
+    /**
+     * Returns the token that has to be passed to every other function of this class. Only whitelisted datus classes
+     * may obtain the token and are expected to do so once (e.g. in a static initializer) as this check has to inspect
+     * the callers stack trace whose cost grows with the depth of the stack.
+     *
+     * @return the access token
+     */
+    public static Access access() {
+        checkPrivileges();
+        return ACCESS;
+    }
+
     public static <T, U, R> BiFunction<T, R, R> toBiFunction(
+            Access access,
             Function<? super T, ? extends U> getter,
             BiConsumer<? super R, ? super U> setter
     ) {
-        checkPrivileges();
+        checkAccess(access);
         if (!OPTIMIZE) {
             return new SetterBiFn<>(getter, setter);
         }
@@ -53,10 +87,11 @@ public final class LambdaHelper {
     }
 
     public static <T, U, V, R> BiFunction<T, U, R> andThen(
+            Access access,
             BiFunction<? super T, ? super U, ? extends V> first,
             BiFunction<? super T, ? super V, ? extends R> second
     ) {
-        checkPrivileges();
+        checkAccess(access);
         if (!OPTIMIZE) {
             return new BiFunctionCombinator<>(first, second);
         }
@@ -65,10 +100,11 @@ public final class LambdaHelper {
     }
 
     public static <T, U, R> Function<T, R> andThen(
+            Access access,
             Function<? super T, ? extends U> first,
             Function<? super U, ? extends R> second
     ) {
-        checkPrivileges();
+        checkAccess(access);
         if (!OPTIMIZE) {
             return new FunctionCombinator<>(first, second);
         }
@@ -76,8 +112,8 @@ public final class LambdaHelper {
         return optimize(FunctionCombinator.class, Function.class, first, second);
     }
 
-    public static <T, R> Function<T, R> nullsafe(Function<T, R> fn) {
-        checkPrivileges();
+    public static <T, R> Function<T, R> nullsafe(Access access, Function<T, R> fn) {
+        checkAccess(access);
         if (!OPTIMIZE) {
             return new NullSafeFunction<>(fn);
         }
@@ -85,29 +121,220 @@ public final class LambdaHelper {
         return optimize(NullSafeFunction.class, Function.class, fn);
     }
 
+    public static <T> ToIntFunction<T> andThenInt(Access access, ToIntFunction<? super T> first, IntUnaryOperator second) {
+        checkAccess(access);
+        if (!OPTIMIZE) {
+            return new IntCombinator<>(first, second);
+        }
+
+        return optimize(IntCombinator.class, ToIntFunction.class, new Class[]{ToIntFunction.class, IntUnaryOperator.class}, first, second);
+    }
+
+    public static <T, R> BiFunction<T, R, R> toIntBiFunction(
+            Access access,
+            ToIntFunction<? super T> getter,
+            ObjIntConsumer<? super R> setter
+    ) {
+        checkAccess(access);
+        if (!OPTIMIZE) {
+            return new IntSetterBiFn<>(getter, setter);
+        }
+
+        return optimize(IntSetterBiFn.class, BiFunction.class, new Class[]{ToIntFunction.class, ObjIntConsumer.class}, getter, setter);
+    }
+
+    public static <T> ToLongFunction<T> andThenLong(Access access, ToLongFunction<? super T> first, LongUnaryOperator second) {
+        checkAccess(access);
+        if (!OPTIMIZE) {
+            return new LongCombinator<>(first, second);
+        }
+
+        return optimize(LongCombinator.class, ToLongFunction.class, new Class[]{ToLongFunction.class, LongUnaryOperator.class}, first, second);
+    }
+
+    public static <T, R> BiFunction<T, R, R> toLongBiFunction(
+            Access access,
+            ToLongFunction<? super T> getter,
+            ObjLongConsumer<? super R> setter
+    ) {
+        checkAccess(access);
+        if (!OPTIMIZE) {
+            return new LongSetterBiFn<>(getter, setter);
+        }
+
+        return optimize(LongSetterBiFn.class, BiFunction.class, new Class[]{ToLongFunction.class, ObjLongConsumer.class}, getter, setter);
+    }
+
+    public static <T> ToDoubleFunction<T> andThenDouble(Access access, ToDoubleFunction<? super T> first, DoubleUnaryOperator second) {
+        checkAccess(access);
+        if (!OPTIMIZE) {
+            return new DoubleCombinator<>(first, second);
+        }
+
+        return optimize(DoubleCombinator.class, ToDoubleFunction.class, new Class[]{ToDoubleFunction.class, DoubleUnaryOperator.class}, first, second);
+    }
+
+    public static <T, R> BiFunction<T, R, R> toDoubleBiFunction(
+            Access access,
+            ToDoubleFunction<? super T> getter,
+            ObjDoubleConsumer<? super R> setter
+    ) {
+        checkAccess(access);
+        if (!OPTIMIZE) {
+            return new DoubleSetterBiFn<>(getter, setter);
+        }
+
+        return optimize(DoubleSetterBiFn.class, BiFunction.class, new Class[]{ToDoubleFunction.class, ObjDoubleConsumer.class}, getter, setter);
+    }
+
+    /**
+     * Wraps the given function so its result is only computed once per frame. A frame is an Object[] whose elements
+     * that are not computed yet reference the frame itself.
+     *
+     * @param access the access token
+     * @param slot   the index of the frame to store the computed value at
+     * @param fn     the function computing the value
+     * @param <R>    the type of the computed value
+     * @return the memoizing function
+     */
+    public static <R> Function<Object[], R> memoize(Access access, int slot, Function<Object[], ? extends R> fn) {
+        checkAccess(access);
+        if (!OPTIMIZE) {
+            return new MemoizedFunction<>(slot, fn);
+        }
+
+        return optimize(MemoizedFunction.class, Function.class, new Class[]{int.class, Function.class}, slot, fn);
+    }
+
+    /**
+     * Combines the given functions (2 to 8) into one function that passes the output of each function to its successor
+     * but returns null as soon as any function but the last one returns null (e.g. a nullsafe getter chain like
+     * {@code from(Order::getCustomer).nullsafe().map(Customer::getAddress).map(Address::getCity)}).
+     *
+     * @param access    the access token
+     * @param functions the functions to combine in execution order, the first one is always applied
+     * @param <T>       the input type
+     * @param <R>       the output type
+     * @return the combined function
+     */
+    public static <T, R> Function<T, R> nullsafePath(Access access, List<? extends Function<?, ?>> functions) {
+        checkAccess(access);
+        Class<?> pathClass;
+        switch (functions.size()) {
+            case 2:
+                pathClass = NullSafePath2.class;
+                break;
+            case 3:
+                pathClass = NullSafePath3.class;
+                break;
+            case 4:
+                pathClass = NullSafePath4.class;
+                break;
+            case 5:
+                pathClass = NullSafePath5.class;
+                break;
+            case 6:
+                pathClass = NullSafePath6.class;
+                break;
+            case 7:
+                pathClass = NullSafePath7.class;
+                break;
+            case 8:
+                pathClass = NullSafePath8.class;
+                break;
+            default:
+                throw new IllegalArgumentException("Only 2 to 8 functions can be combined but got " + functions.size());
+        }
+        Object[] ctorArgs = functions.toArray();
+        if (!OPTIMIZE) {
+            try {
+                @SuppressWarnings("unchecked")
+                Function<T, R> result = (Function<T, R>) pathClass.getConstructors()[0].newInstance(ctorArgs);
+                return result;
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        Class[] parameterTypes = new Class[ctorArgs.length];
+        Arrays.fill(parameterTypes, Function.class);
+        @SuppressWarnings("unchecked")
+        Function<T, R> result = optimize((Class<Function>) pathClass, Function.class, parameterTypes, ctorArgs);
+        return result;
+    }
+
+    /**
+     * Combines the given functions (2 to 8) into one function that passes the output of each function to its successor.
+     *
+     * @param access    the access token
+     * @param functions the functions to combine in execution order
+     * @param <T>       the input type
+     * @param <R>       the output type
+     * @return the combined function
+     */
+    public static <T, R> BiFunction<T, R, R> sequence(Access access, List<? extends BiFunction<? super T, ? super R, ? extends R>> functions) {
+        checkAccess(access);
+        Class<?> sequenceClass;
+        switch (functions.size()) {
+            case 2:
+                sequenceClass = Sequence2.class;
+                break;
+            case 3:
+                sequenceClass = Sequence3.class;
+                break;
+            case 4:
+                sequenceClass = Sequence4.class;
+                break;
+            case 5:
+                sequenceClass = Sequence5.class;
+                break;
+            case 6:
+                sequenceClass = Sequence6.class;
+                break;
+            case 7:
+                sequenceClass = Sequence7.class;
+                break;
+            case 8:
+                sequenceClass = Sequence8.class;
+                break;
+            default:
+                throw new IllegalArgumentException("Only 2 to 8 functions can be combined but got " + functions.size());
+        }
+        Object[] ctorArgs = functions.toArray();
+        if (!OPTIMIZE) {
+            try {
+                @SuppressWarnings("unchecked")
+                BiFunction<T, R, R> result = (BiFunction<T, R, R>) sequenceClass.getConstructors()[0].newInstance(ctorArgs);
+                return result;
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        Class[] parameterTypes = new Class[ctorArgs.length];
+        Arrays.fill(parameterTypes, BiFunction.class);
+        @SuppressWarnings("unchecked")
+        BiFunction<T, R, R> result = optimize((Class<BiFunction>) sequenceClass, BiFunction.class, parameterTypes, ctorArgs);
+        return result;
+    }
+
     private static <T, U extends T> T optimize(Class<U> clazz, Class<T> interfaceType, Object... ctorArgs) {
-        URL classLocation = clazz.getProtectionDomain()
-                .getCodeSource().getLocation();
-        try (URLClassLoader cl = new URLClassLoader(new URL[]{classLocation}, null)) {
-            /*
-            As the passed ctorArgs may be from another classloader from previous optimize(...) calls
-            we have to reduce their types to their functional bootstrap interface (Function, BiFunction etc.)
-            or else getConstructor(...) won't work
-             */
-            Class[] parameterInterfaceTypes = Arrays.stream(ctorArgs)
-                    .map(Object::getClass)
-                    .map(c -> c.getInterfaces()[0])
-                    .toArray(Class[]::new);
-            Constructor<? extends T> ctor = cl.loadClass(clazz.getName())
-                    .asSubclass(interfaceType)
-                    .getConstructor(parameterInterfaceTypes);
-            /*
-            as the static helper classes passed to this function are package private we have to make their constructors
-            explicitly visible to make them callable
-             */
-            ctor.setAccessible(true);
-            return ctor.newInstance(ctorArgs);
-        } catch (IOException | ReflectiveOperationException ex) {
+        /*
+        As the passed ctorArgs may be from another classloader from previous optimize(...) calls
+        we have to reduce their types to their functional bootstrap interface (Function, BiFunction etc.)
+        or else getConstructor(...) won't work
+         */
+        Class[] parameterInterfaceTypes = Arrays.stream(ctorArgs)
+                .map(Object::getClass)
+                .map(c -> c.getInterfaces()[0])
+                .toArray(Class[]::new);
+        return optimize(clazz, interfaceType, parameterInterfaceTypes, ctorArgs);
+    }
+
+    private static <T, U extends T> T optimize(Class<U> clazz, Class<T> interfaceType, Class[] parameterTypes, Object... ctorArgs) {
+        try {
+            return IsolatedClasses.INSTANCE.constructor(clazz, interfaceType, parameterTypes, ctorArgs).newInstance(ctorArgs);
+        } catch (ReflectiveOperationException ex) {
             throw new IllegalStateException(ex);
         }
     }
@@ -123,14 +350,34 @@ public final class LambdaHelper {
         //should never happen (e.g. a test still call LambdaHelper from another class) but just to be sure
         //-> this is an error case as LambdaHelper should not call its own public functions
         if (!firstExternalCaller.isPresent()) {
-            throw new IllegalStateException("Using datus internal functionality is forbidden." +
-                    " These APIs are highly unstable / brittle and thus not included in datus public API / versioning scheme!");
+            throw forbiddenUsage();
         }
 
         String caller = firstExternalCaller.get();
         if (!WHITELISTED_CALLEES.contains(caller)) {
-            throw new IllegalStateException("Using datus internal functionality is forbidden." +
-                    " These APIs are highly unstable / brittle and thus not included in datus public API / versioning scheme!");
+            throw forbiddenUsage();
+        }
+    }
+
+    static void checkAccess(Access access) {
+        //a cheap identity check, the expensive stack trace inspection only happens once per caller in access()
+        if (access != ACCESS) {
+            throw forbiddenUsage();
+        }
+    }
+
+    private static IllegalStateException forbiddenUsage() {
+        return new IllegalStateException("Using datus internal functionality is forbidden." +
+                " These APIs are highly unstable / brittle and thus not included in datus public API / versioning scheme!");
+    }
+
+    /**
+     * The token proving that its holder is allowed to use the functions of {@link LambdaHelper}.
+     * It is handed out by {@link #access()} and must not be shared with any other class.
+     */
+    public static final class Access {
+        private Access() {
+
         }
     }
 
@@ -211,6 +458,638 @@ public final class LambdaHelper {
         }
     }
 
+    static final class IntCombinator<T> implements ToIntFunction<T> {
+        private final ToIntFunction<? super T> first;
+        private final IntUnaryOperator second;
+
+        //has to be public to be accessible for reflective lookups
+        public IntCombinator(ToIntFunction<? super T> first, IntUnaryOperator second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public int applyAsInt(T t) {
+            return second.applyAsInt(first.applyAsInt(t));
+        }
+    }
+
+    static final class IntSetterBiFn<T, R> implements BiFunction<T, R, R> {
+        private final ToIntFunction<? super T> getter;
+        private final ObjIntConsumer<? super R> setter;
+
+        //has to be public to be accessible for reflective lookups
+        public IntSetterBiFn(ToIntFunction<? super T> getter, ObjIntConsumer<? super R> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public R apply(T t, R r) {
+            setter.accept(r, getter.applyAsInt(t));
+            return r;
+        }
+    }
+
+    static final class LongCombinator<T> implements ToLongFunction<T> {
+        private final ToLongFunction<? super T> first;
+        private final LongUnaryOperator second;
+
+        //has to be public to be accessible for reflective lookups
+        public LongCombinator(ToLongFunction<? super T> first, LongUnaryOperator second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public long applyAsLong(T t) {
+            return second.applyAsLong(first.applyAsLong(t));
+        }
+    }
+
+    static final class LongSetterBiFn<T, R> implements BiFunction<T, R, R> {
+        private final ToLongFunction<? super T> getter;
+        private final ObjLongConsumer<? super R> setter;
+
+        //has to be public to be accessible for reflective lookups
+        public LongSetterBiFn(ToLongFunction<? super T> getter, ObjLongConsumer<? super R> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public R apply(T t, R r) {
+            setter.accept(r, getter.applyAsLong(t));
+            return r;
+        }
+    }
+
+    static final class DoubleCombinator<T> implements ToDoubleFunction<T> {
+        private final ToDoubleFunction<? super T> first;
+        private final DoubleUnaryOperator second;
+
+        //has to be public to be accessible for reflective lookups
+        public DoubleCombinator(ToDoubleFunction<? super T> first, DoubleUnaryOperator second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public double applyAsDouble(T t) {
+            return second.applyAsDouble(first.applyAsDouble(t));
+        }
+    }
+
+    static final class DoubleSetterBiFn<T, R> implements BiFunction<T, R, R> {
+        private final ToDoubleFunction<? super T> getter;
+        private final ObjDoubleConsumer<? super R> setter;
+
+        //has to be public to be accessible for reflective lookups
+        public DoubleSetterBiFn(ToDoubleFunction<? super T> getter, ObjDoubleConsumer<? super R> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public R apply(T t, R r) {
+            setter.accept(r, getter.applyAsDouble(t));
+            return r;
+        }
+    }
+
+    static final class Sequence2<T, R> implements BiFunction<T, R, R> {
+        private final BiFunction<? super T, ? super R, ? extends R> a;
+        private final BiFunction<? super T, ? super R, ? extends R> b;
+
+        //has to be public to be accessible for reflective lookups
+        public Sequence2(
+                BiFunction<? super T, ? super R, ? extends R> a,
+                BiFunction<? super T, ? super R, ? extends R> b
+        ) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public R apply(T t, R r) {
+            return b.apply(t, a.apply(t, r));
+        }
+    }
+
+    static final class Sequence3<T, R> implements BiFunction<T, R, R> {
+        private final BiFunction<? super T, ? super R, ? extends R> a;
+        private final BiFunction<? super T, ? super R, ? extends R> b;
+        private final BiFunction<? super T, ? super R, ? extends R> c;
+
+        //has to be public to be accessible for reflective lookups
+        public Sequence3(
+                BiFunction<? super T, ? super R, ? extends R> a,
+                BiFunction<? super T, ? super R, ? extends R> b,
+                BiFunction<? super T, ? super R, ? extends R> c
+        ) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+
+        @Override
+        public R apply(T t, R r) {
+            return c.apply(t, b.apply(t, a.apply(t, r)));
+        }
+    }
+
+    static final class Sequence4<T, R> implements BiFunction<T, R, R> {
+        private final BiFunction<? super T, ? super R, ? extends R> a;
+        private final BiFunction<? super T, ? super R, ? extends R> b;
+        private final BiFunction<? super T, ? super R, ? extends R> c;
+        private final BiFunction<? super T, ? super R, ? extends R> d;
+
+        //has to be public to be accessible for reflective lookups
+        public Sequence4(
+                BiFunction<? super T, ? super R, ? extends R> a,
+                BiFunction<? super T, ? super R, ? extends R> b,
+                BiFunction<? super T, ? super R, ? extends R> c,
+                BiFunction<? super T, ? super R, ? extends R> d
+        ) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+
+        @Override
+        public R apply(T t, R r) {
+            return d.apply(t, c.apply(t, b.apply(t, a.apply(t, r))));
+        }
+    }
+
+    static final class Sequence5<T, R> implements BiFunction<T, R, R> {
+        private final BiFunction<? super T, ? super R, ? extends R> a;
+        private final BiFunction<? super T, ? super R, ? extends R> b;
+        private final BiFunction<? super T, ? super R, ? extends R> c;
+        private final BiFunction<? super T, ? super R, ? extends R> d;
+        private final BiFunction<? super T, ? super R, ? extends R> e;
+
+        //has to be public to be accessible for reflective lookups
+        public Sequence5(
+                BiFunction<? super T, ? super R, ? extends R> a,
+                BiFunction<? super T, ? super R, ? extends R> b,
+                BiFunction<? super T, ? super R, ? extends R> c,
+                BiFunction<? super T, ? super R, ? extends R> d,
+                BiFunction<? super T, ? super R, ? extends R> e
+        ) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+        }
+
+        @Override
+        public R apply(T t, R r) {
+            return e.apply(t, d.apply(t, c.apply(t, b.apply(t, a.apply(t, r)))));
+        }
+    }
+
+    static final class Sequence6<T, R> implements BiFunction<T, R, R> {
+        private final BiFunction<? super T, ? super R, ? extends R> a;
+        private final BiFunction<? super T, ? super R, ? extends R> b;
+        private final BiFunction<? super T, ? super R, ? extends R> c;
+        private final BiFunction<? super T, ? super R, ? extends R> d;
+        private final BiFunction<? super T, ? super R, ? extends R> e;
+        private final BiFunction<? super T, ? super R, ? extends R> f;
+
+        //has to be public to be accessible for reflective lookups
+        public Sequence6(
+                BiFunction<? super T, ? super R, ? extends R> a,
+                BiFunction<? super T, ? super R, ? extends R> b,
+                BiFunction<? super T, ? super R, ? extends R> c,
+                BiFunction<? super T, ? super R, ? extends R> d,
+                BiFunction<? super T, ? super R, ? extends R> e,
+                BiFunction<? super T, ? super R, ? extends R> f
+        ) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+        }
+
+        @Override
+        public R apply(T t, R r) {
+            return f.apply(t, e.apply(t, d.apply(t, c.apply(t, b.apply(t, a.apply(t, r))))));
+        }
+    }
+
+    static final class Sequence7<T, R> implements BiFunction<T, R, R> {
+        private final BiFunction<? super T, ? super R, ? extends R> a;
+        private final BiFunction<? super T, ? super R, ? extends R> b;
+        private final BiFunction<? super T, ? super R, ? extends R> c;
+        private final BiFunction<? super T, ? super R, ? extends R> d;
+        private final BiFunction<? super T, ? super R, ? extends R> e;
+        private final BiFunction<? super T, ? super R, ? extends R> f;
+        private final BiFunction<? super T, ? super R, ? extends R> g;
+
+        //has to be public to be accessible for reflective lookups
+        public Sequence7(
+                BiFunction<? super T, ? super R, ? extends R> a,
+                BiFunction<? super T, ? super R, ? extends R> b,
+                BiFunction<? super T, ? super R, ? extends R> c,
+                BiFunction<? super T, ? super R, ? extends R> d,
+                BiFunction<? super T, ? super R, ? extends R> e,
+                BiFunction<? super T, ? super R, ? extends R> f,
+                BiFunction<? super T, ? super R, ? extends R> g
+        ) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+            this.g = g;
+        }
+
+        @Override
+        public R apply(T t, R r) {
+            return g.apply(t, f.apply(t, e.apply(t, d.apply(t, c.apply(t, b.apply(t, a.apply(t, r)))))));
+        }
+    }
+
+    static final class Sequence8<T, R> implements BiFunction<T, R, R> {
+        private final BiFunction<? super T, ? super R, ? extends R> a;
+        private final BiFunction<? super T, ? super R, ? extends R> b;
+        private final BiFunction<? super T, ? super R, ? extends R> c;
+        private final BiFunction<? super T, ? super R, ? extends R> d;
+        private final BiFunction<? super T, ? super R, ? extends R> e;
+        private final BiFunction<? super T, ? super R, ? extends R> f;
+        private final BiFunction<? super T, ? super R, ? extends R> g;
+        private final BiFunction<? super T, ? super R, ? extends R> h;
+
+        //has to be public to be accessible for reflective lookups
+        public Sequence8(
+                BiFunction<? super T, ? super R, ? extends R> a,
+                BiFunction<? super T, ? super R, ? extends R> b,
+                BiFunction<? super T, ? super R, ? extends R> c,
+                BiFunction<? super T, ? super R, ? extends R> d,
+                BiFunction<? super T, ? super R, ? extends R> e,
+                BiFunction<? super T, ? super R, ? extends R> f,
+                BiFunction<? super T, ? super R, ? extends R> g,
+                BiFunction<? super T, ? super R, ? extends R> h
+        ) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+            this.g = g;
+            this.h = h;
+        }
+
+        @Override
+        public R apply(T t, R r) {
+            return h.apply(t, g.apply(t, f.apply(t, e.apply(t, d.apply(t, c.apply(t, b.apply(t, a.apply(t, r))))))));
+        }
+    }
+
+    static final class NullSafePath2<T, R> implements Function<T, R> {
+        private final Function<Object, Object> a;
+        private final Function<Object, Object> b;
+
+        //has to be public to be accessible for reflective lookups
+        public NullSafePath2(
+                Function<Object, Object> a,
+                Function<Object, Object> b
+        ) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R apply(T t) {
+            Object value = a.apply(t);
+            if (value == null) {
+                return null;
+            }
+            return (R) b.apply(value);
+        }
+    }
+
+    static final class NullSafePath3<T, R> implements Function<T, R> {
+        private final Function<Object, Object> a;
+        private final Function<Object, Object> b;
+        private final Function<Object, Object> c;
+
+        //has to be public to be accessible for reflective lookups
+        public NullSafePath3(
+                Function<Object, Object> a,
+                Function<Object, Object> b,
+                Function<Object, Object> c
+        ) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R apply(T t) {
+            Object value = a.apply(t);
+            if (value == null) {
+                return null;
+            }
+            value = b.apply(value);
+            if (value == null) {
+                return null;
+            }
+            return (R) c.apply(value);
+        }
+    }
+
+    static final class NullSafePath4<T, R> implements Function<T, R> {
+        private final Function<Object, Object> a;
+        private final Function<Object, Object> b;
+        private final Function<Object, Object> c;
+        private final Function<Object, Object> d;
+
+        //has to be public to be accessible for reflective lookups
+        public NullSafePath4(
+                Function<Object, Object> a,
+                Function<Object, Object> b,
+                Function<Object, Object> c,
+                Function<Object, Object> d
+        ) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R apply(T t) {
+            Object value = a.apply(t);
+            if (value == null) {
+                return null;
+            }
+            value = b.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = c.apply(value);
+            if (value == null) {
+                return null;
+            }
+            return (R) d.apply(value);
+        }
+    }
+
+    static final class NullSafePath5<T, R> implements Function<T, R> {
+        private final Function<Object, Object> a;
+        private final Function<Object, Object> b;
+        private final Function<Object, Object> c;
+        private final Function<Object, Object> d;
+        private final Function<Object, Object> e;
+
+        //has to be public to be accessible for reflective lookups
+        public NullSafePath5(
+                Function<Object, Object> a,
+                Function<Object, Object> b,
+                Function<Object, Object> c,
+                Function<Object, Object> d,
+                Function<Object, Object> e
+        ) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R apply(T t) {
+            Object value = a.apply(t);
+            if (value == null) {
+                return null;
+            }
+            value = b.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = c.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = d.apply(value);
+            if (value == null) {
+                return null;
+            }
+            return (R) e.apply(value);
+        }
+    }
+
+    static final class NullSafePath6<T, R> implements Function<T, R> {
+        private final Function<Object, Object> a;
+        private final Function<Object, Object> b;
+        private final Function<Object, Object> c;
+        private final Function<Object, Object> d;
+        private final Function<Object, Object> e;
+        private final Function<Object, Object> f;
+
+        //has to be public to be accessible for reflective lookups
+        public NullSafePath6(
+                Function<Object, Object> a,
+                Function<Object, Object> b,
+                Function<Object, Object> c,
+                Function<Object, Object> d,
+                Function<Object, Object> e,
+                Function<Object, Object> f
+        ) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R apply(T t) {
+            Object value = a.apply(t);
+            if (value == null) {
+                return null;
+            }
+            value = b.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = c.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = d.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = e.apply(value);
+            if (value == null) {
+                return null;
+            }
+            return (R) f.apply(value);
+        }
+    }
+
+    static final class NullSafePath7<T, R> implements Function<T, R> {
+        private final Function<Object, Object> a;
+        private final Function<Object, Object> b;
+        private final Function<Object, Object> c;
+        private final Function<Object, Object> d;
+        private final Function<Object, Object> e;
+        private final Function<Object, Object> f;
+        private final Function<Object, Object> g;
+
+        //has to be public to be accessible for reflective lookups
+        public NullSafePath7(
+                Function<Object, Object> a,
+                Function<Object, Object> b,
+                Function<Object, Object> c,
+                Function<Object, Object> d,
+                Function<Object, Object> e,
+                Function<Object, Object> f,
+                Function<Object, Object> g
+        ) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+            this.g = g;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R apply(T t) {
+            Object value = a.apply(t);
+            if (value == null) {
+                return null;
+            }
+            value = b.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = c.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = d.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = e.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = f.apply(value);
+            if (value == null) {
+                return null;
+            }
+            return (R) g.apply(value);
+        }
+    }
+
+    static final class NullSafePath8<T, R> implements Function<T, R> {
+        private final Function<Object, Object> a;
+        private final Function<Object, Object> b;
+        private final Function<Object, Object> c;
+        private final Function<Object, Object> d;
+        private final Function<Object, Object> e;
+        private final Function<Object, Object> f;
+        private final Function<Object, Object> g;
+        private final Function<Object, Object> h;
+
+        //has to be public to be accessible for reflective lookups
+        public NullSafePath8(
+                Function<Object, Object> a,
+                Function<Object, Object> b,
+                Function<Object, Object> c,
+                Function<Object, Object> d,
+                Function<Object, Object> e,
+                Function<Object, Object> f,
+                Function<Object, Object> g,
+                Function<Object, Object> h
+        ) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+            this.g = g;
+            this.h = h;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R apply(T t) {
+            Object value = a.apply(t);
+            if (value == null) {
+                return null;
+            }
+            value = b.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = c.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = d.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = e.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = f.apply(value);
+            if (value == null) {
+                return null;
+            }
+            value = g.apply(value);
+            if (value == null) {
+                return null;
+            }
+            return (R) h.apply(value);
+        }
+    }
+
+    static final class MemoizedFunction<R> implements Function<Object[], R> {
+        private final int slot;
+        private final Function<Object[], ? extends R> fn;
+
+        //has to be public to be accessible for reflective lookups
+        public MemoizedFunction(int slot, Function<Object[], ? extends R> fn) {
+            this.slot = slot;
+            this.fn = fn;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R apply(Object[] frame) {
+            Object value = frame[slot];
+            if (value == frame) {
+                value = fn.apply(frame);
+                frame[slot] = value;
+            }
+            return (R) value;
+        }
+    }
+
     //Use a separate class for the static initialization so we can whitelist the dummy calls via normal means
     private static final class OptimizationInitializer {
         static void init() {
@@ -223,10 +1102,14 @@ public final class LambdaHelper {
             LambdaHelper.OPTIMIZE = true;
             try {
                 boolean allNonNull = Stream.of(
-                        toBiFunction(a -> null, (a, b) -> { }),
-                        andThen((a, b) -> null, (a, b) -> null),
-                        andThen(a -> null, a -> null),
-                        nullsafe(a -> null)
+                        toBiFunction(ACCESS, a -> null, (a, b) -> { }),
+                        andThen(ACCESS, (a, b) -> null, (a, b) -> null),
+                        andThen(ACCESS, a -> null, a -> null),
+                        nullsafe(ACCESS, a -> null),
+                        andThenInt(ACCESS, a -> 0, a -> a),
+                        toIntBiFunction(ACCESS, a -> 0, (a, b) -> { }),
+                        memoize(ACCESS, 0, a -> null),
+                        sequence(ACCESS, Arrays.asList((a, b) -> null, (a, b) -> null))
                 ).allMatch(Objects::nonNull);
 
                 //safe-guard against implementation errors in the future
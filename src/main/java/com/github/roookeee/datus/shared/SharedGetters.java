@@ -0,0 +1,292 @@
+package com.github.roookeee.datus.shared;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * SharedGetters eliminates common getter chain prefixes of a mapping definition: every getter chain prefix that at
+ * least three getters read further values through (e.g. {@code Order::getCustomer} in
+ * {@code from(getCustomer).map(Customer::getName)}, {@code from(getCustomer).map(Customer::getEmail)} and
+ * {@code from(getCustomer).map(Customer::getPhone)}) is evaluated at most once per conversion.
+ * <p>
+ * Prefixes are compared by the identity of their functions or, for lambdas and method references, by the lambda
+ * expression they were created from and their captured arguments. Two separately written method references like
+ * {@code Order::getCustomer} are separate lambda expressions which cannot be told apart at runtime and are thus not
+ * shared: the same function instance (or a function created by the same lambda expression) has to be used instead.
+ * Values of shared prefixes are evaluated lazily (when the first getter using them is evaluated), so the order of
+ * getter invocations is retained. Note that a shared prefix is evaluated once even if it returns null.
+ * <p>
+ * Getters are grouped into segments: prefixes are only shared within a segment, so a getter evaluates its prefix
+ * again if e.g. a processing step that may modify the input is executed between it and the previous use of its prefix.
+ * <p>
+ * The values of a single conversion are stored in a frame: an Object[] holding the input at index 0 followed by the
+ * values of all shared prefixes (or the frame itself as long as the value has not been computed yet). Creating the
+ * frame is an additional allocation per conversion, which is why sharing the prefixes of plain field accessors is
+ * not faster than calling them repeatedly: it pays off for expensive getters (e.g. computed or lazily loaded
+ * properties) and long chains. Furthermore every step of a mapper with shared prefixes reads the frame instead of the
+ * input and thus needs isolated copies of its own (see {@link LambdaHelper}) which have to be compiled separately from
+ * the copies of equal steps in other mappers. That is why a prefix is only shared once at least three getters read
+ * through it: sharing prefixes of only two getters made hundreds of mappers in
+ * one JVM slower than disabling the runtime optimizations altogether, while repeating an identical getter in
+ * multiple steps (without reading through it) does not save enough to be shared at all.
+ * This is an internal class and thus should not be used directly.
+ *
+ * @param <In> the input type
+ */
+public final class SharedGetters<In> {
+    private static final LambdaHelper.Access LAMBDA_HELPER_ACCESS = LambdaHelper.access();
+    private static final Function<Object[], Object> INPUT = frame -> frame[0];
+    private static final int MIN_READERS = 3;
+
+    private final List<Function<Object[], Object>> getters;
+    private final int frameSize;
+
+    private SharedGetters(List<Function<Object[], Object>> getters, int frameSize) {
+        this.getters = getters;
+        this.frameSize = frameSize;
+    }
+
+    /**
+     * Analyzes the given getters (which may or may not be {@link GetterChain}s) of one segment for shared prefixes.
+     * Only datus classes that are allowed to use the {@link LambdaHelper} may do so (see {@link LambdaHelper#access()}).
+     *
+     * @param access  the access token of the {@link LambdaHelper}
+     * @param getters the getters to analyze
+     * @param <In>    the input type
+     * @return the shared getters or an empty optional if no prefix is shared by multiple getters
+     */
+    public static <In> Optional<SharedGetters<In>> of(
+            LambdaHelper.Access access,
+            List<? extends Function<? super In, ?>> getters
+    ) {
+        return of(access, getters, new int[getters.size()]);
+    }
+
+    /**
+     * Analyzes the given getters (which may or may not be {@link GetterChain}s) for prefixes that are shared within
+     * their segments (see {@link SharedGetters}).
+     * Only datus classes that are allowed to use the {@link LambdaHelper} may do so (see {@link LambdaHelper#access()}).
+     *
+     * @param access   the access token of the {@link LambdaHelper}
+     * @param getters  the getters to analyze
+     * @param segments the segment of every getter (in the same order)
+     * @param <In>     the input type
+     * @return the shared getters or an empty optional if no prefix is shared by multiple getters
+     */
+    public static <In> Optional<SharedGetters<In>> of(
+            LambdaHelper.Access access,
+            List<? extends Function<? super In, ?>> getters,
+            int[] segments
+    ) {
+        LambdaHelper.checkAccess(access);
+        return of(getters, segments);
+    }
+
+    static <In> Optional<SharedGetters<In>> of(List<? extends Function<? super In, ?>> getters) {
+        return of(getters, new int[getters.size()]);
+    }
+
+    static <In> Optional<SharedGetters<In>> of(List<? extends Function<? super In, ?>> getters, int[] segments) {
+        //every segment has its own tree so no prefix node is used by getters of different segments
+        Map<Integer, Node> roots = new LinkedHashMap<>();
+        List<Node> leafs = new ArrayList<>(getters.size());
+        for (int i = 0; i < getters.size(); i++) {
+            Node current = roots.computeIfAbsent(segments[i], segment -> new Node(null, null, SafetyMode.NONE));
+            for (GetterChain<?, ?> element : GetterChain.of(getters.get(i)).elements()) {
+                current = current.child(element.hop(), element.safetyMode());
+                current.uses++;
+            }
+            current.leafs++;
+            leafs.add(current);
+        }
+
+        List<Node> sharedNodes = new ArrayList<>();
+        for (Node root : roots.values()) {
+            root.collectSharedNodes(sharedNodes);
+        }
+        if (sharedNodes.isEmpty()) {
+            return Optional.empty();
+        }
+
+        //shared values are memoized in the order of their discovery so ancestors are always set up first
+        for (Node node : sharedNodes) {
+            node.value = LambdaHelper.memoize(LAMBDA_HELPER_ACCESS, node.slot, evaluate(node.parent, node));
+        }
+
+        List<Function<Object[], Object>> frameGetters = new ArrayList<>(leafs.size());
+        for (Node leaf : leafs) {
+            frameGetters.add(leaf.slot > 0 ? leaf.value : evaluate(leaf, leaf));
+        }
+        return Optional.of(new SharedGetters<>(Collections.unmodifiableList(frameGetters), sharedNodes.size() + 1));
+    }
+
+    /**
+     * @return a getter on frames per getter passed to {@link #of} (in the same order)
+     */
+    public List<Function<Object[], Object>> getters() {
+        return getters;
+    }
+
+    /**
+     * Creates the frame for a single conversion of the given input.
+     *
+     * @param input the input to convert
+     * @return a new frame
+     */
+    public Object[] frame(In input) {
+        Object[] frame = new Object[frameSize];
+        Arrays.fill(frame, frame);
+        frame[0] = input;
+        return frame;
+    }
+
+    /**
+     * Extracts the input of a frame created by {@link #frame}.
+     *
+     * @param frame the frame
+     * @param <In>  the input type
+     * @return the input of the given frame
+     */
+    @SuppressWarnings("unchecked")
+    public static <In> In input(Object[] frame) {
+        return (In) frame[0];
+    }
+
+    /*
+    combines all hops from the closest shared ancestor of 'from' (or the input itself) down to the given node
+     */
+    private static Function<Object[], Object> evaluate(Node from, Node to) {
+        Node base = from;
+        while (base != null && base.slot < 0) {
+            base = base.parent;
+        }
+
+        List<Function<Object, Object>> hops = new ArrayList<>();
+        List<SafetyMode> safetyModes = new ArrayList<>();
+        for (Node current = to; current != base && current.hop != null; current = current.parent) {
+            hops.add(current.hop);
+            safetyModes.add(current.safetyMode);
+        }
+        Collections.reverse(hops);
+        Collections.reverse(safetyModes);
+
+        return GetterChain.andThen(base == null ? INPUT : base.value, hops, safetyModes);
+    }
+
+    private static final class Node {
+        private final Node parent;
+        private final Function<Object, Object> hop;
+        private final SafetyMode safetyMode;
+        //children are keyed by the identity of their function (see HopKey) and their safety mode
+        private final Map<HopKey, Node> children = new LinkedHashMap<>();
+        //the number of getters that use this node, leafs end at this node while all others read through it
+        private int uses;
+        private int leafs;
+        private int slot = -1;
+        private Function<Object[], Object> value;
+
+        private Node(Node parent, Function<Object, Object> hop, SafetyMode safetyMode) {
+            this.parent = parent;
+            this.hop = hop;
+            this.safetyMode = safetyMode;
+        }
+
+        private Node child(Function<Object, Object> hop, SafetyMode safetyMode) {
+            return children.computeIfAbsent(new HopKey(hop, safetyMode), key -> new Node(this, hop, safetyMode));
+        }
+
+        private boolean hasEnoughReaders() {
+            return uses - leafs >= MIN_READERS;
+        }
+
+        private void collectSharedNodes(List<Node> sharedNodes) {
+            //a node that is only passed through by all of its users to the same shared child does not need to be stored
+            boolean passThrough = leafs == 0 && children.size() == 1 && children.values().iterator().next().hasEnoughReaders();
+            if (hop != null && hasEnoughReaders() && !passThrough) {
+                sharedNodes.add(this);
+                slot = sharedNodes.size();
+            }
+            for (Node child : children.values()) {
+                child.collectSharedNodes(sharedNodes);
+            }
+        }
+    }
+
+    private static final class HopKey {
+        private final Function<Object, Object> hop;
+        private final SafetyMode safetyMode;
+        //the arguments captured by a lambda or method reference, null if the hop can only be compared by its identity
+        private final Object[] captures;
+
+        private HopKey(Function<Object, Object> hop, SafetyMode safetyMode) {
+            this.hop = hop;
+            this.safetyMode = safetyMode;
+            this.captures = captures(hop);
+        }
+
+        /*
+        every lambda expression / method reference is implemented by its own synthetic class whose instance fields
+        hold the captured arguments, so two instances of such a class with identical arguments behave the same
+        (e.g. the same method reference written in a helper method that is called for multiple steps)
+         */
+        private static Object[] captures(Function<Object, Object> hop) {
+            Class<?> type = hop.getClass();
+            if (!type.isSynthetic()) {
+                return null;
+            }
+            List<Object> captures = new ArrayList<>();
+            try {
+                for (Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        captures.add(field.get(hop));
+                    }
+                }
+            } catch (IllegalAccessException | RuntimeException e) {
+                //e.g. lambdas of modules that are not opened to datus, fall back to their identity
+                return null;
+            }
+            return captures.toArray();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof HopKey)) {
+                return false;
+            }
+            HopKey other = (HopKey) o;
+            return safetyMode == other.safetyMode && (hop == other.hop || sameLambda(other));
+        }
+
+        private boolean sameLambda(HopKey other) {
+            if (captures == null || other.captures == null || hop.getClass() != other.hop.getClass()) {
+                return false;
+            }
+            for (int i = 0; i < captures.length; i++) {
+                if (captures[i] != other.captures[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = System.identityHashCode(captures == null ? hop : hop.getClass());
+            if (captures != null) {
+                for (Object capture : captures) {
+                    hash = 31 * hash + System.identityHashCode(capture);
+                }
+            }
+            return 31 * hash + safetyMode.hashCode();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.roookeee.datus.shared;
+
+import com.github.roookeee.datus.api.MappingMetrics;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Wraps the steps of instrumented mappers so every execution is passed to a {@link MappingMetrics.StepRecorder}.
+ * <p>
+ * This class is not intended to be used outside of datus.
+ */
+public final class StepInstrumentation {
+
+    /**
+     * Measures the given getter and setter pair as a whole.
+     *
+     * @param getter   the getter to measure
+     * @param setter   the setter to measure
+     * @param recorder the recorder to pass the measurements to
+     * @param <In>     the input type
+     * @param <Out>    the output type
+     * @return a processing function that applies the given getter and setter pair
+     */
+    public static <In, Out> BiFunction<In, Out, Out> setter(
+            Function<? super In, Object> getter,
+            BiConsumer<? super Out, Object> setter,
+            MappingMetrics.StepRecorder recorder
+    ) {
+        return (in, out) -> {
+            long start = System.nanoTime();
+            Object value = getter.apply(in);
+            setter.accept(out, value);
+            recorder.record(System.nanoTime() - start, value == null);
+            return out;
+        };
+    }
+
+    /**
+     * Measures the given processing function.
+     *
+     * @param processor the processing function to measure
+     * @param recorder  the recorder to pass the measurements to
+     * @param <In>      the input type
+     * @param <Out>     the output type
+     * @return a processing function that applies the given processing function
+     */
+    public static <In, Out> BiFunction<In, Out, Out> processor(
+            BiFunction<? super In, ? super Out, ? extends Out> processor,
+            MappingMetrics.StepRecorder recorder
+    ) {
+        return (in, out) -> {
+            long start = System.nanoTime();
+            Out result = processor.apply(in, out);
+            recorder.record(System.nanoTime() - start, false);
+            return result;
+        };
+    }
+
+    /**
+     * Measures the given getter (e.g. of a constructor parameter).
+     *
+     * @param getter   the getter to measure
+     * @param recorder the recorder to pass the measurements to
+     * @param <In>     the input type
+     * @param <T>      the getters return type
+     * @return a getter that applies the given getter
+     */
+    public static <In, T> Function<In, T> getter(Function<? super In, ? extends T> getter, MappingMetrics.StepRecorder recorder) {
+        return in -> {
+            long start = System.nanoTime();
+            T value = getter.apply(in);
+            recorder.record(System.nanoTime() - start, value == null);
+            return value;
+        };
+    }
+
+    private StepInstrumentation() {
+
+    }
+}
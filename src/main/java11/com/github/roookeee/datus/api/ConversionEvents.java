@@ -0,0 +1,49 @@
+package com.github.roookeee.datus.api;
+
+/**
+ * Emits a {@link DatusConversionEvent} per conversion of a recorded mapper (see {@link Mapper#recorded}).
+ * <p>
+ * Java 11+ variant of the no-op implementation used on Java 8.
+ */
+final class ConversionEvents {
+
+    /**
+     * Starts timing a conversion.
+     *
+     * @return the started event or null if the event is disabled in all running recordings
+     */
+    static Object begin() {
+        DatusConversionEvent event = new DatusConversionEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends timing a conversion and emits its event if the conversion took longer than the configured threshold.
+     *
+     * @param event      the event returned by {@link #begin()}
+     * @param inputType  the input type of the conversion
+     * @param outputType the output type of the conversion
+     * @param elements   the number of converted input instances
+     */
+    static void commit(Object event, Class<?> inputType, Class<?> outputType, int elements) {
+        if (event == null) {
+            return;
+        }
+        DatusConversionEvent conversion = (DatusConversionEvent) event;
+        conversion.end();
+        if (conversion.shouldCommit()) {
+            conversion.inputType = inputType;
+            conversion.outputType = outputType;
+            conversion.elements = elements;
+            conversion.commit();
+        }
+    }
+
+    private ConversionEvents() {
+
+    }
+}
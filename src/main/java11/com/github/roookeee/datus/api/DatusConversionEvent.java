@@ -0,0 +1,33 @@
+package com.github.roookeee.datus.api;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A flight recorder event describing a single conversion of a recorded mapper. Its threshold defaults to 0 ms and can
+ * be configured like the threshold of any built-in event, e.g.
+ * {@code -XX:StartFlightRecording:settings=datus.jfc} with
+ * {@code <event name="com.github.roookeee.datus.DatusConversion"><setting name="threshold">10 ms</setting></event>}.
+ */
+@Name("com.github.roookeee.datus.DatusConversion")
+@Label("Datus Conversion")
+@Description("A conversion of a recorded datus mapper")
+@Category("datus")
+@StackTrace(false)
+@Threshold("0 ms")
+final class DatusConversionEvent extends Event {
+    @Label("Input Type")
+    Class<?> inputType;
+
+    @Label("Output Type")
+    Class<?> outputType;
+
+    @Label("Elements")
+    @Description("The number of converted input instances")
+    int elements;
+}
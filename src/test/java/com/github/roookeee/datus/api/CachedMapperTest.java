@@ -0,0 +1,211 @@
+package com.github.roookeee.datus.api;
+
+import com.github.roookeee.datus.immutable.ConstructorParameter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachedMapperTest {
+
+    private final AtomicInteger conversions = new AtomicInteger();
+    private final Mapper<String, String> mapper = input -> {
+        conversions.incrementAndGet();
+        return new String(input.toUpperCase());
+    };
+
+    @Test
+    public void convertingTheSameKeyAgainShouldReturnTheCachedOutput() {
+        //given
+        CachedMapper<String, String> cachedMapper = mapper.cached(CachePolicy.lru(10));
+
+        //when
+        String first = cachedMapper.convert("a");
+        String second = cachedMapper.convert(new String("a"));
+
+        //then
+        assertThat(second).isSameAs(first).isEqualTo("A");
+        assertThat(conversions).hasValue(1);
+        assertThat(cachedMapper.hits()).isEqualTo(1);
+        assertThat(cachedMapper.misses()).isEqualTo(1);
+        assertThat(cachedMapper.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void keyFunctionShouldDetermineTheCacheKey() {
+        //given
+        CachedMapper<String, String> cachedMapper = mapper.cached(input -> input.charAt(0), CachePolicy.lru(10));
+
+        //when
+        List<String> result = cachedMapper.convert(Arrays.asList("ab", "ac", "b"));
+
+        //then
+        assertThat(result).containsExactly("AB", "AB", "B");
+        assertThat(conversions).hasValue(2);
+    }
+
+    @Test
+    public void inputsWithoutKeyShouldNotBeCached() {
+        //given
+        CachedMapper<String, String> cachedMapper = mapper.cached(input -> input.isEmpty() ? null : input, CachePolicy.lru(10));
+
+        //when
+        cachedMapper.convert("");
+        cachedMapper.convert("");
+
+        //then
+        assertThat(conversions).hasValue(2);
+        assertThat(cachedMapper.size()).isEqualTo(0);
+        assertThat(cachedMapper.misses()).isEqualTo(0);
+    }
+
+    @Test
+    public void lruCachesShouldEvictTheLeastRecentlyUsedEntry() {
+        //given
+        CachedMapper<String, String> cachedMapper = mapper.cached(CachePolicy.lru(2));
+        cachedMapper.convert("a");
+        cachedMapper.convert("b");
+        cachedMapper.convert("a");
+
+        //when
+        cachedMapper.convert("c");
+
+        //then
+        assertThat(cachedMapper.evictions()).isEqualTo(1);
+        cachedMapper.convert("a");
+        assertThat(conversions).hasValue(3);
+        cachedMapper.convert("b");
+        assertThat(conversions).hasValue(4);
+    }
+
+    @Test
+    public void lfuCachesShouldEvictTheLeastFrequentlyUsedEntry() {
+        //given
+        CachedMapper<String, String> cachedMapper = mapper.cached(CachePolicy.lfu(2));
+        cachedMapper.convert("a");
+        cachedMapper.convert("a");
+        cachedMapper.convert("b");
+        cachedMapper.convert("b");
+        cachedMapper.convert("a");
+
+        //when
+        cachedMapper.convert("c");
+        cachedMapper.convert("c");
+        cachedMapper.convert("d");
+
+        //then
+        //c was evicted as it was used less frequently than a
+        assertThat(cachedMapper.evictions()).isEqualTo(2);
+        cachedMapper.convert("a");
+        assertThat(conversions).hasValue(4);
+        cachedMapper.convert("c");
+        assertThat(conversions).hasValue(5);
+    }
+
+    @Test
+    public void entriesShouldExpireAfterTheConfiguredDuration() {
+        //given
+        AtomicLong now = new AtomicLong();
+        CachePolicy policy = CachePolicy.lru(10).expireAfterWrite(Duration.ofSeconds(1)).ticker(now::get);
+        CachedMapper<String, String> cachedMapper = mapper.cached(policy);
+        String first = cachedMapper.convert("a");
+
+        //when
+        now.addAndGet(Duration.ofMillis(999).toNanos());
+        String cached = cachedMapper.convert("a");
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        String expired = cachedMapper.convert("a");
+
+        //then
+        assertThat(cached).isSameAs(first);
+        assertThat(expired).isNotSameAs(first).isEqualTo("A");
+        assertThat(conversions).hasValue(2);
+        assertThat(cachedMapper.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    public void weakKeysShouldBeComparedByIdentity() {
+        //given
+        CachedMapper<String, String> cachedMapper = mapper.cached(CachePolicy.lfu(10).weakKeys());
+        String key = new String("a");
+
+        //when
+        String first = cachedMapper.convert(key);
+        String sameKey = cachedMapper.convert(key);
+        String equalKey = cachedMapper.convert(new String("a"));
+
+        //then
+        assertThat(sameKey).isSameAs(first);
+        assertThat(equalKey).isNotSameAs(first);
+        assertThat(conversions).hasValue(2);
+    }
+
+    @Test
+    public void invalidateAllShouldDropAllEntries() {
+        //given
+        CachedMapper<String, String> cachedMapper = mapper.cached(CachePolicy.lru(1_000));
+        cachedMapper.convert(Arrays.asList("a", "b", "c"));
+
+        //when
+        cachedMapper.invalidateAll();
+        cachedMapper.convert("a");
+
+        //then
+        assertThat(cachedMapper.size()).isEqualTo(1);
+        assertThat(cachedMapper.evictions()).isEqualTo(0);
+        assertThat(conversions).hasValue(4);
+    }
+
+    @Test
+    public void largeCachesShouldNotExceedTheirMaximumSize() {
+        //given
+        CachedMapper<String, String> cachedMapper = mapper.cached(CachePolicy.lru(1_000));
+
+        //when
+        for (int i = 0; i < 5_000; i++) {
+            cachedMapper.convert(Integer.toString(i));
+        }
+
+        //then
+        assertThat(cachedMapper.size()).isLessThanOrEqualTo(1_000);
+        assertThat(cachedMapper.evictions()).isEqualTo(5_000 - cachedMapper.size());
+    }
+
+    @Test
+    public void cachedMappersShouldSupportBuiltMappers() {
+        //given
+        Mapper<String, Locale> immutableMapper = Datus.forTypes(String.class, Locale.class)
+                .immutable((String language) -> new Locale(language))
+                .from(Function.identity()).to(ConstructorParameter::bind)
+                .build()
+                .cached(CachePolicy.lru(10));
+        Mapper<String, StringBuilder> mutableMapper = Datus.forTypes(String.class, StringBuilder.class)
+                .mutable(StringBuilder::new)
+                .from(Function.identity()).into(StringBuilder::append)
+                .build()
+                .cached(CachePolicy.lfu(10));
+
+        //when + then
+        assertThat(immutableMapper.convert("de")).isSameAs(immutableMapper.convert("de"));
+        assertThat(mutableMapper.convert("de")).isSameAs(mutableMapper.convert("de"));
+    }
+
+    @Test
+    public void policiesShouldRejectInvalidArguments() {
+        //when + then
+        assertThatThrownBy(() -> CachePolicy.lru(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CachePolicy.lfu(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CachePolicy.lru(1).expireAfterWrite(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
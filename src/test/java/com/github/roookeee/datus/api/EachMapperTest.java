@@ -0,0 +1,109 @@
+package com.github.roookeee.datus.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EachMapperTest {
+
+    private final Mapper<Integer, String> mapper = Object::toString;
+
+    @Test
+    public void targetsShouldBeCreatedWithTheInputSize() {
+        //given
+        AtomicInteger requestedSize = new AtomicInteger();
+        EachMapper<Collection<? extends Integer>, Set<String>> eachMapper = mapper.each(size -> {
+            requestedSize.set(size);
+            return new LinkedHashSet<>(size);
+        });
+
+        //when
+        Set<String> result = eachMapper.apply(Arrays.asList(3, 1, 3, 2));
+
+        //then
+        assertThat(result).containsExactly("3", "1", "2");
+        assertThat(requestedSize.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void targetsShouldBePopulatedViaTheGivenAdder() {
+        //given
+        EachMapper<Collection<? extends Integer>, StringBuilder> eachMapper = mapper.each(
+                StringBuilder::new, StringBuilder::append
+        );
+
+        //when
+        StringBuilder result = eachMapper.apply(Arrays.asList(1, 2, 3));
+
+        //then
+        assertThat(result.toString()).isEqualTo("123");
+    }
+
+    @Test
+    public void finishersShouldBeAppliedInOrder() {
+        //given
+        EachMapper<Collection<? extends Integer>, Integer> eachMapper = mapper.each()
+                .finish(Collections::unmodifiableList)
+                .finish(List::size);
+
+        //when
+        int result = eachMapper.apply(Arrays.asList(1, 2, 3));
+        List<String> unmodifiable = mapper.each().finish(Collections::unmodifiableList).apply(Arrays.asList(1, 2));
+
+        //then
+        assertThat(result).isEqualTo(3);
+        assertThatThrownBy(() -> unmodifiable.add("3")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void largeInputsShouldBeConvertedInParallel() throws Exception {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Set<Thread> threads = Collections.synchronizedSet(new LinkedHashSet<>());
+        Mapper<Integer, String> recordingMapper = input -> {
+            threads.add(Thread.currentThread());
+            return input.toString();
+        };
+        EachMapper<Collection<? extends Integer>, ArrayList<String>> eachMapper = recordingMapper
+                .each(ArrayList<String>::new)
+                .parallelAbove(1000, executor);
+        List<Integer> small = IntStream.range(0, 999).boxed().collect(Collectors.toList());
+        List<Integer> large = IntStream.range(0, 50_000).boxed().collect(Collectors.toList());
+
+        try {
+            //when
+            List<String> smallResult = eachMapper.apply(small);
+            boolean smallWasSequential = threads.size() == 1 && threads.contains(Thread.currentThread());
+            List<String> largeResult = eachMapper.apply(large);
+
+            //then
+            assertThat(smallWasSequential).isTrue();
+            assertThat(threads.size()).isGreaterThan(1);
+            assertThat(smallResult).hasSize(999);
+            assertThat(largeResult).isEqualTo(large.stream().map(Object::toString).collect(Collectors.toList()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelThresholdsShouldBePositive() {
+        //when + then
+        assertThatThrownBy(() -> mapper.each().parallelAbove(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
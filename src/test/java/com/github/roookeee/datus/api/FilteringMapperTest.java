@@ -0,0 +1,70 @@
+package com.github.roookeee.datus.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilteringMapperTest {
+
+    private final Mapper<String, String> trimMapper = s -> s == null ? null : s.trim();
+
+    @Test
+    public void filteredConversionShouldOnlyContainSurvivingOutputs() {
+        //given
+        FilteringMapper<String, String> mapper = trimMapper.filter(s -> s != null && !s.isEmpty(), s -> !s.isEmpty());
+        List<String> input = Arrays.asList(" a ", null, "", "   ", "b");
+
+        //when
+        List<String> result = mapper.convertFiltered(input);
+        List<String> streamed = mapper.filteredStream(input).collect(Collectors.toList());
+
+        //then
+        assertThat(result).containsExactly("a", "b");
+        assertThat(streamed).containsExactly("a", "b");
+    }
+
+    @Test
+    public void filteredConversionShouldRetainNullOutputs() {
+        //given
+        FilteringMapper<String, String> mapper = trimMapper.filterOutput(s -> s == null || s.length() > 1);
+
+        //when
+        List<String> result = mapper.convertFiltered(Arrays.asList(null, "a", "bc"));
+
+        //then
+        assertThat(result).containsExactly(null, "bc");
+    }
+
+    @Test
+    public void convertOrNullShouldReturnNullForFilteredInputs() {
+        //given
+        FilteringMapper<String, String> mapper = trimMapper.filterInput(s -> s.startsWith("x"));
+
+        //when
+        String filtered = mapper.convertOrNull("abc");
+        String converted = mapper.convertOrNull("xyz ");
+
+        //then
+        assertThat(filtered).isNull();
+        assertThat(converted).isEqualTo("xyz");
+    }
+
+    @Test
+    public void convertShouldExpressFilteringViaOptional() {
+        //given
+        FilteringMapper<String, String> mapper = trimMapper.filterOutput(s -> !s.isEmpty());
+
+        //when
+        Optional<String> filtered = mapper.convert("  ");
+        Optional<String> converted = mapper.convert(" a ");
+
+        //then
+        assertThat(filtered).isEmpty();
+        assertThat(converted).contains("a");
+    }
+}
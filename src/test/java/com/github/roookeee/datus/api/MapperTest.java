@@ -2,15 +2,30 @@ package com.github.roookeee.datus.api;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class MapperTest {
 
@@ -41,6 +56,105 @@ public class MapperTest {
         assertThat(result.get(2)).isEqualTo("!");
     }
 
+    @Test
+    public void parallelCollectionConversionShouldRetainOrder() {
+        //given
+        Mapper<Integer, String> mapper = String::valueOf;
+        List<Integer> input = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        //when
+        List<String> result;
+        try {
+            result = mapper.convertParallel(input, executor, 7);
+        } finally {
+            executor.shutdown();
+        }
+
+        //then
+        assertThat(result).containsExactlyElementsOf(input.stream().map(String::valueOf).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void parallelCollectionConversionShouldHandleEmptyAndSmallInputs() {
+        //given
+        Mapper<String, String> idMapper = s -> s;
+        Executor rejectingExecutor = task -> {
+            throw new IllegalStateException("single chunks should be converted by the calling thread");
+        };
+
+        //when
+        List<String> emptyResult = idMapper.convertParallel(Collections.emptyList(), rejectingExecutor, 10);
+        List<String> singleChunkResult = idMapper.convertParallel(Arrays.asList("Hello", "World"), rejectingExecutor, 2);
+
+        //then
+        assertThat(emptyResult).isEmpty();
+        assertThat(singleChunkResult).containsExactly("Hello", "World");
+    }
+
+    @Test
+    public void parallelCollectionConversionShouldNotDeadlockWhenCalledFromTheExecutor() throws Exception {
+        //given
+        Mapper<Integer, String> mapper = String::valueOf;
+        List<Integer> input = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        //when
+        List<String> result;
+        try {
+            Future<List<String>> future = executor.submit(() -> mapper.convertParallel(input, executor, 10));
+            result = future.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        //then
+        assertThat(result).containsExactlyElementsOf(input.stream().map(String::valueOf).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void parallelCollectionConversionShouldConvertRejectedChunksOnTheCallingThread() {
+        //given
+        Mapper<Integer, String> mapper = String::valueOf;
+        List<Integer> input = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        Executor rejectingExecutor = task -> {
+            throw new RejectedExecutionException();
+        };
+
+        //when
+        List<String> result = mapper.convertParallel(input, rejectingExecutor, 10);
+
+        //then
+        assertThat(result).containsExactlyElementsOf(input.stream().map(String::valueOf).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void parallelCollectionConversionShouldRethrowConversionErrors() {
+        //given
+        Mapper<Integer, Integer> failingMapper = i -> {
+            if (i == 42) {
+                throw new IllegalArgumentException("42");
+            }
+            return i;
+        };
+        List<Integer> input = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+        //when + then
+        assertThatThrownBy(() -> failingMapper.convertParallel(input, ForkJoinPool.commonPool(), 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("42");
+    }
+
+    @Test
+    public void parallelCollectionConversionShouldRejectInvalidChunkSizes() {
+        //given
+        Mapper<String, String> idMapper = s -> s;
+
+        //when + then
+        assertThatThrownBy(() -> idMapper.convertParallel(Arrays.asList("a"), ForkJoinPool.commonPool(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     public void collectionToMapConversionShouldWorkAsExpected() {
         //given
@@ -95,6 +209,182 @@ public class MapperTest {
         assertThat(result.get(2)).isEqualTo("!");
     }
 
+    @Test
+    public void iteratorConversionShouldOnlyConvertRequestedElements() {
+        //given
+        AtomicInteger conversions = new AtomicInteger();
+        Mapper<Integer, String> mapper = i -> {
+            conversions.incrementAndGet();
+            return String.valueOf(i);
+        };
+        //an unbounded source
+        Iterator<Integer> input = IntStream.iterate(0, i -> i + 1).iterator();
+
+        //when
+        Iterator<String> result = mapper.convertLazily(input);
+        List<String> firstPage = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            firstPage.add(result.next());
+        }
+
+        //then
+        assertThat(result.hasNext()).isTrue();
+        assertThat(firstPage).hasSize(50).startsWith("0", "1").endsWith("49");
+        assertThat(conversions.get()).isEqualTo(50);
+        assertThat(mapper.convertLazily(Arrays.asList(1, 2))).toIterable().containsExactly("1", "2");
+    }
+
+    @Test
+    public void iteratorsAndIterablesShouldStillBeConvertibleInputInstances() {
+        //given
+        Mapper<Object, Object> identity = in -> in;
+        Iterable<Integer> iterable = () -> IntStream.range(0, 2).iterator();
+        Iterator<Integer> iterator = iterable.iterator();
+
+        //when
+        Object iterableResult = identity.convert(iterable);
+        Object iteratorResult = identity.convert(iterator);
+
+        //then
+        assertThat(iterableResult).isSameAs(iterable);
+        assertThat(iteratorResult).isSameAs(iterator);
+    }
+
+    @Test
+    public void batchedConversionShouldConvertChunksOfTheGivenSize() {
+        //given
+        AtomicInteger collectionConversions = new AtomicInteger();
+        Mapper<Integer, String> mapper = new Mapper<Integer, String>() {
+            @Override
+            public String convert(Integer input) {
+                return String.valueOf(input);
+            }
+
+            @Override
+            public List<String> convert(Collection<? extends Integer> input) {
+                collectionConversions.incrementAndGet();
+                return Mapper.super.convert(input);
+            }
+        };
+        Iterable<Integer> input = () -> IntStream.range(0, 7).iterator();
+
+        //when
+        Iterator<List<String>> batches = mapper.convertBatched(input, 3);
+        List<String> first = batches.next();
+        List<String> second = batches.next();
+        List<String> last = batches.next();
+
+        //then
+        assertThat(first).containsExactly("0", "1", "2");
+        assertThat(second).containsExactly("3", "4", "5");
+        assertThat(last).containsExactly("6");
+        assertThat(batches.hasNext()).isFalse();
+        assertThatThrownBy(batches::next).isInstanceOf(NoSuchElementException.class);
+        assertThat(collectionConversions.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void batchedConversionShouldRejectNonPositiveBatchSizes() {
+        //given
+        Mapper<Integer, Integer> idMapper = i -> i;
+
+        //when + then
+        assertThatThrownBy(() -> idMapper.convertBatched(Collections.<Integer>emptyList(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void lazyViewShouldOnlyConvertAccessedElements() {
+        //given
+        AtomicInteger conversions = new AtomicInteger();
+        Mapper<Integer, String> mapper = i -> {
+            conversions.incrementAndGet();
+            return String.valueOf(i);
+        };
+        List<Integer> input = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+        //when
+        List<String> view = mapper.lazyView(input);
+        List<String> firstPage = new ArrayList<>(view.subList(0, 50));
+        String accessedAgain = view.get(0);
+
+        //then
+        assertThat(view).hasSize(10_000);
+        assertThat(firstPage).hasSize(50).startsWith("0", "1").endsWith("49");
+        assertThat(accessedAgain).isEqualTo("0");
+        assertThat(conversions.get()).isEqualTo(51);
+    }
+
+    @Test
+    public void memoizedLazyViewShouldConvertEveryElementOnce() {
+        //given
+        AtomicInteger conversions = new AtomicInteger();
+        Mapper<String, String> mapper = s -> {
+            conversions.incrementAndGet();
+            return s == null ? null : s.toUpperCase();
+        };
+        List<String> view = mapper.lazyView(Arrays.asList("a", null, "c"), true);
+
+        //when
+        String first = view.get(0);
+        String firstAgain = view.get(0);
+        String nullElement = view.get(1);
+        String nullElementAgain = view.get(1);
+
+        //then
+        assertThat(first).isSameAs(firstAgain).isEqualTo("A");
+        assertThat(nullElement).isNull();
+        assertThat(nullElementAgain).isNull();
+        assertThat(conversions.get()).isEqualTo(2);
+        assertThatThrownBy(() -> view.set(0, "x")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void memoizedLazyViewShouldReturnTheSameInstanceToConcurrentReaders() throws Exception {
+        //given
+        Mapper<Integer, StringBuilder> mapper = i -> new StringBuilder().append(i);
+        List<StringBuilder> view = mapper.lazyView(IntStream.range(0, 100).boxed().collect(Collectors.toList()), true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            //when
+            List<Future<List<StringBuilder>>> readers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                readers.add(executor.submit(() -> new ArrayList<>(view)));
+            }
+
+            //then
+            List<StringBuilder> expected = new ArrayList<>(view);
+            for (Future<List<StringBuilder>> reader : readers) {
+                List<StringBuilder> result = reader.get();
+                for (int i = 0; i < result.size(); i++) {
+                    assertThat(result.get(i)).isSameAs(expected.get(i));
+                    assertThat(result.get(i).toString()).isEqualTo(String.valueOf(i));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void lazyViewSpliteratorShouldSplitEvenly() {
+        //given
+        Mapper<Integer, Integer> idMapper = i -> i;
+        List<Integer> input = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+
+        //when
+        Spliterator<Integer> suffix = idMapper.lazyView(input).spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+        List<Integer> parallelResult = idMapper.lazyView(input).parallelStream().collect(Collectors.toList());
+
+        //then
+        assertThat(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED)).isTrue();
+        assertThat(prefix.estimateSize()).isEqualTo(500);
+        assertThat(suffix.estimateSize()).isEqualTo(500);
+        assertThat(parallelResult).containsExactlyElementsOf(input);
+    }
+
     @Test
     public void anInPredicationOfAMapperShouldWorkAsExpected() {
         //given
@@ -142,4 +432,24 @@ public class MapperTest {
         assertThat(noResultBecauseOfOutPredicate.isPresent()).isEqualTo(false);
         assertThat(withResult.isPresent()).isEqualTo(true);
     }
+
+    @Test
+    public void recordedMapperShouldConvertLikeItsMapper() {
+        //given
+        AtomicInteger conversions = new AtomicInteger();
+        Mapper<String, Integer> mapper = input -> {
+            conversions.incrementAndGet();
+            return input.length();
+        };
+        Mapper<String, Integer> recorded = mapper.recorded(String.class, Integer.class);
+
+        //when
+        Integer single = recorded.convert("abc");
+        List<Integer> bulk = recorded.convert(Arrays.asList("a", "bb"));
+
+        //then
+        assertThat(single).isEqualTo(3);
+        assertThat(bulk).containsExactly(1, 2);
+        assertThat(conversions.get()).isEqualTo(3);
+    }
 }
@@ -0,0 +1,184 @@
+package com.github.roookeee.datus.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappingContextTest {
+
+    private final AtomicInteger productConversions = new AtomicInteger();
+    private final Mapper<Product, String> productMapper = product -> {
+        productConversions.incrementAndGet();
+        return new String(product.name);
+    };
+
+    @Test
+    public void sharedReferencesShouldBeConvertedOnce() {
+        //given
+        Mapper<Product, String> identityAwareProductMapper = productMapper.identityAware();
+        Mapper<List<Product>, List<String>> lineItemMapper = lineItems -> identityAwareProductMapper.convert(lineItems);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            products.add(new Product("product" + i));
+        }
+        List<Product> lineItems = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            lineItems.add(products.get(i % products.size()));
+        }
+
+        //when
+        List<String> result = lineItemMapper.identityAware().convert(lineItems);
+        lineItemMapper.convert(lineItems);
+
+        //then
+        assertThat(result).hasSize(200);
+        assertThat(result.get(12)).isSameAs(result.get(0));
+        //a collection conversion of an identity-aware mapper shares one context for all of its elements
+        assertThat(productConversions.get()).isEqualTo(12 + 12);
+        assertThat(MappingContext.current()).isNull();
+    }
+
+    @Test
+    public void contextsShouldBeScopedToOneTopLevelConversionByDefault() {
+        //given
+        Mapper<Product, String> mapper = productMapper.identityAware();
+        Product product = new Product("product");
+        MappingContext context = new MappingContext();
+
+        //when
+        String first = mapper.convert(product);
+        String second = mapper.convert(product);
+        String third = productMapper.convert(product, context);
+        String fourth = mapper.convert(product, context);
+
+        //then
+        assertThat(second).isNotSameAs(first);
+        assertThat(fourth).isSameAs(third);
+        assertThat(context.size()).isEqualTo(1);
+        assertThat(productConversions.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void collectionConversionsShouldShareOneContext() {
+        //given
+        Mapper<Product, String> mapper = productMapper.identityAware();
+        Product product = new Product("product");
+        Product other = new Product("other");
+        List<Product> input = Arrays.asList(product, product, other);
+
+        //when
+        List<String> converted = mapper.convert(input);
+        List<String> streamed = mapper.conversionStream(input).collect(Collectors.toList());
+
+        //then
+        assertThat(converted.get(1)).isSameAs(converted.get(0));
+        assertThat(converted.get(2)).isNotSameAs(converted.get(0));
+        assertThat(streamed.get(1)).isSameAs(streamed.get(0));
+        assertThat(streamed.get(0)).isNotSameAs(converted.get(0));
+        assertThat(productConversions.get()).isEqualTo(2 + 2);
+        assertThat(MappingContext.current()).isNull();
+    }
+
+    @Test
+    public void parallelConversionsShouldUseOneContextPerChunk() {
+        //given
+        Mapper<Product, String> mapper = productMapper.identityAware();
+        Product product = new Product("product");
+        List<Product> input = Arrays.asList(product, product, product, product);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        //when
+        List<String> result;
+        try {
+            result = mapper.convertParallel(input, executor, 2);
+        } finally {
+            executor.shutdown();
+        }
+
+        //then
+        assertThat(result.get(1)).isSameAs(result.get(0));
+        assertThat(result.get(3)).isSameAs(result.get(2));
+        assertThat(result.get(2)).isNotSameAs(result.get(0));
+        assertThat(productConversions.get()).isEqualTo(2);
+        assertThat(MappingContext.current()).isNull();
+    }
+
+    @Test
+    public void cyclicReferencesShouldBeDetected() {
+        //given
+        Node node = new Node("a");
+        node.next = new Node("b");
+        node.next.next = node;
+        MappingContext context = new MappingContext();
+        Mapper<Node, Node> mapper = new Mapper<Node, Node>() {
+            @Override
+            public Node convert(Node input) {
+                Node output = new Node(input.name);
+                output.next = this.identityAware().convert(input.next);
+                return output;
+            }
+        }.identityAware();
+
+        //when + then
+        assertThatThrownBy(() -> mapper.convert(node, context))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Cyclic reference");
+        assertThat(context.size()).isEqualTo(0);
+        assertThat(MappingContext.current()).isNull();
+    }
+
+    @Test
+    public void cyclicReferencesShouldBeConvertedByMutableMappers() {
+        //given
+        Node node = new Node("a");
+        node.next = new Node("b");
+        node.next.next = node;
+        MutableMapper<Node, Node> nodeMapper = new MutableMapper<Node, Node>() {
+            @Override
+            public Node convertInto(Node input, Node target) {
+                target.name = input.name.toUpperCase();
+                target.next = identityAware(() -> new Node(null)).convert(input.next);
+                return target;
+            }
+
+            @Override
+            public Node convert(Node input) {
+                return convertInto(input, new Node(null));
+            }
+        };
+
+        //when
+        Node result = nodeMapper.identityAware(() -> new Node(null)).convert(node);
+
+        //then
+        assertThat(result.name).isEqualTo("A");
+        assertThat(result.next.name).isEqualTo("B");
+        assertThat(result.next.next).isSameAs(result);
+    }
+
+    private static final class Product {
+        private final String name;
+
+        private Product(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class Node {
+        private String name;
+        private Node next;
+
+        private Node(String name) {
+            this.name = name;
+        }
+    }
+}
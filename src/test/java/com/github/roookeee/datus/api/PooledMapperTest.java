@@ -0,0 +1,65 @@
+package com.github.roookeee.datus.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PooledMapperTest {
+
+    private final MutableMapper<String, List<String>> mapper = new MutableMapper<String, List<String>>() {
+        @Override
+        public List<String> convertInto(String input, List<String> target) {
+            target.add(input);
+            return target;
+        }
+
+        @Override
+        public List<String> convert(String input) {
+            return convertInto(input, new ArrayList<>());
+        }
+    };
+
+    @Test
+    public void releasedOutputsShouldBeResetAndReused() {
+        //given
+        PooledMapper<String, List<String>> pooledMapper = mapper.pooled(2, List::clear);
+        List<String> first = pooledMapper.convert("first");
+
+        //when
+        pooledMapper.release(first);
+        List<String> second = pooledMapper.convert("second");
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(second).containsExactly("second");
+        assertThat(pooledMapper.pooledOutputs()).isEqualTo(0);
+    }
+
+    @Test
+    public void releasedOutputsShouldBeDroppedIfThePoolIsFull() {
+        //given
+        PooledMapper<String, List<String>> pooledMapper = mapper.pooled(1, List::clear);
+        List<String> first = pooledMapper.convert("first");
+        List<String> second = pooledMapper.convert("second");
+
+        //when
+        pooledMapper.release(first);
+        pooledMapper.release(second);
+
+        //then
+        assertThat(pooledMapper.pooledOutputs()).isEqualTo(1);
+        assertThat(second).isEmpty();
+        assertThat(pooledMapper.convert("third")).isSameAs(first);
+    }
+
+    @Test
+    public void poolsShouldHaveAPositiveCapacity() {
+        //when + then
+        assertThatThrownBy(() -> mapper.pooled(0, List::clear))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.roookeee.datus.conditional;
+
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.immutable.ConstructorParameter;
+import com.github.roookeee.datus.mutable.MutableConstructionStep;
+import com.github.roookeee.datus.mutable.MutableMappingBuilder;
+import com.github.roookeee.datus.testutil.Item;
+import com.github.roookeee.datus.testutil.ItemDTO;
+import com.github.roookeee.datus.testutil.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BranchProfileTest {
+
+    @Test
+    public void profiledGivenShouldCountTheTakenBranches() {
+        //given
+        BranchProfile profile = new BranchProfile("address");
+        Mapper<Person, Person> mapper = new MutableMappingBuilder<Person, Person>(Person::new)
+                .from(Person::getAddress)
+                    .given(Objects::isNull, "fallback").profiled(profile).orElse(Function.identity())
+                    .into(Person::setAddress)
+                .build();
+
+        //when
+        Person fallback = mapper.convert(person(null));
+        mapper.convert(person("a"));
+        mapper.convert(person("b"));
+
+        //then
+        assertThat(fallback.getAddress()).isEqualTo("fallback");
+        assertThat(profile.cases()).isEqualTo(1);
+        assertThat(profile.matched(0)).isEqualTo(1);
+        assertThat(profile.matched()).isEqualTo(1);
+        assertThat(profile.fellThrough()).isEqualTo(2);
+        assertThat(profile.nullValues()).isEqualTo(0);
+    }
+
+    @Test
+    public void profiledMatchShouldCountEveryCase() {
+        //given
+        BranchProfile profile = new BranchProfile("id");
+        Mapper<Item, ItemDTO> mapper = Datus.forTypes(Item.class, ItemDTO.class)
+                .immutable(ItemDTO::new)
+                .from(Item::getId).nullsafe()
+                    .match(String.class)
+                    .when("1", "one")
+                    .when("2", "two")
+                    .profiled(profile)
+                    .orElse("other")
+                    .to(ConstructorParameter::bind)
+                .from(Item::getId).to(ConstructorParameter::bind)
+                .build();
+
+        //when
+        mapper.convert(Arrays.asList(new Item("2"), new Item("2"), new Item("1"), new Item("3"), new Item(null)));
+
+        //then
+        assertThat(profile.cases()).isEqualTo(2);
+        assertThat(profile.matched(0)).isEqualTo(1);
+        assertThat(profile.matched(1)).isEqualTo(2);
+        assertThat(profile.fellThrough()).isEqualTo(1);
+        assertThat(profile.nullValues()).isEqualTo(1);
+        assertThat(profile.toString()).isEqualTo("BranchProfile{name=id, matched=[1, 2], fellThrough=1, nullValues=1}");
+    }
+
+    @Test
+    public void profilesShouldOnlyBeUsedByOneStep() {
+        //given
+        BranchProfile profile = new BranchProfile("address");
+        MutableMappingBuilder<Person, Person> builder = new MutableMappingBuilder<Person, Person>(Person::new)
+                .from(Person::getAddress)
+                    .given(Objects::isNull, "fallback").profiled(profile).orElse(Function.identity())
+                    .into(Person::setAddress);
+
+        //when + then
+        assertThatThrownBy(() -> builder.from(Person::getName)
+                .given(Objects::isNull, "fallback").profiled(profile).orElse(Function.identity()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> profile.matched(1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void rebuildingAProfiledStepShouldShareTheProfile() {
+        //given
+        BranchProfile givenProfile = new BranchProfile("address");
+        BranchProfile matchProfile = new BranchProfile("name");
+        ConditionalEnd<Person, String, String, MutableConstructionStep<Person, String, Person>> given =
+                new MutableMappingBuilder<Person, Person>(Person::new)
+                        .from(Person::getAddress)
+                        .given(Objects::isNull, "fallback").profiled(givenProfile);
+        MatchCases<Person, String, String, MutableConstructionStep<Person, String, Person>> match =
+                new MutableMappingBuilder<Person, Person>(Person::new)
+                        .from(Person::getName)
+                        .match(String.class).when("a", "A").profiled(matchProfile);
+
+        //when
+        Mapper<Person, Person> first = given.orElse(Function.identity()).into(Person::setAddress).build();
+        Mapper<Person, Person> second = given.orElse(Function.identity()).into(Person::setAddress).build();
+        Mapper<Person, Person> firstMatch = match.orElse("other").into(Person::setName).build();
+        Mapper<Person, Person> secondMatch = match.orElse("other").into(Person::setName).build();
+        first.convert(person(null));
+        second.convert(person("a"));
+        firstMatch.convert(named("a"));
+        secondMatch.convert(named("b"));
+
+        //then
+        //the builders are mutable: the second mappers contain the profiled step twice
+        assertThat(givenProfile.cases()).isEqualTo(1);
+        assertThat(givenProfile.matched(0)).isEqualTo(1);
+        assertThat(givenProfile.fellThrough()).isEqualTo(2);
+        assertThat(matchProfile.cases()).isEqualTo(1);
+        assertThat(matchProfile.matched(0)).isEqualTo(1);
+        assertThat(matchProfile.fellThrough()).isEqualTo(2);
+    }
+
+    @Test
+    public void profilesShouldNotBeSharedByMatchesWithDifferentCases() {
+        //given
+        BranchProfile profile = new BranchProfile("name");
+        MatchCases<Person, String, String, MutableConstructionStep<Person, String, Person>> match =
+                new MutableMappingBuilder<Person, Person>(Person::new)
+                        .from(Person::getName)
+                        .match(String.class).when("a", "A").profiled(profile);
+        match.orElse("other");
+
+        //when + then
+        assertThatThrownBy(() -> match.when("b", "B").orElse("other"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(profile.cases()).isEqualTo(1);
+    }
+
+    private static Person named(String name) {
+        Person person = new Person();
+        person.setName(name);
+        return person;
+    }
+
+    private static Person person(String address) {
+        Person person = new Person();
+        person.setAddress(address);
+        return person;
+    }
+}
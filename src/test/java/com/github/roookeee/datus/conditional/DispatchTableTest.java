@@ -0,0 +1,67 @@
+package com.github.roookeee.datus.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DispatchTableTest {
+
+    @Test
+    public void enumKeysShouldBeDispatchedByOrdinal() {
+        //given
+        DispatchTable table = DispatchTable.of(
+                Arrays.asList(DayOfWeek.MONDAY, DayOfWeek.SUNDAY),
+                Arrays.asList("start", null)
+        );
+
+        //when + then
+        assertThat(table.getClass().getSimpleName()).isEqualTo("EnumTable");
+        assertThat(table.lookup(DayOfWeek.MONDAY)).isEqualTo("start");
+        assertThat(table.lookup(DayOfWeek.SUNDAY)).isNull();
+        assertThat(table.lookup(DayOfWeek.TUESDAY)).isSameAs(DispatchTable.NO_MATCH);
+        //shares its ordinal with MONDAY
+        assertThat(table.lookup(Month.JANUARY)).isSameAs(DispatchTable.NO_MATCH);
+        assertThat(table.lookup("MONDAY")).isSameAs(DispatchTable.NO_MATCH);
+        assertThat(table.lookup(null)).isSameAs(DispatchTable.NO_MATCH);
+    }
+
+    @Test
+    public void denseIntegerKeysShouldBeDispatchedByOffset() {
+        //given
+        DispatchTable table = DispatchTable.of(
+                Arrays.asList(200, 201, 204, null),
+                Arrays.asList("ok", "created", "no content", "missing")
+        );
+
+        //when + then
+        assertThat(table.getClass().getSimpleName()).isEqualTo("IntTable");
+        assertThat(table.lookup(200)).isEqualTo("ok");
+        assertThat(table.lookup(204)).isEqualTo("no content");
+        assertThat(table.lookup(202)).isSameAs(DispatchTable.NO_MATCH);
+        assertThat(table.lookup(199)).isSameAs(DispatchTable.NO_MATCH);
+        assertThat(table.lookup(Integer.MIN_VALUE)).isSameAs(DispatchTable.NO_MATCH);
+        assertThat(table.lookup(Integer.MAX_VALUE)).isSameAs(DispatchTable.NO_MATCH);
+        assertThat(table.lookup(200L)).isSameAs(DispatchTable.NO_MATCH);
+        assertThat(table.lookup(null)).isEqualTo("missing");
+    }
+
+    @Test
+    public void sparseIntegerAndOtherKeysShouldBeDispatchedByHash() {
+        //given
+        DispatchTable sparse = DispatchTable.of(Arrays.asList(1, 1_000_000), Arrays.asList("one", "million"));
+        DispatchTable mixed = DispatchTable.of(Arrays.asList("a", DayOfWeek.MONDAY), Arrays.asList(1, 2));
+
+        //when + then
+        assertThat(sparse.getClass().getSimpleName()).isEqualTo("HashTable");
+        assertThat(sparse.lookup(1_000_000)).isEqualTo("million");
+        assertThat(sparse.lookup(2)).isSameAs(DispatchTable.NO_MATCH);
+        assertThat(mixed.getClass().getSimpleName()).isEqualTo("HashTable");
+        assertThat(mixed.lookup("a")).isEqualTo(1);
+        assertThat(mixed.lookup(DayOfWeek.MONDAY)).isEqualTo(2);
+        assertThat(mixed.lookup(null)).isSameAs(DispatchTable.NO_MATCH);
+    }
+}
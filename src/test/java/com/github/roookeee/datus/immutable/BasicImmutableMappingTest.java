@@ -6,6 +6,7 @@ import com.github.roookeee.datus.testutil.Item;
 import com.github.roookeee.datus.testutil.ItemDTO;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -391,4 +392,58 @@ public class BasicImmutableMappingTest {
         assertThat(mappedAllValuesMatchPredicate.getId()).isEqualTo("fallback");
         assertThat(mappedAllValuesMatchPredicate.getExtendedId()).isEqualTo("fallback");
     }
+
+    @Test
+    public void mapEachShouldConvertEveryElement() {
+        //given
+        Mapper<String, String> upperCase = String::toUpperCase;
+        Mapper<Item, ItemDTO> mapper = Datus.forTypes(Item.class, ItemDTO.class)
+                .immutable(ItemDTO::new)
+                .from(Item::getId).to(ConstructorParameter::bind)
+                .from(Item::getId).nullsafe()
+                    .map(id -> Arrays.asList(id.split(",")))
+                    .mapEach(upperCase.each().finish(ids -> String.join("|", ids)))
+                    .to(ConstructorParameter::bind)
+                .build();
+
+        //when
+        ItemDTO result = mapper.convert(new Item("a,b"));
+        ItemDTO nullResult = mapper.convert(new Item(null));
+
+        //then
+        assertThat(result.getExtendedId()).isEqualTo("A|B");
+        assertThat(nullResult.getExtendedId()).isNull();
+    }
+
+    @Test
+    public void matchShouldUseTheResultOfTheMatchingCase() {
+        //given
+        Mapper<Item, ItemDTO> mapper = Datus.forTypes(Item.class, ItemDTO.class)
+                .immutable(ItemDTO::new)
+                .from(Item::getId)
+                    .match(String.class)
+                    .when("1", "one")
+                    .when("2", "two")
+                    .orElse(id -> "unknown-" + id)
+                    .to(ConstructorParameter::bind)
+                .from(Item::getId).nullsafe().map(Integer::valueOf)
+                    .match(String.class)
+                    .when(1, "one-extra")
+                    .orElseNull()
+                    .to(ConstructorParameter::bind)
+                .build();
+
+        //when
+        ItemDTO aResult = mapper.convert(new Item("1"));
+        ItemDTO bResult = mapper.convert(new Item("3"));
+        ItemDTO cResult = mapper.convert(new Item(null));
+
+        //then
+        assertThat(aResult.getId()).isEqualTo("one");
+        assertThat(aResult.getExtendedId()).isEqualTo("one-extra");
+        assertThat(bResult.getId()).isEqualTo("unknown-3");
+        assertThat(bResult.getExtendedId()).isNull();
+        assertThat(cResult.getId()).isEqualTo("unknown-null");
+        assertThat(cResult.getExtendedId()).isNull();
+    }
 }
@@ -1,6 +1,12 @@
 package com.github.roookeee.datus.immutable;
 
+import com.github.roookeee.datus.api.BuildStrategy;
+import com.github.roookeee.datus.api.Datus;
 import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.api.MappingMetrics;
+import com.github.roookeee.datus.api.MappingStatistics;
+import com.github.roookeee.datus.testutil.Item;
+import com.github.roookeee.datus.testutil.ItemDTO;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -56,4 +62,53 @@ public class ConstructorBuilderTest {
         assertThat(result).isEqualTo("process result");
     }
 
+    @Test
+    public void instrumentedBuildShouldRecordEveryStep() {
+        //given
+        MappingStatistics statistics = new MappingStatistics();
+        Mapper<Item, ItemDTO> mapper = Datus.forTypes(Item.class, ItemDTO.class)
+                .immutable(ItemDTO::new)
+                .from(Item::getId).to(ConstructorParameter::bind)
+                .from(Item::getId).map(id -> id + "-extra").to(ConstructorParameter::bind)
+                .spy((in, out) -> { })
+                .buildInstrumented(statistics);
+
+        //when
+        ItemDTO result = mapper.convert(new Item("1"));
+        mapper.convert(new Item(null));
+
+        //then
+        assertThat(result.getId()).isEqualTo("1");
+        assertThat(result.getExtendedId()).isEqualTo("1-extra");
+        assertThat(statistics.steps()).extracting(MappingStatistics.Step::kind).containsExactly(
+                MappingMetrics.StepKind.CONSTRUCTOR_PARAMETER,
+                MappingMetrics.StepKind.CONSTRUCTOR_PARAMETER,
+                MappingMetrics.StepKind.PROCESSOR
+        );
+        assertThat(statistics.steps()).extracting(MappingStatistics.Step::invocations).containsOnly(2L);
+        assertThat(statistics.steps()).extracting(MappingStatistics.Step::nullValues).containsExactly(1L, 0L, 0L);
+    }
+
+    @Test
+    public void everyStrategyShouldBeBuildableFromTheSameBuilder() {
+        //given
+        ConstructorBuilder<Item, ItemDTO> builder = Datus.forTypes(Item.class, ItemDTO.class)
+                .immutable(ItemDTO::new)
+                .from(Item::getId).to(ConstructorParameter::bind)
+                .from(Item::getId).nullsafe().map(String::trim).map(id -> id + "-extra").to(ConstructorParameter::bind)
+                .process((in, out) -> new ItemDTO(out.getId(), out.getExtendedId() + "!"));
+
+        for (BuildStrategy strategy : BuildStrategy.values()) {
+            //when
+            Mapper<Item, ItemDTO> mapper = builder.build(strategy);
+            ItemDTO result = mapper.convert(new Item(" 1 "));
+            ItemDTO nullResult = mapper.convert(new Item(null));
+
+            //then
+            assertThat(result.getId()).isEqualTo(" 1 ");
+            assertThat(result.getExtendedId()).isEqualTo("1-extra!");
+            assertThat(nullResult.getExtendedId()).isEqualTo("null!");
+        }
+    }
+
 }
@@ -1,10 +1,12 @@
 package com.github.roookeee.datus.immutable;
 
+import com.github.roookeee.datus.api.BuildStrategy;
 import com.github.roookeee.datus.api.Datus;
 import com.github.roookeee.datus.api.Mapper;
 import com.github.roookeee.datus.testutil.DetailedPerson;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -155,6 +157,48 @@ public class MaxArgImmutableMapperTest {
         assertThat(result.isAllowedToLogin()).isEqualTo(true);
     }
 
+    @Test
+    public void allBuildStrategiesShouldBehaveTheSame() {
+        //given
+        AtomicInteger spyCount = new AtomicInteger();
+        ConstructorBuilder<Object, DetailedPerson> builder = Datus.forTypes(Object.class, DetailedPerson.class)
+                .immutable(DetailedPerson::new)
+                .from(Function.identity()).map(o -> "0").to(ConstructorParameter::bind)
+                .from(Function.identity()).map(o -> "1").to(ConstructorParameter::bind)
+                .from(Function.identity()).map(o -> "2").to(ConstructorParameter::bind)
+                .from(Function.identity()).map(o -> "3").to(ConstructorParameter::bind)
+                .from(Function.identity()).map(o -> "4").to(ConstructorParameter::bind)
+                .from(Function.identity()).map(o -> "5").to(ConstructorParameter::bind)
+                .from(Function.identity()).map(o -> "6").to(ConstructorParameter::bind)
+                .from(Function.identity()).map(o -> "7").to(ConstructorParameter::bind)
+                .from(Function.identity()).map(o -> "8").to(ConstructorParameter::bind)
+                .from(Function.identity()).map(o -> "9").to(ConstructorParameter::bind)
+                .from(Function.identity()).map(o -> true).to(ConstructorParameter::bind)
+                .from(Function.identity()).map(o -> false).to(ConstructorParameter::bind)
+                .spy((in, out) -> spyCount.incrementAndGet());
+
+        for (BuildStrategy strategy : BuildStrategy.values()) {
+            //when
+            int previousSpyCount = spyCount.get();
+            DetailedPerson result = builder.build(strategy).convert(new Object());
+
+            //then
+            assertThat(spyCount.get()).isEqualTo(previousSpyCount + 1);
+            assertThat(result.getUniqueId()).isEqualTo("0");
+            assertThat(result.getSalutation()).isEqualTo("1");
+            assertThat(result.getFirstName()).isEqualTo("2");
+            assertThat(result.getLastName()).isEqualTo("3");
+            assertThat(result.getAddress()).isEqualTo("4");
+            assertThat(result.getAddressExtra()).isEqualTo("5");
+            assertThat(result.getCity()).isEqualTo("6");
+            assertThat(result.getOccupation()).isEqualTo("7");
+            assertThat(result.getCountry()).isEqualTo("8");
+            assertThat(result.getZipCode()).isEqualTo("9");
+            assertThat(result.isActive()).isEqualTo(true);
+            assertThat(result.isAllowedToLogin()).isEqualTo(false);
+        }
+    }
+
     private String appendExclamationMark(String input) {
         return input + "!";
     }
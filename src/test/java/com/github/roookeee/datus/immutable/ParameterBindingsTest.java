@@ -0,0 +1,84 @@
+package com.github.roookeee.datus.immutable;
+
+import com.github.roookeee.datus.functions.Fn1;
+import com.github.roookeee.datus.functions.Fn10;
+import com.github.roookeee.datus.functions.Fn11;
+import com.github.roookeee.datus.functions.Fn12;
+import com.github.roookeee.datus.functions.Fn2;
+import com.github.roookeee.datus.functions.Fn3;
+import com.github.roookeee.datus.functions.Fn4;
+import com.github.roookeee.datus.functions.Fn5;
+import com.github.roookeee.datus.functions.Fn6;
+import com.github.roookeee.datus.functions.Fn7;
+import com.github.roookeee.datus.functions.Fn8;
+import com.github.roookeee.datus.functions.Fn9;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParameterBindingsTest {
+
+    private static final List<Object> CONSTRUCTORS = Arrays.asList(
+            (Fn1<String, String>) a -> a,
+            (Fn2<String, String, String>) (a, b) -> a + b,
+            (Fn3<String, String, String, String>) (a, b, c) -> a + b + c,
+            (Fn4<String, String, String, String, String>) (a, b, c, d) -> a + b + c + d,
+            (Fn5<String, String, String, String, String, String>) (a, b, c, d, e) -> a + b + c + d + e,
+            (Fn6<String, String, String, String, String, String, String>) (a, b, c, d, e, f) -> a + b + c + d + e + f,
+            (Fn7<String, String, String, String, String, String, String, String>) (a, b, c, d, e, f, g) -> a + b + c + d + e + f + g,
+            (Fn8<String, String, String, String, String, String, String, String, String>) (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h,
+            (Fn9<String, String, String, String, String, String, String, String, String, String>) (a, b, c, d, e, f, g, h, i) -> a + b + c + d + e + f + g + h + i,
+            (Fn10<String, String, String, String, String, String, String, String, String, String, String>) (a, b, c, d, e, f, g, h, i, j) -> a + b + c + d + e + f + g + h + i + j,
+            (Fn11<String, String, String, String, String, String, String, String, String, String, String, String>) (a, b, c, d, e, f, g, h, i, j, k) -> a + b + c + d + e + f + g + h + i + j + k,
+            (Fn12<String, String, String, String, String, String, String, String, String, String, String, String, String>) (a, b, c, d, e, f, g, h, i, j, k, l) -> a + b + c + d + e + f + g + h + i + j + k + l
+    );
+
+    @Test
+    public void shouldRetainOrderForEveryArity() {
+        for (int arity = 1; arity <= CONSTRUCTORS.size(); arity++) {
+            //given
+            ParameterBindings<String, String> bindings = ParameterBindings.of(CONSTRUCTORS.get(arity - 1), arity);
+            StringBuilder expected = new StringBuilder();
+            for (int i = 0; i < arity; i++) {
+                String suffix = Integer.toHexString(i);
+                bindings = bindings.bind(in -> in + suffix);
+                expected.append("x").append(suffix);
+            }
+
+            //when
+            String result = bindings.flatten().apply("x");
+
+            //then
+            assertThat(result).isEqualTo(expected.toString());
+        }
+    }
+
+    @Test
+    public void shouldAllowReusingIntermediateBindings() {
+        //given
+        ParameterBindings<String, String> first = ParameterBindings.<String, String>of(CONSTRUCTORS.get(1), 2)
+                .bind(in -> "first");
+
+        //when
+        Fn1<String, String> a = first.bind(in -> "A").flatten();
+        Fn1<String, String> b = first.bind(in -> "B").flatten();
+
+        //then
+        assertThat(a.apply("")).isEqualTo("firstA");
+        assertThat(b.apply("")).isEqualTo("firstB");
+    }
+
+    @Test
+    public void shouldRejectIncompleteBindings() {
+        //given
+        ParameterBindings<String, String> bindings = ParameterBindings.<String, String>of(CONSTRUCTORS.get(1), 2)
+                .bind(in -> "first");
+
+        //when + then
+        assertThatThrownBy(bindings::flatten).isInstanceOf(IllegalStateException.class);
+    }
+}
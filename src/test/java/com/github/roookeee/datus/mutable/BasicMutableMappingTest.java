@@ -5,10 +5,14 @@ import com.github.roookeee.datus.testutil.Person;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.DayOfWeek;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.TreeSet;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class BasicMutableMappingTest {
     private Person testPerson;
@@ -222,4 +226,95 @@ public class BasicMutableMappingTest {
         assertThat(mappedAllValuesMatchPredicate.getLastName()).isEqualTo("fallback");
         assertThat(mappedAllValuesMatchPredicate.getBirthDate()).isEqualTo("fallback");
     }
+
+    @Test
+    public void mapEachShouldConvertEveryElement() {
+        //given
+        Mapper<String, String> trim = String::trim;
+        Mapper<Person, Person> mapper = new MutableMappingBuilder<Person, Person>(Person::new)
+                .from(person -> Arrays.asList(person.getAddress().split(",")))
+                    .mapEach(trim.each(size -> new TreeSet<>()))
+                    .map(Object::toString)
+                    .into(Person::setAddress)
+                .build();
+        testPerson.setAddress("b , a,b");
+
+        //when
+        Person result = mapper.convert(testPerson);
+
+        //then
+        assertThat(result.getAddress()).isEqualTo("[a, b]");
+    }
+
+    @Test
+    public void matchShouldUseTheResultOfTheMatchingCase() {
+        //given
+        Mapper<Person, Person> mapper = new MutableMappingBuilder<Person, Person>(Person::new)
+                .from(Person::getName).map(DayOfWeek::valueOf)
+                    .match(String.class)
+                    .when(DayOfWeek.SATURDAY, "weekend")
+                    .when(DayOfWeek.SUNDAY, "weekend")
+                    .orElse(day -> day.name().toLowerCase())
+                    .into(Person::setName)
+                .from(Person::getAddress).map(String::length)
+                    .<String>match()
+                    .when(1, "one")
+                    .when(3, "three")
+                    .orElseNull()
+                    .into(Person::setAddress)
+                .from(Person::getLastName)
+                    .match(String.class)
+                    .when("lastname", "matched")
+                    .when(null, "missing")
+                    .orElse(Function.identity())
+                    .into(Person::setLastName)
+                .build();
+        testPerson.setName("SUNDAY");
+        testPerson.setAddress("abc");
+        Person otherPerson = new Person();
+        otherPerson.setName("MONDAY");
+        otherPerson.setAddress("ab");
+
+        //when
+        Person result = mapper.convert(testPerson);
+        Person otherResult = mapper.convert(otherPerson);
+
+        //then
+        assertThat(result.getName()).isEqualTo("weekend");
+        assertThat(result.getAddress()).isEqualTo("three");
+        assertThat(result.getLastName()).isEqualTo("matched");
+        assertThat(otherResult.getName()).isEqualTo("monday");
+        assertThat(otherResult.getAddress()).isNull();
+        assertThat(otherResult.getLastName()).isEqualTo("missing");
+    }
+
+    @Test
+    public void nullsafeMatchShouldPropagateNullValues() {
+        //given
+        Mapper<Person, Person> mapper = new MutableMappingBuilder<Person, Person>(Person::new)
+                .from(Person::getAddress).nullsafe()
+                    .match(String.class)
+                    .when("address", "matched")
+                    .orElse("fallback")
+                    .into(Person::setAddress)
+                .build();
+        testPerson.setAddress(null);
+
+        //when
+        Person result = mapper.convert(testPerson);
+
+        //then
+        assertThat(result.getAddress()).isNull();
+    }
+
+    @Test
+    public void matchShouldRejectDuplicateCases() {
+        //when + then
+        assertThatThrownBy(() -> new MutableMappingBuilder<Person, Person>(Person::new)
+                .from(Person::getAddress)
+                .match(String.class)
+                .when("address", "first")
+                .when("address", "second"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
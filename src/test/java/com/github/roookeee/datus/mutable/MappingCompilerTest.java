@@ -0,0 +1,125 @@
+package com.github.roookeee.datus.mutable;
+
+import com.github.roookeee.datus.api.BuildStrategy;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.api.MutableMapper;
+import com.github.roookeee.datus.testutil.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MappingCompilerTest {
+
+    @Test
+    public void compiledMapperShouldBehaveLikeChainedMapper() {
+        //given
+        Person person = new Person();
+        person.setName("name");
+        person.setLastName(null);
+        person.setAddress("address");
+        person.setBirthDate("birthDate");
+
+        MutableMappingBuilder<Person, Person> builder = new MutableMappingBuilder<Person, Person>(Person::new)
+                .from(Person::getName).map(String::toUpperCase).into(Person::setName)
+                .from(Person::getLastName).nullsafe().map(String::toUpperCase).into(Person::setLastName)
+                .from(Person::getAddress).given("address"::equals, "matched").orElse("unmatched").into(Person::setAddress)
+                .from(Person::getBirthDate).into(Person::setBirthDate);
+
+        //when
+        Mapper<Person, Person> compiled = builder.build(BuildStrategy.COMPILED);
+        Person result = compiled.convert(person);
+
+        //then
+        assertThat(compiled.getClass().getName()).contains("CompiledMapper");
+        assertThat(result.getName()).isEqualTo("NAME");
+        assertThat(result.getLastName()).isNull();
+        assertThat(result.getAddress()).isEqualTo("matched");
+        assertThat(result.getBirthDate()).isEqualTo("birthDate");
+    }
+
+    @Test
+    public void compiledMapperShouldRetainStepOrderAndReplacedOutputs() {
+        //given
+        List<String> spyList = new ArrayList<>();
+        Mapper<String, String> mapper = new MutableMappingBuilder<String, String>(() -> "prefix-")
+                .spy((in, out) -> spyList.add(out))
+                .from(Function.identity()).to((out, in) -> out + in)
+                .spy((in, out) -> spyList.add(out))
+                .process((in, out) -> out + ":processed")
+                .build(BuildStrategy.COMPILED);
+
+        //when
+        String result = mapper.convert("input");
+
+        //then
+        assertThat(result).isEqualTo("prefix-input:processed");
+        assertThat(spyList).containsExactly("prefix-", "prefix-input");
+    }
+
+    @Test
+    public void compiledMapperShouldConvertIntoTheGivenTarget() {
+        //given
+        MutableMapper<String, StringBuilder> mapper = new MutableMappingBuilder<String, StringBuilder>(() -> new StringBuilder("generated"))
+                .from(Function.identity()).into(StringBuilder::append)
+                .buildMutable(BuildStrategy.COMPILED);
+        StringBuilder target = new StringBuilder("target-");
+
+        //when
+        StringBuilder result = mapper.convertInto("input", target);
+
+        //then
+        assertThat(mapper.getClass().getName()).contains("CompiledMapper");
+        assertThat(result).isSameAs(target);
+        assertThat(result.toString()).isEqualTo("target-input");
+    }
+
+    @Test
+    public void compiledMapperWithoutStepsShouldReturnGeneratedObject() {
+        //given
+        Mapper<String, String> mapper = new MutableMappingBuilder<String, String>(() -> "generated")
+                .build(BuildStrategy.COMPILED);
+
+        //when
+        String result = mapper.convert("input");
+
+        //then
+        assertThat(result).isEqualTo("generated");
+    }
+
+    @Test
+    public void shouldCompileManySteps() {
+        //given
+        List<MappingStep<String, StringBuilder>> steps = IntStream.range(0, 300)
+                .mapToObj(i -> MappingStep.<String, String, StringBuilder>ofSetter(in -> in + i, StringBuilder::append))
+                .collect(Collectors.toList());
+
+        //when
+        Optional<MutableMapper<String, StringBuilder>> mapper = MappingCompiler.compile(StringBuilder::new, steps);
+
+        //then
+        String expected = IntStream.range(0, 300).mapToObj(i -> "x" + i).collect(Collectors.joining());
+        assertThat(mapper).isPresent();
+        assertThat(mapper.get().convert("x").toString()).isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldNotCompileTooManySteps() {
+        //given
+        List<MappingStep<String, StringBuilder>> steps = IntStream.range(0, MappingCompiler.MAX_COMPILABLE_STEPS + 1)
+                .mapToObj(i -> MappingStep.<String, StringBuilder>ofProcessor((in, out) -> out))
+                .collect(Collectors.toList());
+
+        //when
+        Optional<MutableMapper<String, StringBuilder>> mapper = MappingCompiler.compile(StringBuilder::new, steps);
+
+        //then
+        assertThat(mapper).isNotPresent();
+    }
+}
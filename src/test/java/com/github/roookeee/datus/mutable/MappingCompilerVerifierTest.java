@@ -0,0 +1,87 @@
+package com.github.roookeee.datus.mutable;
+
+import com.github.roookeee.datus.api.MutableMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+Runs the class files written by MappingCompiler through the bytecode verifier: executed by the verifier-tests execution
+of the surefire plugin which passes -Xverify:all, so every generated class is verified regardless of its class loader.
+The step counts are chosen so the constant pool exceeds 256 entries (two byte indices for getfield / invokeinterface /
+checkcast and ldc_w) and the constructor has to push array indices via sipush.
+*/
+public class MappingCompilerVerifierTest {
+
+    @Test
+    public void testsShouldRunWithFullVerification() {
+        assertThat(ManagementFactory.getRuntimeMXBean().getInputArguments()).contains("-Xverify:all");
+    }
+
+    @Test
+    public void compiledMapperWithMoreThan256ConstantsShouldBeVerifiable() {
+        //given
+        List<MappingStep<String, StringBuilder>> steps = IntStream.range(0, 300)
+                .mapToObj(MappingCompilerVerifierTest::step)
+                .collect(Collectors.toList());
+
+        //when
+        Optional<MutableMapper<String, StringBuilder>> mapper = MappingCompiler.compile(StringBuilder::new, steps);
+
+        //then
+        assertThat(mapper).isPresent();
+        assertThat(mapper.get().getClass().getName()).contains("CompiledMapper");
+        assertThat(mapper.get().convert("x").toString()).isEqualTo(expected(300));
+    }
+
+    @Test
+    public void compiledMapperWithTheMaximumStepCountShouldBeVerifiable() {
+        //given
+        List<MappingStep<String, StringBuilder>> steps = IntStream.range(0, MappingCompiler.MAX_COMPILABLE_STEPS)
+                .mapToObj(MappingCompilerVerifierTest::step)
+                .collect(Collectors.toList());
+
+        //when
+        Optional<MutableMapper<String, StringBuilder>> mapper = MappingCompiler.compile(StringBuilder::new, steps);
+
+        //then
+        assertThat(mapper).isPresent();
+        assertThat(mapper.get().convert("x").toString()).isEqualTo(expected(MappingCompiler.MAX_COMPILABLE_STEPS));
+    }
+
+    @Test
+    public void methodHandleMapperShouldBeVerifiable() {
+        //given
+        List<MappingStep<String, StringBuilder>> steps = IntStream.range(0, 300)
+                .mapToObj(MappingCompilerVerifierTest::step)
+                .collect(Collectors.toList());
+
+        //when
+        Optional<MutableMapper<String, StringBuilder>> mapper = MethodHandleEngine.compile(StringBuilder::new, steps);
+
+        //then
+        assertThat(mapper).isPresent();
+        assertThat(mapper.get().getClass().getName()).contains("MethodHandleMapper");
+        assertThat(mapper.get().convert("x").toString()).isEqualTo(expected(300));
+    }
+
+    //every tenth step is a processor so both kinds of steps use wide constant pool indices
+    private static MappingStep<String, StringBuilder> step(int i) {
+        if (i % 10 == 9) {
+            return MappingStep.ofProcessor((in, out) -> out.append('|'));
+        }
+        return MappingStep.<String, String, StringBuilder>ofSetter(in -> in + i, StringBuilder::append);
+    }
+
+    private static String expected(int steps) {
+        return IntStream.range(0, steps)
+                .mapToObj(i -> i % 10 == 9 ? "|" : "x" + i)
+                .collect(Collectors.joining());
+    }
+}
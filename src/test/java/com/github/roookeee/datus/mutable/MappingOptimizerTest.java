@@ -32,6 +32,28 @@ public class MappingOptimizerTest {
 
     }
 
+    @Test
+    public void shouldRetainOrderForBalancedTrees() {
+        for (int size : new int[]{0, 9, 15, 16, 17, 63, 64, 65, 100, 513}) {
+            //given
+            List<String> parts = IntStream.range(0, size)
+                    .mapToObj(i -> i + ",")
+                    .collect(Collectors.toList());
+            List<BiFunction<? super String, ? super String, ? extends String>> functions = parts.stream()
+                    .map(this::toConcatStringFn)
+                    .collect(Collectors.toList());
+
+            //when
+            BiFunction<? super String, ? super String, ? extends String> function
+                    = MappingOptimizer.flattenAndOptimizeMappings(functions);
+            String result = function.apply("", "");
+
+            //then
+            String expectedInOrder = String.join("", parts);
+            assertThat(result).isEqualTo(expectedInOrder);
+        }
+    }
+
     private List<List<String>> sublists(List<String> list) {
         return IntStream.range(0, list.size() - 1)
                 .mapToObj(i -> list.subList(0, list.size() - i))
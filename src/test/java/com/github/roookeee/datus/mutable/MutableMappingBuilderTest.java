@@ -1,14 +1,22 @@
 package com.github.roookeee.datus.mutable;
 
+import com.github.roookeee.datus.api.BuildStrategy;
 import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.api.MappingMetrics;
+import com.github.roookeee.datus.api.MappingStatistics;
+import com.github.roookeee.datus.api.MutableMapper;
+import com.github.roookeee.datus.api.PooledMapper;
+import com.github.roookeee.datus.testutil.Person;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class MutableMappingBuilderTest {
 
@@ -77,4 +85,151 @@ public class MutableMappingBuilderTest {
                 .withFailMessage("Process should have been called with the transformed output value")
                 .isEqualTo("prefix-input");
     }
+
+    @Test
+    public void convertIntoShouldPopulateTheGivenTargetInAllBuildStrategies() {
+        //given
+        Function<Person, String> getName = Person::getName;
+        Person input = new Person();
+        input.setName("name");
+        input.setAddress("address");
+
+        for (BuildStrategy strategy : BuildStrategy.values()) {
+            MutableMapper<Person, Person> mapper = new MutableMappingBuilder<Person, Person>(Person::new)
+                    .from(getName).into(Person::setName)
+                    .from(getName).map(String::toUpperCase).into(Person::setLastName)
+                    .from(Person::getAddress).into(Person::setAddress)
+                    .buildMutable(strategy);
+            Person target = new Person();
+            target.setBirthDate("birthDate");
+
+            //when
+            Person result = mapper.convertInto(input, target);
+
+            //then
+            assertThat(result).isSameAs(target);
+            assertThat(result.getName()).isEqualTo("name");
+            assertThat(result.getLastName()).isEqualTo("NAME");
+            assertThat(result.getAddress()).isEqualTo("address");
+            assertThat(result.getBirthDate()).isEqualTo("birthDate");
+        }
+    }
+
+    @Test
+    public void pooledMapperShouldReuseReleasedOutputs() {
+        //given
+        AtomicInteger generated = new AtomicInteger();
+        PooledMapper<Person, Person> mapper = new MutableMappingBuilder<Person, Person>(() -> {
+            generated.incrementAndGet();
+            return new Person();
+        })
+                .from(Person::getName).into(Person::setName)
+                .buildMutable()
+                .pooled(1, person -> person.setName(null));
+        Person input = new Person();
+        input.setName("name");
+
+        //when
+        Person first = mapper.convert(input);
+        mapper.release(first);
+        Person second = mapper.convert(input);
+        Person third = mapper.convert(input);
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getName()).isEqualTo("name");
+        assertThat(third).isNotSameAs(first);
+        assertThat(generated.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void instrumentedBuildShouldRecordEveryStep() {
+        //given
+        MappingStatistics statistics = new MappingStatistics();
+        Mapper<Person, Person> mapper = new MutableMappingBuilder<Person, Person>(Person::new)
+                .from(Person::getName).into(Person::setName)
+                .from(Person::getAddress).nullsafe().map(String::toUpperCase).into(Person::setAddress)
+                .spy((in, out) -> { })
+                .buildInstrumented(statistics);
+        Person input = new Person();
+        input.setName("name");
+
+        //when
+        Person result = mapper.convert(input);
+        input.setAddress("address");
+        mapper.convert(input);
+
+        //then
+        assertThat(result.getName()).isEqualTo("name");
+        assertThat(statistics.steps()).extracting(MappingStatistics.Step::kind).containsExactly(
+                MappingMetrics.StepKind.SETTER,
+                MappingMetrics.StepKind.SETTER,
+                MappingMetrics.StepKind.PROCESSOR
+        );
+        assertThat(statistics.steps()).extracting(MappingStatistics.Step::invocations).containsOnly(2L);
+        assertThat(statistics.steps()).extracting(MappingStatistics.Step::nullValues).containsExactly(0L, 1L, 0L);
+    }
+
+    @Test
+    public void rebuiltInstrumentedMappersShouldShareTheirStatistics() {
+        //given
+        MappingStatistics statistics = new MappingStatistics();
+        MutableMappingBuilder<Person, Person> builder = new MutableMappingBuilder<Person, Person>(Person::new)
+                .from(Person::getName).into(Person::setName)
+                .spy((in, out) -> { });
+
+        //when
+        builder.buildInstrumented(statistics).convert(new Person());
+        builder.buildInstrumented(statistics).convert(new Person());
+
+        //then
+        assertThat(statistics.steps()).extracting(MappingStatistics.Step::kind).containsExactly(
+                MappingMetrics.StepKind.SETTER,
+                MappingMetrics.StepKind.PROCESSOR
+        );
+        assertThat(statistics.steps()).extracting(MappingStatistics.Step::invocations).containsOnly(2L);
+    }
+
+    @Test
+    public void statisticsShouldNotBeSharedByDifferentMappings() {
+        //given
+        MappingStatistics statistics = new MappingStatistics();
+        new MutableMappingBuilder<Person, Person>(Person::new)
+                .from(Person::getName).into(Person::setName)
+                .buildInstrumented(statistics);
+
+        //when + then
+        assertThatThrownBy(() -> new MutableMappingBuilder<Person, Person>(Person::new)
+                .spy((in, out) -> { })
+                .buildInstrumented(statistics))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void instrumentedBuildWithoutMetricsShouldNotRecordAnything() {
+        //given
+        Mapper<Person, Person> mapper = new MutableMappingBuilder<Person, Person>(Person::new)
+                .from(Person::getName).into(Person::setName)
+                .buildInstrumented(MappingMetrics.NONE);
+        Person input = new Person();
+        input.setName("name");
+
+        //when
+        Person result = mapper.convert(input);
+
+        //then
+        assertThat(result.getName()).isEqualTo("name");
+    }
+
+    @Test
+    public void noneMetricsShouldBeUsableLikeAnyOtherMetrics() {
+        //given
+        MappingMetrics.StepRecorder recorder = MappingMetrics.NONE.step(0, MappingMetrics.StepKind.SETTER);
+
+        //when
+        recorder.record(42, true);
+
+        //then
+        assertThat(recorder).isSameAs(MappingMetrics.StepRecorder.NONE);
+    }
 }
@@ -0,0 +1,102 @@
+package com.github.roookeee.datus.mutable;
+
+import com.github.roookeee.datus.api.BuildStrategy;
+import com.github.roookeee.datus.api.Mapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimitiveMutableMappingTest {
+
+    @Test
+    public void primitiveStepsShouldMapInAllBuildStrategies() {
+        //given
+        Price price = new Price();
+        price.setQuantity(3);
+        price.setCents(1999L);
+        price.setTaxRate(0.19);
+
+        for (BuildStrategy strategy : BuildStrategy.values()) {
+            Mapper<Price, Price> mapper = new MutableMappingBuilder<Price, Price>(Price::new)
+                    .fromInt(Price::getQuantity).map(quantity -> quantity * 2).into(Price::setQuantity)
+                    .fromLong(Price::getCents).map(cents -> cents + 1).into(Price::setCents)
+                    .fromDouble(Price::getTaxRate).map(rate -> rate * 100).into(Price::setTaxRate)
+                    .build(strategy);
+
+            //when
+            Price result = mapper.convert(price);
+
+            //then
+            assertThat(result.getQuantity()).isEqualTo(6);
+            assertThat(result.getCents()).isEqualTo(2000L);
+            assertThat(result.getTaxRate()).isEqualTo(19.0);
+        }
+    }
+
+    @Test
+    public void primitiveStepsShouldRetainStepOrder() {
+        //given
+        StringBuilder order = new StringBuilder();
+        Mapper<Price, Price> mapper = new MutableMappingBuilder<Price, Price>(Price::new)
+                .spy((in, out) -> order.append("spy1-"))
+                .fromInt(Price::getQuantity).into((out, quantity) -> order.append("quantity-"))
+                .spy((in, out) -> order.append("spy2"))
+                .build();
+
+        //when
+        mapper.convert(new Price());
+
+        //then
+        assertThat(order.toString()).isEqualTo("spy1-quantity-spy2");
+    }
+
+    @Test
+    public void primitiveStepsShouldBeMappableToObjects() {
+        //given
+        Price price = new Price();
+        price.setQuantity(3);
+        price.setCents(1999L);
+        price.setTaxRate(0.19);
+        Mapper<Price, String> mapper = new MutableMappingBuilder<Price, String>(() -> "")
+                .fromInt(Price::getQuantity).mapToObj(quantity -> quantity + "x").to(String::concat)
+                .fromLong(Price::getCents).mapToObj(cents -> "-" + cents).to(String::concat)
+                .fromDouble(Price::getTaxRate).mapToObj(rate -> "-" + rate).to(String::concat)
+                .build();
+
+        //when
+        String result = mapper.convert(price);
+
+        //then
+        assertThat(result).isEqualTo("3x-1999-0.19");
+    }
+
+    private static class Price {
+        private int quantity;
+        private long cents;
+        private double taxRate;
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public long getCents() {
+            return cents;
+        }
+
+        public void setCents(long cents) {
+            this.cents = cents;
+        }
+
+        public double getTaxRate() {
+            return taxRate;
+        }
+
+        public void setTaxRate(double taxRate) {
+            this.taxRate = taxRate;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.roookeee.datus.performance;
+
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.immutable.ConstructorParameter;
+import com.github.roookeee.datus.performance.model.dto.OrderDTO;
+import com.github.roookeee.datus.performance.model.dto.ProductDTO;
+import com.github.roookeee.datus.performance.model.entity.Address;
+import com.github.roookeee.datus.performance.model.entity.Customer;
+import com.github.roookeee.datus.performance.model.entity.Order;
+import com.github.roookeee.datus.performance.model.entity.OrderFactory;
+import com.github.roookeee.datus.performance.model.entity.Product;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.opentest4j.TestAbortedException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/*
+Measures the time it takes to build mappers like an application does at startup (e.g. thousands of mapper beans
+created while a Spring context is refreshed). Such mappers are built deep inside the call stack of the container which
+is simulated by building them beneath a configurable amount of additional stack frames
+*/
+public class BuildTimeBenchmarkTest {
+
+    //explicit skipping via a property makes it easier to run the benchmarks through an IDE as the property is most likely not set
+    private static final boolean SKIP_BENCHMARKS = Boolean.TRUE.toString().equals(System.getProperty("datus.tests.benchmarks.skip"));
+
+    private static final int BUILT_MAPPERS = 5000;
+
+    @Test
+    public void benchmark() throws Exception {
+        try {
+            assumeFalse(SKIP_BENCHMARKS, "Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+        } catch(TestAbortedException ex) {
+            System.out.println("Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+            throw ex;
+        }
+
+        Options opts = new OptionsBuilder()
+                .include(BuildTimeBenchmarkTest.class.getSimpleName())
+                .mode(Mode.SingleShotTime)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupIterations(3)
+                .measurementIterations(10)
+                .forks(2)
+                .build();
+
+        new Runner(opts).run();
+    }
+
+    @Test
+    public void mappersBuiltBeneathDeepStacksShouldBeCorrect() {
+        //given
+        Order order = OrderFactory.buildOrder();
+
+        //when
+        OrderDTO result = withStackDepth(200, BuildTimeBenchmarkTest::buildOrderMapper).convert(order);
+
+        //then
+        assertThat(result.getCustomerName()).isEqualTo(order.getCustomer().getName());
+        assertThat(result.getShippingCity()).isEqualTo(order.getCustomer().getShippingAddress().getCity());
+        assertThat(result.getProducts()).hasSize(order.getProducts().size());
+    }
+
+    private static <T> T withStackDepth(int additionalFrames, Supplier<T> supplier) {
+        if (additionalFrames <= 0) {
+            return supplier.get();
+        }
+        return withStackDepth(additionalFrames - 1, supplier);
+    }
+
+    private static Mapper<Order, OrderDTO> buildOrderMapper() {
+        Mapper<Product, ProductDTO> productMapper = Datus.forTypes(Product.class, ProductDTO.class)
+                .immutable(ProductDTO::new)
+                .from(Product::getName).to(ConstructorParameter::bind)
+                .build();
+
+        return Datus.forTypes(Order.class, OrderDTO.class)
+                .mutable(OrderDTO::new)
+                .from(Order::getCustomer).nullsafe()
+                .map(Customer::getName).into(OrderDTO::setCustomerName)
+                .from(Order::getCustomer).nullsafe()
+                .map(Customer::getBillingAddress).map(Address::getCity).into(OrderDTO::setBillingCity)
+                .from(Order::getCustomer).nullsafe()
+                .map(Customer::getBillingAddress).map(Address::getStreet).into(OrderDTO::setBillingStreetAddress)
+                .from(Order::getCustomer).nullsafe()
+                .map(Customer::getShippingAddress).map(Address::getCity).into(OrderDTO::setShippingCity)
+                .from(Order::getCustomer).nullsafe()
+                .map(Customer::getShippingAddress).map(Address::getStreet).into(OrderDTO::setShippingStreetAddress)
+                .from(Order::getProducts).nullsafe()
+                .map(productMapper::convert).into(OrderDTO::setProducts)
+                .build();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Suite {
+        //a refreshing Spring context easily reaches a few hundred frames
+        @Param({"0", "200"})
+        public int stackDepth;
+
+        @Benchmark
+        public Mapper<Order, OrderDTO> build5000Mappers() {
+            return withStackDepth(stackDepth, () -> {
+                Mapper<Order, OrderDTO> mapper = null;
+                for (int i = 0; i < BUILT_MAPPERS; i++) {
+                    mapper = buildOrderMapper();
+                }
+                return mapper;
+            });
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.roookeee.datus.performance;
+
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.immutable.ConstructorParameter;
+import com.github.roookeee.datus.performance.model.dto.OrderDTO;
+import com.github.roookeee.datus.performance.model.dto.ProductDTO;
+import com.github.roookeee.datus.performance.model.entity.Order;
+import com.github.roookeee.datus.performance.model.entity.OrderFactory;
+import com.github.roookeee.datus.performance.model.entity.Product;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.opentest4j.TestAbortedException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/*
+Compares mapping the product list of orders (1 to 50000 products) via map(productMapper::convert) with
+mapEach(productMapper.each()) and with an each mapper that converts lists of at least 10000 products in parallel
+*/
+public class CollectionBenchmarkTest {
+
+    //explicit skipping via a property makes it easier to run the benchmarks through an IDE as the property is most likely not set
+    private static final boolean SKIP_BENCHMARKS = Boolean.TRUE.toString().equals(System.getProperty("datus.tests.benchmarks.skip"));
+
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
+    @Test
+    public void benchmark() throws Exception {
+        try {
+            assumeFalse(SKIP_BENCHMARKS, "Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+        } catch(TestAbortedException ex) {
+            System.out.println("Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+            throw ex;
+        }
+
+        Options opts = new OptionsBuilder()
+                .include(CollectionBenchmarkTest.class.getSimpleName())
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .forks(1)
+                .build();
+
+        new Runner(opts).run();
+    }
+
+    @Test
+    public void allVariantsShouldConvertEqually() {
+        //given
+        Order order = buildOrder(2 * PARALLEL_THRESHOLD);
+
+        //when
+        List<OrderDTO> results = new ArrayList<>();
+        for (Mapper<Order, OrderDTO> mapper : mappers()) {
+            results.add(mapper.convert(order));
+        }
+
+        //then
+        for (OrderDTO result : results) {
+            assertThat(result.getProducts()).hasSize(2 * PARALLEL_THRESHOLD);
+            assertThat(result.getProducts().get(PARALLEL_THRESHOLD).getName()).isEqualTo("product" + PARALLEL_THRESHOLD);
+        }
+    }
+
+    private static Order buildOrder(int products) {
+        Order order = OrderFactory.buildOrder();
+        List<Product> lineItems = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            lineItems.add(new Product("product" + i));
+        }
+        order.setProducts(lineItems);
+        return order;
+    }
+
+    private static List<Mapper<Order, OrderDTO>> mappers() {
+        Mapper<Product, ProductDTO> productMapper = Datus.forTypes(Product.class, ProductDTO.class)
+                .immutable(ProductDTO::new)
+                .from(Product::getName).to(ConstructorParameter::bind)
+                .build();
+
+        List<Mapper<Order, OrderDTO>> mappers = new ArrayList<>();
+        mappers.add(Datus.forTypes(Order.class, OrderDTO.class).mutable(OrderDTO::new)
+                .from(Order::getProducts).map(productMapper::convert).into(OrderDTO::setProducts)
+                .build());
+        mappers.add(Datus.forTypes(Order.class, OrderDTO.class).mutable(OrderDTO::new)
+                .from(Order::getProducts).mapEach(productMapper.each()).into(OrderDTO::setProducts)
+                .build());
+        mappers.add(Datus.forTypes(Order.class, OrderDTO.class).mutable(OrderDTO::new)
+                .from(Order::getProducts).mapEach(productMapper.each().parallelAbove(PARALLEL_THRESHOLD))
+                    .into(OrderDTO::setProducts)
+                .build());
+        return mappers;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Suite {
+        @Param({"1", "100", "50000"})
+        public int products;
+
+        private Mapper<Order, OrderDTO> mapMapper;
+        private Mapper<Order, OrderDTO> mapEachMapper;
+        private Mapper<Order, OrderDTO> parallelMapEachMapper;
+        private Order order;
+
+        @Setup(Level.Trial)
+        public void init() {
+            List<Mapper<Order, OrderDTO>> mappers = mappers();
+            mapMapper = mappers.get(0);
+            mapEachMapper = mappers.get(1);
+            parallelMapEachMapper = mappers.get(2);
+            order = buildOrder(products);
+        }
+
+        @Benchmark
+        public OrderDTO convertViaMap() {
+            return mapMapper.convert(order);
+        }
+
+        @Benchmark
+        public OrderDTO convertViaMapEach() {
+            return mapEachMapper.convert(order);
+        }
+
+        @Benchmark
+        public OrderDTO convertViaParallelMapEach() {
+            return parallelMapEachMapper.convert(order);
+        }
+    }
+}
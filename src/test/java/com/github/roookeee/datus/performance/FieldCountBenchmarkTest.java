@@ -0,0 +1,175 @@
+package com.github.roookeee.datus.performance;
+
+import com.github.roookeee.datus.api.BuildStrategy;
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.mutable.MutableMappingBuilder;
+import com.github.roookeee.datus.performance.model.dto.WideDTO;
+import com.github.roookeee.datus.performance.model.entity.WideEntity;
+import com.github.roookeee.datus.performance.model.entity.WideEntityFactory;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.opentest4j.TestAbortedException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/*
+Measures how the different build strategies of the mutable API scale with the number of mapped fields
+*/
+public class FieldCountBenchmarkTest {
+
+    //explicit skipping via a property makes it easier to run the benchmarks through an IDE as the property is most likely not set
+    private static final boolean SKIP_BENCHMARKS = Boolean.TRUE.toString().equals(System.getProperty("datus.tests.benchmarks.skip"));
+
+    private static final List<UnaryOperator<MutableMappingBuilder<WideEntity, WideDTO>>> FIELD_MAPPINGS = Arrays.asList(
+                builder -> builder.from(WideEntity::getField0).into(WideDTO::setField0),
+                builder -> builder.from(WideEntity::getField1).into(WideDTO::setField1),
+                builder -> builder.from(WideEntity::getField2).into(WideDTO::setField2),
+                builder -> builder.from(WideEntity::getField3).into(WideDTO::setField3),
+                builder -> builder.from(WideEntity::getField4).into(WideDTO::setField4),
+                builder -> builder.from(WideEntity::getField5).into(WideDTO::setField5),
+                builder -> builder.from(WideEntity::getField6).into(WideDTO::setField6),
+                builder -> builder.from(WideEntity::getField7).into(WideDTO::setField7),
+                builder -> builder.from(WideEntity::getField8).into(WideDTO::setField8),
+                builder -> builder.from(WideEntity::getField9).into(WideDTO::setField9),
+                builder -> builder.from(WideEntity::getField10).into(WideDTO::setField10),
+                builder -> builder.from(WideEntity::getField11).into(WideDTO::setField11),
+                builder -> builder.from(WideEntity::getField12).into(WideDTO::setField12),
+                builder -> builder.from(WideEntity::getField13).into(WideDTO::setField13),
+                builder -> builder.from(WideEntity::getField14).into(WideDTO::setField14),
+                builder -> builder.from(WideEntity::getField15).into(WideDTO::setField15),
+                builder -> builder.from(WideEntity::getField16).into(WideDTO::setField16),
+                builder -> builder.from(WideEntity::getField17).into(WideDTO::setField17),
+                builder -> builder.from(WideEntity::getField18).into(WideDTO::setField18),
+                builder -> builder.from(WideEntity::getField19).into(WideDTO::setField19),
+                builder -> builder.from(WideEntity::getField20).into(WideDTO::setField20),
+                builder -> builder.from(WideEntity::getField21).into(WideDTO::setField21),
+                builder -> builder.from(WideEntity::getField22).into(WideDTO::setField22),
+                builder -> builder.from(WideEntity::getField23).into(WideDTO::setField23),
+                builder -> builder.from(WideEntity::getField24).into(WideDTO::setField24),
+                builder -> builder.from(WideEntity::getField25).into(WideDTO::setField25),
+                builder -> builder.from(WideEntity::getField26).into(WideDTO::setField26),
+                builder -> builder.from(WideEntity::getField27).into(WideDTO::setField27),
+                builder -> builder.from(WideEntity::getField28).into(WideDTO::setField28),
+                builder -> builder.from(WideEntity::getField29).into(WideDTO::setField29),
+                builder -> builder.from(WideEntity::getField30).into(WideDTO::setField30),
+                builder -> builder.from(WideEntity::getField31).into(WideDTO::setField31),
+                builder -> builder.from(WideEntity::getField32).into(WideDTO::setField32),
+                builder -> builder.from(WideEntity::getField33).into(WideDTO::setField33),
+                builder -> builder.from(WideEntity::getField34).into(WideDTO::setField34),
+                builder -> builder.from(WideEntity::getField35).into(WideDTO::setField35),
+                builder -> builder.from(WideEntity::getField36).into(WideDTO::setField36),
+                builder -> builder.from(WideEntity::getField37).into(WideDTO::setField37),
+                builder -> builder.from(WideEntity::getField38).into(WideDTO::setField38),
+                builder -> builder.from(WideEntity::getField39).into(WideDTO::setField39),
+                builder -> builder.from(WideEntity::getField40).into(WideDTO::setField40),
+                builder -> builder.from(WideEntity::getField41).into(WideDTO::setField41),
+                builder -> builder.from(WideEntity::getField42).into(WideDTO::setField42),
+                builder -> builder.from(WideEntity::getField43).into(WideDTO::setField43),
+                builder -> builder.from(WideEntity::getField44).into(WideDTO::setField44),
+                builder -> builder.from(WideEntity::getField45).into(WideDTO::setField45),
+                builder -> builder.from(WideEntity::getField46).into(WideDTO::setField46),
+                builder -> builder.from(WideEntity::getField47).into(WideDTO::setField47),
+                builder -> builder.from(WideEntity::getField48).into(WideDTO::setField48),
+                builder -> builder.from(WideEntity::getField49).into(WideDTO::setField49),
+                builder -> builder.from(WideEntity::getField50).into(WideDTO::setField50),
+                builder -> builder.from(WideEntity::getField51).into(WideDTO::setField51),
+                builder -> builder.from(WideEntity::getField52).into(WideDTO::setField52),
+                builder -> builder.from(WideEntity::getField53).into(WideDTO::setField53),
+                builder -> builder.from(WideEntity::getField54).into(WideDTO::setField54),
+                builder -> builder.from(WideEntity::getField55).into(WideDTO::setField55),
+                builder -> builder.from(WideEntity::getField56).into(WideDTO::setField56),
+                builder -> builder.from(WideEntity::getField57).into(WideDTO::setField57),
+                builder -> builder.from(WideEntity::getField58).into(WideDTO::setField58),
+                builder -> builder.from(WideEntity::getField59).into(WideDTO::setField59),
+                builder -> builder.from(WideEntity::getField60).into(WideDTO::setField60),
+                builder -> builder.from(WideEntity::getField61).into(WideDTO::setField61),
+                builder -> builder.from(WideEntity::getField62).into(WideDTO::setField62),
+                builder -> builder.from(WideEntity::getField63).into(WideDTO::setField63)
+    );
+
+    @Test
+    public void benchmark() throws Exception {
+        try {
+            assumeFalse(SKIP_BENCHMARKS, "Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+        } catch(TestAbortedException ex) {
+            System.out.println("Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+            throw ex;
+        }
+
+        Options opts = new OptionsBuilder()
+                .include(FieldCountBenchmarkTest.class.getSimpleName())
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .forks(1)
+                .build();
+
+        new Runner(opts).run();
+    }
+
+    @Test
+    public void testedConversionShouldBeCorrect() {
+        for (BuildStrategy strategy : BuildStrategy.values()) {
+            //given
+            WideEntity entity = WideEntityFactory.buildEntity();
+
+            //when
+            WideDTO result = mapping(64).build(strategy).convert(entity);
+
+            //then
+            assertThat(result).isEqualToComparingFieldByField(entity);
+        }
+    }
+
+    private static MutableMappingBuilder<WideEntity, WideDTO> mapping(int fieldCount) {
+        MutableMappingBuilder<WideEntity, WideDTO> builder = Datus.forTypes(WideEntity.class, WideDTO.class)
+                .mutable(WideDTO::new);
+        for (UnaryOperator<MutableMappingBuilder<WideEntity, WideDTO>> fieldMapping : FIELD_MAPPINGS.subList(0, fieldCount)) {
+            fieldMapping.apply(builder);
+        }
+        return builder;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Suite {
+        @Param({"4", "16", "64"})
+        public int fieldCount;
+
+        @Param({"CHAINED", "FLATTENED", "COMPILED", "METHOD_HANDLES"})
+        public BuildStrategy strategy;
+
+        private Mapper<WideEntity, WideDTO> mapper;
+        private WideEntity entity;
+
+        @Setup(Level.Trial)
+        public void buildMapper() {
+            mapper = mapping(fieldCount).build(strategy);
+        }
+
+        @Setup(Level.Iteration)
+        public void preInit() {
+            entity = WideEntityFactory.buildEntity();
+        }
+
+        @Benchmark
+        public WideDTO convert() {
+            return mapper.convert(entity);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.github.roookeee.datus.performance;
 
+import com.github.roookeee.datus.api.BuildStrategy;
 import com.github.roookeee.datus.api.Datus;
 import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.api.PooledMapper;
+import com.github.roookeee.datus.immutable.ConstructorBuilder;
 import com.github.roookeee.datus.immutable.ConstructorParameter;
+import com.github.roookeee.datus.mutable.MutableMappingBuilder;
 import com.github.roookeee.datus.performance.model.dto.OrderDTO;
 import com.github.roookeee.datus.performance.model.dto.ProductDTO;
 import com.github.roookeee.datus.performance.model.entity.Address;
@@ -10,12 +14,14 @@ import com.github.roookeee.datus.performance.model.entity.Customer;
 import com.github.roookeee.datus.performance.model.entity.Order;
 import com.github.roookeee.datus.performance.model.entity.OrderFactory;
 import com.github.roookeee.datus.performance.model.entity.Product;
+import com.github.roookeee.datus.testutil.DetailedPerson;
 import org.junit.jupiter.api.Test;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
@@ -23,6 +29,7 @@ import org.openjdk.jmh.runner.options.TimeValue;
 import org.opentest4j.TestAbortedException;
 
 import java.util.List;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
@@ -48,7 +55,7 @@ public class PerformanceBenchmarkTest {
         }
 
         Options opts = new OptionsBuilder()
-                .include(PerformanceBenchmarkTest.Suite.class.getSimpleName())
+                .include(PerformanceBenchmarkTest.class.getSimpleName())
                 .warmupIterations(5)
                 .warmupTime(TimeValue.seconds(2))
                 .measurementIterations(5)
@@ -61,12 +68,31 @@ public class PerformanceBenchmarkTest {
 
     @Test
     public void testedConversionShouldBeCorrect() {
+        assertConversion(Suite.orderMapper);
+    }
+
+    @Test
+    public void testedMethodHandleConversionShouldBeCorrect() {
+        assertConversion(Suite.methodHandleOrderMapper);
+    }
+
+    @Test
+    public void testedPooledConversionShouldBeCorrect() {
+        assertConversion(Suite.pooledOrderMapper);
+    }
+
+    @Test
+    public void testedSharedGettersConversionShouldBeCorrect() {
+        assertConversion(Suite.sharedGettersOrderMapper);
+    }
+
+    private static void assertConversion(Mapper<Order, OrderDTO> mapper) {
         //given
         Order order = OrderFactory.buildOrder();
         List<Product> products = order.getProducts();
 
         //when
-        OrderDTO result = Suite.orderMapper.convert(order);
+        OrderDTO result = mapper.convert(order);
         List<ProductDTO> productDTOs = result.getProducts();
 
         //then order is valid
@@ -93,27 +119,86 @@ public class PerformanceBenchmarkTest {
                 .from(Product::getName).to(ConstructorParameter::bind)
                 .build();
 
-        private static final Mapper<Order, OrderDTO> orderMapper = Datus.forTypes(Order.class, OrderDTO.class)
-                .mutable(OrderDTO::new)
-                .from(Order::getCustomer).nullsafe()
-                .map(Customer::getName).into(OrderDTO::setCustomerName)
-                .from(Order::getCustomer).nullsafe()
-                .map(Customer::getBillingAddress).map(Address::getCity).into(OrderDTO::setBillingCity)
-                .from(Order::getCustomer).nullsafe()
-                .map(Customer::getBillingAddress).map(Address::getStreet).into(OrderDTO::setBillingStreetAddress)
-                .from(Order::getCustomer).nullsafe()
-                .map(Customer::getShippingAddress).map(Address::getCity).into(OrderDTO::setShippingCity)
-                .from(Order::getCustomer).nullsafe()
-                .map(Customer::getShippingAddress).map(Address::getStreet).into(OrderDTO::setShippingStreetAddress)
-                .from(Order::getProducts).nullsafe()
-                .map(productMapper::convert).into(OrderDTO::setProducts)
-                .build();
+        private static final Mapper<Order, OrderDTO> orderMapper = orderMapping().build();
+
+        private static final Mapper<Order, OrderDTO> compiledOrderMapper = orderMapping().build(BuildStrategy.COMPILED);
+
+        private static final Mapper<Order, OrderDTO> methodHandleOrderMapper = orderMapping().build(BuildStrategy.METHOD_HANDLES);
+
+        //every conversion sets all fields so released outputs do not need to be reset
+        private static final PooledMapper<Order, OrderDTO> pooledOrderMapper = orderMapping().buildMutable().pooled(1, dto -> { });
+
+        private static MutableMappingBuilder<Order, OrderDTO> orderMapping() {
+            return Datus.forTypes(Order.class, OrderDTO.class)
+                    .mutable(OrderDTO::new)
+                    .from(Order::getCustomer).nullsafe()
+                    .map(Customer::getName).into(OrderDTO::setCustomerName)
+                    .from(Order::getCustomer).nullsafe()
+                    .map(Customer::getBillingAddress).map(Address::getCity).into(OrderDTO::setBillingCity)
+                    .from(Order::getCustomer).nullsafe()
+                    .map(Customer::getBillingAddress).map(Address::getStreet).into(OrderDTO::setBillingStreetAddress)
+                    .from(Order::getCustomer).nullsafe()
+                    .map(Customer::getShippingAddress).map(Address::getCity).into(OrderDTO::setShippingCity)
+                    .from(Order::getCustomer).nullsafe()
+                    .map(Customer::getShippingAddress).map(Address::getStreet).into(OrderDTO::setShippingStreetAddress)
+                    .from(Order::getProducts).nullsafe()
+                    .map(productMapper::convert).into(OrderDTO::setProducts);
+        }
+
+        private static final Mapper<Order, OrderDTO> sharedGettersOrderMapper = sharedGettersOrderMapping().build();
+
+        //reuses the same function instances so the customer and its addresses are only fetched once per conversion
+        private static MutableMappingBuilder<Order, OrderDTO> sharedGettersOrderMapping() {
+            Function<Order, Customer> getCustomer = Order::getCustomer;
+            Function<Customer, Address> getBillingAddress = Customer::getBillingAddress;
+            Function<Customer, Address> getShippingAddress = Customer::getShippingAddress;
+            return Datus.forTypes(Order.class, OrderDTO.class)
+                    .mutable(OrderDTO::new)
+                    .from(getCustomer).nullsafe()
+                    .map(Customer::getName).into(OrderDTO::setCustomerName)
+                    .from(getCustomer).nullsafe()
+                    .map(getBillingAddress).map(Address::getCity).into(OrderDTO::setBillingCity)
+                    .from(getCustomer).nullsafe()
+                    .map(getBillingAddress).map(Address::getStreet).into(OrderDTO::setBillingStreetAddress)
+                    .from(getCustomer).nullsafe()
+                    .map(getShippingAddress).map(Address::getCity).into(OrderDTO::setShippingCity)
+                    .from(getCustomer).nullsafe()
+                    .map(getShippingAddress).map(Address::getStreet).into(OrderDTO::setShippingStreetAddress)
+                    .from(Order::getProducts).nullsafe()
+                    .map(productMapper::convert).into(OrderDTO::setProducts);
+        }
+
+        private static final Mapper<DetailedPerson, DetailedPerson> chainedPersonMapper = personMapping().build(BuildStrategy.CHAINED);
+
+        private static final Mapper<DetailedPerson, DetailedPerson> flattenedPersonMapper = personMapping().build(BuildStrategy.FLATTENED);
+
+        private static ConstructorBuilder<DetailedPerson, DetailedPerson> personMapping() {
+            return Datus.forTypes(DetailedPerson.class, DetailedPerson.class)
+                    .immutable(DetailedPerson::new)
+                    .from(DetailedPerson::getUniqueId).to(ConstructorParameter::bind)
+                    .from(DetailedPerson::getSalutation).to(ConstructorParameter::bind)
+                    .from(DetailedPerson::getFirstName).to(ConstructorParameter::bind)
+                    .from(DetailedPerson::getLastName).to(ConstructorParameter::bind)
+                    .from(DetailedPerson::getAddress).to(ConstructorParameter::bind)
+                    .from(DetailedPerson::getAddressExtra).to(ConstructorParameter::bind)
+                    .from(DetailedPerson::getCity).to(ConstructorParameter::bind)
+                    .from(DetailedPerson::getOccupation).to(ConstructorParameter::bind)
+                    .from(DetailedPerson::getCountry).to(ConstructorParameter::bind)
+                    .from(DetailedPerson::getZipCode).to(ConstructorParameter::bind)
+                    .from(DetailedPerson::isActive).to(ConstructorParameter::bind)
+                    .from(DetailedPerson::isAllowedToLogin).to(ConstructorParameter::bind);
+        }
 
         private Order order;
+        private DetailedPerson person;
 
         @Setup(Level.Iteration)
         public void preInit() {
             order = OrderFactory.buildOrder();
+            person = new DetailedPerson(
+                    "uniqueId", "salutation", "firstName", "lastName", "address", "addressExtra",
+                    "city", "occupation", "country", "zipCode", true, false
+            );
         }
 
         @Benchmark
@@ -121,5 +206,37 @@ public class PerformanceBenchmarkTest {
             return orderMapper.convert(order);
         }
 
+        @Benchmark
+        public OrderDTO convertCompiled() {
+            return compiledOrderMapper.convert(order);
+        }
+
+        @Benchmark
+        public OrderDTO convertMethodHandles() {
+            return methodHandleOrderMapper.convert(order);
+        }
+
+        @Benchmark
+        public void convertPooled(Blackhole blackhole) {
+            OrderDTO dto = pooledOrderMapper.convert(order);
+            blackhole.consume(dto);
+            pooledOrderMapper.release(dto);
+        }
+
+        @Benchmark
+        public OrderDTO convertSharedGetters() {
+            return sharedGettersOrderMapper.convert(order);
+        }
+
+        @Benchmark
+        public DetailedPerson convertImmutableChained() {
+            return chainedPersonMapper.convert(person);
+        }
+
+        @Benchmark
+        public DetailedPerson convertImmutableFlattened() {
+            return flattenedPersonMapper.convert(person);
+        }
+
     }
 }
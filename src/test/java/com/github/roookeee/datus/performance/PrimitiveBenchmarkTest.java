@@ -0,0 +1,135 @@
+package com.github.roookeee.datus.performance;
+
+import com.github.roookeee.datus.api.BuildStrategy;
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.performance.model.dto.PricedItemDTO;
+import com.github.roookeee.datus.performance.model.entity.PricedItem;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.opentest4j.TestAbortedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/*
+Compares mapping primitive fields via boxing getters / setters (from(...).into(...)) with the primitive
+specialized steps (fromInt(...).into(...) etc.), the GC profiler reports the allocations caused by boxing
+*/
+public class PrimitiveBenchmarkTest {
+
+    //explicit skipping via a property makes it easier to run the benchmarks through an IDE as the property is most likely not set
+    private static final boolean SKIP_BENCHMARKS = Boolean.TRUE.toString().equals(System.getProperty("datus.tests.benchmarks.skip"));
+
+    @Test
+    public void benchmark() throws Exception {
+        try {
+            assumeFalse(SKIP_BENCHMARKS, "Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+        } catch(TestAbortedException ex) {
+            System.out.println("Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+            throw ex;
+        }
+
+        Options opts = new OptionsBuilder()
+                .include(PrimitiveBenchmarkTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .forks(1)
+                .build();
+
+        new Runner(opts).run();
+    }
+
+    @Test
+    public void boxedAndPrimitiveConversionsShouldBeEqual() {
+        //given
+        PricedItem item = buildItem();
+
+        for (BuildStrategy strategy : BuildStrategy.values()) {
+            //when
+            PricedItemDTO boxed = boxedMapper(strategy).convert(item);
+            PricedItemDTO primitive = primitiveMapper(strategy).convert(item);
+
+            //then
+            assertThat(primitive).isEqualToComparingFieldByField(boxed);
+            assertThat(primitive.getPriceCents()).isEqualTo(item.getPriceCents());
+            assertThat(primitive.getWeight()).isEqualTo(item.getWeight());
+        }
+    }
+
+    private static PricedItem buildItem() {
+        //values outside of the Integer / Long caches so boxing actually allocates
+        PricedItem item = new PricedItem();
+        item.setQuantity(1_000);
+        item.setStock(25_000);
+        item.setPriceCents(199_999L);
+        item.setDiscountCents(15_000L);
+        item.setTaxRate(0.19);
+        item.setWeight(12.5);
+        return item;
+    }
+
+    private static Mapper<PricedItem, PricedItemDTO> boxedMapper(BuildStrategy strategy) {
+        return Datus.forTypes(PricedItem.class, PricedItemDTO.class)
+                .mutable(PricedItemDTO::new)
+                .from(PricedItem::getQuantity).into(PricedItemDTO::setQuantity)
+                .from(PricedItem::getStock).into(PricedItemDTO::setStock)
+                .from(PricedItem::getPriceCents).into(PricedItemDTO::setPriceCents)
+                .from(PricedItem::getDiscountCents).into(PricedItemDTO::setDiscountCents)
+                .from(PricedItem::getTaxRate).into(PricedItemDTO::setTaxRate)
+                .from(PricedItem::getWeight).into(PricedItemDTO::setWeight)
+                .build(strategy);
+    }
+
+    private static Mapper<PricedItem, PricedItemDTO> primitiveMapper(BuildStrategy strategy) {
+        return Datus.forTypes(PricedItem.class, PricedItemDTO.class)
+                .mutable(PricedItemDTO::new)
+                .fromInt(PricedItem::getQuantity).into(PricedItemDTO::setQuantity)
+                .fromInt(PricedItem::getStock).into(PricedItemDTO::setStock)
+                .fromLong(PricedItem::getPriceCents).into(PricedItemDTO::setPriceCents)
+                .fromLong(PricedItem::getDiscountCents).into(PricedItemDTO::setDiscountCents)
+                .fromDouble(PricedItem::getTaxRate).into(PricedItemDTO::setTaxRate)
+                .fromDouble(PricedItem::getWeight).into(PricedItemDTO::setWeight)
+                .build(strategy);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Suite {
+        @Param({"FLATTENED", "COMPILED"})
+        public BuildStrategy strategy;
+
+        private Mapper<PricedItem, PricedItemDTO> boxedMapper;
+        private Mapper<PricedItem, PricedItemDTO> primitiveMapper;
+        private PricedItem item;
+
+        @Setup(Level.Trial)
+        public void init() {
+            boxedMapper = boxedMapper(strategy);
+            primitiveMapper = primitiveMapper(strategy);
+            item = buildItem();
+        }
+
+        @Benchmark
+        public PricedItemDTO convertBoxed() {
+            return boxedMapper.convert(item);
+        }
+
+        @Benchmark
+        public PricedItemDTO convertPrimitive() {
+            return primitiveMapper.convert(item);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.roookeee.datus.performance;
+
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.immutable.ConstructorParameter;
+import com.github.roookeee.datus.performance.model.dto.OrderDTO;
+import com.github.roookeee.datus.performance.model.dto.ProductDTO;
+import com.github.roookeee.datus.performance.model.entity.Customer;
+import com.github.roookeee.datus.performance.model.entity.Order;
+import com.github.roookeee.datus.performance.model.entity.OrderFactory;
+import com.github.roookeee.datus.performance.model.entity.Product;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.opentest4j.TestAbortedException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/*
+Compares converting an order whose 200 line items reference 12 distinct products with a plain nested product mapper
+(every line item is converted) and with identity-aware mappers (every distinct product is converted once)
+*/
+public class SharedReferenceBenchmarkTest {
+
+    //explicit skipping via a property makes it easier to run the benchmarks through an IDE as the property is most likely not set
+    private static final boolean SKIP_BENCHMARKS = Boolean.TRUE.toString().equals(System.getProperty("datus.tests.benchmarks.skip"));
+
+    private static final int LINE_ITEMS = 200;
+    private static final int DISTINCT_PRODUCTS = 12;
+
+    @Test
+    public void benchmark() throws Exception {
+        try {
+            assumeFalse(SKIP_BENCHMARKS, "Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+        } catch(TestAbortedException ex) {
+            System.out.println("Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+            throw ex;
+        }
+
+        Options opts = new OptionsBuilder()
+                .include(SharedReferenceBenchmarkTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .forks(1)
+                .build();
+
+        new Runner(opts).run();
+    }
+
+    @Test
+    public void identityAwareConversionsShouldShareProducts() {
+        //given
+        Order order = buildOrder();
+
+        //when
+        OrderDTO plain = orderMapper(productMapper()).convert(order);
+        OrderDTO identityAware = orderMapper(productMapper().identityAware()).identityAware().convert(order);
+
+        //then
+        assertThat(identityAware.getProducts()).hasSize(LINE_ITEMS);
+        for (int i = 0; i < LINE_ITEMS; i++) {
+            assertThat(identityAware.getProducts().get(i).getName()).isEqualTo(plain.getProducts().get(i).getName());
+        }
+        assertThat(identityAware.getProducts().get(DISTINCT_PRODUCTS)).isSameAs(identityAware.getProducts().get(0));
+        assertThat(plain.getProducts().get(DISTINCT_PRODUCTS)).isNotSameAs(plain.getProducts().get(0));
+    }
+
+    private static Order buildOrder() {
+        Order order = OrderFactory.buildOrder();
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < DISTINCT_PRODUCTS; i++) {
+            products.add(new Product("product" + i));
+        }
+        List<Product> lineItems = new ArrayList<>();
+        for (int i = 0; i < LINE_ITEMS; i++) {
+            lineItems.add(products.get(i % DISTINCT_PRODUCTS));
+        }
+        order.setProducts(lineItems);
+        return order;
+    }
+
+    private static Mapper<Product, ProductDTO> productMapper() {
+        return Datus.forTypes(Product.class, ProductDTO.class).immutable(ProductDTO::new)
+                .from(Product::getName).to(ConstructorParameter::bind)
+                .build();
+    }
+
+    private static Mapper<Order, OrderDTO> orderMapper(Mapper<Product, ProductDTO> productMapper) {
+        return Datus.forTypes(Order.class, OrderDTO.class).mutable(OrderDTO::new)
+                .from(Order::getCustomer).nullsafe()
+                    .map(Customer::getName).into(OrderDTO::setCustomerName)
+                .from(Order::getProducts).nullsafe()
+                    .map(productMapper::convert).into(OrderDTO::setProducts)
+                .build();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Suite {
+        private Mapper<Order, OrderDTO> plainMapper;
+        private Mapper<Order, OrderDTO> identityAwareMapper;
+        private Order order;
+
+        @Setup(Level.Trial)
+        public void init() {
+            plainMapper = orderMapper(productMapper());
+            identityAwareMapper = orderMapper(productMapper().identityAware()).identityAware();
+            order = buildOrder();
+        }
+
+        @Benchmark
+        public OrderDTO convertPlain() {
+            return plainMapper.convert(order);
+        }
+
+        @Benchmark
+        public OrderDTO convertIdentityAware() {
+            return identityAwareMapper.convert(order);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.roookeee.datus.performance;
+
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.immutable.ConstructorParameter;
+import com.github.roookeee.datus.performance.model.dto.OrderDTO;
+import com.github.roookeee.datus.performance.model.dto.ProductDTO;
+import com.github.roookeee.datus.performance.model.entity.Address;
+import com.github.roookeee.datus.performance.model.entity.Customer;
+import com.github.roookeee.datus.performance.model.entity.Order;
+import com.github.roookeee.datus.performance.model.entity.OrderFactory;
+import com.github.roookeee.datus.performance.model.entity.Product;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.opentest4j.TestAbortedException;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/*
+Measures the cost of building mappers in a fresh JVM: the time it takes until the first mapper has converted its
+first object and the Metaspace growth caused by building many mappers (with and without reusing isolated classes)
+*/
+public class StartupBenchmarkTest {
+
+    //explicit skipping via a property makes it easier to run the benchmarks through an IDE as the property is most likely not set
+    private static final boolean SKIP_BENCHMARKS = Boolean.TRUE.toString().equals(System.getProperty("datus.tests.benchmarks.skip"));
+
+    private static final int BUILT_MAPPERS = 1000;
+
+    @Test
+    public void benchmark() throws Exception {
+        try {
+            assumeFalse(SKIP_BENCHMARKS, "Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+        } catch(TestAbortedException ex) {
+            System.out.println("Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+            throw ex;
+        }
+
+        //every measurement needs a fresh JVM as the measured costs only occur once per JVM
+        Options opts = new OptionsBuilder()
+                .include(StartupBenchmarkTest.class.getSimpleName())
+                .mode(Mode.SingleShotTime)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupIterations(0)
+                .measurementIterations(1)
+                .forks(10)
+                .build();
+
+        new Runner(opts).run();
+    }
+
+    @Test
+    public void builtMapperShouldBeCorrect() {
+        //given
+        Order order = OrderFactory.buildOrder();
+
+        //when
+        OrderDTO result = buildOrderMapper().convert(order);
+
+        //then
+        assertThat(result.getCustomerName()).isEqualTo(order.getCustomer().getName());
+        assertThat(result.getBillingCity()).isEqualTo(order.getCustomer().getBillingAddress().getCity());
+        assertThat(result.getProducts()).hasSize(order.getProducts().size());
+    }
+
+    private static Mapper<Order, OrderDTO> buildOrderMapper() {
+        Mapper<Product, ProductDTO> productMapper = Datus.forTypes(Product.class, ProductDTO.class)
+                .immutable(ProductDTO::new)
+                .from(Product::getName).to(ConstructorParameter::bind)
+                .build();
+
+        return Datus.forTypes(Order.class, OrderDTO.class)
+                .mutable(OrderDTO::new)
+                .from(Order::getCustomer).nullsafe()
+                .map(Customer::getName).into(OrderDTO::setCustomerName)
+                .from(Order::getCustomer).nullsafe()
+                .map(Customer::getBillingAddress).map(Address::getCity).into(OrderDTO::setBillingCity)
+                .from(Order::getCustomer).nullsafe()
+                .map(Customer::getBillingAddress).map(Address::getStreet).into(OrderDTO::setBillingStreetAddress)
+                .from(Order::getCustomer).nullsafe()
+                .map(Customer::getShippingAddress).map(Address::getCity).into(OrderDTO::setShippingCity)
+                .from(Order::getCustomer).nullsafe()
+                .map(Customer::getShippingAddress).map(Address::getStreet).into(OrderDTO::setShippingStreetAddress)
+                .from(Order::getProducts).nullsafe()
+                .map(productMapper::convert).into(OrderDTO::setProducts)
+                .build();
+    }
+
+    private static long usedMetaspace() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> "Metaspace".equals(pool.getName()))
+                .mapToLong(pool -> pool.getUsage().getUsed())
+                .sum();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Suite {
+        @Param({"0", "4096"})
+        public int cacheSize;
+
+        private Order order;
+        private long metaspaceBefore;
+
+        @Setup(Level.Trial)
+        public void configure() {
+            //has to happen before datus is used for the first time in the forked JVM
+            System.setProperty("com.github.roookeee.datus.optimization.cache.size", String.valueOf(cacheSize));
+            order = OrderFactory.buildOrder();
+            metaspaceBefore = usedMetaspace();
+        }
+
+        @TearDown(Level.Trial)
+        public void reportMetaspace() {
+            long growthInKb = (usedMetaspace() - metaspaceBefore) / 1024;
+            System.out.println("Metaspace growth (cacheSize=" + cacheSize + "): " + growthInKb + " KB");
+        }
+
+        @Benchmark
+        public OrderDTO timeToFirstMapper() {
+            return buildOrderMapper().convert(order);
+        }
+
+        @Benchmark
+        public Mapper<Order, OrderDTO> build1000Mappers() {
+            Mapper<Order, OrderDTO> mapper = null;
+            for (int i = 0; i < BUILT_MAPPERS; i++) {
+                mapper = buildOrderMapper();
+            }
+            return mapper;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.roookeee.datus.performance.model.entity;
+
+public class WideEntityFactory {
+
+    public static WideEntity buildEntity() {
+        WideEntity entity = new WideEntity();
+        entity.setField0("value0");
+        entity.setField1("value1");
+        entity.setField2("value2");
+        entity.setField3("value3");
+        entity.setField4("value4");
+        entity.setField5("value5");
+        entity.setField6("value6");
+        entity.setField7("value7");
+        entity.setField8("value8");
+        entity.setField9("value9");
+        entity.setField10("value10");
+        entity.setField11("value11");
+        entity.setField12("value12");
+        entity.setField13("value13");
+        entity.setField14("value14");
+        entity.setField15("value15");
+        entity.setField16("value16");
+        entity.setField17("value17");
+        entity.setField18("value18");
+        entity.setField19("value19");
+        entity.setField20("value20");
+        entity.setField21("value21");
+        entity.setField22("value22");
+        entity.setField23("value23");
+        entity.setField24("value24");
+        entity.setField25("value25");
+        entity.setField26("value26");
+        entity.setField27("value27");
+        entity.setField28("value28");
+        entity.setField29("value29");
+        entity.setField30("value30");
+        entity.setField31("value31");
+        entity.setField32("value32");
+        entity.setField33("value33");
+        entity.setField34("value34");
+        entity.setField35("value35");
+        entity.setField36("value36");
+        entity.setField37("value37");
+        entity.setField38("value38");
+        entity.setField39("value39");
+        entity.setField40("value40");
+        entity.setField41("value41");
+        entity.setField42("value42");
+        entity.setField43("value43");
+        entity.setField44("value44");
+        entity.setField45("value45");
+        entity.setField46("value46");
+        entity.setField47("value47");
+        entity.setField48("value48");
+        entity.setField49("value49");
+        entity.setField50("value50");
+        entity.setField51("value51");
+        entity.setField52("value52");
+        entity.setField53("value53");
+        entity.setField54("value54");
+        entity.setField55("value55");
+        entity.setField56("value56");
+        entity.setField57("value57");
+        entity.setField58("value58");
+        entity.setField59("value59");
+        entity.setField60("value60");
+        entity.setField61("value61");
+        entity.setField62("value62");
+        entity.setField63("value63");
+        return entity;
+    }
+}
@@ -0,0 +1,165 @@
+package com.github.roookeee.datus.shared;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.opentest4j.TestAbortedException;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/*
+Compares a nullsafe getter chain (from(...).nullsafe().map(...).map(...)) composed into one flat path with the same
+chain composed by nesting one nullsafe wrapper per hop, for chains that end in a value or a null in the middle
+*/
+public class GetterChainBenchmarkTest {
+
+    //explicit skipping via a property makes it easier to run the benchmarks through an IDE as the property is most likely not set
+    private static final boolean SKIP_BENCHMARKS = Boolean.TRUE.toString().equals(System.getProperty("datus.tests.benchmarks.skip"));
+
+    @Test
+    public void benchmark() throws Exception {
+        try {
+            assumeFalse(SKIP_BENCHMARKS, "Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+        } catch(TestAbortedException ex) {
+            System.out.println("Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+            throw ex;
+        }
+
+        Options opts = new OptionsBuilder()
+                .include(GetterChainBenchmarkTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .forks(1)
+                .build();
+
+        new Runner(opts).run();
+    }
+
+    @Test
+    public void fusedAndNestedChainsShouldBeEqual() {
+        LambdaHelper.WHITELISTED_CALLEES.add(GetterChainBenchmarkTest.class.getName());
+        try {
+            for (int hops = 1; hops <= 10; hops++) {
+                //given
+                GetterChain<Link, Link> chain = chain(hops);
+                Function<Link, Link> fused = chain.compose();
+                Function<Link, Link> nested = nested(chain);
+
+                for (int length = 0; length <= hops + 1; length++) {
+                    //when
+                    Link link = link(length);
+
+                    //then
+                    assertThat(fused.apply(link)).isSameAs(nested.apply(link));
+                }
+            }
+        } finally {
+            LambdaHelper.WHITELISTED_CALLEES.remove(GetterChainBenchmarkTest.class.getName());
+        }
+    }
+
+    private static GetterChain<Link, Link> chain(int hops) {
+        GetterChain<Link, Link> chain = GetterChain.of(Link::getNext);
+        for (int i = 0; i < hops; i++) {
+            chain = chain.map(Link::getNext, SafetyMode.NULL_SAFE);
+        }
+        return chain;
+    }
+
+    //the composition prior to fusing nullsafe hops into flat paths
+    private static Function<Link, Link> nested(GetterChain<Link, Link> chain) {
+        LambdaHelper.Access access = LambdaHelper.access();
+        Function<Object, Object> result = null;
+        for (GetterChain<Link, ?> element : chain.elements()) {
+            result = result == null
+                    ? element.hop()
+                    : LambdaHelper.andThen(access, result, LambdaHelper.nullsafe(access, element.hop()));
+        }
+        @SuppressWarnings("unchecked")
+        Function<Link, Link> nested = (Function<Link, Link>) (Function<?, ?>) result;
+        return nested;
+    }
+
+    private static Link link(int length) {
+        Link link = new Link(null);
+        for (int i = 0; i < length; i++) {
+            link = new Link(link);
+        }
+        return link;
+    }
+
+    public static final class Link {
+        private final Link next;
+
+        Link(Link next) {
+            this.next = next;
+        }
+
+        public Link getNext() {
+            return next;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Suite {
+        @Param({"1", "3", "6"})
+        public int hops;
+
+        private Function<Link, Link> fused;
+        private Function<Link, Link> nested;
+        private Link complete;
+        private Link broken;
+
+        @Setup(Level.Trial)
+        public void init() {
+            LambdaHelper.WHITELISTED_CALLEES.add(GetterChainBenchmarkTest.class.getName());
+            GetterChain<Link, Link> chain = chain(hops);
+            fused = chain.compose();
+            nested = nested(chain);
+            complete = link(hops + 1);
+            //the chain hits null after its first hop
+            broken = link(1);
+        }
+
+        @TearDown(Level.Trial)
+        public void reset() {
+            LambdaHelper.WHITELISTED_CALLEES.remove(GetterChainBenchmarkTest.class.getName());
+        }
+
+        @Benchmark
+        public Link fusedComplete() {
+            return fused.apply(complete);
+        }
+
+        @Benchmark
+        public Link nestedComplete() {
+            return nested.apply(complete);
+        }
+
+        @Benchmark
+        public Link fusedBroken() {
+            return fused.apply(broken);
+        }
+
+        @Benchmark
+        public Link nestedBroken() {
+            return nested.apply(broken);
+        }
+    }
+}
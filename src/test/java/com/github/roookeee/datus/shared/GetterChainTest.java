@@ -0,0 +1,65 @@
+package com.github.roookeee.datus.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GetterChainTest {
+
+    @Test
+    public void nullsafeHopsShouldBeFusedIntoOnePath() {
+        //given
+        GetterChain<String, String> chain = GetterChain.<String, String>of(String::trim)
+                .map(String::toUpperCase, SafetyMode.NULL_SAFE)
+                .map(s -> s.isEmpty() ? null : s, SafetyMode.NULL_SAFE)
+                .map(s -> s + "!", SafetyMode.NULL_SAFE);
+
+        //when
+        Function<String, String> composed = chain.compose();
+
+        //then
+        assertThat(composed.getClass().getName()).contains("NullSafePath4");
+        assertThat(composed.apply(" value ")).isEqualTo("VALUE!");
+        assertThat(composed.apply("  ")).isNull();
+    }
+
+    @Test
+    public void longMixedChainsShouldBehaveLikeTheirHops() {
+        //given
+        GetterChain<String, String> chain = GetterChain.of(Function.identity());
+        for (int i = 0; i < 20; i++) {
+            int hop = i;
+            SafetyMode safetyMode = i % 7 == 6 ? SafetyMode.NONE : SafetyMode.NULL_SAFE;
+            chain = chain.map(s -> {
+                if (s == null) {
+                    assertThat(safetyMode).isEqualTo(SafetyMode.NONE);
+                    return null;
+                }
+                return s.length() > 30 ? null : s + hop % 10;
+            }, safetyMode);
+        }
+        chain = chain.map(s -> s == null ? "none" : s, SafetyMode.NONE);
+
+        //when
+        Function<String, String> composed = chain.compose();
+
+        //then
+        assertThat(composed.apply("")).isEqualTo("01234567890123456789");
+        //the 13th hop returns null which has to skip all following nullsafe hops
+        assertThat(composed.apply("0123456789012345678")).isEqualTo("none");
+    }
+
+    @Test
+    public void composingShouldRequireTheAccessToken() {
+        GetterChain<String, String> chain = GetterChain.<String, String>of(String::trim)
+                .map(String::toUpperCase, SafetyMode.NULL_SAFE);
+
+        assertThatThrownBy(() -> chain.compose((LambdaHelper.Access) null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> GetterChain.compose(null, chain))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
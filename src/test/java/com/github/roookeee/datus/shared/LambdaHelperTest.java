@@ -4,8 +4,20 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -15,14 +27,18 @@ class LambdaHelperTest {
 
     private static boolean OPTIMIZE_ORIGINAL_VALUE;
 
+    private LambdaHelper.Access access;
+
     @BeforeEach
     public void init() {
         LambdaHelper.WHITELISTED_CALLEES.add(LambdaHelperTest.class.getName());
+        access = LambdaHelper.access();
         OPTIMIZE_ORIGINAL_VALUE = LambdaHelper.OPTIMIZE;
     }
 
     @AfterEach
     public void reset() {
+        LambdaHelper.WHITELISTED_CALLEES.remove(LambdaHelperTest.class.getName());
         LambdaHelper.OPTIMIZE = OPTIMIZE_ORIGINAL_VALUE;
     }
 
@@ -30,14 +46,344 @@ class LambdaHelperTest {
     public void whiteListShouldWorkCorrectly() {
         LambdaHelper.WHITELISTED_CALLEES.remove(LambdaHelperTest.class.getName());
 
-        assertThatThrownBy(() -> LambdaHelper.nullsafe(a -> a))
+        assertThatThrownBy(LambdaHelper::access)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void functionsShouldRequireTheAccessToken() {
+        assertThatThrownBy(() -> LambdaHelper.nullsafe(null, a -> a))
                 .isInstanceOf(IllegalStateException.class);
-        assertThatThrownBy(() -> LambdaHelper.andThen(a -> a, a -> a))
+        assertThatThrownBy(() -> LambdaHelper.andThen(null, a -> a, a -> a))
                 .isInstanceOf(IllegalStateException.class);
-        assertThatThrownBy(() -> LambdaHelper.andThen((a,b) -> a, (a,b) -> a))
+        assertThatThrownBy(() -> LambdaHelper.andThen(null, (a,b) -> a, (a,b) -> a))
                 .isInstanceOf(IllegalStateException.class);
-        assertThatThrownBy(() -> LambdaHelper.toBiFunction(a -> a, (a,b) -> {}))
+        assertThatThrownBy(() -> LambdaHelper.toBiFunction(null, a -> a, (a,b) -> {}))
                 .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> LambdaHelper.memoize(null, 1, a -> a))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> LambdaHelper.sequence(null, Arrays.asList((a,b) -> b, (a,b) -> b)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> LambdaHelper.andThenInt(null, a -> 0, a -> a))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> LambdaHelper.toIntBiFunction(null, a -> 0, (a, b) -> {}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void functionsShouldNotInspectTheCallerOnceAccessWasGranted() {
+        //given
+        LambdaHelper.WHITELISTED_CALLEES.remove(LambdaHelperTest.class.getName());
+
+        //when
+        Function<String, Integer> nullSafeFn = LambdaHelper.nullsafe(access, String::length);
+
+        //then
+        assertThat(nullSafeFn.apply("abc")).isEqualTo(3);
+    }
+
+    @Test
+    public void optimizedSequenceShouldBehaveCorrectly() {
+        assumeThat(LambdaHelper.OPTIMIZE)
+                .withFailMessage("JDK running this test suite doesn't support optimization")
+                .isTrue();
+
+        for (int size = 2; size <= 8; size++) {
+            //given
+            List<BiFunction<String, String, String>> functions = IntStream.range(0, size)
+                    .mapToObj(i -> (BiFunction<String, String, String>) (in, out) -> out + in + i)
+                    .collect(Collectors.toList());
+            BiFunction<String, String, String> sequence = LambdaHelper.sequence(access, functions);
+
+            //when
+            String result = sequence.apply("-", "");
+
+            //then
+            String expected = IntStream.range(0, size).mapToObj(i -> "-" + i).collect(Collectors.joining());
+            assertThat(sequence.getClass()).isNotIn((Object[]) LambdaHelper.class.getDeclaredClasses());
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void normalSequenceShouldBehaveCorrectly() {
+        LambdaHelper.OPTIMIZE = false;
+
+        for (int size = 2; size <= 8; size++) {
+            //given
+            List<BiFunction<String, String, String>> functions = IntStream.range(0, size)
+                    .mapToObj(i -> (BiFunction<String, String, String>) (in, out) -> out + in + i)
+                    .collect(Collectors.toList());
+            BiFunction<String, String, String> sequence = LambdaHelper.sequence(access, functions);
+
+            //when
+            String result = sequence.apply("-", "");
+
+            //then
+            String expected = IntStream.range(0, size).mapToObj(i -> "-" + i).collect(Collectors.joining());
+            assertThat(sequence.getClass()).isIn((Object[]) LambdaHelper.class.getDeclaredClasses());
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void sequenceShouldRejectUnsupportedSizes() {
+        assertThatThrownBy(() -> LambdaHelper.sequence(access, Collections.singletonList((a, b) -> b)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void optimizedNullsafePathShouldBehaveCorrectly() {
+        assumeThat(LambdaHelper.OPTIMIZE)
+                .withFailMessage("JDK running this test suite doesn't support optimization")
+                .isTrue();
+
+        for (int size = 2; size <= 8; size++) {
+            //given
+            Function<String, String> path = LambdaHelper.nullsafePath(access, appendingFunctions(size));
+            Function<String, String> nullPath = LambdaHelper.nullsafePath(access, nullReturningFunctions(size));
+
+            //when
+            String result = path.apply("");
+            String nullResult = nullPath.apply("");
+
+            //then
+            String expected = IntStream.range(0, size).mapToObj(Integer::toString).collect(Collectors.joining());
+            assertThat(path.getClass()).isNotIn((Object[]) LambdaHelper.class.getDeclaredClasses());
+            assertThat(result).isEqualTo(expected);
+            assertThat(nullResult).isNull();
+        }
+    }
+
+    @Test
+    public void normalNullsafePathShouldBehaveCorrectly() {
+        LambdaHelper.OPTIMIZE = false;
+
+        for (int size = 2; size <= 8; size++) {
+            //given
+            Function<String, String> path = LambdaHelper.nullsafePath(access, appendingFunctions(size));
+            Function<String, String> nullPath = LambdaHelper.nullsafePath(access, nullReturningFunctions(size));
+
+            //when
+            String result = path.apply("");
+            String nullResult = nullPath.apply("");
+
+            //then
+            String expected = IntStream.range(0, size).mapToObj(Integer::toString).collect(Collectors.joining());
+            assertThat(path.getClass()).isIn((Object[]) LambdaHelper.class.getDeclaredClasses());
+            assertThat(result).isEqualTo(expected);
+            assertThat(nullResult).isNull();
+        }
+    }
+
+    @Test
+    public void nullsafePathShouldRejectUnsupportedSizes() {
+        assertThatThrownBy(() -> LambdaHelper.nullsafePath(access, Collections.singletonList(Function.identity())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LambdaHelper.nullsafePath(access, appendingFunctions(9)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Function<String, String>> appendingFunctions(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> (Function<String, String>) in -> in + i)
+                .collect(Collectors.toList());
+    }
+
+    //the second to last function returns null which must skip the last function
+    private static List<Function<String, String>> nullReturningFunctions(int size) {
+        AtomicInteger calls = new AtomicInteger();
+        List<Function<String, String>> functions = appendingFunctions(size - 2);
+        functions.add(in -> null);
+        functions.add(in -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("Called after null with " + in + ", " + calls);
+        });
+        return functions;
+    }
+
+    @Test
+    public void optimizedFunctionsShouldReuseIsolatedClassesForEqualArgumentTypes() {
+        assumeThat(LambdaHelper.OPTIMIZE)
+                .withFailMessage("JDK running this test suite doesn't support optimization")
+                .isTrue();
+
+        //given
+        Function<String, Integer> length = String::length;
+        Function<String, String> trim = String::trim;
+
+        //when
+        Function<String, Integer> first = LambdaHelper.nullsafe(access, length);
+        Function<String, Integer> second = LambdaHelper.nullsafe(access, length);
+        Function<String, String> third = LambdaHelper.nullsafe(access, trim);
+
+        //then
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getClass()).isSameAs(second.getClass());
+        assertThat(first.getClass()).isNotSameAs(third.getClass());
+        assertThat(first.getClass()).isNotIn((Object[]) LambdaHelper.class.getDeclaredClasses());
+        assertThat(first.apply("abc")).isEqualTo(3);
+        assertThat(third.apply(" abc ")).isEqualTo("abc");
+    }
+
+    @Test
+    public void isolatedClassesShouldNotBeReusedWhenTheCacheIsDisabled() throws Exception {
+        //given
+        IsolatedClasses isolatedClasses = new IsolatedClasses(0, IsolatedClasses.hiddenClassesSupported());
+        Function<String, Integer> length = String::length;
+
+        //when
+        Function<String, Integer> first = nullsafe(isolatedClasses, length);
+        Function<String, Integer> second = nullsafe(isolatedClasses, length);
+
+        //then
+        assertThat(first.getClass()).isNotSameAs(second.getClass());
+        assertThat(first.apply("abc")).isEqualTo(second.apply("abc"));
+        assertThat(isolatedClasses.cachedCopies()).isEqualTo(0);
+    }
+
+    @Test
+    public void isolatedClassesShouldBeHiddenClassesWhenSupported() throws Exception {
+        assumeThat(IsolatedClasses.hiddenClassesSupported())
+                .withFailMessage("JDK running this test suite doesn't support hidden classes")
+                .isTrue();
+
+        //given
+        IsolatedClasses isolatedClasses = new IsolatedClasses(0, true);
+
+        //when
+        Function<String, Integer> nullsafe = nullsafe(isolatedClasses, String::length);
+
+        //then
+        //hidden classes are defined by the classloader of their lookup class and have non-binary names
+        assertThat(nullsafe.getClass().getClassLoader()).isEqualTo(LambdaHelper.class.getClassLoader());
+        assertThat(nullsafe.getClass().getName()).contains("/");
+        assertThat(nullsafe.apply("abc")).isEqualTo(3);
+        assertThat(nullsafe.apply(null)).isNull();
+    }
+
+    @Test
+    public void isolatedClassesShouldFallBackToClassLoaders() throws Exception {
+        //given
+        IsolatedClasses isolatedClasses = new IsolatedClasses(0, false);
+
+        //when
+        Function<String, Integer> nullsafe = nullsafe(isolatedClasses, String::length);
+
+        //then
+        assertThat(nullsafe.getClass().getClassLoader()).isNotEqualTo(LambdaHelper.class.getClassLoader());
+        assertThat(nullsafe.apply("abc")).isEqualTo(3);
+        assertThat(nullsafe.apply(null)).isNull();
+    }
+
+    @Test
+    public void isolatedClassCacheShouldBeBounded() throws Exception {
+        //given
+        IsolatedClasses isolatedClasses = new IsolatedClasses(2, IsolatedClasses.hiddenClassesSupported());
+
+        //when
+        nullsafe(isolatedClasses, (Function<String, Integer>) String::length);
+        nullsafe(isolatedClasses, (Function<String, String>) String::trim);
+        nullsafe(isolatedClasses, (Function<String, String>) String::toUpperCase);
+
+        //then
+        assertThat(isolatedClasses.cachedCopies()).isEqualTo(2);
+    }
+
+    @Test
+    public void isolatedClassCacheShouldNotRetainTheClassesOfItsArguments() throws Exception {
+        //given
+        IsolatedClasses isolatedClasses = new IsolatedClasses(16, IsolatedClasses.hiddenClassesSupported());
+        WeakReference<ClassLoader> applicationLoader = loadIntoOwnClassLoader(isolatedClasses);
+
+        //when
+        for (int i = 0; i < 100 && (applicationLoader.get() != null || isolatedClasses.cachedCopies() > 0); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        //then
+        assertThat(applicationLoader.get()).isNull();
+        assertThat(isolatedClasses.cachedCopies()).isEqualTo(0);
+    }
+
+    //simulates an application (e.g. a redeployed web application) whose classloader is a child of the one of datus
+    private static WeakReference<ClassLoader> loadIntoOwnClassLoader(IsolatedClasses isolatedClasses) throws Exception {
+        URL testClasses = Length.class.getProtectionDomain().getCodeSource().getLocation();
+        URLClassLoader applicationLoader = new URLClassLoader(new URL[]{testClasses}, null);
+        @SuppressWarnings("unchecked")
+        Function<String, Integer> length = (Function<String, Integer>) applicationLoader
+                .loadClass(Length.class.getName())
+                .getConstructor()
+                .newInstance();
+
+        Function<String, Integer> nullsafe = nullsafe(isolatedClasses, length);
+
+        assertThat(nullsafe.apply("abc")).isEqualTo(3);
+        assertThat(isolatedClasses.cachedCopies()).isEqualTo(1);
+        applicationLoader.close();
+        return new WeakReference<>(applicationLoader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> Function<T, R> nullsafe(IsolatedClasses isolatedClasses, Function<T, R> fn) throws Exception {
+        return isolatedClasses.constructor(
+                LambdaHelper.NullSafeFunction.class,
+                Function.class,
+                new Class<?>[]{Function.class},
+                new Object[]{fn}
+        ).newInstance(fn);
+    }
+
+    public static final class Length implements Function<String, Integer> {
+        @Override
+        public Integer apply(String s) {
+            return s.length();
+        }
+    }
+
+    @Test
+    public void optimizedMemoizeShouldBehaveCorrectly() {
+        assumeThat(LambdaHelper.OPTIMIZE)
+                .withFailMessage("JDK running this test suite doesn't support optimization")
+                .isTrue();
+
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        Function<Object[], Integer> memoized = LambdaHelper.memoize(access, 1, frame -> calls.incrementAndGet());
+        Object[] frame = {"input", null};
+        frame[1] = frame;
+
+        //when
+        Integer first = memoized.apply(frame);
+        Integer second = memoized.apply(frame);
+
+        //then
+        assertThat(memoized).isNotInstanceOf(LambdaHelper.MemoizedFunction.class);
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        assertThat(frame[1]).isEqualTo(1);
+    }
+
+    @Test
+    public void normalMemoizeShouldBehaveCorrectly() {
+        LambdaHelper.OPTIMIZE = false;
+
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        Function<Object[], Integer> memoized = LambdaHelper.memoize(access, 1, frame -> calls.incrementAndGet());
+        Object[] frame = {"input", null};
+        frame[1] = frame;
+
+        //when
+        Integer first = memoized.apply(frame);
+        Integer second = memoized.apply(frame);
+
+        //then
+        assertThat(memoized).isInstanceOf(LambdaHelper.MemoizedFunction.class);
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        assertThat(frame[1]).isEqualTo(1);
     }
 
     @Test
@@ -47,7 +393,7 @@ class LambdaHelperTest {
                 .isTrue();
 
         //given
-        Function<String, Integer> nullSafeFn = LambdaHelper.nullsafe(String::length);
+        Function<String, Integer> nullSafeFn = LambdaHelper.nullsafe(access, String::length);
 
         //when
         Integer nullResult = nullSafeFn.apply(null);
@@ -64,7 +410,7 @@ class LambdaHelperTest {
         LambdaHelper.OPTIMIZE = false;
 
         //given
-        Function<String, Integer> nullSafeFn = LambdaHelper.nullsafe(String::length);
+        Function<String, Integer> nullSafeFn = LambdaHelper.nullsafe(access, String::length);
 
         //when
         Integer nullResult = nullSafeFn.apply(null);
@@ -83,7 +429,7 @@ class LambdaHelperTest {
                 .isTrue();
 
         //given
-        Function<Object, Integer> fnChain = LambdaHelper.andThen(Object::toString, String::length);
+        Function<Object, Integer> fnChain = LambdaHelper.andThen(access, Object::toString, String::length);
 
         //when
         Integer result = fnChain.apply(777);
@@ -98,7 +444,7 @@ class LambdaHelperTest {
         LambdaHelper.OPTIMIZE = false;
 
         //given
-        Function<Object, Integer> fnChain = LambdaHelper.andThen(Object::toString, String::length);
+        Function<Object, Integer> fnChain = LambdaHelper.andThen(access, Object::toString, String::length);
 
         //when
         Integer result = fnChain.apply(777);
@@ -117,7 +463,7 @@ class LambdaHelperTest {
         //given
         Dummy source = new Dummy();
         source.setName("someName");
-        BiFunction<Dummy, Dummy, Dummy> setNameFn = LambdaHelper.toBiFunction(Dummy::getName, Dummy::setName);
+        BiFunction<Dummy, Dummy, Dummy> setNameFn = LambdaHelper.toBiFunction(access, Dummy::getName, Dummy::setName);
 
         //when
         Dummy target = new Dummy();
@@ -136,7 +482,7 @@ class LambdaHelperTest {
         //given
         Dummy source = new Dummy();
         source.setName("someName");
-        BiFunction<Dummy, Dummy, Dummy> setNameFn = LambdaHelper.toBiFunction(Dummy::getName, Dummy::setName);
+        BiFunction<Dummy, Dummy, Dummy> setNameFn = LambdaHelper.toBiFunction(access, Dummy::getName, Dummy::setName);
 
         //when
         Dummy target = new Dummy();
@@ -158,7 +504,7 @@ class LambdaHelperTest {
         //given
         Dummy source = new Dummy();
         source.setName("someName");
-        BiFunction<Dummy, Dummy, Dummy> setAndDuplicateName = LambdaHelper.andThen(
+        BiFunction<Dummy, Dummy, Dummy> setAndDuplicateName = LambdaHelper.andThen(access, 
                 (in, out) -> {
                     out.setName(in.getName());
                     return out;
@@ -186,7 +532,7 @@ class LambdaHelperTest {
         //given
         Dummy source = new Dummy();
         source.setName("someName");
-        BiFunction<Dummy, Dummy, Dummy> setAndDuplicateName = LambdaHelper.andThen(
+        BiFunction<Dummy, Dummy, Dummy> setAndDuplicateName = LambdaHelper.andThen(access, 
                 (in, out) -> {
                     out.setName(in.getName());
                     return out;
@@ -207,6 +553,54 @@ class LambdaHelperTest {
         assertThat(result.getName()).isEqualTo(source.getName() + source.getName());
     }
 
+    @Test
+    public void optimizedPrimitiveFunctionsShouldBehaveCorrectly() {
+        assumeThat(LambdaHelper.OPTIMIZE)
+                .withFailMessage("JDK running this test suite doesn't support optimization")
+                .isTrue();
+
+        //given
+        ToIntFunction<String> length = LambdaHelper.andThenInt(access, String::length, i -> i * 2);
+        ToLongFunction<String> longLength = LambdaHelper.andThenLong(access, String::length, l -> l * 3);
+        ToDoubleFunction<String> halfLength = LambdaHelper.andThenDouble(access, String::length, d -> d / 2);
+        long[] target = new long[1];
+        BiFunction<String, long[], long[]> setter = LambdaHelper.toLongBiFunction(access, String::length, (out, l) -> out[0] = l);
+
+        //when
+        long[] result = setter.apply("abcd", target);
+
+        //then
+        assertThat(length).isNotInstanceOf(LambdaHelper.IntCombinator.class);
+        assertThat(setter).isNotInstanceOf(LambdaHelper.LongSetterBiFn.class);
+        assertThat(length.applyAsInt("abc")).isEqualTo(6);
+        assertThat(longLength.applyAsLong("abc")).isEqualTo(9L);
+        assertThat(halfLength.applyAsDouble("abc")).isEqualTo(1.5);
+        assertThat(result).isSameAs(target).containsExactly(4L);
+    }
+
+    @Test
+    public void normalPrimitiveFunctionsShouldBehaveCorrectly() {
+        LambdaHelper.OPTIMIZE = false;
+
+        //given
+        ToIntFunction<String> length = LambdaHelper.andThenInt(access, String::length, i -> i * 2);
+        double[] target = new double[1];
+        BiFunction<String, double[], double[]> setter = LambdaHelper.toDoubleBiFunction(access, String::length, (out, d) -> out[0] = d);
+        int[] intTarget = new int[1];
+        BiFunction<String, int[], int[]> intSetter = LambdaHelper.toIntBiFunction(access, String::length, (out, i) -> out[0] = i);
+
+        //when
+        double[] result = setter.apply("abcd", target);
+        int[] intResult = intSetter.apply("ab", intTarget);
+
+        //then
+        assertThat(length).isInstanceOf(LambdaHelper.IntCombinator.class);
+        assertThat(setter).isInstanceOf(LambdaHelper.DoubleSetterBiFn.class);
+        assertThat(length.applyAsInt("abc")).isEqualTo(6);
+        assertThat(result).containsExactly(4.0);
+        assertThat(intResult).containsExactly(2);
+    }
+
     private static class Dummy {
         private String name;
 
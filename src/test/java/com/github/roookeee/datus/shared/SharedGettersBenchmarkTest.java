@@ -0,0 +1,197 @@
+package com.github.roookeee.datus.shared;
+
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.opentest4j.TestAbortedException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/*
+Compares mappers that read four fields through the same parent getter with and without sharing the parent getter
+(which costs one frame allocation per conversion), once for a plain field accessor and once for a computed property
+*/
+public class SharedGettersBenchmarkTest {
+
+    //explicit skipping via a property makes it easier to run the benchmarks through an IDE as the property is most likely not set
+    private static final boolean SKIP_BENCHMARKS = Boolean.TRUE.toString().equals(System.getProperty("datus.tests.benchmarks.skip"));
+
+    @Test
+    public void benchmark() throws Exception {
+        try {
+            assumeFalse(SKIP_BENCHMARKS, "Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+        } catch(TestAbortedException ex) {
+            System.out.println("Benchmark tests were skipped via datus.tests.benchmarks.skip=true");
+            throw ex;
+        }
+
+        Options opts = new OptionsBuilder()
+                .include(SharedGettersBenchmarkTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .forks(1)
+                .build();
+
+        new Runner(opts).run();
+    }
+
+    @Test
+    public void sharedAndUnsharedMappersShouldBeEqual() {
+        //given
+        Source source = new Source("a", "b", "c", "d");
+
+        for (Mapper<Source, Target> mapper : new Suite().mappers()) {
+            //when
+            Target result = mapper.convert(source);
+
+            //then
+            assertThat(result.a + result.b + result.c + result.d).isEqualTo("abcd");
+        }
+    }
+
+    public static final class Source {
+        private final Parent parent;
+
+        Source(String a, String b, String c, String d) {
+            this.parent = new Parent(a, b, c, d);
+        }
+
+        public Parent getParent() {
+            return parent;
+        }
+
+        //a property that is derived on every call (e.g. a defensive copy)
+        public Parent computeParent() {
+            return new Parent(parent.a.trim(), parent.b.trim(), parent.c.trim(), parent.d.trim());
+        }
+    }
+
+    public static final class Parent {
+        private final String a;
+        private final String b;
+        private final String c;
+        private final String d;
+
+        Parent(String a, String b, String c, String d) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+
+        public String getA() {
+            return a;
+        }
+
+        public String getB() {
+            return b;
+        }
+
+        public String getC() {
+            return c;
+        }
+
+        public String getD() {
+            return d;
+        }
+    }
+
+    public static final class Target {
+        private String a;
+        private String b;
+        private String c;
+        private String d;
+
+        public void setA(String a) {
+            this.a = a;
+        }
+
+        public void setB(String b) {
+            this.b = b;
+        }
+
+        public void setC(String c) {
+            this.c = c;
+        }
+
+        public void setD(String d) {
+            this.d = d;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Suite {
+        private final Mapper<Source, Target> sharedField = shared(Source::getParent);
+        private final Mapper<Source, Target> unsharedField = Datus.forTypes(Source.class, Target.class).mutable(Target::new)
+                .from(Source::getParent).map(Parent::getA).into(Target::setA)
+                .from(Source::getParent).map(Parent::getB).into(Target::setB)
+                .from(Source::getParent).map(Parent::getC).into(Target::setC)
+                .from(Source::getParent).map(Parent::getD).into(Target::setD)
+                .build();
+        private final Mapper<Source, Target> sharedComputed = shared(Source::computeParent);
+        private final Mapper<Source, Target> unsharedComputed = Datus.forTypes(Source.class, Target.class).mutable(Target::new)
+                .from(Source::computeParent).map(Parent::getA).into(Target::setA)
+                .from(Source::computeParent).map(Parent::getB).into(Target::setB)
+                .from(Source::computeParent).map(Parent::getC).into(Target::setC)
+                .from(Source::computeParent).map(Parent::getD).into(Target::setD)
+                .build();
+
+        private Source source;
+
+        private static Mapper<Source, Target> shared(Function<Source, Parent> getParent) {
+            return Datus.forTypes(Source.class, Target.class).mutable(Target::new)
+                    .from(getParent).map(Parent::getA).into(Target::setA)
+                    .from(getParent).map(Parent::getB).into(Target::setB)
+                    .from(getParent).map(Parent::getC).into(Target::setC)
+                    .from(getParent).map(Parent::getD).into(Target::setD)
+                    .build();
+        }
+
+        List<Mapper<Source, Target>> mappers() {
+            return Arrays.asList(sharedField, unsharedField, sharedComputed, unsharedComputed);
+        }
+
+        @Setup(Level.Iteration)
+        public void init() {
+            source = new Source(" a ", " b ", " c ", " d ");
+        }
+
+        @Benchmark
+        public Target sharedField() {
+            return sharedField.convert(source);
+        }
+
+        @Benchmark
+        public Target unsharedField() {
+            return unsharedField.convert(source);
+        }
+
+        @Benchmark
+        public Target sharedComputed() {
+            return sharedComputed.convert(source);
+        }
+
+        @Benchmark
+        public Target unsharedComputed() {
+            return unsharedComputed.convert(source);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.github.roookeee.datus.shared;
+
+import com.github.roookeee.datus.api.BuildStrategy;
+import com.github.roookeee.datus.api.Datus;
+import com.github.roookeee.datus.api.Mapper;
+import com.github.roookeee.datus.immutable.ConstructorBuilder3;
+import com.github.roookeee.datus.immutable.ConstructorParameter;
+import com.github.roookeee.datus.testutil.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SharedGettersTest {
+
+    @Test
+    public void shouldNotShareDistinctGetters() {
+        //given
+        Function<String, String> first = GetterChain.<String, String>of(String::trim).map(String::toUpperCase, SafetyMode.NONE);
+        Function<String, String> second = GetterChain.<String, String>of(String::trim).map(String::toUpperCase, SafetyMode.NONE);
+
+        //when
+        Optional<SharedGetters<String>> sharedGetters = SharedGetters.of(Arrays.asList(first, second));
+
+        //then
+        assertThat(sharedGetters).isNotPresent();
+    }
+
+    @Test
+    public void shouldEvaluateSharedPrefixOnce() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        GetterChain<String, String> shared = GetterChain.of(in -> {
+            calls.incrementAndGet();
+            return in.trim();
+        });
+        List<Function<String, ?>> getters = Arrays.asList(
+                shared.map(String::length, SafetyMode.NONE),
+                shared.map(String::toUpperCase, SafetyMode.NONE),
+                shared,
+                shared.map(String::isEmpty, SafetyMode.NONE)
+        );
+
+        //when
+        SharedGetters<String> sharedGetters = SharedGetters.of(getters).get();
+        Object[] frame = sharedGetters.frame(" input ");
+        List<Object> results = new ArrayList<>();
+        for (Function<Object[], Object> getter : sharedGetters.getters()) {
+            results.add(getter.apply(frame));
+        }
+
+        //then
+        assertThat(results).containsExactly(5, "INPUT", "input", false);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldEvaluateNullSharedPrefixOnce() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        Function<Person, String> getName = person -> {
+            calls.incrementAndGet();
+            return person.getName();
+        };
+        Mapper<Person, Person> mapper = Datus.forTypes(Person.class, Person.class).mutable(Person::new)
+                .from(getName).nullsafe().map(String::toUpperCase).into(Person::setName)
+                .from(getName).nullsafe().map(String::toLowerCase).into(Person::setLastName)
+                .from(getName).nullsafe().map(String::trim).into(Person::setAddress)
+                .build();
+
+        //when
+        Person result = mapper.convert(new Person());
+
+        //then
+        assertThat(result.getName()).isNull();
+        assertThat(result.getLastName()).isNull();
+        assertThat(result.getAddress()).isNull();
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void mutableMappersShouldShareGettersInAllBuildStrategies() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        Function<Person, String> getName = person -> {
+            calls.incrementAndGet();
+            return person.getName();
+        };
+        Function<String, String> trim = String::trim;
+        Person person = new Person();
+        person.setName(" name ");
+        person.setAddress("address");
+
+        for (BuildStrategy strategy : BuildStrategy.values()) {
+            calls.set(0);
+            Mapper<Person, Person> mapper = Datus.forTypes(Person.class, Person.class).mutable(Person::new)
+                    .from(getName).map(trim).map(String::toUpperCase).into(Person::setName)
+                    .from(Person::getAddress).into(Person::setAddress)
+                    .from(getName).map(trim).into(Person::setLastName)
+                    .from(getName).map(String::toLowerCase).into(Person::setBirthDate)
+                    .build(strategy);
+
+            //when
+            Person result = mapper.convert(person);
+
+            //then
+            assertThat(result.getName()).isEqualTo("NAME");
+            assertThat(result.getAddress()).isEqualTo("address");
+            assertThat(result.getLastName()).isEqualTo("name");
+            assertThat(result.getBirthDate()).isEqualTo(" name ");
+            assertThat(calls.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void prefixesWithLessThanThreeReadersShouldNotBeShared() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        Function<Person, String> getName = person -> {
+            calls.incrementAndGet();
+            return person.getName();
+        };
+        Person person = new Person();
+        person.setName(" name ");
+
+        for (BuildStrategy strategy : BuildStrategy.values()) {
+            calls.set(0);
+            Mapper<Person, Person> mapper = Datus.forTypes(Person.class, Person.class).mutable(Person::new)
+                    .from(getName).map(String::trim).into(Person::setName)
+                    .from(getName).map(String::toUpperCase).into(Person::setLastName)
+                    .from(getName).into(Person::setAddress)
+                    .from(getName).into(Person::setBirthDate)
+                    .build(strategy);
+
+            //when
+            Person result = mapper.convert(person);
+
+            //then
+            assertThat(result.getName()).isEqualTo("name");
+            assertThat(result.getLastName()).isEqualTo(" NAME ");
+            assertThat(result.getAddress()).isEqualTo(" name ");
+            assertThat(result.getBirthDate()).isEqualTo(" name ");
+            //two readers and two identical getters don't outweigh the frame (see SharedGetters)
+            assertThat(calls.get()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    public void sharedGettersShouldBeEvaluatedInStepOrder() {
+        //given
+        List<String> evaluations = new ArrayList<>();
+        Function<Person, String> getName = person -> {
+            evaluations.add("name");
+            return person.getName();
+        };
+        Mapper<Person, Person> mapper = Datus.forTypes(Person.class, Person.class).mutable(Person::new)
+                .process((in, out) -> {
+                    evaluations.add("process");
+                    return out;
+                })
+                .from(getName).nullsafe().map(String::trim).into(Person::setName)
+                .from(getName).nullsafe().map(String::toUpperCase).into(Person::setLastName)
+                .from(getName).nullsafe().map(String::toLowerCase).into(Person::setAddress)
+                .build();
+
+        //when
+        mapper.convert(new Person());
+
+        //then
+        assertThat(evaluations).containsExactly("process", "name");
+    }
+
+    @Test
+    public void immutableMappersShouldShareGetters() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, String> trimmed = in -> {
+            calls.incrementAndGet();
+            return in.trim();
+        };
+        Mapper<String, List<String>> mapper = new ConstructorBuilder3<String, String, String, String, List<String>>(Arrays::asList)
+                .from(trimmed).map(String::toUpperCase).to(ConstructorParameter::bind)
+                .from(trimmed).map(String::toLowerCase).to(ConstructorParameter::bind)
+                .from(trimmed).map(in -> in + "!").to(ConstructorParameter::bind)
+                .build();
+
+        //when
+        List<String> result = mapper.convert(" Input ");
+
+        //then
+        assertThat(result).containsExactly("INPUT", "input", "Input!");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void processingStepsShouldNotReuseSharedPrefixesOfPriorSteps() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        Function<Person, String> getName = person -> {
+            calls.incrementAndGet();
+            return person.getName();
+        };
+        Mapper<Person, Person> mapper = Datus.forTypes(Person.class, Person.class).mutable(Person::new)
+                .from(getName).map(String::trim).into(Person::setName)
+                .from(getName).map(String::toUpperCase).into(Person::setAddress)
+                .from(getName).map(String::toLowerCase).into(Person::setBirthDate)
+                .process((in, out) -> {
+                    in.setName("modified");
+                    return out;
+                })
+                .from(getName).map(String::trim).into(Person::setLastName)
+                .from(getName).map(String::toUpperCase).into(Person::setAddress)
+                .from(getName).map(String::toLowerCase).into(Person::setBirthDate)
+                .build();
+        Person person = new Person();
+        person.setName("Name");
+
+        //when
+        Person result = mapper.convert(person);
+
+        //then
+        assertThat(result.getName()).isEqualTo("Name");
+        assertThat(result.getLastName()).isEqualTo("modified");
+        assertThat(result.getAddress()).isEqualTo("MODIFIED");
+        assertThat(result.getBirthDate()).isEqualTo("modified");
+        //once before and once after the processing step
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void gettersOfTheSameLambdaExpressionShouldBeShared() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger otherCalls = new AtomicInteger();
+        List<Function<Person, String>> getters = Arrays.asList(
+                GetterChain.of(countingGetName(calls)).map(String::trim, SafetyMode.NONE),
+                GetterChain.of(countingGetName(calls)).map(String::trim, SafetyMode.NONE),
+                GetterChain.of(countingGetName(calls)).map(String::trim, SafetyMode.NONE),
+                countingGetName(otherCalls)
+        );
+        Person person = new Person();
+        person.setName("name");
+
+        //when
+        SharedGetters<Person> sharedGetters = SharedGetters.of(getters).get();
+        Object[] frame = sharedGetters.frame(person);
+        List<Object> results = new ArrayList<>();
+        for (Function<Object[], Object> getter : sharedGetters.getters()) {
+            results.add(getter.apply(frame));
+        }
+
+        //then
+        assertThat(results).containsExactly("name", "name", "name", "name");
+        assertThat(calls.get()).isEqualTo(1);
+        //captures another counter and is thus a different getter
+        assertThat(otherCalls.get()).isEqualTo(1);
+    }
+
+    private static Function<Person, String> countingGetName(AtomicInteger calls) {
+        return person -> {
+            calls.incrementAndGet();
+            return person.getName();
+        };
+    }
+
+    @Test
+    public void analyzingShouldRequireTheAccessToken() {
+        Function<String, String> getter = GetterChain.<String, String>of(String::trim).map(String::toUpperCase, SafetyMode.NONE);
+
+        assertThatThrownBy(() -> SharedGetters.of(null, Arrays.asList(getter, getter)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.roookeee.datus.api;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RecordedMapperJfrTest {
+
+    private static final String EVENT_NAME = "com.github.roookeee.datus.DatusConversion";
+
+    @Test
+    public void recordedMapperShouldEmitAnEventPerConversion() throws Exception {
+        //given
+        Mapper<String, Integer> mapper = String::length;
+        Mapper<String, Integer> recorded = mapper.recorded(String.class, Integer.class);
+        Path dump = Files.createTempFile("datus", ".jfr");
+
+        try {
+            //when
+            try (Recording recording = new Recording()) {
+                recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+                recording.start();
+                recorded.convert("abc");
+                recorded.convert(Arrays.asList("a", "bb", "ccc"));
+                //not recorded
+                mapper.convert("abc");
+                recording.stop();
+                recording.dump(dump);
+            }
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                    .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+                    .collect(Collectors.toList());
+
+            //then
+            assertThat(events).hasSize(2);
+            assertThat(events).extracting(event -> event.getInt("elements")).containsExactlyInAnyOrder(1, 3);
+            assertThat(events).extracting(event -> event.getClass("inputType").getName()).containsOnly(String.class.getName());
+            assertThat(events).extracting(event -> event.getClass("outputType").getName()).containsOnly(Integer.class.getName());
+        } finally {
+            Files.delete(dump);
+        }
+    }
+
+    @Test
+    public void recordedMapperShouldNotEmitEventsWithoutRecording() {
+        //given
+        Mapper<String, Integer> recorded = ((Mapper<String, Integer>) String::length).recorded(String.class, Integer.class);
+
+        //when
+        Object event = ConversionEvents.begin();
+        Integer result = recorded.convert("abc");
+
+        //then
+        assertThat(event).isNull();
+        assertThat(result).isEqualTo(3);
+    }
+}